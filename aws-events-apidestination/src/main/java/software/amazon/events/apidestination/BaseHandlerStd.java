@@ -6,6 +6,10 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.events.common.HandlerLogger;
+import software.amazon.events.common.HandlerMetrics;
+import software.amazon.events.common.StepTracer;
+import software.amazon.events.common.TracingProxyClient;
 
 // Placeholder for the functionality that could be shared across Create/Read/Update/Delete/List Handlers
 
@@ -16,13 +20,25 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
           final ResourceHandlerRequest<software.amazon.events.apidestination.ResourceModel> request,
           final software.amazon.events.apidestination.CallbackContext callbackContext,
           final Logger logger) {
-    return handleRequest(
-            proxy,
-            request,
-            callbackContext != null ? callbackContext : new software.amazon.events.apidestination.CallbackContext(),
-            proxy.newProxy(ClientBuilder::getClient),
-            logger
-    );
+    final HandlerLogger handlerLogger = HandlerLogger.batching(logger);
+    final StepTracer tracer = StepTracer.begin(ResourceModel.TYPE_NAME, getClass().getSimpleName(), request.getClientRequestToken(), handlerLogger);
+    tracer.getMetrics().count(HandlerMetrics.CALLBACK_INVOCATIONS, callbackContext != null ? 1 : 0);
+    try {
+      final ProgressEvent<ResourceModel, CallbackContext> result = handleRequest(
+              proxy,
+              request,
+              callbackContext != null ? callbackContext : new software.amazon.events.apidestination.CallbackContext(),
+              new TracingProxyClient<>(proxy.newProxy(ClientBuilder::getClient), tracer),
+              handlerLogger
+      );
+      return tracer.end(result);
+    } catch (RuntimeException e) {
+      tracer.end(e);
+      throw e;
+    } finally {
+      // The tracer has written the batched lines, unless the invocation threw an Error
+      handlerLogger.flush();
+    }
   }
 
   protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
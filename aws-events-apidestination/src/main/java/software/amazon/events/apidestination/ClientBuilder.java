@@ -1,13 +1,27 @@
 package software.amazon.events.apidestination;
 
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.services.eventbridge.EventBridgeClient;
 import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.events.common.ClientRegistry;
+import software.amazon.events.common.HandlerMetrics;
 
 public class ClientBuilder {
+  private static final String REGION = System.getenv("AWS_REGION");
 
+  /**
+   * @return The EventBridgeClient shared by all handlers of the JVM
+   */
   public static EventBridgeClient getClient() {
+    return ClientRegistry.getClient(EventBridgeClient.SERVICE_NAME, REGION, ClientRegistry.DEFAULT_RETRY_PROFILE,
+            ClientBuilder::buildClient);
+  }
+
+  private static EventBridgeClient buildClient() {
     return EventBridgeClient.builder()
             .httpClient(LambdaWrapper.HTTP_CLIENT)
+            .overrideConfiguration(ClientOverrideConfiguration.builder()
+                    .addExecutionInterceptor(new HandlerMetrics.SdkRetryCounter()).build())
             .build();
   }
 }
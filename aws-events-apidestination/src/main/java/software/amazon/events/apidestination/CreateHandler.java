@@ -19,6 +19,8 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.resource.IdentifierUtils;
+import software.amazon.events.common.HandlerLogger;
+import software.amazon.events.common.StepTracer;
 
 public class CreateHandler extends BaseHandlerStd {
 
@@ -36,7 +38,7 @@ public class CreateHandler extends BaseHandlerStd {
         this.logger = logger;
 
         final ResourceModel model = request.getDesiredResourceState();
-        logger.log(String.format("Resource module: %s", model.toString()));
+        HandlerLogger.of(logger).debug("Resource module: %s", () -> model);
 
         verifyNonCreatableFields(model);
 
@@ -47,11 +49,11 @@ public class CreateHandler extends BaseHandlerStd {
         }
 
         return ProgressEvent.progress(model, callbackContext)
-                .then(progress ->
+                .then(progress -> StepTracer.current().step("AWS-Events-ApiDestination::Create", () ->
                         proxy.initiate("AWS-Events-ApiDestination::Create", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                                 .translateToServiceRequest(Translator::translateToCreateRequest)
                                 .makeServiceCall(this::createResource)
-                                .progress()
+                                .progress())
                 )
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
 
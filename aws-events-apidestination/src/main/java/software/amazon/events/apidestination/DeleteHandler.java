@@ -12,6 +12,8 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.events.common.HandlerLogger;
+import software.amazon.events.common.StepTracer;
 
 
 public class DeleteHandler extends BaseHandlerStd {
@@ -27,14 +29,14 @@ public class DeleteHandler extends BaseHandlerStd {
         this.logger = logger;
 
         final ResourceModel model = request.getDesiredResourceState();
-        logger.log(String.format("Resource module: %s", model.toString()));
+        HandlerLogger.of(logger).debug("Resource module: %s", () -> model);
 
         return ProgressEvent.progress(model, callbackContext)
-                .then(progress ->
+                .then(progress -> StepTracer.current().step("AWS-Events-ApiDestination::Delete", () ->
                         proxy.initiate("AWS-Events-ApiDestination::Delete", proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator::translateToDeleteRequest)
                                 .makeServiceCall(this::deleteResource)
-                                .done(this::setResourceModelToNullAndReturnSuccess));
+                                .done(this::setResourceModelToNullAndReturnSuccess)));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> setResourceModelToNullAndReturnSuccess(
@@ -0,0 +1,25 @@
+package software.amazon.events.apidestination;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import software.amazon.events.common.JsonFingerprint;
+
+/**
+ * A canonical fingerprint of the properties of an ApiDestination that an update can change, so an update whose
+ * desired state is only a different spelling of the previous one can be recognized as a no-op. The read-only Arn is
+ * left out, object keys are sorted at every level and null properties are dropped.
+ */
+final class ModelFingerprint {
+    private ModelFingerprint() {
+    }
+
+    /**
+     * @param model A ResourceModel
+     * @return The SHA-256 of the canonical JSON of the model, hex encoded
+     */
+    static String of(final ResourceModel model) {
+        final ObjectNode tree = JsonFingerprint.toTree(model);
+        tree.remove("Arn");
+
+        return JsonFingerprint.of(tree);
+    }
+}
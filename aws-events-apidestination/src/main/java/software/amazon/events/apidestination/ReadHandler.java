@@ -12,6 +12,7 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.events.common.HandlerLogger;
 
 public class ReadHandler extends BaseHandlerStd {
     private Logger logger;
@@ -26,7 +27,7 @@ public class ReadHandler extends BaseHandlerStd {
         this.logger = logger;
 
         final ResourceModel model = request.getDesiredResourceState();
-        logger.log(String.format("Resource module: %s", model.toString()));
+        HandlerLogger.of(logger).debug("Resource module: %s", () -> model);
 
         return proxy.initiate("AWS-Events-ApiDestination::Read", proxyClient, model, callbackContext)
                 .translateToServiceRequest(Translator::translateToReadRequest)
@@ -17,6 +17,8 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.events.common.HandlerLogger;
+import software.amazon.events.common.StepTracer;
 
 import java.util.Optional;
 
@@ -34,16 +36,23 @@ public class UpdateHandler extends BaseHandlerStd {
         this.logger = logger;
 
         final ResourceModel model = request.getDesiredResourceState();
-        logger.log(String.format("Resource module: %s", model.toString()));
+        HandlerLogger.of(logger).debug("Resource module: %s", () -> model);
 
         verifyNonUpdatableFields(model, request.getPreviousResourceState());
 
+        // Nothing effective changed: skip UpdateApiDestination, the read still fills in the read-only Arn
+        if (request.getPreviousResourceState() != null
+                && ModelFingerprint.of(request.getPreviousResourceState()).equals(ModelFingerprint.of(model))) {
+            logger.log(String.format("%s [%s] is unchanged, skipping the update.", ResourceModel.TYPE_NAME, model.getName()));
+            return new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger);
+        }
+
         return ProgressEvent.progress(model, callbackContext)
-                .then(progress ->
+                .then(progress -> StepTracer.current().step("AWS-Events-ApiDestination::Update", () ->
                         proxy.initiate("AWS-Events-ApiDestination::Update", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                                 .translateToServiceRequest(Translator::translateToUpdateRequest)
                                 .makeServiceCall(this::updateResource)
-                                .progress()
+                                .progress())
                 )
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
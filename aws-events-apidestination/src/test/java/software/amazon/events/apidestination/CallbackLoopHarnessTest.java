@@ -0,0 +1,81 @@
+package software.amazon.events.apidestination;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.eventbridge.EventBridgeClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.DelayFactory;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.WaitStrategy;
+import software.amazon.events.common.CallbackLoopHarness;
+import software.amazon.events.common.FakeServiceBehavior;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.events.apidestination.TestConstants.API_DESTINATION_NAME;
+import static software.amazon.events.apidestination.TestConstants.CONNECTION_ARN;
+import static software.amazon.events.apidestination.TestConstants.ENDPOINT;
+import static software.amazon.events.apidestination.TestConstants.INVOCATION_RATE_LIMIT;
+import static software.amazon.events.apidestination.TestConstants.NOT_EXISTING_CONNECTION_ARN;
+
+@ExtendWith(MockitoExtension.class)
+public class CallbackLoopHarnessTest extends AbstractTestBase {
+    private AmazonWebServicesClientProxy proxy;
+    private FakeServiceBehavior behavior;
+    private FakeEventBridgeClient fakeClient;
+    private ProxyClient<EventBridgeClient> proxyClient;
+    private CallbackLoopHarness<ResourceModel, CallbackContext> harness;
+
+    @BeforeEach
+    public void setup() {
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, DelayFactory.CONSTANT_DEFAULT_DELAY_FACTORY,
+                WaitStrategy.scheduleForCallbackStrategy());
+        behavior = new FakeServiceBehavior();
+        harness = new CallbackLoopHarness<>(behavior::getTotalCallCount);
+        behavior.clock(harness.clock());
+        fakeClient = new FakeEventBridgeClient("123456789012", "us-east-1", behavior).addConnection(CONNECTION_ARN);
+        proxyClient = MOCK_PROXY(proxy, fakeClient);
+    }
+
+    private CallbackLoopHarness.Execution<ResourceModel, CallbackContext> create(final String connectionArn) {
+        final ResourceHandlerRequest<ResourceModel> createRequest = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .name(API_DESTINATION_NAME)
+                        .connectionArn(connectionArn)
+                        .httpMethod("GET")
+                        .invocationRateLimitPerSecond(INVOCATION_RATE_LIMIT)
+                        .invocationEndpoint(ENDPOINT)
+                        .build())
+                .build();
+
+        return harness.execute(
+                (request, context) -> new CreateHandler().handleRequest(proxy, request, context, proxyClient, logger),
+                createRequest, new CallbackContext());
+    }
+
+    @Test
+    public void execute_CreateNeedsNoCallback() {
+        final CallbackLoopHarness.Execution<ResourceModel, CallbackContext> created = create(CONNECTION_ARN);
+
+        assertThat(created.getResponse().getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(fakeClient.getApiDestinationCount()).isEqualTo(1);
+        // CreateApiDestination and the DescribeApiDestination of the final read, without any callback
+        assertThat(created.getInvocations()).isEqualTo(1);
+        assertThat(behavior.getCallCount("CreateApiDestination")).isEqualTo(1);
+        assertThat(behavior.getCallCount("DescribeApiDestination")).isEqualTo(1);
+    }
+
+    @Test
+    public void execute_ConnectionNotFound() {
+        final CallbackLoopHarness.Execution<ResourceModel, CallbackContext> created = create(NOT_EXISTING_CONNECTION_ARN);
+
+        assertThat(created.getResponse().getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(created.getResponse().getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+        assertThat(created.getInvocations()).isEqualTo(1);
+        assertThat(fakeClient.getApiDestinationCount()).isEqualTo(0);
+    }
+}
@@ -0,0 +1,253 @@
+package software.amazon.events.apidestination;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.eventbridge.EventBridgeClient;
+import software.amazon.awssdk.services.eventbridge.model.ApiDestination;
+import software.amazon.awssdk.services.eventbridge.model.ApiDestinationState;
+import software.amazon.awssdk.services.eventbridge.model.CreateApiDestinationRequest;
+import software.amazon.awssdk.services.eventbridge.model.CreateApiDestinationResponse;
+import software.amazon.awssdk.services.eventbridge.model.DeleteApiDestinationRequest;
+import software.amazon.awssdk.services.eventbridge.model.DeleteApiDestinationResponse;
+import software.amazon.awssdk.services.eventbridge.model.DescribeApiDestinationRequest;
+import software.amazon.awssdk.services.eventbridge.model.DescribeApiDestinationResponse;
+import software.amazon.awssdk.services.eventbridge.model.EventBridgeException;
+import software.amazon.awssdk.services.eventbridge.model.ListApiDestinationsRequest;
+import software.amazon.awssdk.services.eventbridge.model.ListApiDestinationsResponse;
+import software.amazon.awssdk.services.eventbridge.model.ResourceAlreadyExistsException;
+import software.amazon.awssdk.services.eventbridge.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.eventbridge.model.UpdateApiDestinationRequest;
+import software.amazon.awssdk.services.eventbridge.model.UpdateApiDestinationResponse;
+import software.amazon.events.common.FakeServiceBehavior;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory EventBridge with real API destination state, for running handlers against a service instead of per-call
+ * Mockito stubs. Latency, throttling and eventual consistency are configured through FakeServiceBehavior.
+ * API destinations can only use connections registered with addConnection. Creates and deletes only become visible to
+ * reads once the consistency window has passed.
+ */
+public class FakeEventBridgeClient implements EventBridgeClient {
+    static final int DEFAULT_PAGE_SIZE = 100;
+
+    private final String accountId;
+    private final String region;
+    private final FakeServiceBehavior behavior;
+
+    private final Set<String> connectionArns = new HashSet<>();
+    private final Map<String, ApiDestinationRecord> apiDestinations = new LinkedHashMap<>();
+    // The ApiDestination summary type has no description, so descriptions are kept alongside it
+    private final Map<String, String> descriptions = new LinkedHashMap<>();
+
+    private static final class ApiDestinationRecord {
+        private ApiDestination apiDestination;
+        private final long visibleAt;
+        private Long goneAt;
+
+        private ApiDestinationRecord(final ApiDestination apiDestination, final long visibleAt) {
+            this.apiDestination = apiDestination;
+            this.visibleAt = visibleAt;
+        }
+    }
+
+    public FakeEventBridgeClient(final String accountId, final String region, final FakeServiceBehavior behavior) {
+        this.accountId = accountId;
+        this.region = region;
+        this.behavior = behavior;
+    }
+
+    /**
+     * Registers a connection that API destinations may use.
+     */
+    public synchronized FakeEventBridgeClient addConnection(final String connectionArn) {
+        connectionArns.add(connectionArn);
+        return this;
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public synchronized CreateApiDestinationResponse createApiDestination(final CreateApiDestinationRequest request) {
+        enter("CreateApiDestination");
+
+        final ApiDestinationRecord existing = apiDestinations.get(request.name());
+        if (existing != null && existing.goneAt == null) {
+            throw ResourceAlreadyExistsException.builder()
+                    .awsErrorDetails(details("ResourceAlreadyExistsException", "An api-destination '" + request.name() + "' already exists."))
+                    .statusCode(400)
+                    .build();
+        }
+        requireConnection(request.connectionArn());
+
+        final Instant now = Instant.now();
+        final ApiDestination apiDestination = ApiDestination.builder()
+                .name(request.name())
+                .apiDestinationArn(String.format("arn:aws:events:%s:%s:api-destination/%s/%s", region, accountId,
+                        request.name(), UUID.randomUUID()))
+                .apiDestinationState(ApiDestinationState.ACTIVE)
+                .connectionArn(request.connectionArn())
+                .invocationEndpoint(request.invocationEndpoint())
+                .httpMethod(request.httpMethodAsString())
+                .invocationRateLimitPerSecond(request.invocationRateLimitPerSecond())
+                .creationTime(now)
+                .lastModifiedTime(now)
+                .build();
+        apiDestinations.put(request.name(), new ApiDestinationRecord(apiDestination, behavior.visibleAt()));
+        descriptions.put(request.name(), request.description());
+
+        return CreateApiDestinationResponse.builder()
+                .apiDestinationArn(apiDestination.apiDestinationArn())
+                .apiDestinationState(apiDestination.apiDestinationState())
+                .creationTime(now)
+                .lastModifiedTime(now)
+                .build();
+    }
+
+    @Override
+    public synchronized DescribeApiDestinationResponse describeApiDestination(final DescribeApiDestinationRequest request) {
+        enter("DescribeApiDestination");
+
+        final ApiDestination apiDestination = visibleApiDestination(request.name()).apiDestination;
+        return DescribeApiDestinationResponse.builder()
+                .name(apiDestination.name())
+                .apiDestinationArn(apiDestination.apiDestinationArn())
+                .apiDestinationState(apiDestination.apiDestinationState())
+                .description(descriptions.get(apiDestination.name()))
+                .connectionArn(apiDestination.connectionArn())
+                .invocationEndpoint(apiDestination.invocationEndpoint())
+                .httpMethod(apiDestination.httpMethodAsString())
+                .invocationRateLimitPerSecond(apiDestination.invocationRateLimitPerSecond())
+                .creationTime(apiDestination.creationTime())
+                .lastModifiedTime(apiDestination.lastModifiedTime())
+                .build();
+    }
+
+    @Override
+    public synchronized UpdateApiDestinationResponse updateApiDestination(final UpdateApiDestinationRequest request) {
+        enter("UpdateApiDestination");
+
+        final ApiDestinationRecord record = visibleApiDestination(request.name());
+        final ApiDestination.Builder builder = record.apiDestination.toBuilder().lastModifiedTime(Instant.now());
+        if (request.connectionArn() != null) {
+            requireConnection(request.connectionArn());
+            builder.connectionArn(request.connectionArn());
+        }
+        if (request.invocationEndpoint() != null) {
+            builder.invocationEndpoint(request.invocationEndpoint());
+        }
+        if (request.httpMethod() != null) {
+            builder.httpMethod(request.httpMethodAsString());
+        }
+        if (request.invocationRateLimitPerSecond() != null) {
+            builder.invocationRateLimitPerSecond(request.invocationRateLimitPerSecond());
+        }
+        if (request.description() != null) {
+            descriptions.put(request.name(), request.description());
+        }
+        record.apiDestination = builder.build();
+
+        return UpdateApiDestinationResponse.builder()
+                .apiDestinationArn(record.apiDestination.apiDestinationArn())
+                .apiDestinationState(record.apiDestination.apiDestinationState())
+                .creationTime(record.apiDestination.creationTime())
+                .lastModifiedTime(record.apiDestination.lastModifiedTime())
+                .build();
+    }
+
+    @Override
+    public synchronized DeleteApiDestinationResponse deleteApiDestination(final DeleteApiDestinationRequest request) {
+        enter("DeleteApiDestination");
+
+        final ApiDestinationRecord record = visibleApiDestination(request.name());
+        if (record.goneAt == null) {
+            record.goneAt = behavior.visibleAt();
+        }
+        return DeleteApiDestinationResponse.builder().build();
+    }
+
+    @Override
+    public synchronized ListApiDestinationsResponse listApiDestinations(final ListApiDestinationsRequest request) {
+        enter("ListApiDestinations");
+
+        final List<ApiDestination> matching = apiDestinations.values().stream()
+                .filter(this::isVisible)
+                .map(record -> record.apiDestination)
+                .filter(apiDestination -> request.namePrefix() == null || apiDestination.name().startsWith(request.namePrefix()))
+                .filter(apiDestination -> request.connectionArn() == null || request.connectionArn().equals(apiDestination.connectionArn()))
+                .collect(Collectors.toList());
+
+        final int from = request.nextToken() == null ? 0 : Integer.parseInt(request.nextToken());
+        final int to = Math.min(matching.size(), from + (request.limit() == null ? DEFAULT_PAGE_SIZE : request.limit()));
+
+        return ListApiDestinationsResponse.builder()
+                .apiDestinations(matching.subList(from, to))
+                .nextToken(to < matching.size() ? String.valueOf(to) : null)
+                .build();
+    }
+
+    /**
+     * @return The number of API destinations that exist, whether or not reads observe them yet
+     */
+    public synchronized int getApiDestinationCount() {
+        return (int) apiDestinations.values().stream().filter(record -> record.goneAt == null).count();
+    }
+
+    private void enter(final String operation) {
+        if (behavior.enter(operation)) {
+            throw EventBridgeException.builder()
+                    .awsErrorDetails(details("ThrottlingException", "Rate exceeded"))
+                    .message("Rate exceeded")
+                    .statusCode(400)
+                    .build();
+        }
+    }
+
+    private void requireConnection(final String connectionArn) {
+        if (!connectionArns.contains(connectionArn)) {
+            throw notFound("Connection '" + connectionArn + "' does not exist.");
+        }
+    }
+
+    private boolean isVisible(final ApiDestinationRecord record) {
+        return behavior.isReached(record.visibleAt) && (record.goneAt == null || !behavior.isReached(record.goneAt));
+    }
+
+    private ApiDestinationRecord visibleApiDestination(final String name) {
+        final ApiDestinationRecord record = apiDestinations.get(name);
+        if (record == null || !isVisible(record)) {
+            throw notFound("Failed to describe the api-destination(s). An api-destination '" + name + "' does not exist.");
+        }
+        return record;
+    }
+
+    private static AwsErrorDetails details(final String errorCode, final String message) {
+        return AwsErrorDetails.builder()
+                .errorCode(errorCode)
+                .errorMessage(message)
+                .serviceName("EventBridge")
+                .build();
+    }
+
+    private static AwsServiceException notFound(final String message) {
+        return ResourceNotFoundException.builder()
+                .awsErrorDetails(details("ResourceNotFoundException", message))
+                .message(message)
+                .statusCode(400)
+                .build();
+    }
+}
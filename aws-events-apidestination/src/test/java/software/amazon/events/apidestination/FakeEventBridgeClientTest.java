@@ -0,0 +1,112 @@
+package software.amazon.events.apidestination;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.eventbridge.EventBridgeClient;
+import software.amazon.awssdk.services.eventbridge.model.CreateApiDestinationRequest;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.events.common.FakeServiceBehavior;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static software.amazon.events.apidestination.TestConstants.API_DESTINATION_NAME;
+import static software.amazon.events.apidestination.TestConstants.CONNECTION_ARN;
+import static software.amazon.events.apidestination.TestConstants.ENDPOINT;
+import static software.amazon.events.apidestination.TestConstants.INVOCATION_RATE_LIMIT;
+import static software.amazon.events.apidestination.TestConstants.NOT_EXISTING_CONNECTION_ARN;
+
+@ExtendWith(MockitoExtension.class)
+public class FakeEventBridgeClientTest extends AbstractTestBase {
+
+    private AmazonWebServicesClientProxy proxy;
+    private FakeServiceBehavior behavior;
+    private FakeEventBridgeClient fakeClient;
+    private ProxyClient<EventBridgeClient> proxyClient;
+    private long now;
+
+    @BeforeEach
+    public void setup() {
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        now = 0;
+        behavior = new FakeServiceBehavior().clock(() -> now);
+        fakeClient = new FakeEventBridgeClient("123456789012", "us-east-1", behavior).addConnection(CONNECTION_ARN);
+        proxyClient = MOCK_PROXY(proxy, fakeClient);
+    }
+
+    private static CreateApiDestinationRequest createApiDestinationRequest(final String connectionArn) {
+        return CreateApiDestinationRequest.builder()
+                .name(API_DESTINATION_NAME)
+                .connectionArn(connectionArn)
+                .httpMethod("GET")
+                .invocationEndpoint(ENDPOINT)
+                .build();
+    }
+
+    @Test
+    public void handlers_ApiDestinationLifecycle() {
+        final ResourceModel model = ResourceModel.builder()
+                .name(API_DESTINATION_NAME)
+                .connectionArn(CONNECTION_ARN)
+                .httpMethod("GET")
+                .invocationRateLimitPerSecond(INVOCATION_RATE_LIMIT)
+                .invocationEndpoint(ENDPOINT)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> created = new CreateHandler().handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build(), new CallbackContext(),
+                proxyClient, logger);
+
+        assertThat(created.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(created.getResourceModel().getArn()).startsWith("arn:aws:events:us-east-1:123456789012:api-destination/" + API_DESTINATION_NAME + "/");
+
+        final ResourceModel updatedModel = ResourceModel.builder()
+                .name(API_DESTINATION_NAME)
+                .arn(created.getResourceModel().getArn())
+                .connectionArn(CONNECTION_ARN)
+                .httpMethod("POST")
+                .invocationRateLimitPerSecond(INVOCATION_RATE_LIMIT)
+                .invocationEndpoint(ENDPOINT)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> updated = new UpdateHandler().handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .previousResourceState(created.getResourceModel())
+                        .desiredResourceState(updatedModel)
+                        .build(),
+                new CallbackContext(), proxyClient, logger);
+
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(updated.getResourceModel().getHttpMethod()).isEqualTo("POST");
+
+        final ProgressEvent<ResourceModel, CallbackContext> deleted = new DeleteHandler().handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(updatedModel).build(), new CallbackContext(),
+                proxyClient, logger);
+
+        assertThat(deleted.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(fakeClient.getApiDestinationCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void handlers_ConnectionNotFound() {
+        final ResourceModel model = ResourceModel.builder()
+                .name(API_DESTINATION_NAME)
+                .connectionArn(NOT_EXISTING_CONNECTION_ARN)
+                .httpMethod("GET")
+                .invocationEndpoint(ENDPOINT)
+                .build();
+
+        assertThrows(CfnNotFoundException.class, () -> new CreateHandler().handleRequest(proxy,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build(), new CallbackContext(),
+                proxyClient, logger));
+        assertThat(fakeClient.getApiDestinationCount()).isEqualTo(0);
+    }
+}
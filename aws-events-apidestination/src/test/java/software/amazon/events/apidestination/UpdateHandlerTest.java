@@ -10,9 +10,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.eventbridge.EventBridgeClient;
 import software.amazon.awssdk.services.eventbridge.model.ConcurrentModificationException;
+import software.amazon.awssdk.services.eventbridge.model.DescribeApiDestinationRequest;
 import software.amazon.awssdk.services.eventbridge.model.DescribeApiDestinationResponse;
 import software.amazon.awssdk.services.eventbridge.model.LimitExceededException;
 import software.amazon.awssdk.services.eventbridge.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.eventbridge.model.UpdateApiDestinationRequest;
 import software.amazon.awssdk.services.eventbridge.model.UpdateApiDestinationResponse;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
@@ -33,6 +35,7 @@ import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -130,6 +133,54 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThrows(CfnNotUpdatableException.class, () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
     }
 
+    @Test
+    public void handleRequest_NoOpUpdateOnlyReads() {
+        final ResourceModel previousModel = ResourceModel.builder()
+                .name(API_DESTINATION_NAME)
+                .arn(API_DESTINATION_ARN)
+                .connectionArn(CONNECTION_ARN)
+                .invocationEndpoint(ENDPOINT)
+                .httpMethod("GET")
+                .invocationRateLimitPerSecond(INVOCATION_RATE_LIMIT)
+                .build();
+        final ResourceModel model = ResourceModel.builder()
+                .name(API_DESTINATION_NAME)
+                .arn(API_DESTINATION_ARN)
+                .connectionArn(CONNECTION_ARN)
+                .invocationEndpoint(ENDPOINT)
+                .httpMethod("GET")
+                .invocationRateLimitPerSecond(INVOCATION_RATE_LIMIT)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .previousResourceState(previousModel)
+                .build();
+
+        final DescribeApiDestinationResponse describeApiDestinationResponse = DescribeApiDestinationResponse.builder()
+                .name(API_DESTINATION_NAME)
+                .apiDestinationArn(API_DESTINATION_ARN)
+                .apiDestinationState(API_DESTINATION_STATE)
+                .connectionArn(CONNECTION_ARN)
+                .invocationEndpoint(ENDPOINT)
+                .httpMethod("GET")
+                .invocationRateLimitPerSecond(INVOCATION_RATE_LIMIT)
+                .build();
+        doReturn(describeApiDestinationResponse)
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(
+                        ArgumentMatchers.any(DescribeApiDestinationRequest.class),
+                        ArgumentMatchers.any()
+                );
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getArn()).isEqualTo(API_DESTINATION_ARN);
+        verify(proxy, times(1)).injectCredentialsAndInvokeV2(ArgumentMatchers.any(DescribeApiDestinationRequest.class), ArgumentMatchers.any());
+        verify(proxy, never()).injectCredentialsAndInvokeV2(ArgumentMatchers.any(UpdateApiDestinationRequest.class), ArgumentMatchers.any());
+    }
+
     @Test
     public void handleRequest_UpdateResourceFailureDueToArn() {
         final ResourceModel prevModel = ResourceModel.builder()
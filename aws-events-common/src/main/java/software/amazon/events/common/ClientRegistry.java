@@ -0,0 +1,69 @@
+package software.amazon.events.common;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import software.amazon.awssdk.core.SdkClient;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Process-wide registry of SDK clients. A client is built lazily on first use and then reused by every handler and
+ * invocation in the JVM, so warm containers do not build clients again. The StepTracer reports the number of clients
+ * built so far with the metrics of every invocation, which stays at the number of clients a handler uses while the
+ * container is warm.
+ */
+public final class ClientRegistry {
+    public static final String DEFAULT_RETRY_PROFILE = "default";
+
+    private static final Map<Key, SdkClient> CLIENTS = new ConcurrentHashMap<>();
+    private static final AtomicInteger CREATED_CLIENT_COUNT = new AtomicInteger();
+
+    /**
+     * Clients are shared per service, region and retry profile.
+     */
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static final class Key {
+        private final String serviceName;
+        private final String region;
+        private final String retryProfile;
+    }
+
+    private ClientRegistry() {
+    }
+
+    /**
+     * Returns the registered client, building it with clientFactory if there is none yet.
+     * @param serviceName The service name of the client
+     * @param region The region of the client (may be null if the client uses the default region)
+     * @param retryProfile The name of the retry configuration the client is built with
+     * @param clientFactory Builds the client
+     * @return The shared client
+     */
+    @SuppressWarnings("unchecked")
+    public static <ClientT extends SdkClient> ClientT getClient(final String serviceName, final String region,
+                                                                final String retryProfile, final Supplier<ClientT> clientFactory) {
+        return (ClientT) CLIENTS.computeIfAbsent(new Key(serviceName, region, retryProfile), key -> {
+            CREATED_CLIENT_COUNT.incrementAndGet();
+            return clientFactory.get();
+        });
+    }
+
+    /**
+     * @return The number of clients built since the JVM started or the registry was last cleared
+     */
+    static int getCreatedClientCount() {
+        return CREATED_CLIENT_COUNT.get();
+    }
+
+    /**
+     * Forgets all clients without closing them, since handlers may still hold them.
+     */
+    static void clear() {
+        CLIENTS.clear();
+        CREATED_CLIENT_COUNT.set(0);
+    }
+}
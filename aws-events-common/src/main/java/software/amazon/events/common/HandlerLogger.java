@@ -0,0 +1,166 @@
+package software.amazon.events.common;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.util.function.Supplier;
+
+/**
+ * The Logger handed to the handlers. A message is only formatted once its level passes the threshold (the LOG_LEVEL
+ * environment variable, INFO by default), and the arguments of debug messages are Suppliers only evaluated then, so a
+ * disabled debug line costs a level check. Stack traces are capped at MAX_STACK_FRAMES frames per exception.
+ * <p>
+ * BaseHandlerStd batches the lines of an invocation, and the StepTracer ends the invocation with
+ * {@link #flush(ObjectNode)}, which writes the lines as a member of the JSON record holding the spans and metrics, so an
+ * invocation makes a single write. The buffer is also written on its own once it holds MAX_BUFFERED_CHARS.
+ */
+public final class HandlerLogger implements Logger {
+    public enum Level { DEBUG, INFO, WARN, ERROR }
+
+    public static final int MAX_STACK_FRAMES = 10;
+    public static final int MAX_CAUSES = 3;
+    public static final int MAX_BUFFERED_CHARS = 32 * 1024;
+    // The member of the invocation record holding the batched lines
+    public static final String LOG = "log";
+
+    private static final Level THRESHOLD = level(System.getenv("LOG_LEVEL"));
+
+    private final Logger delegate;
+    private final Level threshold;
+    private final StringBuilder buffer;
+
+    public HandlerLogger(final Logger delegate, final Level threshold, final boolean batched) {
+        this.delegate = delegate;
+        this.threshold = threshold;
+        this.buffer = batched ? new StringBuilder() : null;
+    }
+
+    /**
+     * @param delegate The Logger of the invocation
+     * @return A HandlerLogger that batches the lines of the invocation until it is flushed
+     */
+    public static HandlerLogger batching(final Logger delegate) {
+        return new HandlerLogger(delegate, THRESHOLD, true);
+    }
+
+    /**
+     * @param logger The Logger a handler was given
+     * @return The logger itself if it is a HandlerLogger, else a HandlerLogger that writes every line through
+     */
+    public static HandlerLogger of(final Logger logger) {
+        return logger instanceof HandlerLogger ? (HandlerLogger) logger : new HandlerLogger(logger, THRESHOLD, false);
+    }
+
+    static Level level(final String name) {
+        if (name != null) {
+            for (final Level level : Level.values()) {
+                if (level.name().equalsIgnoreCase(name.trim())) {
+                    return level;
+                }
+            }
+        }
+        return Level.INFO;
+    }
+
+    public boolean isEnabled(final Level level) {
+        return level.compareTo(threshold) >= 0;
+    }
+
+    @Override
+    public void log(final String message) {
+        if (isEnabled(Level.INFO)) {
+            write(message);
+        }
+    }
+
+    /**
+     * Logs a debug message whose arguments are only evaluated if debug logging is enabled.
+     */
+    public void debug(final String format, final Supplier<?>... args) {
+        log(Level.DEBUG, format, (Object[]) args);
+    }
+
+    public void info(final String format, final Object... args) {
+        log(Level.INFO, format, args);
+    }
+
+    public void warn(final String format, final Object... args) {
+        log(Level.WARN, format, args);
+    }
+
+    /**
+     * Logs a message followed by the capped stack trace of an exception.
+     */
+    public void error(final Throwable e, final String format, final Object... args) {
+        if (!isEnabled(Level.ERROR)) {
+            return;
+        }
+
+        final StringBuilder message = new StringBuilder(format(format, args));
+        Throwable cause = e;
+        for (int causes = 0; cause != null && causes <= MAX_CAUSES; causes++, cause = cause.getCause()) {
+            message.append(causes == 0 ? "\n" : "\nCaused by: ").append(cause);
+            final StackTraceElement[] frames = cause.getStackTrace();
+            for (int i = 0; i < Math.min(frames.length, MAX_STACK_FRAMES); i++) {
+                message.append("\n\tat ").append(frames[i]);
+            }
+            if (frames.length > MAX_STACK_FRAMES) {
+                message.append("\n\t... ").append(frames.length - MAX_STACK_FRAMES).append(" more");
+            }
+        }
+        write(message.toString());
+    }
+
+    public void log(final Level level, final String format, final Object... args) {
+        if (isEnabled(level)) {
+            write(format(format, args));
+        }
+    }
+
+    /**
+     * Writes the batched lines, if any, as a single log event.
+     */
+    public synchronized void flush() {
+        if (buffer != null && buffer.length() > 0) {
+            delegate.log(buffer.toString());
+            buffer.setLength(0);
+        }
+    }
+
+    /**
+     * Writes a JSON record as a single log event, with the batched lines, if any, as its {@value #LOG} member. The
+     * record is written whatever the threshold.
+     *
+     * @param record The record of the invocation (e.g. its spans and metrics)
+     */
+    public synchronized void flush(final ObjectNode record) {
+        if (buffer != null && buffer.length() > 0) {
+            record.put(LOG, buffer.toString());
+            buffer.setLength(0);
+        }
+        delegate.log(record.toString());
+    }
+
+    private synchronized void write(final String line) {
+        if (buffer == null) {
+            delegate.log(line);
+            return;
+        }
+
+        buffer.append(buffer.length() == 0 ? "" : "\n").append(line);
+        if (buffer.length() >= MAX_BUFFERED_CHARS) {
+            flush();
+        }
+    }
+
+    private static String format(final String format, final Object... args) {
+        if (args == null || args.length == 0) {
+            return format;
+        }
+        final Object[] values = new Object[args.length];
+        for (int i = 0; i < args.length; i++) {
+            values[i] = args[i] instanceof Supplier ? ((Supplier<?>) args[i]).get() : args[i];
+        }
+        return String.format(format, values);
+    }
+}
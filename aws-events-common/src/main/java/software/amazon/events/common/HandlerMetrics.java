@@ -0,0 +1,192 @@
+package software.amazon.events.common;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.SdkBaseException;
+import com.amazonaws.retry.RetryUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Counts what a handler invocation did: service calls by operation, throttles, retries made by the SDK,
+ * stabilization polls and callbacks, along with counters of a module's own (e.g. the failed entries of PutTargets).
+ * The counts are written once per invocation as a document in the CloudWatch embedded metric format (EMF), which
+ * CloudWatch Logs turns into metrics with the ResourceType and Handler dimensions; the StepTracer adds its spans to the
+ * document and writes it when the invocation ends. Per-operation counts are named after the operation
+ * (e.g. ApiCalls.PutTargets).
+ * <p>
+ * Each StepTracer owns the metrics of its invocation; {@link #current()} returns them, or metrics that record nothing
+ * outside of an invocation.
+ */
+public final class HandlerMetrics {
+    public static final String NAMESPACE = "AWSEventsResourceProviders";
+    public static final String API_CALLS = "ApiCalls";
+    public static final String THROTTLES = "Throttles";
+    public static final String SDK_RETRIES = "SdkRetries";
+    public static final String FAILED_ENTRIES = "FailedEntries";
+    public static final String STABILIZATION_POLLS = "StabilizationPolls";
+    public static final String CALLBACK_INVOCATIONS = "CallbackInvocations";
+    public static final String CALLBACK_DELAYS = "CallbackDelays";
+    // The number of SDK clients the ClientRegistry has built in the container, set when the invocation ends
+    public static final String CREATED_CLIENTS = "CreatedClients";
+
+    private static final String[] COUNTERS = {
+            API_CALLS, THROTTLES, SDK_RETRIES, STABILIZATION_POLLS, CALLBACK_INVOCATIONS, CALLBACK_DELAYS
+    };
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final String resourceType;
+    private final String handler;
+    private final boolean enabled;
+    private final Map<String, Long> values = new LinkedHashMap<>();
+
+    HandlerMetrics(final String resourceType, final String handler, final boolean enabled) {
+        this.resourceType = resourceType;
+        this.handler = handler;
+        this.enabled = enabled;
+        for (final String counter : COUNTERS) {
+            values.put(counter, 0L);
+        }
+    }
+
+    /**
+     * @return The metrics of the invocation running on the current thread, or metrics that record nothing
+     */
+    public static HandlerMetrics current() {
+        return StepTracer.current().getMetrics();
+    }
+
+    /**
+     * Adds to a counter.
+     *
+     * @param name  The metric name
+     * @param delta The amount to add
+     */
+    public synchronized void count(final String name, final long delta) {
+        if (enabled) {
+            values.merge(name, delta, Long::sum);
+        }
+    }
+
+    /**
+     * Sets a metric to a value carried over from earlier invocations (e.g. a retry counter of the CallbackContext).
+     *
+     * @param name  The metric name
+     * @param value The value
+     */
+    public synchronized void set(final String name, final long value) {
+        if (enabled) {
+            values.put(name, value);
+        }
+    }
+
+    /**
+     * Counts a service call, and the throttle it failed with if any.
+     *
+     * @param operation The operation called (e.g. PutRule)
+     * @param e         The exception the call failed with, null if it succeeded
+     */
+    synchronized void recordCall(final String operation, final Throwable e) {
+        count(API_CALLS, 1);
+        count(API_CALLS + "." + operation, 1);
+        if (e != null && isThrottle(e)) {
+            count(THROTTLES, 1);
+            count(THROTTLES + "." + operation, 1);
+        }
+    }
+
+    /**
+     * @return Whether a call of either SDK failed because the service rejected its request rate
+     */
+    static boolean isThrottle(final Throwable e) {
+        final Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof SdkServiceException) {
+            return ((SdkServiceException) cause).isThrottlingException();
+        }
+        return cause instanceof AmazonServiceException && RetryUtils.isThrottlingException((SdkBaseException) cause);
+    }
+
+    public synchronized long get(final String name) {
+        return values.getOrDefault(name, 0L);
+    }
+
+    /**
+     * @return The metrics as an EMF document: the _aws metadata declaring each metric, then the dimension values and
+     * the metric values as members of the root object
+     */
+    synchronized ObjectNode toDocument() {
+        final ObjectNode document = MAPPER.createObjectNode();
+        final ObjectNode directive = document.putObject("_aws")
+                .put("Timestamp", System.currentTimeMillis())
+                .putArray("CloudWatchMetrics")
+                .addObject()
+                .put("Namespace", NAMESPACE);
+        directive.putArray("Dimensions").addArray().add("ResourceType").add("Handler");
+        final ArrayNode metrics = directive.putArray("Metrics");
+
+        document.put("ResourceType", resourceType);
+        document.put("Handler", handler);
+        for (final Map.Entry<String, Long> value : values.entrySet()) {
+            metrics.addObject().put("Name", value.getKey()).put("Unit", "Count");
+            document.put(value.getKey(), value.getValue());
+        }
+        return document;
+    }
+
+    /**
+     * Counts the retries the SDK makes inside a single call, which are otherwise invisible to the handler. Every
+     * transmission of a request after its first is a retry. Calls may run on threads of their own, so the metrics a
+     * retry is counted in are not looked up on the thread: TracingProxyClient registers each request it makes with the
+     * metrics of its invocation, and the interceptor carries them through the execution of the request.
+     */
+    public static final class SdkRetryCounter implements ExecutionInterceptor {
+        private static final ExecutionAttribute<HandlerMetrics> METRICS = new ExecutionAttribute<>("HandlerMetrics");
+        private static final ExecutionAttribute<Boolean> TRANSMITTED = new ExecutionAttribute<>("HandlerMetricsTransmitted");
+        // Weak keys, so a request the SDK never executes is not kept
+        private static final Map<SdkRequest, HandlerMetrics> REQUEST_METRICS = Collections.synchronizedMap(new WeakHashMap<>());
+
+        /**
+         * @param request The request about to be executed
+         * @param metrics The metrics of the invocation making the request
+         * @return The request
+         */
+        static <RequestT extends SdkRequest> RequestT register(final RequestT request, final HandlerMetrics metrics) {
+            REQUEST_METRICS.put(request, metrics);
+            return request;
+        }
+
+        @Override
+        public void beforeExecution(final Context.BeforeExecution context, final ExecutionAttributes executionAttributes) {
+            // Not removed: the SDK may execute requests equal to each other at the same time
+            final HandlerMetrics metrics = REQUEST_METRICS.get(context.request());
+            if (metrics != null) {
+                executionAttributes.putAttribute(METRICS, metrics);
+            }
+        }
+
+        @Override
+        public void beforeTransmission(final Context.BeforeTransmission context, final ExecutionAttributes executionAttributes) {
+            if (executionAttributes.getAttribute(TRANSMITTED) == null) {
+                executionAttributes.putAttribute(TRANSMITTED, Boolean.TRUE);
+                return;
+            }
+            final HandlerMetrics metrics = executionAttributes.getAttribute(METRICS);
+            if (metrics != null) {
+                metrics.count(SDK_RETRIES, 1);
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package software.amazon.events.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The canonical JSON fingerprint the ModelFingerprint of every module is built on. A module turns its model into a
+ * tree, strips the properties an update cannot change, and hashes what is left: object keys are sorted at every level
+ * and null values are dropped, so two spellings of the same model hash the same. Arrays are kept in order.
+ */
+public final class JsonFingerprint {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private JsonFingerprint() {
+    }
+
+    /**
+     * @param model A ResourceModel
+     * @return The model as a JSON tree
+     */
+    public static ObjectNode toTree(final Object model) {
+        return MAPPER.valueToTree(model);
+    }
+
+    /**
+     * Replaces a property that is given as a JSON string by the JSON it holds, so it hashes the same as when given as
+     * an object. A string that is not JSON is left as is; the service rejects it.
+     *
+     * @param tree     The tree of a model
+     * @param property The name of the property
+     * @param json     The value of the property if it is a string, null otherwise
+     */
+    public static void parseJsonProperty(final ObjectNode tree, final String property, final String json) {
+        if (json == null || json.trim().isEmpty()) {
+            return;
+        }
+        try {
+            tree.set(property, MAPPER.readTree(json));
+        } catch (final JsonProcessingException e) {
+            // Not JSON; compare it as is
+        }
+    }
+
+    /**
+     * @param tree The tree of a model, without its read-only properties
+     * @return The SHA-256 of the canonical JSON of the tree, hex encoded
+     */
+    public static String of(final JsonNode tree) {
+        return sha256(canonicalize(tree).toString());
+    }
+
+    /**
+     * @return A copy of the node with the keys of every object sorted and null values dropped
+     */
+    public static JsonNode canonicalize(final JsonNode node) {
+        if (node.isObject()) {
+            final Map<String, JsonNode> fields = new TreeMap<>();
+            final Iterator<Map.Entry<String, JsonNode>> iterator = node.fields();
+            while (iterator.hasNext()) {
+                final Map.Entry<String, JsonNode> field = iterator.next();
+                if (!field.getValue().isNull()) {
+                    fields.put(field.getKey(), canonicalize(field.getValue()));
+                }
+            }
+            final ObjectNode canonical = MAPPER.createObjectNode();
+            fields.forEach(canonical::set);
+            return canonical;
+        }
+        if (node.isArray()) {
+            final ArrayNode canonical = MAPPER.createArrayNode();
+            node.forEach(element -> canonical.add(canonicalize(element)));
+            return canonical;
+        }
+        return node;
+    }
+
+    private static String sha256(final String json) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(json.getBytes(StandardCharsets.UTF_8));
+            final StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (final byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package software.amazon.events.common;
+
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Records the steps of a handler chain that have completed, so that a handler called back resumes at the first
+ * incomplete step instead of repeating API calls. Steps are named after their call graph
+ * (e.g. AWS-Events-Rule::CreateRule); only the outputs later steps need (e.g. the rule ARN) are kept, as strings.
+ *
+ * The call graph memoization of StdCallbackContext is not enough on its own: it only covers chains built with
+ * proxy.initiate, so pre-existence checks, paginated target removal and tag updates made through
+ * injectCredentialsAndInvokeV2 would still be repeated, and it keeps the whole request and response of every call
+ * in the serialized context. The journal keeps a step name and the few outputs that are read back instead.
+ */
+@lombok.Getter
+@lombok.Setter
+@lombok.ToString
+@lombok.EqualsAndHashCode
+public class StepJournal {
+
+    private Set<String> completedSteps = new LinkedHashSet<>();
+    private Map<String, String> outputs = new LinkedHashMap<>();
+
+    public boolean isCompleted(final String step) {
+        return completedSteps.contains(step);
+    }
+
+    public void complete(final String step) {
+        completedSteps.add(step);
+    }
+
+    public String getOutput(final String name) {
+        return outputs.get(name);
+    }
+
+    public void putOutput(final String name, final String value) {
+        outputs.put(name, value);
+    }
+
+    /**
+     * Runs a step of a handler chain unless it has completed in an earlier invocation.
+     * The step completes once it lets the chain continue, i.e. returns IN_PROGRESS without a callback delay.
+     *
+     * @param step     The step name (by convention the call graph of its API call)
+     * @param progress The ProgressEvent object
+     * @param function Runs the step
+     * @return The ProgressEvent of the step, or the given ProgressEvent if the step has completed before
+     */
+    public <ModelT, CallbackT> ProgressEvent<ModelT, CallbackT> run(final String step,
+                                                                   final ProgressEvent<ModelT, CallbackT> progress,
+                                                                   final Supplier<ProgressEvent<ModelT, CallbackT>> function) {
+        if (isCompleted(step)) {
+            return progress;
+        }
+
+        final ProgressEvent<ModelT, CallbackT> result = function.get();
+        if (result.isInProgress() && result.getCallbackDelaySeconds() == 0) {
+            complete(step);
+        }
+        return result;
+    }
+}
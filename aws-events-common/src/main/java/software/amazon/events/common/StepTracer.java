@@ -0,0 +1,407 @@
+package software.amazon.events.common;
+
+import com.amazonaws.AmazonServiceException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Records the latency of a handler invocation as spans: one for the invocation, one per step of the handler chain,
+ * one per service call, one per stabilization or propagation poll and one for the callback delay the invocation ends
+ * with. The spans have the shape of OpenTelemetry spans, carrying the step, attempt and outcome as attributes.
+ * <p>
+ * The trace id is derived from the client request token, which stays the same across the callbacks of one operation,
+ * so the spans of all invocations of an operation share a trace. Attempts count the spans of the same name within
+ * one invocation (e.g. the polls of one stabilization).
+ * <p>
+ * The BaseHandlerStd of each module begins a tracer per invocation and binds it to the thread; the static helpers
+ * reach it through {@link #current()}, which returns a tracer that records nothing outside of an invocation. The
+ * tracer also counts calls, throttles and polls in the HandlerMetrics of the invocation.
+ * <p>
+ * When the invocation ends, the tracer writes one JSON record through the HandlerLogger of the invocation: the
+ * metrics as an EMF document, with the trace id and the spans, in the order they finished, as further members, and the
+ * lines the HandlerLogger batched. An invocation thus makes a single write.
+ */
+public final class StepTracer {
+    public static final String KIND_INTERNAL = "INTERNAL";
+    public static final String KIND_CLIENT = "CLIENT";
+    public static final String OUTCOME_SUCCESS = "SUCCESS";
+    public static final String OUTCOME_STABILIZED = "STABILIZED";
+    public static final String OUTCOME_PENDING = "PENDING";
+    public static final String OUTCOME_ERROR = "ERROR";
+    public static final String CALLBACK_DELAY = "CallbackDelay";
+
+    private static final ThreadLocal<StepTracer> CURRENT = new ThreadLocal<>();
+    private static final StepTracer DISABLED = new StepTracer(null, null, null, null);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Pattern UUID = Pattern.compile("[0-9a-fA-F]{8}(-[0-9a-fA-F]{4}){3}-[0-9a-fA-F]{12}");
+
+    private final String traceId;
+    private final HandlerLogger logger;
+    private final long originEpochNanos;
+    private final long originNanoTime;
+    private final HandlerMetrics metrics;
+    private final List<Span> openSpans = new ArrayList<>();
+    private final List<Map<String, Object>> finishedSpans = new ArrayList<>();
+    private final Map<String, Integer> attempts = new HashMap<>();
+    private Span invocation;
+    private String lastStep;
+
+    private StepTracer(final String resourceType, final String handler, final String traceId, final HandlerLogger logger) {
+        this.traceId = traceId;
+        this.logger = logger;
+        this.metrics = new HandlerMetrics(resourceType, handler, logger != null);
+        final Instant now = Instant.now();
+        this.originEpochNanos = TimeUnit.SECONDS.toNanos(now.getEpochSecond()) + now.getNano();
+        this.originNanoTime = System.nanoTime();
+    }
+
+    /**
+     * Begins the invocation span and binds the tracer to the current thread until {@link #end}.
+     *
+     * @param resourceType       The resource type (e.g. AWS::Events::Rule)
+     * @param handler            The handler (e.g. CreateHandler)
+     * @param clientRequestToken The client request token of the request (may be null)
+     * @param logger             The HandlerLogger of the invocation, which the record of the invocation is written to
+     * @return The tracer of the invocation
+     */
+    public static StepTracer begin(final String resourceType, final String handler, final String clientRequestToken,
+            final HandlerLogger logger) {
+        final StepTracer tracer = new StepTracer(resourceType, handler, traceId(clientRequestToken), logger);
+        tracer.invocation = tracer.start(handler, KIND_INTERNAL, null);
+        CURRENT.set(tracer);
+        return tracer;
+    }
+
+    /**
+     * @return The tracer bound to the current thread, or one that records nothing
+     */
+    public static StepTracer current() {
+        final StepTracer tracer = CURRENT.get();
+        return tracer != null ? tracer : DISABLED;
+    }
+
+    /**
+     * Ends the invocation span, preceded by a span for the callback delay if the invocation asks to be called back
+     * later, writes the record of the invocation and unbinds the tracer.
+     *
+     * @param result The ProgressEvent the invocation returns
+     * @return The given ProgressEvent
+     */
+    public <M, C> ProgressEvent<M, C> end(final ProgressEvent<M, C> result) {
+        if (isDisabled()) {
+            return result;
+        }
+
+        if (result.isInProgress() && result.getCallbackDelaySeconds() > 0) {
+            // The delay is spent outside of the handler: the span starts now and ends when the callback is due
+            final Span delay = start(CALLBACK_DELAY, KIND_INTERNAL, lastStep);
+            delay.attributes.put("callback.delay_seconds", result.getCallbackDelaySeconds());
+            delay.endNanos = delay.startNanos + TimeUnit.SECONDS.toNanos(result.getCallbackDelaySeconds());
+            finish(delay, outcome(result), null);
+            metrics.count(HandlerMetrics.CALLBACK_DELAYS, 1);
+        }
+        finish(invocation, outcome(result), result.getErrorCode() != null ? result.getErrorCode().name() : null);
+        write();
+        CURRENT.remove();
+        return result;
+    }
+
+    /**
+     * Ends the invocation span of an invocation that threw, writes the record of the invocation and unbinds the
+     * tracer.
+     *
+     * @param e The exception thrown by the invocation
+     */
+    public void end(final RuntimeException e) {
+        if (isDisabled()) {
+            return;
+        }
+
+        finish(invocation, OUTCOME_ERROR, errorType(e));
+        write();
+        CURRENT.remove();
+    }
+
+    /**
+     * Runs a step of the handler chain in a span.
+     *
+     * @param step     The step name
+     * @param function Runs the step
+     * @return The ProgressEvent of the step
+     */
+    public <M, C> ProgressEvent<M, C> step(final String step, final Supplier<ProgressEvent<M, C>> function) {
+        if (isDisabled()) {
+            return function.get();
+        }
+
+        lastStep = step;
+        final Span span = start(step, KIND_INTERNAL, step);
+        span.isStep = true;
+        final ProgressEvent<M, C> result;
+        try {
+            result = function.get();
+        } catch (RuntimeException e) {
+            finish(span, OUTCOME_ERROR, errorType(e));
+            throw e;
+        }
+        if (result.getCallbackDelaySeconds() > 0) {
+            span.attributes.put("callback.delay_seconds", result.getCallbackDelaySeconds());
+        }
+        finish(span, outcome(result), result.getErrorCode() != null ? result.getErrorCode().name() : null);
+        return result;
+    }
+
+    /**
+     * Runs a stabilization or propagation poll in a span.
+     *
+     * @param name The name of the poll
+     * @param poll Returns whether the resource has stabilized
+     * @return The result of the poll
+     */
+    public boolean poll(final String name, final BooleanSupplier poll) {
+        if (isDisabled()) {
+            return poll.getAsBoolean();
+        }
+
+        metrics.count(HandlerMetrics.STABILIZATION_POLLS, 1);
+        final Span span = start(name, KIND_INTERNAL, currentStep());
+        final boolean stabilized;
+        try {
+            stabilized = poll.getAsBoolean();
+        } catch (RuntimeException e) {
+            finish(span, OUTCOME_ERROR, errorType(e));
+            throw e;
+        }
+        finish(span, stabilized ? OUTCOME_STABILIZED : OUTCOME_PENDING, null);
+        return stabilized;
+    }
+
+    /**
+     * Runs a service call in a span.
+     *
+     * @param operation The operation called (e.g. PutRule)
+     * @param call      Makes the call
+     * @return The result of the call
+     */
+    public <T> T call(final String operation, final Supplier<T> call) {
+        if (isDisabled()) {
+            return call.get();
+        }
+
+        final Span span = startCall(operation);
+        final T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            endCall(span, e);
+            throw e;
+        }
+        endCall(span, null);
+        return result;
+    }
+
+    /**
+     * Starts the span of a service call that completes asynchronously; end it with {@link #endCall}.
+     *
+     * @param operation The operation called
+     * @return The span, null if the tracer records nothing
+     */
+    public synchronized Span startCall(final String operation) {
+        if (isDisabled()) {
+            return null;
+        }
+
+        final Span span = start(operation, KIND_CLIENT, currentStep());
+        span.attributes.put("rpc.system", "aws-api");
+        span.attributes.put("rpc.method", operation);
+        return span;
+    }
+
+    /**
+     * @param span The span returned by {@link #startCall} (may be null)
+     * @param e    The exception the call failed with, null if it succeeded
+     */
+    public synchronized void endCall(final Span span, final Throwable e) {
+        if (span != null) {
+            metrics.recordCall(span.name, e);
+            finish(span, e == null ? OUTCOME_SUCCESS : OUTCOME_ERROR, e == null ? null : errorType(e));
+        }
+    }
+
+    public HandlerMetrics getMetrics() {
+        return metrics;
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    private boolean isDisabled() {
+        return logger == null;
+    }
+
+    private synchronized Span start(final String name, final String kind, final String step) {
+        final Span parent = parentOf(kind);
+        final Span span = new Span(name, kind, parent != null ? parent.spanId : null, nowNanos());
+        if (step != null) {
+            span.attributes.put("step", step);
+        }
+        span.attributes.put("attempt", attempts.merge(name, 1, Integer::sum));
+        openSpans.add(span);
+        return span;
+    }
+
+    private synchronized void finish(final Span span, final String outcome, final String errorType) {
+        openSpans.remove(span);
+        if (span.endNanos == 0) {
+            span.endNanos = nowNanos();
+        }
+        span.attributes.put("outcome", outcome);
+        if (errorType != null) {
+            span.attributes.put("error.type", errorType);
+        }
+
+        final Map<String, Object> line = new LinkedHashMap<>();
+        line.put("spanId", span.spanId);
+        if (span.parentSpanId != null) {
+            line.put("parentSpanId", span.parentSpanId);
+        }
+        line.put("name", span.name);
+        line.put("kind", span.kind);
+        line.put("startTimeUnixNano", span.startNanos);
+        line.put("endTimeUnixNano", span.endNanos);
+        line.put("durationMs", TimeUnit.NANOSECONDS.toMillis(span.endNanos - span.startNanos));
+        line.put("attributes", span.attributes);
+        line.put("status", OUTCOME_ERROR.equals(outcome) || OperationStatus.FAILED.name().equals(outcome) ? "ERROR" : "OK");
+        finishedSpans.add(line);
+    }
+
+    /**
+     * Writes the metrics, trace id and spans of the invocation, along with the lines batched by the HandlerLogger, as
+     * one log line.
+     */
+    private synchronized void write() {
+        metrics.set(HandlerMetrics.CREATED_CLIENTS, ClientRegistry.getCreatedClientCount());
+        final ObjectNode record = metrics.toDocument();
+        record.put("traceId", traceId);
+        record.set("spans", MAPPER.valueToTree(finishedSpans));
+        finishedSpans.clear();
+        logger.flush(record);
+    }
+
+    /**
+     * @return The parent of a new span of the kind: the innermost open step, or the invocation span, for a service
+     * call; the innermost open span that is not a service call otherwise. Calls may run concurrently on other threads,
+     * so the span that happens to be open last is not necessarily what they run in, and a call is never a parent.
+     */
+    private synchronized Span parentOf(final String kind) {
+        for (int i = openSpans.size() - 1; i >= 0; i--) {
+            final Span span = openSpans.get(i);
+            if (KIND_CLIENT.equals(kind) ? span.isStep || span == invocation : !KIND_CLIENT.equals(span.kind)) {
+                return span;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return The innermost step running, null outside of a step
+     */
+    private synchronized String currentStep() {
+        for (int i = openSpans.size() - 1; i >= 0; i--) {
+            if (openSpans.get(i).isStep) {
+                return openSpans.get(i).name;
+            }
+        }
+        return null;
+    }
+
+    private long nowNanos() {
+        return originEpochNanos + System.nanoTime() - originNanoTime;
+    }
+
+    private static String outcome(final ProgressEvent<?, ?> result) {
+        return result.getStatus() != null ? result.getStatus().name() : OUTCOME_SUCCESS;
+    }
+
+    private static String errorType(final Throwable e) {
+        final Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof AwsServiceException && ((AwsServiceException) cause).awsErrorDetails() != null) {
+            return ((AwsServiceException) cause).awsErrorDetails().errorCode();
+        }
+        if (cause instanceof AmazonServiceException) {
+            return ((AmazonServiceException) cause).getErrorCode();
+        }
+        return cause.getClass().getSimpleName();
+    }
+
+    /**
+     * @param clientRequestToken The client request token (may be null)
+     * @return A 32 hex digit trace id: the token itself if it is a UUID, else derived from it, random without one
+     */
+    public static String traceId(final String clientRequestToken) {
+        if (clientRequestToken == null || clientRequestToken.isEmpty()) {
+            return randomHex(16);
+        }
+        if (UUID.matcher(clientRequestToken).matches()) {
+            return clientRequestToken.replace("-", "").toLowerCase();
+        }
+
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(clientRequestToken.getBytes(StandardCharsets.UTF_8));
+            final StringBuilder hex = new StringBuilder(32);
+            for (int i = 0; i < 16; i++) {
+                hex.append(String.format("%02x", digest[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            return randomHex(16);
+        }
+    }
+
+    private static String randomHex(final int bytes) {
+        final StringBuilder hex = new StringBuilder(bytes * 2);
+        for (int i = 0; i < bytes; i++) {
+            // Never all zeros, which OpenTelemetry treats as an invalid id
+            hex.append(String.format("%02x", i == 0 ? 1 + ThreadLocalRandom.current().nextInt(255) : ThreadLocalRandom.current().nextInt(256)));
+        }
+        return hex.toString();
+    }
+
+    public static final class Span {
+        private final String name;
+        private final String kind;
+        private final String spanId = randomHex(8);
+        private final String parentSpanId;
+        private final long startNanos;
+        private final Map<String, Object> attributes = new LinkedHashMap<>();
+        private long endNanos;
+        private boolean isStep;
+
+        private Span(final String name, final String kind, final String parentSpanId, final long startNanos) {
+            this.name = name;
+            this.kind = kind;
+            this.parentSpanId = parentSpanId;
+            this.startNanos = startNanos;
+        }
+    }
+}
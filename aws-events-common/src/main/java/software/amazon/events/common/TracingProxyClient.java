@@ -0,0 +1,78 @@
+package software.amazon.events.common;
+
+import lombok.AllArgsConstructor;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * ProxyClient decorator that records every service call as a span of the StepTracer of the invocation, and hands the
+ * HandlerMetrics of the invocation to the SdkRetryCounter of the call, whichever thread the call runs on.
+ *
+ * @param <ClientT> The SDK client type
+ */
+@AllArgsConstructor
+public final class TracingProxyClient<ClientT> implements ProxyClient<ClientT> {
+    private final ProxyClient<ClientT> delegate;
+    private final StepTracer tracer;
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT
+    injectCredentialsAndInvokeV2(final RequestT request, final Function<RequestT, ResponseT> requestFunction) {
+        return tracer.call(operation(request), () -> delegate.injectCredentialsAndInvokeV2(request, counted(requestFunction)));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT>
+    injectCredentialsAndInvokeV2Async(final RequestT request, final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+        final StepTracer.Span span = tracer.startCall(operation(request));
+        return delegate.injectCredentialsAndInvokeV2Async(request, counted(requestFunction))
+                .whenComplete((response, e) -> tracer.endCall(span, e));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT
+    injectCredentialsAndInvokeIterableV2(final RequestT request, final Function<RequestT, IterableT> requestFunction) {
+        // Pages are fetched lazily, so the span only covers the creation of the iterable
+        return tracer.call(operation(request), () -> delegate.injectCredentialsAndInvokeIterableV2(request, counted(requestFunction)));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
+    injectCredentialsAndInvokeV2InputStream(final RequestT request, final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction) {
+        return tracer.call(operation(request), () -> delegate.injectCredentialsAndInvokeV2InputStream(request, counted(requestFunction)));
+    }
+
+    @Override
+    public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT>
+    injectCredentialsAndInvokeV2Bytes(final RequestT request, final Function<RequestT, ResponseBytes<ResponseT>> requestFunction) {
+        return tracer.call(operation(request), () -> delegate.injectCredentialsAndInvokeV2Bytes(request, counted(requestFunction)));
+    }
+
+    @Override
+    public ClientT client() {
+        return delegate.client();
+    }
+
+    /**
+     * @return The request function, registering the request it is called with to the metrics of the invocation
+     */
+    private <RequestT extends AwsRequest, ResultT> Function<RequestT, ResultT> counted(final Function<RequestT, ResultT> requestFunction) {
+        final HandlerMetrics metrics = tracer.getMetrics();
+        return request -> requestFunction.apply(HandlerMetrics.SdkRetryCounter.register(request, metrics));
+    }
+
+    /**
+     * @return The operation a request is for, e.g. PutRule for a PutRuleRequest
+     */
+    public static String operation(final AwsRequest request) {
+        final String name = request.getClass().getSimpleName();
+        return name.endsWith("Request") ? name.substring(0, name.length() - "Request".length()) : name;
+    }
+}
@@ -0,0 +1,233 @@
+package software.amazon.events.common;
+
+import lombok.Value;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Drives handlers the way CloudFormation does: re-invokes a handler with the CallbackContext it returned until the
+ * status is terminal, waiting out callback delays on a virtual clock instead of sleeping.
+ * Every resource has its own timeline (the time spent in the handler plus the callback delays it asked for), which
+ * clock() returns on the thread driving that resource, so passing clock() to FakeServiceBehavior makes consistency
+ * windows elapse along with the callback delays. On any other thread clock() returns the furthest any timeline has
+ * reached, and a resource starts its timeline there.
+ * Exceptions escaping a handler become FAILED events, as the CloudFormation wrapper does.
+ */
+public class CallbackLoopHarness<ModelT, ContextT> {
+    public static final int DEFAULT_MAX_INVOCATIONS = 100;
+
+    @FunctionalInterface
+    public interface Handler<ModelT, ContextT> {
+        ProgressEvent<ModelT, ContextT> handleRequest(ResourceHandlerRequest<ModelT> request, ContextT callbackContext);
+    }
+
+    /**
+     * The outcome of driving one resource to a terminal status.
+     * Allocation only covers the thread running the callback loop, not executors the handler hands work to.
+     */
+    @Value
+    public static class Execution<ModelT, ContextT> {
+        ProgressEvent<ModelT, ContextT> response;
+        int invocations;
+        long startNanos;
+        long endNanos;
+        long allocatedBytes;
+
+        public long getLatencyNanos() {
+            return endNanos - startNanos;
+        }
+    }
+
+    /**
+     * The outcome of driving many resources; API calls can only be attributed to the run as a whole.
+     */
+    @Value
+    public static class Report<ModelT, ContextT> {
+        List<Execution<ModelT, ContextT>> executions;
+        long apiCallCount;
+        long wallClockNanos;
+
+        public long getSucceededCount() {
+            return executions.stream().filter(execution -> execution.getResponse().isSuccess()).count();
+        }
+
+        /**
+         * @return The virtual time from the first resource starting to the last one finishing
+         */
+        public long getMakespanNanos() {
+            final long start = executions.stream().mapToLong(Execution::getStartNanos).min().orElse(0);
+            final long end = executions.stream().mapToLong(Execution::getEndNanos).max().orElse(0);
+            return end - start;
+        }
+
+        /**
+         * @param percentile Between 0 and 100
+         */
+        public long getLatencyNanos(final double percentile) {
+            final long[] latencies = executions.stream().mapToLong(Execution::getLatencyNanos).sorted().toArray();
+            if (latencies.length == 0) {
+                return 0;
+            }
+            // Nearest rank
+            final int rank = (int) Math.ceil(percentile / 100 * latencies.length);
+            return latencies[Math.min(latencies.length - 1, Math.max(0, rank - 1))];
+        }
+
+        public double getThroughputPerSecond() {
+            final long makespan = getMakespanNanos();
+            return makespan == 0 ? 0 : executions.size() / (makespan / (double) TimeUnit.SECONDS.toNanos(1));
+        }
+
+        public double getInvocationsPerResource() {
+            return executions.stream().mapToInt(Execution::getInvocations).average().orElse(0);
+        }
+
+        public double getApiCallsPerResource() {
+            return executions.isEmpty() ? 0 : apiCallCount / (double) executions.size();
+        }
+
+        public double getAllocatedBytesPerResource() {
+            return executions.stream().mapToLong(Execution::getAllocatedBytes).average().orElse(0);
+        }
+
+        public String summary() {
+            return String.format("%d resources, %d succeeded, p50 %d ms, p99 %d ms, makespan %d ms, %.2f resources/s, "
+                            + "%.1f invocations, %.1f API calls and %.0f bytes allocated per resource, %d ms wall clock",
+                    executions.size(), getSucceededCount(),
+                    TimeUnit.NANOSECONDS.toMillis(getLatencyNanos(50)), TimeUnit.NANOSECONDS.toMillis(getLatencyNanos(99)),
+                    TimeUnit.NANOSECONDS.toMillis(getMakespanNanos()), getThroughputPerSecond(),
+                    getInvocationsPerResource(), getApiCallsPerResource(), getAllocatedBytesPerResource(),
+                    TimeUnit.NANOSECONDS.toMillis(wallClockNanos));
+        }
+    }
+
+    private final AtomicLong virtualNanos = new AtomicLong();
+    private final ThreadLocal<Long> timelineNanos = new ThreadLocal<>();
+    private final LongSupplier apiCallCounter;
+    private int maxInvocations = DEFAULT_MAX_INVOCATIONS;
+
+    /**
+     * @param apiCallCounter The total number of API calls made so far, e.g. FakeServiceBehavior::getTotalCallCount
+     */
+    public CallbackLoopHarness(final LongSupplier apiCallCounter) {
+        this.apiCallCounter = apiCallCounter;
+    }
+
+    /**
+     * @param invocations The number of invocations after which a resource still IN_PROGRESS is given up on
+     */
+    public CallbackLoopHarness<ModelT, ContextT> maxInvocations(final int invocations) {
+        maxInvocations = invocations;
+        return this;
+    }
+
+    /**
+     * @return The virtual clock, in nanoseconds
+     */
+    public LongSupplier clock() {
+        return () -> {
+            final Long timeline = timelineNanos.get();
+            return timeline == null ? virtualNanos.get() : timeline;
+        };
+    }
+
+    public Execution<ModelT, ContextT> execute(final Handler<ModelT, ContextT> handler,
+                                               final ResourceHandlerRequest<ModelT> request,
+                                               final ContextT callbackContext) {
+        final long startNanos = virtualNanos.get();
+        final long allocatedBefore = allocatedBytes();
+        long timeline = startNanos;
+        ContextT context = callbackContext;
+        ProgressEvent<ModelT, ContextT> response;
+        int invocations = 0;
+
+        try {
+            do {
+                timelineNanos.set(timeline);
+                final long invokedAt = System.nanoTime();
+                response = invoke(handler, request, context);
+                invocations++;
+
+                timeline += System.nanoTime() - invokedAt;
+                if (response.isInProgress()) {
+                    timeline += TimeUnit.SECONDS.toNanos(response.getCallbackDelaySeconds());
+                }
+                virtualNanos.accumulateAndGet(timeline, Math::max);
+                context = response.getCallbackContext();
+            } while (response.isInProgress() && invocations < maxInvocations);
+        } finally {
+            timelineNanos.remove();
+        }
+
+        return new Execution<>(response, invocations, startNanos, timeline, allocatedBytes() - allocatedBefore);
+    }
+
+    /**
+     * Drives every request to a terminal status, running up to concurrency resources at once.
+     * @param callbackContexts Creates the initial CallbackContext of each resource
+     */
+    public Report<ModelT, ContextT> executeAll(final Handler<ModelT, ContextT> handler,
+                                               final List<ResourceHandlerRequest<ModelT>> requests,
+                                               final Supplier<ContextT> callbackContexts,
+                                               final int concurrency) {
+        final ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        final long apiCallsBefore = apiCallCounter.getAsLong();
+        final long startedAt = System.nanoTime();
+
+        try {
+            final List<Future<Execution<ModelT, ContextT>>> futures = new ArrayList<>();
+            for (final ResourceHandlerRequest<ModelT> request : requests) {
+                futures.add(executor.submit(() -> execute(handler, request, callbackContexts.get())));
+            }
+
+            final List<Execution<ModelT, ContextT>> executions = new ArrayList<>();
+            for (final Future<Execution<ModelT, ContextT>> future : futures) {
+                executions.add(future.get());
+            }
+            return new Report<>(executions, apiCallCounter.getAsLong() - apiCallsBefore, System.nanoTime() - startedAt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static <ModelT, ContextT> ProgressEvent<ModelT, ContextT> invoke(final Handler<ModelT, ContextT> handler,
+                                                                             final ResourceHandlerRequest<ModelT> request,
+                                                                             final ContextT callbackContext) {
+        try {
+            return handler.handleRequest(request, callbackContext);
+        } catch (final BaseHandlerException e) {
+            return ProgressEvent.defaultFailureHandler(e, e.getErrorCode());
+        } catch (final RuntimeException e) {
+            return ProgressEvent.defaultFailureHandler(e, HandlerErrorCode.InternalFailure);
+        }
+    }
+
+    private static long allocatedBytes() {
+        final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemoryEnabled()) {
+            return ((com.sun.management.ThreadMXBean) threadMXBean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+}
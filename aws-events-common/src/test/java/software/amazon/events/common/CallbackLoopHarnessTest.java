@@ -0,0 +1,122 @@
+package software.amazon.events.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CallbackLoopHarnessTest {
+    private static final int DELAY_SECONDS = 30;
+
+    private final AtomicLong apiCalls = new AtomicLong();
+    private final CallbackLoopHarness<String, Integer> harness = new CallbackLoopHarness<>(apiCalls::get);
+
+    /**
+     * Asks for a callback until it has been invoked callbacks + 1 times, making one API call per invocation.
+     */
+    private CallbackLoopHarness.Handler<String, Integer> handler(final int callbacks) {
+        return (request, context) -> {
+            apiCalls.incrementAndGet();
+            final int invocation = context == null ? 0 : context;
+            return invocation < callbacks
+                    ? ProgressEvent.defaultInProgressHandler(invocation + 1, DELAY_SECONDS, request.getDesiredResourceState())
+                    : ProgressEvent.defaultSuccessHandler(request.getDesiredResourceState());
+        };
+    }
+
+    private static ResourceHandlerRequest<String> request(final String model) {
+        return ResourceHandlerRequest.<String>builder().desiredResourceState(model).build();
+    }
+
+    @Test
+    public void execute_WaitsOutCallbackDelaysOnTheVirtualClock() {
+        final List<Long> seen = new ArrayList<>();
+        final CallbackLoopHarness.Handler<String, Integer> handler = handler(3);
+
+        final CallbackLoopHarness.Execution<String, Integer> execution = harness.execute((request, context) -> {
+            seen.add(harness.clock().getAsLong());
+            return handler.handleRequest(request, context);
+        }, request("a"), null);
+
+        assertThat(execution.getResponse().getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(execution.getInvocations()).isEqualTo(4);
+        assertThat(execution.getLatencyNanos()).isGreaterThanOrEqualTo(Duration.ofSeconds(3 * DELAY_SECONDS).toNanos());
+        assertThat(seen).hasSize(4).isSorted();
+        assertThat(seen.get(3) - seen.get(2)).isGreaterThanOrEqualTo(Duration.ofSeconds(DELAY_SECONDS).toNanos());
+        // Off the resource's thread the clock has reached the end of its timeline
+        assertThat(harness.clock().getAsLong()).isEqualTo(execution.getEndNanos());
+    }
+
+    @Test
+    public void execute_StartsWhereThePreviousResourceEnded() {
+        final CallbackLoopHarness.Execution<String, Integer> first = harness.execute(handler(1), request("a"), null);
+        final CallbackLoopHarness.Execution<String, Integer> second = harness.execute(handler(0), request("b"), null);
+
+        assertThat(second.getStartNanos()).isEqualTo(first.getEndNanos());
+        assertThat(second.getInvocations()).isEqualTo(1);
+    }
+
+    @Test
+    public void execute_ExceptionsBecomeFailedEvents() {
+        final CallbackLoopHarness.Execution<String, Integer> notFound = harness.execute((request, context) -> {
+            throw new CfnNotFoundException("AWS::Events::Test", request.getDesiredResourceState());
+        }, request("a"), null);
+        final CallbackLoopHarness.Execution<String, Integer> failed = harness.execute((request, context) -> {
+            throw new IllegalStateException("boom");
+        }, request("b"), null);
+
+        assertThat(notFound.getResponse().getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(notFound.getResponse().getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+        assertThat(failed.getResponse().getErrorCode()).isEqualTo(HandlerErrorCode.InternalFailure);
+        assertThat(failed.getResponse().getMessage()).isEqualTo("boom");
+    }
+
+    @Test
+    public void execute_GivesUpAfterMaxInvocations() {
+        final CallbackLoopHarness.Execution<String, Integer> execution = harness.maxInvocations(5)
+                .execute(handler(Integer.MAX_VALUE), request("a"), null);
+
+        assertThat(execution.getInvocations()).isEqualTo(5);
+        assertThat(execution.getResponse().getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+    }
+
+    @Test
+    public void executeAll_ReportsEveryResource() {
+        final List<ResourceHandlerRequest<String>> requests = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            requests.add(request("resource" + i));
+        }
+
+        final CallbackLoopHarness.Report<String, Integer> report = harness.executeAll(handler(2), requests, () -> null, 4);
+
+        assertThat(report.getExecutions()).hasSize(8);
+        assertThat(report.getSucceededCount()).isEqualTo(8);
+        assertThat(report.getApiCallCount()).isEqualTo(24);
+        assertThat(report.getApiCallsPerResource()).isEqualTo(3);
+        assertThat(report.getInvocationsPerResource()).isEqualTo(3);
+        assertThat(report.getLatencyNanos(50)).isGreaterThanOrEqualTo(Duration.ofSeconds(2 * DELAY_SECONDS).toNanos());
+        assertThat(report.getLatencyNanos(99)).isGreaterThanOrEqualTo(report.getLatencyNanos(50));
+        assertThat(report.getMakespanNanos()).isGreaterThanOrEqualTo(report.getLatencyNanos(99));
+        assertThat(report.getThroughputPerSecond()).isGreaterThan(0);
+        assertThat(report.summary()).startsWith("8 resources, 8 succeeded");
+    }
+
+    @Test
+    public void report_IsEmptyWithoutExecutions() {
+        final CallbackLoopHarness.Report<String, Integer> report = harness.executeAll(handler(0), new ArrayList<>(), () -> null, 1);
+
+        assertThat(report.getLatencyNanos(99)).isEqualTo(0);
+        assertThat(report.getMakespanNanos()).isEqualTo(0);
+        assertThat(report.getThroughputPerSecond()).isEqualTo(0);
+        assertThat(report.getApiCallsPerResource()).isEqualTo(0);
+    }
+}
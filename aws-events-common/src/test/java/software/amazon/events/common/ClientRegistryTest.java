@@ -0,0 +1,69 @@
+package software.amazon.events.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.cloudwatchevents.CloudWatchEventsClient;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class ClientRegistryTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final List<String> lines = new ArrayList<>();
+
+    @BeforeEach
+    public void setup() {
+        ClientRegistry.clear();
+    }
+
+    @AfterEach
+    public void tear_down() {
+        ClientRegistry.clear();
+    }
+
+    @Test
+    public void getClient_ReusesClient() {
+        final CloudWatchEventsClient first = ClientRegistry.getClient(CloudWatchEventsClient.SERVICE_NAME, "us-east-1",
+                ClientRegistry.DEFAULT_RETRY_PROFILE, () -> mock(CloudWatchEventsClient.class));
+        final CloudWatchEventsClient second = ClientRegistry.getClient(CloudWatchEventsClient.SERVICE_NAME, "us-east-1",
+                ClientRegistry.DEFAULT_RETRY_PROFILE, () -> mock(CloudWatchEventsClient.class));
+
+        assertThat(second).isSameAs(first);
+        assertThat(ClientRegistry.getCreatedClientCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void getClient_OneClientPerRegionAndRetryProfile() {
+        final CloudWatchEventsClient client = ClientRegistry.getClient(CloudWatchEventsClient.SERVICE_NAME, "us-east-1",
+                ClientRegistry.DEFAULT_RETRY_PROFILE, () -> mock(CloudWatchEventsClient.class));
+        final CloudWatchEventsClient otherRegion = ClientRegistry.getClient(CloudWatchEventsClient.SERVICE_NAME, "us-west-2",
+                ClientRegistry.DEFAULT_RETRY_PROFILE, () -> mock(CloudWatchEventsClient.class));
+        final CloudWatchEventsClient otherRetryProfile = ClientRegistry.getClient(CloudWatchEventsClient.SERVICE_NAME, "us-east-1",
+                "eventbus", () -> mock(CloudWatchEventsClient.class));
+
+        assertThat(otherRegion).isNotSameAs(client);
+        assertThat(otherRetryProfile).isNotSameAs(client);
+        assertThat(ClientRegistry.getCreatedClientCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void end_ReportsTheCreatedClients() throws IOException {
+        ClientRegistry.getClient(CloudWatchEventsClient.SERVICE_NAME, "us-east-1", ClientRegistry.DEFAULT_RETRY_PROFILE,
+                () -> mock(CloudWatchEventsClient.class));
+        final StepTracer tracer = StepTracer.begin("AWS::Events::Test", "ReadHandler", null, HandlerLogger.batching(lines::add));
+        ClientRegistry.getClient(CloudWatchEventsClient.SERVICE_NAME, "us-east-1", ClientRegistry.DEFAULT_RETRY_PROFILE,
+                () -> mock(CloudWatchEventsClient.class));
+        tracer.end(ProgressEvent.progress("model", 1));
+
+        assertThat(lines).hasSize(1);
+        assertThat(MAPPER.readTree(lines.get(0)).get(HandlerMetrics.CREATED_CLIENTS).asLong()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,130 @@
+package software.amazon.events.common;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Configures how an in-memory fake service behaves: per-operation latency and throttling rates, the eventual
+ * consistency window of writes, and the rate of failed entries in batch operations.
+ * Operations are named like the service API (e.g. "PutRule"); settings for ANY_OPERATION apply to every operation
+ * without a setting of its own. Randomness is seeded, so a workload sees the same throttles on every run.
+ * The fake clients of the handler modules call enter() at the start of every operation and map a throttle to the
+ * exception of their service.
+ */
+public class FakeServiceBehavior {
+    public static final String ANY_OPERATION = "*";
+
+    private final Map<String, Duration> latencies = new HashMap<>();
+    private final Map<String, Double> throttleRates = new HashMap<>();
+    private final Map<String, AtomicLong> callCounts = new ConcurrentHashMap<>();
+    private final AtomicLong throttleCount = new AtomicLong();
+    private Duration consistencyWindow = Duration.ZERO;
+    private double failedEntryRate;
+    private LongSupplier nanoClock = System::nanoTime;
+    private Random random = new Random(0);
+
+    public synchronized FakeServiceBehavior latency(final String operation, final Duration latency) {
+        latencies.put(operation, latency);
+        return this;
+    }
+
+    public synchronized FakeServiceBehavior throttleRate(final String operation, final double rate) {
+        throttleRates.put(operation, rate);
+        return this;
+    }
+
+    /**
+     * @param window How long a create or delete takes until reads observe it
+     */
+    public synchronized FakeServiceBehavior consistencyWindow(final Duration window) {
+        consistencyWindow = window;
+        return this;
+    }
+
+    /**
+     * @param rate The probability of each entry of a batch operation (e.g. PutTargets) failing
+     */
+    public synchronized FakeServiceBehavior failedEntryRate(final double rate) {
+        failedEntryRate = rate;
+        return this;
+    }
+
+    /**
+     * @param clock The time source of consistency windows, so tests can advance time without sleeping
+     */
+    public synchronized FakeServiceBehavior clock(final LongSupplier clock) {
+        nanoClock = clock;
+        return this;
+    }
+
+    public synchronized FakeServiceBehavior seed(final long seed) {
+        random = new Random(seed);
+        return this;
+    }
+
+    /**
+     * Called by the fake at the start of every operation. Counts the call and waits for the configured latency.
+     * @param operation The operation name
+     * @return Whether the call must be throttled
+     */
+    public boolean enter(final String operation) {
+        callCounts.computeIfAbsent(operation, key -> new AtomicLong()).incrementAndGet();
+
+        final Duration latency;
+        final boolean throttled;
+        synchronized (this) {
+            latency = latencies.getOrDefault(operation, latencies.getOrDefault(ANY_OPERATION, Duration.ZERO));
+            throttled = random.nextDouble() < throttleRates.getOrDefault(operation, throttleRates.getOrDefault(ANY_OPERATION, 0.0));
+        }
+
+        if (!latency.isZero()) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(latency.toNanos());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (throttled) {
+            throttleCount.incrementAndGet();
+        }
+        return throttled;
+    }
+
+    /**
+     * @return Whether the next entry of a batch operation fails
+     */
+    public synchronized boolean nextEntryFails() {
+        return random.nextDouble() < failedEntryRate;
+    }
+
+    /**
+     * @return The time at which a write made now becomes visible to reads
+     */
+    public synchronized long visibleAt() {
+        return nanoClock.getAsLong() + consistencyWindow.toNanos();
+    }
+
+    public synchronized boolean isReached(final long nanos) {
+        return nanoClock.getAsLong() - nanos >= 0;
+    }
+
+    public long getCallCount(final String operation) {
+        final AtomicLong count = callCounts.get(operation);
+        return count == null ? 0 : count.get();
+    }
+
+    public long getTotalCallCount() {
+        return callCounts.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+
+    public long getThrottleCount() {
+        return throttleCount.get();
+    }
+}
@@ -0,0 +1,71 @@
+package software.amazon.events.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FakeServiceBehaviorTest {
+    private long now;
+
+    @Test
+    public void enter_CountsCallsAndThrottles() {
+        final FakeServiceBehavior behavior = new FakeServiceBehavior()
+                .throttleRate("PutRule", 1.0)
+                .throttleRate(FakeServiceBehavior.ANY_OPERATION, 0.0);
+
+        assertThat(behavior.enter("PutRule")).isTrue();
+        assertThat(behavior.enter("DescribeRule")).isFalse();
+        assertThat(behavior.enter("DescribeRule")).isFalse();
+
+        assertThat(behavior.getCallCount("PutRule")).isEqualTo(1);
+        assertThat(behavior.getCallCount("DescribeRule")).isEqualTo(2);
+        assertThat(behavior.getCallCount("DeleteRule")).isEqualTo(0);
+        assertThat(behavior.getTotalCallCount()).isEqualTo(3);
+        assertThat(behavior.getThrottleCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void throttleRate_AnyOperationAppliesWithoutASettingOfItsOwn() {
+        final FakeServiceBehavior behavior = new FakeServiceBehavior()
+                .throttleRate(FakeServiceBehavior.ANY_OPERATION, 1.0)
+                .throttleRate("DescribeRule", 0.0);
+
+        assertThat(behavior.enter("ListRules")).isTrue();
+        assertThat(behavior.enter("DescribeRule")).isFalse();
+    }
+
+    @Test
+    public void seed_MakesThrottlesRepeatable() {
+        final FakeServiceBehavior first = new FakeServiceBehavior().seed(7).throttleRate(FakeServiceBehavior.ANY_OPERATION, 0.5);
+        final FakeServiceBehavior second = new FakeServiceBehavior().seed(7).throttleRate(FakeServiceBehavior.ANY_OPERATION, 0.5);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(first.enter("PutRule")).isEqualTo(second.enter("PutRule"));
+        }
+        assertThat(first.getThrottleCount()).isBetween(1L, 99L);
+    }
+
+    @Test
+    public void visibleAt_IsReachedAfterTheConsistencyWindow() {
+        final FakeServiceBehavior behavior = new FakeServiceBehavior()
+                .clock(() -> now)
+                .consistencyWindow(Duration.ofSeconds(2));
+
+        final long visibleAt = behavior.visibleAt();
+        assertThat(behavior.isReached(visibleAt)).isFalse();
+
+        now += Duration.ofSeconds(2).toNanos();
+        assertThat(behavior.isReached(visibleAt)).isTrue();
+    }
+
+    @Test
+    public void failedEntryRate_FailsEveryEntryAtOne() {
+        final FakeServiceBehavior behavior = new FakeServiceBehavior();
+        assertThat(behavior.nextEntryFails()).isFalse();
+
+        behavior.failedEntryRate(1.0);
+        assertThat(behavior.nextEntryFails()).isTrue();
+    }
+}
@@ -0,0 +1,119 @@
+package software.amazon.events.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HandlerLoggerTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final List<String> lines = new ArrayList<>();
+
+    @Test
+    public void debug_IsNotFormattedBelowTheThreshold() {
+        final HandlerLogger handlerLogger = new HandlerLogger(lines::add, HandlerLogger.Level.INFO, false);
+        final AtomicInteger evaluated = new AtomicInteger();
+
+        handlerLogger.debug("Resource module: %s", evaluated::incrementAndGet);
+        handlerLogger.info("Resource module: %s", "model");
+        handlerLogger.warn("Retrying %s", "PutRule");
+
+        assertThat(evaluated.get()).isEqualTo(0);
+        assertThat(lines).containsExactly("Resource module: model", "Retrying PutRule");
+    }
+
+    @Test
+    public void log_IsDroppedBelowTheThreshold() {
+        final HandlerLogger handlerLogger = new HandlerLogger(lines::add, HandlerLogger.Level.ERROR, false);
+
+        handlerLogger.log("message");
+        handlerLogger.error(new IllegalStateException(), "failed");
+
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0)).startsWith("failed\njava.lang.IllegalStateException");
+    }
+
+    @Test
+    public void flush_WritesTheBatchedLinesOnce() {
+        final HandlerLogger handlerLogger = new HandlerLogger(lines::add, HandlerLogger.Level.DEBUG, true);
+
+        handlerLogger.debug("first %s", () -> 1);
+        handlerLogger.log("second");
+        assertThat(lines).isEmpty();
+
+        handlerLogger.flush();
+        handlerLogger.flush();
+        assertThat(lines).containsExactly("first 1\nsecond");
+    }
+
+    @Test
+    public void flush_WritesTheBatchedLinesInTheRecord() throws IOException {
+        final HandlerLogger handlerLogger = new HandlerLogger(lines::add, HandlerLogger.Level.INFO, true);
+
+        handlerLogger.info("first %s", 1);
+        handlerLogger.flush(MAPPER.createObjectNode().put("traceId", "trace"));
+        handlerLogger.flush(MAPPER.createObjectNode().put("traceId", "trace"));
+        handlerLogger.flush();
+
+        assertThat(lines).hasSize(2);
+        final ObjectNode record = (ObjectNode) MAPPER.readTree(lines.get(0));
+        assertThat(record.get("traceId").asText()).isEqualTo("trace");
+        assertThat(record.get(HandlerLogger.LOG).asText()).isEqualTo("first 1");
+        assertThat(MAPPER.readTree(lines.get(1)).has(HandlerLogger.LOG)).isFalse();
+    }
+
+    @Test
+    public void write_FlushesAFullBuffer() {
+        final HandlerLogger handlerLogger = new HandlerLogger(lines::add, HandlerLogger.Level.INFO, true);
+        final char[] line = new char[HandlerLogger.MAX_BUFFERED_CHARS];
+        Arrays.fill(line, 'x');
+
+        handlerLogger.log(new String(line));
+
+        assertThat(lines).containsExactly(new String(line));
+    }
+
+    @Test
+    public void error_CapsTheStackTrace() {
+        final HandlerLogger handlerLogger = new HandlerLogger(lines::add, HandlerLogger.Level.INFO, false);
+        final RuntimeException e = new RuntimeException("outer", new IllegalStateException("inner"));
+        e.setStackTrace(frames(HandlerLogger.MAX_STACK_FRAMES + 5));
+
+        handlerLogger.error(e, "handleError for: %s", "CreateConnection");
+
+        assertThat(lines).hasSize(1);
+        final String message = lines.get(0);
+        assertThat(message).startsWith("handleError for: CreateConnection\njava.lang.RuntimeException: outer");
+        assertThat(message).contains("\t... 5 more", "Caused by: java.lang.IllegalStateException: inner");
+        assertThat(message.split("\n\tat ", -1)).hasSizeLessThanOrEqualTo(2 * HandlerLogger.MAX_STACK_FRAMES + 1);
+    }
+
+    @Test
+    public void of_ReusesAHandlerLogger() {
+        final HandlerLogger handlerLogger = HandlerLogger.batching(lines::add);
+
+        assertThat(HandlerLogger.of(handlerLogger)).isSameAs(handlerLogger);
+        assertThat(HandlerLogger.of(lines::add)).isNotSameAs(handlerLogger);
+    }
+
+    @Test
+    public void level_DefaultsToInfo() {
+        assertThat(HandlerLogger.level(" debug ")).isEqualTo(HandlerLogger.Level.DEBUG);
+        assertThat(HandlerLogger.level("verbose")).isEqualTo(HandlerLogger.Level.INFO);
+        assertThat(HandlerLogger.level(null)).isEqualTo(HandlerLogger.Level.INFO);
+    }
+
+    private static StackTraceElement[] frames(final int count) {
+        final StackTraceElement[] frames = new StackTraceElement[count];
+        Arrays.fill(frames, new StackTraceElement("Handler", "handleRequest", "Handler.java", 1));
+        return frames;
+    }
+}
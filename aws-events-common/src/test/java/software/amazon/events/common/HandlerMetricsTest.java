@@ -0,0 +1,166 @@
+package software.amazon.events.common;
+
+import com.amazonaws.AmazonServiceException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.services.cloudwatchevents.model.DescribeRuleRequest;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class HandlerMetricsTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String RESOURCE_TYPE = "AWS::Events::Test";
+
+    private final List<String> lines = new ArrayList<>();
+
+    private JsonNode emf() throws IOException {
+        final List<JsonNode> documents = new ArrayList<>();
+        for (final String line : lines) {
+            final JsonNode document = MAPPER.readTree(line);
+            if (document.has("_aws")) {
+                documents.add(document);
+            }
+        }
+        assertThat(documents).hasSize(1);
+        return documents.get(0);
+    }
+
+    private static AwsServiceException serviceException(final String errorCode) {
+        return AwsServiceException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode(errorCode).build())
+                .build();
+    }
+
+    @Test
+    public void end_WritesOneEmfDocumentPerInvocation() throws IOException {
+        final StepTracer tracer = StepTracer.begin(RESOURCE_TYPE, "UpdateHandler", null, HandlerLogger.batching(lines::add));
+
+        tracer.getMetrics().count(HandlerMetrics.CALLBACK_INVOCATIONS, 1);
+        tracer.endCall(tracer.startCall("PutRule"), null);
+        tracer.endCall(tracer.startCall("PutTargets"), serviceException("ThrottlingException"));
+        tracer.endCall(tracer.startCall("PutTargets"), serviceException("ResourceNotFoundException"));
+        tracer.poll("Stabilize", () -> false);
+        HandlerMetrics.current().count(HandlerMetrics.FAILED_ENTRIES, 1);
+        HandlerMetrics.current().set("RetryAttempts", 2);
+        tracer.end(ProgressEvent.defaultInProgressHandler(1, 5, "model"));
+
+        final JsonNode emf = emf();
+        assertThat(emf.get("_aws").get("Timestamp").asLong()).isPositive();
+        final JsonNode directive = emf.get("_aws").get("CloudWatchMetrics").get(0);
+        assertThat(directive.get("Namespace").asText()).isEqualTo(HandlerMetrics.NAMESPACE);
+        assertThat(directive.get("Dimensions").get(0)).extracting(JsonNode::asText).containsExactly("ResourceType", "Handler");
+        assertThat(directive.get("Metrics")).allSatisfy(metric -> {
+            assertThat(emf.has(metric.get("Name").asText())).isTrue();
+            assertThat(metric.get("Unit").asText()).isEqualTo("Count");
+        });
+        assertThat(directive.get("Metrics")).extracting(metric -> metric.get("Name").asText())
+                .contains(HandlerMetrics.API_CALLS, "ApiCalls.PutTargets", "Throttles.PutTargets", HandlerMetrics.FAILED_ENTRIES);
+        assertThat(emf.get("ResourceType").asText()).isEqualTo(RESOURCE_TYPE);
+        assertThat(emf.get("Handler").asText()).isEqualTo("UpdateHandler");
+        assertThat(emf.get(HandlerMetrics.API_CALLS).asLong()).isEqualTo(3);
+        assertThat(emf.get("ApiCalls.PutTargets").asLong()).isEqualTo(2);
+        assertThat(emf.get(HandlerMetrics.THROTTLES).asLong()).isEqualTo(1);
+        assertThat(emf.get(HandlerMetrics.FAILED_ENTRIES).asLong()).isEqualTo(1);
+        assertThat(emf.get(HandlerMetrics.STABILIZATION_POLLS).asLong()).isEqualTo(1);
+        assertThat(emf.get(HandlerMetrics.CALLBACK_INVOCATIONS).asLong()).isEqualTo(1);
+        assertThat(emf.get(HandlerMetrics.CALLBACK_DELAYS).asLong()).isEqualTo(1);
+        assertThat(emf.get("RetryAttempts").asLong()).isEqualTo(2);
+    }
+
+    @Test
+    public void end_EscapesMetricNamesAndDimensionValues() throws IOException {
+        final StepTracer tracer = StepTracer.begin("AWS::Events::\"Quoted\"", "Create\\Handler", null, HandlerLogger.batching(lines::add));
+
+        HandlerMetrics.current().count("ApiCalls.\"Quoted\"", 1);
+        tracer.end(ProgressEvent.progress("model", 1));
+
+        final JsonNode emf = emf();
+        final JsonNode directive = emf.get("_aws").get("CloudWatchMetrics").get(0);
+        assertThat(directive.get("Metrics")).extracting(metric -> metric.get("Name").asText()).contains("ApiCalls.\"Quoted\"");
+        assertThat(emf.get("ApiCalls.\"Quoted\"").asLong()).isEqualTo(1);
+        assertThat(emf.get("ResourceType").asText()).isEqualTo("AWS::Events::\"Quoted\"");
+        assertThat(emf.get("Handler").asText()).isEqualTo("Create\\Handler");
+    }
+
+    @Test
+    public void sdkRetryCounter_CountsTransmissionsAfterTheFirstOnAnyThread() throws Exception {
+        final StepTracer tracer = StepTracer.begin(RESOURCE_TYPE, "ReadHandler", null, HandlerLogger.batching(lines::add));
+        final HandlerMetrics.SdkRetryCounter counter = new HandlerMetrics.SdkRetryCounter();
+        final DescribeRuleRequest first = HandlerMetrics.SdkRetryCounter.register(DescribeRuleRequest.builder().name("first").build(),
+                tracer.getMetrics());
+        final DescribeRuleRequest second = HandlerMetrics.SdkRetryCounter.register(DescribeRuleRequest.builder().name("second").build(),
+                tracer.getMetrics());
+
+        // The calls run on a thread the tracer is not bound to, as on the concurrent call executor
+        CompletableFuture.runAsync(() -> {
+            final ExecutionAttributes firstCall = execute(counter, first);
+            counter.beforeTransmission(null, firstCall);
+            counter.beforeTransmission(null, firstCall);
+            counter.beforeTransmission(null, firstCall);
+            counter.beforeTransmission(null, execute(counter, second));
+        }).get();
+        tracer.end(ProgressEvent.progress("model", 1));
+
+        assertThat(emf().get(HandlerMetrics.SDK_RETRIES).asLong()).isEqualTo(2);
+    }
+
+    @Test
+    public void sdkRetryCounter_IgnoresUnregisteredRequests() throws IOException {
+        final StepTracer tracer = StepTracer.begin(RESOURCE_TYPE, "ReadHandler", null, HandlerLogger.batching(lines::add));
+        final HandlerMetrics.SdkRetryCounter counter = new HandlerMetrics.SdkRetryCounter();
+        final ExecutionAttributes call = execute(counter, DescribeRuleRequest.builder().name("unregistered").build());
+
+        counter.beforeTransmission(null, call);
+        counter.beforeTransmission(null, call);
+        tracer.end(ProgressEvent.progress("model", 1));
+
+        assertThat(emf().get(HandlerMetrics.SDK_RETRIES).asLong()).isEqualTo(0);
+    }
+
+    private static ExecutionAttributes execute(final HandlerMetrics.SdkRetryCounter counter, final SdkRequest request) {
+        final Context.BeforeExecution context = mock(Context.BeforeExecution.class);
+        when(context.request()).thenReturn(request);
+        final ExecutionAttributes executionAttributes = new ExecutionAttributes();
+        counter.beforeExecution(context, executionAttributes);
+        return executionAttributes;
+    }
+
+    @Test
+    public void isThrottle_RecognizesThrottlesOfBothSdks() {
+        final AmazonServiceException v1Throttle = new AmazonServiceException("Rate exceeded");
+        v1Throttle.setErrorCode("ThrottlingException");
+
+        assertThat(HandlerMetrics.isThrottle(serviceException("ThrottlingException"))).isTrue();
+        assertThat(HandlerMetrics.isThrottle(new CompletionException(serviceException("ThrottlingException")))).isTrue();
+        assertThat(HandlerMetrics.isThrottle(v1Throttle)).isTrue();
+        assertThat(HandlerMetrics.isThrottle(serviceException("ResourceNotFoundException"))).isFalse();
+        assertThat(HandlerMetrics.isThrottle(new IllegalStateException())).isFalse();
+    }
+
+    @Test
+    public void current_RecordsNothingOutsideOfAnInvocation() {
+        HandlerMetrics.current().count(HandlerMetrics.API_CALLS, 1);
+        HandlerMetrics.current().set(HandlerMetrics.FAILED_ENTRIES, 1);
+        new HandlerMetrics.SdkRetryCounter().beforeTransmission(null, new ExecutionAttributes());
+
+        assertThat(HandlerMetrics.current().get(HandlerMetrics.API_CALLS)).isEqualTo(0);
+        assertThat(HandlerMetrics.current().get(HandlerMetrics.FAILED_ENTRIES)).isEqualTo(0);
+        assertThat(HandlerMetrics.current().get(HandlerMetrics.SDK_RETRIES)).isEqualTo(0);
+        assertThat(lines).isEmpty();
+    }
+}
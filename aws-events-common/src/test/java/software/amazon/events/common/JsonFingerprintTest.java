@@ -0,0 +1,67 @@
+package software.amazon.events.common;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JsonFingerprintTest {
+
+    private static Map<String, Object> model(final boolean nameFirst, final Object policy) {
+        final Map<String, Object> model = new LinkedHashMap<>();
+        if (nameFirst) {
+            model.put("Name", "Test");
+            model.put("Policy", policy);
+        } else {
+            model.put("Policy", policy);
+            model.put("Name", "Test");
+        }
+        model.put("Description", null);
+        return model;
+    }
+
+    @Test
+    public void of_IgnoresKeyOrderAndNulls() {
+        final Map<String, Object> policy = new LinkedHashMap<>();
+        policy.put("Version", "2012-10-17");
+        policy.put("Statement", Collections.emptyList());
+        final Map<String, Object> reordered = new LinkedHashMap<>();
+        reordered.put("Statement", Collections.emptyList());
+        reordered.put("Version", "2012-10-17");
+
+        assertThat(JsonFingerprint.of(JsonFingerprint.toTree(model(true, policy))))
+                .isEqualTo(JsonFingerprint.of(JsonFingerprint.toTree(model(false, reordered))))
+                .hasSize(64);
+    }
+
+    @Test
+    public void of_KeepsArrayOrder() {
+        assertThat(JsonFingerprint.of(JsonFingerprint.toTree(model(true, Arrays.asList("a", "b")))))
+                .isNotEqualTo(JsonFingerprint.of(JsonFingerprint.toTree(model(true, Arrays.asList("b", "a")))));
+    }
+
+    @Test
+    public void parseJsonProperty_StringMatchesObject() {
+        final ObjectNode tree = JsonFingerprint.toTree(model(true, "{ \"Version\": \"2012-10-17\" }"));
+        JsonFingerprint.parseJsonProperty(tree, "Policy", "{ \"Version\": \"2012-10-17\" }");
+
+        assertThat(JsonFingerprint.of(tree))
+                .isEqualTo(JsonFingerprint.of(JsonFingerprint.toTree(model(true, Collections.singletonMap("Version", "2012-10-17")))));
+    }
+
+    @Test
+    public void parseJsonProperty_LeavesOtherStringsAsIs() {
+        final ObjectNode tree = JsonFingerprint.toTree(model(true, "not json {"));
+        JsonFingerprint.parseJsonProperty(tree, "Policy", "not json {");
+        JsonFingerprint.parseJsonProperty(tree, "Name", " ");
+        JsonFingerprint.parseJsonProperty(tree, "Name", null);
+
+        assertThat(tree.get("Policy").asText()).isEqualTo("not json {");
+        assertThat(tree.get("Name").asText()).isEqualTo("Test");
+    }
+}
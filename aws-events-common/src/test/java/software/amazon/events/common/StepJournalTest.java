@@ -0,0 +1,61 @@
+package software.amazon.events.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StepJournalTest {
+    private static final String STEP = "AWS-Events-Test::Create";
+
+    private final StepJournal stepJournal = new StepJournal();
+    private final AtomicInteger runs = new AtomicInteger();
+
+    private ProgressEvent<String, Void> run(final ProgressEvent<String, Void> result) {
+        return stepJournal.run(STEP, ProgressEvent.progress("model", null), () -> {
+            runs.incrementAndGet();
+            return result;
+        });
+    }
+
+    @Test
+    public void run_SkipsACompletedStep() {
+        run(ProgressEvent.progress("created", null));
+        final ProgressEvent<String, Void> resumed = run(ProgressEvent.progress("created", null));
+
+        assertThat(runs.get()).isEqualTo(1);
+        assertThat(stepJournal.isCompleted(STEP)).isTrue();
+        assertThat(resumed.getResourceModel()).isEqualTo("model");
+    }
+
+    @Test
+    public void run_RepeatsAStepThatAskedForACallback() {
+        run(ProgressEvent.defaultInProgressHandler(null, 30, "model"));
+        run(ProgressEvent.progress("created", null));
+
+        assertThat(runs.get()).isEqualTo(2);
+        assertThat(stepJournal.isCompleted(STEP)).isTrue();
+    }
+
+    @Test
+    public void run_RepeatsAStepThatFailed() {
+        run(ProgressEvent.failed("model", null, null, "failed"));
+
+        assertThat(stepJournal.isCompleted(STEP)).isFalse();
+    }
+
+    @Test
+    public void serialization_KeepsStepsAndOutputs() throws Exception {
+        stepJournal.complete(STEP);
+        stepJournal.putOutput("Arn", "arn:aws:events:us-east-1:123456789012:rule/test");
+        final ObjectMapper mapper = new ObjectMapper();
+
+        final StepJournal read = mapper.readValue(mapper.writeValueAsString(stepJournal), StepJournal.class);
+
+        assertThat(read).isEqualTo(stepJournal);
+        assertThat(read.getOutput("Arn")).isEqualTo("arn:aws:events:us-east-1:123456789012:rule/test");
+    }
+}
@@ -0,0 +1,191 @@
+package software.amazon.events.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class StepTracerTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String RESOURCE_TYPE = "AWS::Events::Test";
+    private static final String CLIENT_REQUEST_TOKEN = "8a1e0f1c-1111-2222-3333-444455556666";
+
+    private final List<String> lines = new ArrayList<>();
+
+    /**
+     * @return The spans line the invocation wrote
+     */
+    private JsonNode trace() throws IOException {
+        final List<JsonNode> traces = new ArrayList<>();
+        for (final String line : lines) {
+            final JsonNode document = MAPPER.readTree(line);
+            if (document.has("spans")) {
+                traces.add(document);
+            }
+        }
+        assertThat(traces).hasSize(1);
+        return traces.get(0);
+    }
+
+    private static AwsServiceException serviceException(final String errorCode) {
+        return AwsServiceException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode(errorCode).build())
+                .build();
+    }
+
+    @Test
+    public void end_WritesNestedSpansAndTheCallbackDelayInOneLine() throws IOException {
+        final StepTracer tracer = StepTracer.begin(RESOURCE_TYPE, "CreateHandler", CLIENT_REQUEST_TOKEN, HandlerLogger.batching(lines::add));
+
+        final ProgressEvent<String, Integer> result = tracer.step("AWS-Events-Test::Create", () -> {
+            StepTracer.current().call("PutRule", () -> null);
+            StepTracer.current().poll("Stabilize", () -> false);
+            StepTracer.current().poll("Stabilize", () -> true);
+            return ProgressEvent.defaultInProgressHandler(1, 5, "model");
+        });
+        tracer.end(result);
+
+        final JsonNode trace = trace();
+        assertThat(trace.get("traceId").asText()).isEqualTo("8a1e0f1c111122223333444455556666");
+        assertThat(trace.get("ResourceType").asText()).isEqualTo(RESOURCE_TYPE);
+        assertThat(trace.get("Handler").asText()).isEqualTo("CreateHandler");
+
+        final List<JsonNode> spans = new ArrayList<>();
+        trace.get("spans").forEach(spans::add);
+        assertThat(spans).extracting(span -> span.get("name").asText())
+                .containsExactly("PutRule", "Stabilize", "Stabilize", "AWS-Events-Test::Create", "CallbackDelay", "CreateHandler");
+
+        final JsonNode invocation = spans.get(5);
+        final JsonNode step = spans.get(3);
+        assertThat(invocation.has("parentSpanId")).isFalse();
+        assertThat(step.get("parentSpanId")).isEqualTo(invocation.get("spanId"));
+        assertThat(spans.get(0).get("parentSpanId")).isEqualTo(step.get("spanId"));
+        assertThat(spans.get(0).get("kind").asText()).isEqualTo(StepTracer.KIND_CLIENT);
+        assertThat(spans.get(0).get("attributes").get("step").asText()).isEqualTo("AWS-Events-Test::Create");
+
+        assertThat(spans.get(1).get("attributes").get("outcome").asText()).isEqualTo(StepTracer.OUTCOME_PENDING);
+        assertThat(spans.get(2).get("attributes").get("outcome").asText()).isEqualTo(StepTracer.OUTCOME_STABILIZED);
+        assertThat(spans.get(2).get("attributes").get("attempt").asInt()).isEqualTo(2);
+
+        final JsonNode delay = spans.get(4);
+        assertThat(delay.get("parentSpanId")).isEqualTo(invocation.get("spanId"));
+        assertThat(delay.get("durationMs").asLong()).isEqualTo(5000);
+        assertThat(delay.get("attributes").get("step").asText()).isEqualTo("AWS-Events-Test::Create");
+        assertThat(delay.get("attributes").get("callback.delay_seconds").asInt()).isEqualTo(5);
+        assertThat(invocation.get("attributes").get("outcome").asText()).isEqualTo("IN_PROGRESS");
+
+        assertThat(StepTracer.current()).isNotSameAs(tracer);
+    }
+
+    @Test
+    public void end_WritesTheBatchedLinesInTheSameRecord() throws IOException {
+        final HandlerLogger handlerLogger = new HandlerLogger(lines::add, HandlerLogger.Level.INFO, true);
+        final StepTracer tracer = StepTracer.begin(RESOURCE_TYPE, "ReadHandler", CLIENT_REQUEST_TOKEN, handlerLogger);
+
+        handlerLogger.info("first %s", 1);
+        handlerLogger.log("second");
+        assertThat(lines).isEmpty();
+        tracer.end(ProgressEvent.progress("model", 1));
+        handlerLogger.flush();
+
+        assertThat(lines).hasSize(1);
+        final JsonNode record = MAPPER.readTree(lines.get(0));
+        assertThat(record.get(HandlerLogger.LOG).asText()).isEqualTo("first 1\nsecond");
+        assertThat(record.has("_aws")).isTrue();
+        assertThat(record.get("spans")).hasSize(1);
+    }
+
+    @Test
+    public void startCall_OverlappingCallsShareTheStepAsParent() throws IOException {
+        final StepTracer tracer = StepTracer.begin(RESOURCE_TYPE, "ListHandler", CLIENT_REQUEST_TOKEN, HandlerLogger.batching(lines::add));
+
+        tracer.step("AWS-Events-Test::List", () -> {
+            final StepTracer.Span first = tracer.startCall("ListRules");
+            final StepTracer.Span second = tracer.startCall("ListRules");
+            tracer.poll("Stabilize", () -> {
+                tracer.endCall(tracer.startCall("DescribeRule"), null);
+                return true;
+            });
+            tracer.endCall(first, null);
+            tracer.endCall(second, null);
+            return ProgressEvent.<String, Integer>progress("model", null);
+        });
+        tracer.end(ProgressEvent.progress("model", 1));
+
+        final List<JsonNode> spans = new ArrayList<>();
+        trace().get("spans").forEach(spans::add);
+        assertThat(spans).extracting(span -> span.get("name").asText())
+                .containsExactly("DescribeRule", "Stabilize", "ListRules", "ListRules", "AWS-Events-Test::List", "ListHandler");
+        final JsonNode step = spans.get(4);
+        assertThat(spans.subList(0, 4)).allSatisfy(span -> assertThat(span.get("parentSpanId")).isEqualTo(step.get("spanId")));
+        assertThat(step.get("parentSpanId")).isEqualTo(spans.get(5).get("spanId"));
+    }
+
+    @Test
+    public void call_RecordsTheErrorCode() throws IOException {
+        final StepTracer tracer = StepTracer.begin(RESOURCE_TYPE, "UpdateHandler", CLIENT_REQUEST_TOKEN, HandlerLogger.batching(lines::add));
+        final AwsServiceException exception = serviceException("ThrottlingException");
+
+        assertThatThrownBy(() -> tracer.call("PutRule", () -> {
+            throw exception;
+        })).isSameAs(exception);
+        tracer.end(ProgressEvent.failed(null, null, HandlerErrorCode.Throttling, "throttled"));
+
+        final JsonNode spans = trace().get("spans");
+        assertThat(spans.get(0).get("status").asText()).isEqualTo("ERROR");
+        assertThat(spans.get(0).get("attributes").get("error.type").asText()).isEqualTo("ThrottlingException");
+        assertThat(spans.get(1).get("status").asText()).isEqualTo("ERROR");
+        assertThat(spans.get(1).get("attributes").get("error.type").asText()).isEqualTo("Throttling");
+    }
+
+    @Test
+    public void end_RecordsWhatTheInvocationThrew() throws IOException {
+        final StepTracer tracer = StepTracer.begin(RESOURCE_TYPE, "DeleteHandler", null, HandlerLogger.batching(lines::add));
+
+        assertThatThrownBy(() -> tracer.step("AWS-Events-Test::Delete", () -> {
+            StepTracer.current().poll("Stabilize", () -> {
+                throw new IllegalStateException("poll");
+            });
+            return ProgressEvent.<String, Integer>progress("model", null);
+        })).isInstanceOf(IllegalStateException.class);
+        tracer.end(new IllegalStateException("step"));
+
+        final JsonNode spans = trace().get("spans");
+        assertThat(spans).hasSize(3);
+        assertThat(spans).allSatisfy(span -> {
+            assertThat(span.get("status").asText()).isEqualTo("ERROR");
+            assertThat(span.get("attributes").get("error.type").asText()).isEqualTo("IllegalStateException");
+        });
+        assertThat(StepTracer.current()).isNotSameAs(tracer);
+    }
+
+    @Test
+    public void current_RecordsNothingOutsideOfAnInvocation() {
+        final ProgressEvent<String, Integer> progress = ProgressEvent.progress("model", 1);
+
+        assertThat(StepTracer.current().step("AWS-Events-Test::Create", () -> progress)).isSameAs(progress);
+        assertThat(StepTracer.current().poll("Stabilize", () -> true)).isTrue();
+        assertThat(StepTracer.current().<String>call("PutRule", () -> "response")).isEqualTo("response");
+        assertThat(StepTracer.current().startCall("PutRule")).isNull();
+        assertThat(StepTracer.current().end(progress)).isSameAs(progress);
+        StepTracer.current().end(new IllegalStateException());
+        assertThat(lines).isEmpty();
+    }
+
+    @Test
+    public void traceId_IsStableAcrossCallbacks() {
+        assertThat(StepTracer.traceId(CLIENT_REQUEST_TOKEN)).isEqualTo("8a1e0f1c111122223333444455556666");
+        assertThat(StepTracer.traceId("token")).isEqualTo(StepTracer.traceId("token")).hasSize(32);
+        assertThat(StepTracer.traceId(null)).hasSize(32).isNotEqualTo("00000000000000000000000000000000");
+    }
+}
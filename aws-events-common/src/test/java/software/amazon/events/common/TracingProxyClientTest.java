@@ -0,0 +1,100 @@
+package software.amazon.events.common;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.services.cloudwatchevents.CloudWatchEventsClient;
+import software.amazon.awssdk.services.cloudwatchevents.model.DescribeRuleRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.DescribeRuleResponse;
+import software.amazon.awssdk.services.cloudwatchevents.model.PutRuleRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.PutRuleResponse;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TracingProxyClientTest {
+    @Mock
+    private ProxyClient<CloudWatchEventsClient> delegate;
+
+    @Mock
+    private CloudWatchEventsClient client;
+
+    private final List<String> lines = new ArrayList<>();
+
+    @AfterEach
+    public void tear_down() {
+        StepTracer.current().end(ProgressEvent.progress("model", 1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void injectCredentialsAndInvoke_RecordsEveryCall() {
+        final StepTracer tracer = StepTracer.begin("AWS::Events::Test", "CreateHandler", null, HandlerLogger.batching(lines::add));
+        final TracingProxyClient<CloudWatchEventsClient> proxyClient = new TracingProxyClient<>(delegate, tracer);
+        final PutRuleRequest putRuleRequest = PutRuleRequest.builder().build();
+        final DescribeRuleRequest describeRuleRequest = DescribeRuleRequest.builder().build();
+        final PutRuleResponse putRuleResponse = PutRuleResponse.builder().build();
+        final DescribeRuleResponse describeRuleResponse = DescribeRuleResponse.builder().build();
+
+        when(delegate.injectCredentialsAndInvokeV2(eq(putRuleRequest), any(Function.class))).thenReturn(putRuleResponse);
+        when(delegate.injectCredentialsAndInvokeV2Async(eq(describeRuleRequest), any(Function.class)))
+                .thenReturn(CompletableFuture.completedFuture(describeRuleResponse));
+        when(delegate.client()).thenReturn(client);
+
+        assertThat(proxyClient.injectCredentialsAndInvokeV2(putRuleRequest, r -> null)).isSameAs(putRuleResponse);
+        assertThat(proxyClient.injectCredentialsAndInvokeV2Async(describeRuleRequest, r -> null).join()).isSameAs(describeRuleResponse);
+        proxyClient.injectCredentialsAndInvokeIterableV2(putRuleRequest, r -> null);
+        proxyClient.injectCredentialsAndInvokeV2InputStream(putRuleRequest, r -> null);
+        proxyClient.injectCredentialsAndInvokeV2Bytes(putRuleRequest, r -> null);
+        assertThat(proxyClient.client()).isSameAs(client);
+
+        assertThat(tracer.getMetrics().get(HandlerMetrics.API_CALLS)).isEqualTo(5);
+        assertThat(tracer.getMetrics().get(HandlerMetrics.API_CALLS + ".PutRule")).isEqualTo(4);
+        assertThat(tracer.getMetrics().get(HandlerMetrics.API_CALLS + ".DescribeRule")).isEqualTo(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void injectCredentialsAndInvokeV2_HandsTheMetricsToTheRetryCounter() {
+        final StepTracer tracer = StepTracer.begin("AWS::Events::Test", "ReadHandler", null, HandlerLogger.batching(lines::add));
+        final TracingProxyClient<CloudWatchEventsClient> proxyClient = new TracingProxyClient<>(delegate, tracer);
+        final HandlerMetrics.SdkRetryCounter counter = new HandlerMetrics.SdkRetryCounter();
+        final DescribeRuleRequest describeRuleRequest = DescribeRuleRequest.builder().name("rule").build();
+        final Context.BeforeExecution context = mock(Context.BeforeExecution.class);
+
+        when(delegate.injectCredentialsAndInvokeV2(eq(describeRuleRequest), any(Function.class)))
+                .thenAnswer(invocation -> ((Function<DescribeRuleRequest, DescribeRuleResponse>) invocation.getArgument(1)).apply(describeRuleRequest));
+        when(context.request()).thenReturn(describeRuleRequest);
+
+        proxyClient.injectCredentialsAndInvokeV2(describeRuleRequest, request -> {
+            // What the SDK does when it executes the request, on whichever thread
+            final ExecutionAttributes executionAttributes = new ExecutionAttributes();
+            counter.beforeExecution(context, executionAttributes);
+            counter.beforeTransmission(null, executionAttributes);
+            counter.beforeTransmission(null, executionAttributes);
+            return DescribeRuleResponse.builder().build();
+        });
+
+        assertThat(tracer.getMetrics().get(HandlerMetrics.SDK_RETRIES)).isEqualTo(1);
+    }
+
+    @Test
+    public void operation_IsNamedAfterTheRequest() {
+        assertThat(TracingProxyClient.operation(PutRuleRequest.builder().build())).isEqualTo("PutRule");
+    }
+}
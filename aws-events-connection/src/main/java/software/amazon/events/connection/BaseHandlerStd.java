@@ -6,23 +6,44 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.events.common.HandlerLogger;
+import software.amazon.events.common.HandlerMetrics;
+import software.amazon.events.common.StepTracer;
+import software.amazon.events.common.TracingProxyClient;
+
+import java.util.function.Supplier;
 
 // Placeholder for the functionality that could be shared across Create/Read/Update/Delete/List Handlers
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
+  // StepTracer poll name of the stabilization of a Connection
+  static final String STABILIZE = "Stabilize";
+
   @Override
   public final ProgressEvent<ResourceModel,CallbackContext> handleRequest(
           final AmazonWebServicesClientProxy proxy,
           final ResourceHandlerRequest<software.amazon.events.connection.ResourceModel> request,
           final software.amazon.events.connection.CallbackContext callbackContext,
           final Logger logger) {
-    return handleRequest(
-            proxy,
-            request,
-            callbackContext != null ? callbackContext : new software.amazon.events.connection.CallbackContext(),
-            proxy.newProxy(ClientBuilder::getClient),
-            logger
-    );
+    final HandlerLogger handlerLogger = HandlerLogger.batching(logger);
+    final StepTracer tracer = StepTracer.begin(ResourceModel.TYPE_NAME, getClass().getSimpleName(), request.getClientRequestToken(), handlerLogger);
+    tracer.getMetrics().count(HandlerMetrics.CALLBACK_INVOCATIONS, callbackContext != null ? 1 : 0);
+    try {
+      final ProgressEvent<ResourceModel, CallbackContext> result = handleRequest(
+              proxy,
+              request,
+              callbackContext != null ? callbackContext : new software.amazon.events.connection.CallbackContext(),
+              new TracingProxyClient<>(proxy.newProxy(ClientBuilder::getClient), tracer),
+              handlerLogger
+      );
+      return tracer.end(result);
+    } catch (RuntimeException e) {
+      tracer.end(e);
+      throw e;
+    } finally {
+      // The tracer has written the batched lines, unless the invocation threw an Error
+      handlerLogger.flush();
+    }
   }
 
   protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -31,4 +52,12 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
           final CallbackContext callbackContext,
           final ProxyClient<EventBridgeClient> proxyClient,
           final Logger logger);
+
+  // Resumes at the first incomplete step, see StepJournal
+  protected static ProgressEvent<ResourceModel, CallbackContext> runStep(
+          final String step, final ProgressEvent<ResourceModel, CallbackContext> progress,
+          final Supplier<ProgressEvent<ResourceModel, CallbackContext>> function) {
+    return progress.getCallbackContext().getStepJournal().run(step, progress,
+            () -> StepTracer.current().step(step, function));
+  }
 }
@@ -1,10 +1,12 @@
 package software.amazon.events.connection;
 
 import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.events.common.StepJournal;
 
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+    private StepJournal stepJournal = new StepJournal();
 }
@@ -19,6 +19,8 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.resource.IdentifierUtils;
+import software.amazon.events.common.HandlerLogger;
+import software.amazon.events.common.StepTracer;
 import java.util.function.Function;
 
 import static software.amazon.events.connection.Constants.BACK_OFF_DELAY;
@@ -27,6 +29,8 @@ import static software.amazon.events.connection.Constants.EMPTY_CALL;
 
 public class CreateHandler extends BaseHandlerStd {
     private static final int MAX_CONNECTION_NAME_LENGTH = 64;
+    private static final String CREATE = "AWS-Events-Connection::Create";
+    private static final String POST_CREATE_STABILIZE = "AWS-Events-Connection::PostCreateStabilize";
     private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -39,7 +43,7 @@ public class CreateHandler extends BaseHandlerStd {
         this.logger = logger;
 
         final ResourceModel model = request.getDesiredResourceState();
-        logger.log(String.format("Resource module: %s", model.toString()));
+        HandlerLogger.of(logger).debug("Resource module: %s", () -> Redactor.redact(model));
 
         Utils.verifyAuthorizationTypeParameterMapping(model);
 
@@ -50,22 +54,23 @@ public class CreateHandler extends BaseHandlerStd {
         }
 
         return ProgressEvent.progress(model, callbackContext)
-                .then(progress ->
-                        proxy.initiate("AWS-Events-Connection::Create", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                .then(progress -> runStep(CREATE, progress, () ->
+                        proxy.initiate(CREATE, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
 
                                 .translateToServiceRequest(Translator::translateToCreateRequest)
                                 .makeServiceCall(this::createResource)
-                                .progress()
+                                .progress())
                 )
-                .then(progress ->
+                .then(progress -> runStep(POST_CREATE_STABILIZE, progress, () ->
                         // If your resource requires some form of stabilization (e.g. service does not provide strong consistency), you will need to ensure that your code
                         // accounts for any potential issues, so that a subsequent read/update requests will not cause any conflicts (e.g. NotFoundException/InvalidRequestException)
-                        proxy.initiate("AWS-Events-Connection::PostCreateStabilize", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                        proxy.initiate(POST_CREATE_STABILIZE, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                                 .translateToServiceRequest(Function.identity())
                                 .backoffDelay(BACK_OFF_DELAY)
                                 .makeServiceCall(EMPTY_CALL)
-                                .stabilize((awsRequest, response, proxyInvocation, resourceModel, context) -> isStabilized(proxyClient, resourceModel))
-                                .progress())
+                                .stabilize((awsRequest, response, proxyInvocation, resourceModel, context) -> StepTracer.current().poll(STABILIZE,
+                                        () -> isStabilized(proxyClient, resourceModel)))
+                                .progress()))
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
 
     }
@@ -103,7 +108,10 @@ public class CreateHandler extends BaseHandlerStd {
                         ResourceModel.TYPE_NAME, model.getPrimaryIdentifier(), describeConnectionResponse.stateReason()));
         }
 
-        logger.log(String.format("%s [%s] create has stabilized: %s. Connection state: %s", ResourceModel.TYPE_NAME, model.getPrimaryIdentifier(), stabilized, state.toString()));
+        // Logged at debug level: every poll is also recorded as a StepTracer span
+        final boolean result = stabilized;
+        HandlerLogger.of(logger).debug(ResourceModel.TYPE_NAME + " [%s] create has stabilized: %s. Connection state: %s",
+                model::getPrimaryIdentifier, () -> result, () -> state);
         return stabilized;
     }
 
@@ -15,10 +15,14 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.events.common.HandlerLogger;
+import software.amazon.events.common.StepTracer;
 
 import static software.amazon.events.connection.Constants.BACK_OFF_DELAY;
 
 public class DeleteHandler extends BaseHandlerStd {
+    private static final String DELETE = "AWS-Events-Connection::Delete";
+
     private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -31,16 +35,17 @@ public class DeleteHandler extends BaseHandlerStd {
         this.logger = logger;
 
         final ResourceModel model = request.getDesiredResourceState();
-        logger.log(String.format("Resource module: %s", model.toString()));
+        HandlerLogger.of(logger).debug("Resource module: %s", () -> Redactor.redact(model));
 
         return ProgressEvent.progress(model, callbackContext)
-                .then(progress ->
-                        proxy.initiate("AWS-Events-Connection::Delete", proxyClient, model, callbackContext)
+                .then(progress -> StepTracer.current().step(DELETE, () ->
+                        proxy.initiate(DELETE, proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator::translateToDeleteRequest)
                                 .backoffDelay(BACK_OFF_DELAY)
                                 .makeServiceCall(this::deleteResource)
-                                .stabilize(this::stabilizedOnDelete)
-                                .done(this::setResourceModelToNullAndReturnSuccess));
+                                .stabilize((awsRequest, awsResponse, client, resourceModel, context) -> StepTracer.current().poll(STABILIZE,
+                                        () -> stabilizedOnDelete(awsRequest, awsResponse, client, resourceModel, context)))
+                                .done(this::setResourceModelToNullAndReturnSuccess)));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> setResourceModelToNullAndReturnSuccess(
@@ -89,7 +94,9 @@ public class DeleteHandler extends BaseHandlerStd {
         } catch (ResourceNotFoundException e) {
             stabilized = true;
         }
-        logger.log(String.format("%s [%s] deletion has stabilized: %s", ResourceModel.TYPE_NAME, model.getPrimaryIdentifier(), stabilized));
+        // Logged at debug level: every poll is also recorded as a StepTracer span
+        final boolean deleted = stabilized;
+        HandlerLogger.of(logger).debug(ResourceModel.TYPE_NAME + " [%s] deletion has stabilized: %s", model::getPrimaryIdentifier, () -> deleted);
         return stabilized;
     }
 
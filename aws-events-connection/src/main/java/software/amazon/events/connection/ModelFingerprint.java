@@ -0,0 +1,27 @@
+package software.amazon.events.connection;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import software.amazon.events.common.JsonFingerprint;
+
+/**
+ * A canonical fingerprint of the properties of a Connection that an update can change, so an update whose desired
+ * state is only a different spelling of the previous one can be recognized as a no-op. The read-only Arn and SecretArn
+ * are left out, object keys are sorted at every level and null properties are dropped. The write-only secrets are part
+ * of the fingerprint: a rotated Password, ApiKeyValue or ClientSecret is an effective change. Arrays are kept in order.
+ */
+final class ModelFingerprint {
+  private ModelFingerprint() {
+  }
+
+  /**
+   * @param model A ResourceModel
+   * @return The SHA-256 of the canonical JSON of the model, hex encoded
+   */
+  static String of(final ResourceModel model) {
+    final ObjectNode tree = JsonFingerprint.toTree(model);
+    tree.remove("Arn");
+    tree.remove("SecretArn");
+
+    return JsonFingerprint.of(tree);
+  }
+}
@@ -0,0 +1,58 @@
+package software.amazon.events.connection;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Masks the auth secrets of a ResourceModel, which is only logged through {@link #redact}.
+ */
+final class Redactor {
+  static final String REDACTED = "*** REDACTED ***";
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  // The writeOnlyProperties of the schema
+  private static final Set<String> SECRET_PROPERTIES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+          "Password", "ApiKeyValue", "ClientSecret")));
+
+  private Redactor() {
+  }
+
+  /**
+   * @param model A ResourceModel
+   * @return The JSON of the model with its write-only secrets and the values of secret parameters masked
+   */
+  static String redact(final ResourceModel model) {
+    final JsonNode tree = MAPPER.valueToTree(model);
+    redact(tree);
+    return tree.toString();
+  }
+
+  private static void redact(final JsonNode node) {
+    if (node.isObject()) {
+      final ObjectNode object = (ObjectNode) node;
+      // A Parameter of the auth or invocation HTTP parameters: its Value is secret unless IsValueSecret is false
+      final boolean secretParameter = object.has("Key") && object.hasNonNull("Value")
+              && !(object.has("IsValueSecret") && !object.get("IsValueSecret").asBoolean(true));
+      final Iterator<Map.Entry<String, JsonNode>> fields = object.fields();
+      while (fields.hasNext()) {
+        final Map.Entry<String, JsonNode> field = fields.next();
+        if (SECRET_PROPERTIES.contains(field.getKey()) && field.getValue().isTextual()
+                || secretParameter && "Value".equals(field.getKey())) {
+          field.setValue(object.textNode(REDACTED));
+        } else {
+          redact(field.getValue());
+        }
+      }
+    } else if (node.isArray()) {
+      node.forEach(Redactor::redact);
+    }
+  }
+}
@@ -18,6 +18,8 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.events.common.HandlerLogger;
+import software.amazon.events.common.StepTracer;
 
 import java.util.function.Function;
 
@@ -25,6 +27,9 @@ import static software.amazon.events.connection.Constants.BACK_OFF_DELAY;
 import static software.amazon.events.connection.Constants.EMPTY_CALL;
 
 public class UpdateHandler extends BaseHandlerStd {
+    private static final String UPDATE = "AWS-Events-Connection::Update";
+    private static final String POST_UPDATE_STABILIZE = "AWS-Events-Connection::PostUpdateStabilize";
+
     private Logger logger;
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -38,19 +43,27 @@ public class UpdateHandler extends BaseHandlerStd {
 
         Utils.verifyAuthorizationTypeParameterMapping(request.getDesiredResourceState());
 
+        // Nothing effective changed: skip UpdateConnection and the stabilization, the read still fills in the read-only properties
+        final ResourceModel previousModel = request.getPreviousResourceState();
+        if (previousModel != null && ModelFingerprint.of(previousModel).equals(ModelFingerprint.of(request.getDesiredResourceState()))) {
+            logger.log(String.format("%s [%s] is unchanged, skipping the update.", ResourceModel.TYPE_NAME, request.getDesiredResourceState().getPrimaryIdentifier()));
+            return new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger);
+        }
+
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-                .then(progress ->
-                        proxy.initiate("AWS-Events-Connection::Update", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                .then(progress -> runStep(UPDATE, progress, () ->
+                        proxy.initiate(UPDATE, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                                 .translateToServiceRequest(model -> Translator.translateToUpdateRequest(model))
                                 .makeServiceCall(this::updateResource)
-                                .progress())
-                .then(progress ->
-                        proxy.initiate("AWS-Events-Connection::PostUpdateStabilize", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                                .progress()))
+                .then(progress -> runStep(POST_UPDATE_STABILIZE, progress, () ->
+                        proxy.initiate(POST_UPDATE_STABILIZE, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                                 .translateToServiceRequest(Function.identity())
                                 .backoffDelay(BACK_OFF_DELAY)
                                 .makeServiceCall(EMPTY_CALL)
-                                .stabilize((awsRequest, response, proxyInvocation, model, context) -> isStabilized(proxyClient, model))
-                                .progress())
+                                .stabilize((awsRequest, response, proxyInvocation, model, context) -> StepTracer.current().poll(STABILIZE,
+                                        () -> isStabilized(proxyClient, model)))
+                                .progress()))
                 .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
@@ -89,7 +102,10 @@ public class UpdateHandler extends BaseHandlerStd {
                         ResourceModel.TYPE_NAME, model.getPrimaryIdentifier(), describeConnectionResponse.stateReason()));
         }
 
-        logger.log(String.format("%s [%s] update has stabilized: %s. Connection state: %s", ResourceModel.TYPE_NAME, model.getPrimaryIdentifier(), stabilized, state.toString()));
+        // Logged at debug level: every poll is also recorded as a StepTracer span
+        final boolean result = stabilized;
+        HandlerLogger.of(logger).debug(ResourceModel.TYPE_NAME + " [%s] update has stabilized: %s. Connection state: %s",
+                model::getPrimaryIdentifier, () -> result, () -> state);
         return stabilized;
     }
 }
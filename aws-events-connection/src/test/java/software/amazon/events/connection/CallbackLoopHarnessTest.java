@@ -0,0 +1,78 @@
+package software.amazon.events.connection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.eventbridge.EventBridgeClient;
+import software.amazon.awssdk.services.eventbridge.model.ConnectionAuthorizationType;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.DelayFactory;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.WaitStrategy;
+import software.amazon.events.common.CallbackLoopHarness;
+import software.amazon.events.common.FakeServiceBehavior;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.events.connection.TestConstants.CONNECTION_NAME;
+
+@ExtendWith(MockitoExtension.class)
+public class CallbackLoopHarnessTest extends AbstractTestBase {
+    private static final Duration AUTHORIZATION_TIME = Duration.ofSeconds(20);
+
+    private AmazonWebServicesClientProxy proxy;
+    private FakeServiceBehavior behavior;
+    private FakeEventBridgeClient fakeClient;
+    private ProxyClient<EventBridgeClient> proxyClient;
+    private CallbackLoopHarness<ResourceModel, CallbackContext> harness;
+
+    @BeforeEach
+    public void setup() {
+        // BACK_OFF_DELAY is returned as a callback delay instead of being waited out in process
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, DelayFactory.CONSTANT_DEFAULT_DELAY_FACTORY,
+                WaitStrategy.scheduleForCallbackStrategy());
+        behavior = new FakeServiceBehavior();
+        harness = new CallbackLoopHarness<>(behavior::getTotalCallCount);
+        behavior.clock(harness.clock());
+        fakeClient = new FakeEventBridgeClient("123456789012", "us-east-1", behavior);
+        proxyClient = MOCK_PROXY(proxy, fakeClient);
+    }
+
+    @Test
+    public void execute_CreateAndDeleteWaitOutStateTransitions() {
+        behavior.consistencyWindow(AUTHORIZATION_TIME);
+        final ResourceHandlerRequest<ResourceModel> createRequest = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .name(CONNECTION_NAME)
+                        .authorizationType(ConnectionAuthorizationType.BASIC.toString())
+                        .authParameters(TestConstants.authParametersBasicType)
+                        .build())
+                .build();
+
+        final CallbackLoopHarness.Execution<ResourceModel, CallbackContext> created = harness.execute(
+                (request, context) -> new CreateHandler().handleRequest(proxy, request, context, proxyClient, logger),
+                createRequest, new CallbackContext());
+
+        assertThat(created.getResponse().getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(created.getResponse().getResourceModel().getArn()).isNotNull();
+        // The connection stays CREATING for the window, which takes at least one BACK_OFF_DELAY callback to wait out
+        assertThat(created.getInvocations()).isGreaterThan(1);
+        assertThat(created.getLatencyNanos()).isGreaterThanOrEqualTo(AUTHORIZATION_TIME.toNanos());
+        assertThat(behavior.getCallCount("CreateConnection")).isEqualTo(1);
+
+        final CallbackLoopHarness.Execution<ResourceModel, CallbackContext> deleted = harness.execute(
+                (request, context) -> new DeleteHandler().handleRequest(proxy, request, context, proxyClient, logger),
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(created.getResponse().getResourceModel()).build(),
+                new CallbackContext());
+
+        assertThat(deleted.getResponse().getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(fakeClient.getConnectionCount()).isEqualTo(0);
+        // DELETING is waited out the same way
+        assertThat(deleted.getInvocations()).isGreaterThan(1);
+        assertThat(deleted.getLatencyNanos()).isGreaterThanOrEqualTo(AUTHORIZATION_TIME.toNanos());
+    }
+}
@@ -0,0 +1,342 @@
+package software.amazon.events.connection;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.eventbridge.EventBridgeClient;
+import software.amazon.awssdk.services.eventbridge.model.Connection;
+import software.amazon.awssdk.services.eventbridge.model.ConnectionApiKeyAuthResponseParameters;
+import software.amazon.awssdk.services.eventbridge.model.ConnectionAuthResponseParameters;
+import software.amazon.awssdk.services.eventbridge.model.ConnectionBasicAuthResponseParameters;
+import software.amazon.awssdk.services.eventbridge.model.ConnectionOAuthClientResponseParameters;
+import software.amazon.awssdk.services.eventbridge.model.ConnectionOAuthResponseParameters;
+import software.amazon.awssdk.services.eventbridge.model.ConnectionState;
+import software.amazon.awssdk.services.eventbridge.model.CreateConnectionAuthRequestParameters;
+import software.amazon.awssdk.services.eventbridge.model.CreateConnectionRequest;
+import software.amazon.awssdk.services.eventbridge.model.CreateConnectionResponse;
+import software.amazon.awssdk.services.eventbridge.model.DeleteConnectionRequest;
+import software.amazon.awssdk.services.eventbridge.model.DeleteConnectionResponse;
+import software.amazon.awssdk.services.eventbridge.model.DescribeConnectionRequest;
+import software.amazon.awssdk.services.eventbridge.model.DescribeConnectionResponse;
+import software.amazon.awssdk.services.eventbridge.model.EventBridgeException;
+import software.amazon.awssdk.services.eventbridge.model.ListConnectionsRequest;
+import software.amazon.awssdk.services.eventbridge.model.ListConnectionsResponse;
+import software.amazon.awssdk.services.eventbridge.model.ResourceAlreadyExistsException;
+import software.amazon.awssdk.services.eventbridge.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.eventbridge.model.UpdateConnectionAuthRequestParameters;
+import software.amazon.awssdk.services.eventbridge.model.UpdateConnectionRequest;
+import software.amazon.awssdk.services.eventbridge.model.UpdateConnectionResponse;
+import software.amazon.events.common.FakeServiceBehavior;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory EventBridge with real connection state, for running handlers against a service instead of per-call
+ * Mockito stubs. Latency and throttling are configured through FakeServiceBehavior.
+ * Connections go through the service's asynchronous states: a created connection is CREATING and an updated one
+ * AUTHORIZING until the consistency window has passed, then AUTHORIZED; a deleted connection is DELETING until the
+ * consistency window has passed, then gone.
+ */
+public class FakeEventBridgeClient implements EventBridgeClient {
+    static final int DEFAULT_PAGE_SIZE = 100;
+
+    private final String accountId;
+    private final String region;
+    private final FakeServiceBehavior behavior;
+
+    private final Map<String, ConnectionRecord> connections = new LinkedHashMap<>();
+
+    private static final class ConnectionRecord {
+        private final String name;
+        private final String arn;
+        private final String secretArn;
+        private final Instant creationTime;
+        private String description;
+        private String authorizationType;
+        private ConnectionAuthResponseParameters authParameters;
+        private Instant lastModifiedTime;
+        // The state while the connection settles, and the time at which it becomes AUTHORIZED
+        private ConnectionState settlingState;
+        private long settledAt;
+        private Long goneAt;
+
+        private ConnectionRecord(final String name, final String arn, final String secretArn) {
+            this.name = name;
+            this.arn = arn;
+            this.secretArn = secretArn;
+            this.creationTime = Instant.now();
+            this.lastModifiedTime = creationTime;
+        }
+    }
+
+    public FakeEventBridgeClient(final String accountId, final String region, final FakeServiceBehavior behavior) {
+        this.accountId = accountId;
+        this.region = region;
+        this.behavior = behavior;
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public synchronized CreateConnectionResponse createConnection(final CreateConnectionRequest request) {
+        enter("CreateConnection");
+
+        if (existingConnection(request.name()) != null) {
+            throw ResourceAlreadyExistsException.builder()
+                    .awsErrorDetails(details("ResourceAlreadyExistsException", "Connection " + request.name() + " already exists."))
+                    .statusCode(400)
+                    .build();
+        }
+
+        final String id = UUID.randomUUID().toString();
+        final ConnectionRecord record = new ConnectionRecord(request.name(),
+                String.format("arn:aws:events:%s:%s:connection/%s/%s", region, accountId, request.name(), id),
+                String.format("arn:aws:secretsmanager:%s:%s:secret:events!connection/%s/%s", region, accountId, request.name(), id));
+        record.description = request.description();
+        record.authorizationType = request.authorizationTypeAsString();
+        record.authParameters = toResponseParameters(request.authParameters());
+        settle(record, ConnectionState.CREATING);
+        connections.put(request.name(), record);
+
+        return CreateConnectionResponse.builder()
+                .connectionArn(record.arn)
+                .connectionState(state(record))
+                .creationTime(record.creationTime)
+                .lastModifiedTime(record.lastModifiedTime)
+                .build();
+    }
+
+    @Override
+    public synchronized DescribeConnectionResponse describeConnection(final DescribeConnectionRequest request) {
+        enter("DescribeConnection");
+
+        final ConnectionRecord record = connection(request.name());
+        return DescribeConnectionResponse.builder()
+                .name(record.name)
+                .connectionArn(record.arn)
+                .secretArn(record.secretArn)
+                .description(record.description)
+                .authorizationType(record.authorizationType)
+                .authParameters(record.authParameters)
+                .connectionState(state(record))
+                .creationTime(record.creationTime)
+                .lastModifiedTime(record.lastModifiedTime)
+                .build();
+    }
+
+    @Override
+    public synchronized UpdateConnectionResponse updateConnection(final UpdateConnectionRequest request) {
+        enter("UpdateConnection");
+
+        final ConnectionRecord record = connection(request.name());
+        if (record.goneAt != null) {
+            throw error("ConcurrentModificationException", "Connection " + request.name() + " is being deleted.");
+        }
+
+        if (request.description() != null) {
+            record.description = request.description();
+        }
+        if (request.authorizationType() != null) {
+            record.authorizationType = request.authorizationTypeAsString();
+        }
+        if (request.authParameters() != null) {
+            record.authParameters = toResponseParameters(record.authParameters, request.authParameters());
+        }
+        record.lastModifiedTime = Instant.now();
+        settle(record, ConnectionState.AUTHORIZING);
+
+        return UpdateConnectionResponse.builder()
+                .connectionArn(record.arn)
+                .connectionState(state(record))
+                .creationTime(record.creationTime)
+                .lastModifiedTime(record.lastModifiedTime)
+                .build();
+    }
+
+    @Override
+    public synchronized DeleteConnectionResponse deleteConnection(final DeleteConnectionRequest request) {
+        enter("DeleteConnection");
+
+        final ConnectionRecord record = connection(request.name());
+        if (record.goneAt == null) {
+            record.goneAt = behavior.visibleAt();
+        }
+
+        return DeleteConnectionResponse.builder()
+                .connectionArn(record.arn)
+                .connectionState(state(record))
+                .creationTime(record.creationTime)
+                .lastModifiedTime(record.lastModifiedTime)
+                .build();
+    }
+
+    @Override
+    public synchronized ListConnectionsResponse listConnections(final ListConnectionsRequest request) {
+        enter("ListConnections");
+
+        final List<Connection> matching = connections.values().stream()
+                .filter(record -> existingConnection(record.name) != null)
+                .filter(record -> request.namePrefix() == null || record.name.startsWith(request.namePrefix()))
+                .filter(record -> request.connectionState() == null || request.connectionState() == state(record))
+                .map(record -> Connection.builder()
+                        .name(record.name)
+                        .connectionArn(record.arn)
+                        .authorizationType(record.authorizationType)
+                        .connectionState(state(record))
+                        .creationTime(record.creationTime)
+                        .lastModifiedTime(record.lastModifiedTime)
+                        .build())
+                .collect(Collectors.toList());
+
+        final int from = request.nextToken() == null ? 0 : Integer.parseInt(request.nextToken());
+        final int to = Math.min(matching.size(), from + (request.limit() == null ? DEFAULT_PAGE_SIZE : request.limit()));
+
+        return ListConnectionsResponse.builder()
+                .connections(matching.subList(from, to))
+                .nextToken(to < matching.size() ? String.valueOf(to) : null)
+                .build();
+    }
+
+    /**
+     * @return The number of connections that have not finished deleting
+     */
+    public synchronized int getConnectionCount() {
+        return (int) connections.keySet().stream().filter(name -> existingConnection(name) != null).count();
+    }
+
+    private void enter(final String operation) {
+        if (behavior.enter(operation)) {
+            throw error("ThrottlingException", "Rate exceeded");
+        }
+    }
+
+    private void settle(final ConnectionRecord record, final ConnectionState settlingState) {
+        record.settlingState = settlingState;
+        record.settledAt = behavior.visibleAt();
+    }
+
+    private ConnectionState state(final ConnectionRecord record) {
+        if (record.goneAt != null) {
+            return ConnectionState.DELETING;
+        }
+        return behavior.isReached(record.settledAt) ? ConnectionState.AUTHORIZED : record.settlingState;
+    }
+
+    /**
+     * @return The connection, unless it does not exist or has finished deleting
+     */
+    private ConnectionRecord existingConnection(final String name) {
+        final ConnectionRecord record = connections.get(name);
+        if (record == null || (record.goneAt != null && behavior.isReached(record.goneAt))) {
+            return null;
+        }
+        return record;
+    }
+
+    private ConnectionRecord connection(final String name) {
+        final ConnectionRecord record = existingConnection(name);
+        if (record == null) {
+            throw ResourceNotFoundException.builder()
+                    .awsErrorDetails(details("ResourceNotFoundException", "Failed to describe the connection(s). Connection '" + name + "' does not exist."))
+                    .statusCode(400)
+                    .build();
+        }
+        return record;
+    }
+
+    /**
+     * Secrets (passwords, API key values, client secrets) are not returned by the service, so they are not kept.
+     */
+    private static ConnectionAuthResponseParameters toResponseParameters(final CreateConnectionAuthRequestParameters parameters) {
+        if (parameters == null) {
+            return null;
+        }
+
+        final ConnectionAuthResponseParameters.Builder builder = ConnectionAuthResponseParameters.builder()
+                .invocationHttpParameters(parameters.invocationHttpParameters());
+        if (parameters.basicAuthParameters() != null) {
+            builder.basicAuthParameters(ConnectionBasicAuthResponseParameters.builder()
+                    .username(parameters.basicAuthParameters().username())
+                    .build());
+        }
+        if (parameters.apiKeyAuthParameters() != null) {
+            builder.apiKeyAuthParameters(ConnectionApiKeyAuthResponseParameters.builder()
+                    .apiKeyName(parameters.apiKeyAuthParameters().apiKeyName())
+                    .build());
+        }
+        if (parameters.oAuthParameters() != null) {
+            builder.oAuthParameters(ConnectionOAuthResponseParameters.builder()
+                    .authorizationEndpoint(parameters.oAuthParameters().authorizationEndpoint())
+                    .httpMethod(parameters.oAuthParameters().httpMethodAsString())
+                    .oAuthHttpParameters(parameters.oAuthParameters().oAuthHttpParameters())
+                    .clientParameters(parameters.oAuthParameters().clientParameters() == null ? null :
+                            ConnectionOAuthClientResponseParameters.builder()
+                                    .clientID(parameters.oAuthParameters().clientParameters().clientID())
+                                    .build())
+                    .build());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Applies the parts of an update to the current parameters; parts the update leaves out are kept.
+     */
+    private static ConnectionAuthResponseParameters toResponseParameters(final ConnectionAuthResponseParameters current,
+                                                                         final UpdateConnectionAuthRequestParameters update) {
+        final ConnectionAuthResponseParameters.Builder builder = current == null ?
+                ConnectionAuthResponseParameters.builder() : current.toBuilder();
+
+        if (update.invocationHttpParameters() != null) {
+            builder.invocationHttpParameters(update.invocationHttpParameters());
+        }
+        if (update.basicAuthParameters() != null) {
+            builder.basicAuthParameters(ConnectionBasicAuthResponseParameters.builder()
+                    .username(update.basicAuthParameters().username())
+                    .build());
+        }
+        if (update.apiKeyAuthParameters() != null) {
+            builder.apiKeyAuthParameters(ConnectionApiKeyAuthResponseParameters.builder()
+                    .apiKeyName(update.apiKeyAuthParameters().apiKeyName())
+                    .build());
+        }
+        if (update.oAuthParameters() != null) {
+            builder.oAuthParameters(ConnectionOAuthResponseParameters.builder()
+                    .authorizationEndpoint(update.oAuthParameters().authorizationEndpoint())
+                    .httpMethod(update.oAuthParameters().httpMethodAsString())
+                    .oAuthHttpParameters(update.oAuthParameters().oAuthHttpParameters())
+                    .clientParameters(update.oAuthParameters().clientParameters() == null ? null :
+                            ConnectionOAuthClientResponseParameters.builder()
+                                    .clientID(update.oAuthParameters().clientParameters().clientID())
+                                    .build())
+                    .build());
+        }
+        return builder.build();
+    }
+
+    private static AwsErrorDetails details(final String errorCode, final String message) {
+        return AwsErrorDetails.builder()
+                .errorCode(errorCode)
+                .errorMessage(message)
+                .serviceName("EventBridge")
+                .build();
+    }
+
+    private static AwsServiceException error(final String errorCode, final String message) {
+        return EventBridgeException.builder()
+                .awsErrorDetails(details(errorCode, message))
+                .message(message)
+                .statusCode(400)
+                .build();
+    }
+}
@@ -0,0 +1,75 @@
+package software.amazon.events.connection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.eventbridge.model.ConnectionAuthorizationType;
+import software.amazon.awssdk.services.eventbridge.model.ConnectionState;
+import software.amazon.awssdk.services.eventbridge.model.CreateConnectionAuthRequestParameters;
+import software.amazon.awssdk.services.eventbridge.model.CreateConnectionBasicAuthRequestParameters;
+import software.amazon.awssdk.services.eventbridge.model.CreateConnectionRequest;
+import software.amazon.awssdk.services.eventbridge.model.DeleteConnectionRequest;
+import software.amazon.awssdk.services.eventbridge.model.DescribeConnectionRequest;
+import software.amazon.awssdk.services.eventbridge.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.eventbridge.model.UpdateConnectionRequest;
+import software.amazon.events.common.FakeServiceBehavior;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.events.connection.TestConstants.CONNECTION_NAME;
+import static software.amazon.events.connection.TestConstants.USER_NAME;
+
+@ExtendWith(MockitoExtension.class)
+public class FakeEventBridgeClientTest extends AbstractTestBase {
+
+    private FakeServiceBehavior behavior;
+    private FakeEventBridgeClient fakeClient;
+    private long now;
+
+    @BeforeEach
+    public void setup() {
+        now = 0;
+        behavior = new FakeServiceBehavior().clock(() -> now);
+        fakeClient = new FakeEventBridgeClient("123456789012", "us-east-1", behavior);
+    }
+
+    private static CreateConnectionRequest createConnectionRequest() {
+        return CreateConnectionRequest.builder()
+                .name(CONNECTION_NAME)
+                .authorizationType(ConnectionAuthorizationType.BASIC)
+                .authParameters(CreateConnectionAuthRequestParameters.builder()
+                        .basicAuthParameters(CreateConnectionBasicAuthRequestParameters.builder()
+                                .username(USER_NAME)
+                                .password("password")
+                                .build())
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void connectionState_Transitions() {
+        behavior.consistencyWindow(Duration.ofSeconds(5));
+        final DescribeConnectionRequest describeConnectionRequest = DescribeConnectionRequest.builder().name(CONNECTION_NAME).build();
+
+        assertThat(fakeClient.createConnection(createConnectionRequest()).connectionState()).isEqualTo(ConnectionState.CREATING);
+        now += Duration.ofSeconds(5).toNanos();
+        assertThat(fakeClient.describeConnection(describeConnectionRequest).connectionState()).isEqualTo(ConnectionState.AUTHORIZED);
+        assertThat(fakeClient.describeConnection(describeConnectionRequest).authParameters().basicAuthParameters().username())
+                .isEqualTo(USER_NAME);
+
+        fakeClient.updateConnection(UpdateConnectionRequest.builder().name(CONNECTION_NAME).description("Updated").build());
+        assertThat(fakeClient.describeConnection(describeConnectionRequest).connectionState()).isEqualTo(ConnectionState.AUTHORIZING);
+        now += Duration.ofSeconds(5).toNanos();
+        assertThat(fakeClient.describeConnection(describeConnectionRequest).connectionState()).isEqualTo(ConnectionState.AUTHORIZED);
+
+        assertThat(fakeClient.deleteConnection(DeleteConnectionRequest.builder().name(CONNECTION_NAME).build()).connectionState())
+                .isEqualTo(ConnectionState.DELETING);
+        assertThat(fakeClient.getConnectionCount()).isEqualTo(1);
+        now += Duration.ofSeconds(5).toNanos();
+        assertThatThrownBy(() -> fakeClient.describeConnection(describeConnectionRequest)).isInstanceOf(ResourceNotFoundException.class);
+        assertThat(fakeClient.getConnectionCount()).isEqualTo(0);
+    }
+}
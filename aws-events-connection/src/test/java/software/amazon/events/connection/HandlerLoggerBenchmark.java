@@ -0,0 +1,99 @@
+package software.amazon.events.connection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.events.common.HandlerLogger;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the logging of a Create invocation (the model line and a few stabilization polls) as the handlers did it,
+ * formatting every line eagerly and writing each one, with HandlerLogger at the default INFO threshold, where those
+ * lines are debug and never formatted, and with debug enabled, where they are formatted, redacted and batched into a
+ * single write. Each write goes to a Blackhole. Not picked up by surefire; run main() from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandlerLoggerBenchmark {
+    private static final int POLLS = 5;
+
+    private ResourceModel model;
+
+    @Setup
+    public void setUp() {
+        model = ResourceModel.builder()
+                .name(TestConstants.CONNECTION_NAME)
+                .arn("arn:aws:events:us-east-1:123456789012:connection/" + TestConstants.CONNECTION_NAME)
+                .authorizationType("OAUTH_CLIENT_CREDENTIALS")
+                .authParameters(AuthParameters.builder()
+                        .oAuthParameters(OAuthParameters.builder()
+                                .authorizationEndpoint("https://example.com/oauth2/token")
+                                .httpMethod("POST")
+                                .clientParameters(ClientParameters.builder().clientID(TestConstants.AUTH_CLIENT_ID).clientSecret("secret").build())
+                                .oAuthHttpParameters(TestConstants.modelOAuthHttpParameters)
+                                .build())
+                        .invocationHttpParameters(ConnectionHttpParameters.builder()
+                                .headerParameters(Arrays.asList(Parameter.builder().key("Authorization").value("Bearer token").build()))
+                                .build())
+                        .build())
+                .build();
+    }
+
+    @Benchmark
+    public void eager(final Blackhole blackhole) {
+        final Logger logger = blackhole::consume;
+        logger.log(String.format("Resource module: %s", model.toString()));
+        for (int i = 0; i < POLLS; i++) {
+            logger.log(String.format("%s [%s] create has stabilized: %s. Connection state: %s",
+                    ResourceModel.TYPE_NAME, model.getPrimaryIdentifier(), i == POLLS - 1, "CREATING"));
+        }
+    }
+
+    @Benchmark
+    public void lazy(final Blackhole blackhole) {
+        log(new HandlerLogger(blackhole::consume, HandlerLogger.Level.INFO, true));
+    }
+
+    @Benchmark
+    public void batchedDebug(final Blackhole blackhole) {
+        log(new HandlerLogger(blackhole::consume, HandlerLogger.Level.DEBUG, true));
+    }
+
+    private void log(final HandlerLogger handlerLogger) {
+        handlerLogger.debug("Resource module: %s", () -> Redactor.redact(model));
+        for (int i = 0; i < POLLS; i++) {
+            final boolean stabilized = i == POLLS - 1;
+            handlerLogger.debug(ResourceModel.TYPE_NAME + " [%s] create has stabilized: %s. Connection state: %s",
+                    model::getPrimaryIdentifier, () -> stabilized, () -> "CREATING");
+        }
+        handlerLogger.flush();
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder()
+                .include(HandlerLoggerBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,54 @@
+package software.amazon.events.connection;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.eventbridge.model.ConnectionAuthorizationType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.events.connection.TestConstants.API_KEY_NAME;
+import static software.amazon.events.connection.TestConstants.CONNECTION_NAME;
+import static software.amazon.events.connection.TestConstants.authParametersBasicType;
+
+@ExtendWith(MockitoExtension.class)
+public class ModelFingerprintTest extends AbstractTestBase {
+
+    private static ResourceModel apiKeyConnection(final String apiKeyValue) {
+        return ResourceModel.builder()
+                .name(CONNECTION_NAME)
+                .authorizationType(ConnectionAuthorizationType.API_KEY.toString())
+                .authParameters(AuthParameters.builder()
+                        .apiKeyAuthParameters(ApiKeyAuthParameters.builder()
+                                .apiKeyName(API_KEY_NAME)
+                                .apiKeyValue(apiKeyValue)
+                                .build())
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void of_IgnoresReadOnlyProperties() {
+        final ResourceModel model = apiKeyConnection("ApiKeyValue");
+        model.setArn("arn:aws:events:us-east-1:123456789012:connection/TestConnection/1");
+        model.setSecretArn("arn:aws:secretsmanager:us-east-1:123456789012:secret:events!connection/TestConnection/1");
+
+        assertThat(ModelFingerprint.of(model)).isEqualTo(ModelFingerprint.of(apiKeyConnection("ApiKeyValue")));
+    }
+
+    @Test
+    public void of_DetectsRotatedSecret() {
+        assertThat(ModelFingerprint.of(apiKeyConnection("ApiKeyValue")))
+                .isNotEqualTo(ModelFingerprint.of(apiKeyConnection("RotatedApiKeyValue")));
+    }
+
+    @Test
+    public void of_DetectsChangedAuthParameters() {
+        final ResourceModel basic = ResourceModel.builder()
+                .name(CONNECTION_NAME)
+                .authorizationType(ConnectionAuthorizationType.BASIC.toString())
+                .authParameters(authParametersBasicType)
+                .build();
+
+        assertThat(ModelFingerprint.of(basic)).isNotEqualTo(ModelFingerprint.of(apiKeyConnection("ApiKeyValue")));
+    }
+}
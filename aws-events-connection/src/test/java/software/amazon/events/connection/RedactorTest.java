@@ -0,0 +1,38 @@
+package software.amazon.events.connection;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+public class RedactorTest extends AbstractTestBase {
+    @Test
+    public void redact_MasksSecretsButNotTheirNeighbours() {
+        final ResourceModel model = ResourceModel.builder()
+                .name(TestConstants.CONNECTION_NAME)
+                .authorizationType("BASIC")
+                .authParameters(AuthParameters.builder()
+                        .basicAuthParameters(BasicAuthParameters.builder().username(TestConstants.USER_NAME).password("hunter2").build())
+                        .apiKeyAuthParameters(ApiKeyAuthParameters.builder().apiKeyName(TestConstants.API_KEY_NAME).apiKeyValue("api-key-secret").build())
+                        .oAuthParameters(OAuthParameters.builder()
+                                .clientParameters(ClientParameters.builder().clientID(TestConstants.AUTH_CLIENT_ID).clientSecret("client-secret").build())
+                                .build())
+                        .invocationHttpParameters(ConnectionHttpParameters.builder()
+                                .headerParameters(Arrays.asList(
+                                        Parameter.builder().key("Authorization").value("Bearer token-secret").build(),
+                                        Parameter.builder().key("Accept").value("application/json").isValueSecret(false).build()))
+                                .build())
+                        .build())
+                .build();
+
+        final String redacted = Redactor.redact(model);
+
+        assertThat(redacted).doesNotContain("hunter2", "api-key-secret", "client-secret", "token-secret");
+        assertThat(redacted).contains(TestConstants.CONNECTION_NAME, TestConstants.USER_NAME, TestConstants.API_KEY_NAME,
+                TestConstants.AUTH_CLIENT_ID, "Authorization", "application/json", Redactor.REDACTED);
+    }
+}
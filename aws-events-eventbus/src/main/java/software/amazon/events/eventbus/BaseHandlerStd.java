@@ -9,12 +9,21 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.events.common.HandlerLogger;
+import software.amazon.events.common.HandlerMetrics;
+import software.amazon.events.common.StepTracer;
+import software.amazon.events.common.TracingProxyClient;
 
+import java.util.function.Supplier;
 
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
 
     public static final String ERROR_CODE_THROTTLING_EXCEPTION = "ThrottlingException";
+    // StepJournal output holding the ARN of the event bus, for handlers that resume after the step that resolved it
+    static final String OUTPUT_EVENT_BUS_ARN = "EventBusArn";
+    // StepTracer poll name of the stabilization of a CreateEventBus call
+    static final String STABILIZE = "Stabilize";
     private ProxyClient<EventBridgeClient> proxyClient;
 
     private final EventBridgeClient eventBridgeClient;
@@ -38,15 +47,27 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final Logger logger) {
-        proxyClient = proxy.newProxy(this::getEventBridgeClient);
-
-        return handleRequest(
-                proxy,
-                request,
-                callbackContext != null ? callbackContext : new CallbackContext(),
-                proxyClient,
-                logger
-        );
+        final HandlerLogger handlerLogger = HandlerLogger.batching(logger);
+        final StepTracer tracer = StepTracer.begin(ResourceModel.TYPE_NAME, getClass().getSimpleName(), request.getClientRequestToken(), handlerLogger);
+        tracer.getMetrics().count(HandlerMetrics.CALLBACK_INVOCATIONS, callbackContext != null ? 1 : 0);
+        proxyClient = new TracingProxyClient<>(proxy.newProxy(this::getEventBridgeClient), tracer);
+
+        try {
+            final ProgressEvent<ResourceModel, CallbackContext> result = handleRequest(
+                    proxy,
+                    request,
+                    callbackContext != null ? callbackContext : new CallbackContext(),
+                    proxyClient,
+                    handlerLogger
+            );
+            return tracer.end(result);
+        } catch (RuntimeException e) {
+            tracer.end(e);
+            throw e;
+        } finally {
+            // The tracer has written the batched lines, unless the invocation threw an Error
+            handlerLogger.flush();
+        }
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -91,6 +112,24 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         return ProgressEvent.defaultInProgressHandler(progress.getCallbackContext(), 10, progress.getResourceModel());
     }
 
+    // Resumes at the first incomplete step, see StepJournal
+    protected static ProgressEvent<ResourceModel, CallbackContext> runStep(
+            final String step, final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final Supplier<ProgressEvent<ResourceModel, CallbackContext>> function) {
+        return progress.getCallbackContext().getStepJournal().run(step, progress,
+                () -> StepTracer.current().step(step, function));
+    }
+
+    /**
+     * Restores the ARN recorded by a completed step, since the desired ResourceModel of a callback does not carry it.
+     */
+    protected static void restoreEventBusArn(final ResourceModel model, final CallbackContext callbackContext) {
+        final String eventBusArn = callbackContext.getStepJournal().getOutput(OUTPUT_EVENT_BUS_ARN);
+        if (eventBusArn != null) {
+            model.setArn(eventBusArn);
+        }
+    }
+
     public boolean stabilizeCreate(
             final CreateEventBusRequest request,
             final CreateEventBusResponse response, final ProxyClient<EventBridgeClient> proxyClient,
@@ -1,6 +1,7 @@
 package software.amazon.events.eventbus;
 
 import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.events.common.StepJournal;
 
 @lombok.Getter
 @lombok.Setter
@@ -10,4 +11,5 @@ public class CallbackContext extends StdCallbackContext {
     private boolean eventBusExists;
     private ResourceModel.ResourceModelBuilder resourceModelBuilder;
     private boolean propagationDelay = false;
+    private StepJournal stepJournal = new StepJournal();
 }
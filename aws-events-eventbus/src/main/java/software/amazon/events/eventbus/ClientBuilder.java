@@ -9,12 +9,13 @@ import software.amazon.awssdk.core.retry.conditions.RetryCondition;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.eventbridge.EventBridgeClient;
 import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.events.common.ClientRegistry;
+import software.amazon.events.common.HandlerMetrics;
 
 import java.time.Duration;
 
 
 public class ClientBuilder {
-    private static EventBridgeClient eventBridgeClient;
     public static final String US_WEST_2 = "us-west-2";
     public static final String REGION = System.getenv("AWS_REGION") != null ? System.getenv("AWS_REGION") : US_WEST_2;
 
@@ -31,11 +32,23 @@ public class ClientBuilder {
                     .throttlingBackoffStrategy(EVENTBUS_BACKOFF_THROTTLING_STRATEGY)
                     .build();
 
+    private static final String EVENTBUS_RETRY_PROFILE = "eventbus";
+
+    /**
+     * @return The EventBridgeClient shared by all handlers of the JVM
+     */
     public static EventBridgeClient getClient() {
-        return eventBridgeClient = EventBridgeClient.builder()
+        return ClientRegistry.getClient(EventBridgeClient.SERVICE_NAME, REGION, EVENTBUS_RETRY_PROFILE,
+                ClientBuilder::buildClient);
+    }
+
+    private static EventBridgeClient buildClient() {
+        return EventBridgeClient.builder()
                 .httpClient(LambdaWrapper.HTTP_CLIENT)
                 .overrideConfiguration(ClientOverrideConfiguration.builder()
-                        .retryPolicy(EVENTBUS_RETRY_POLICY).build())
+                        .retryPolicy(EVENTBUS_RETRY_POLICY)
+                        // Makes the retries of EVENTBUS_RETRY_POLICY visible as the SdkRetries metric
+                        .addExecutionInterceptor(new HandlerMetrics.SdkRetryCounter()).build())
                 .region(Region.of(REGION))
                 .build();
     }
@@ -8,6 +8,7 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.events.common.StepTracer;
 
 import static software.amazon.events.eventbus.Translator.getPolicy;
 
@@ -17,6 +18,8 @@ import com.google.common.annotations.VisibleForTesting;
 
 
 public class CreateHandler extends BaseHandlerStd {
+    private static final String CREATE = "AWS-Events-EventBus::Create";
+    private static final String ASSOCIATE_POLICY = "AWS-Events-EventBus::AssociatePolicy";
 
     private Logger logger;
 
@@ -43,10 +46,12 @@ public class CreateHandler extends BaseHandlerStd {
         logger.log(String.format("[StackId: %s, ClientRequestToken: %s] Calling Create EventBus",
                 request.getStackId(), request.getClientRequestToken()));
 
+        restoreEventBusArn(request.getDesiredResourceState(), callbackContext);
+
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
                 // STEP 1 [create/stabilize progress chain - required for resource creation]
-                .then(progress -> createEventBus(proxy, proxyClient, progress, request))
-                .then(progress -> associatePolicy(proxy, proxyClient, progress))
+                .then(progress -> runStep(CREATE, progress, () -> createEventBus(proxy, proxyClient, progress, request)))
+                .then(progress -> runStep(ASSOCIATE_POLICY, progress, () -> associatePolicy(proxy, proxyClient, progress)))
                 // STEP 2 [describe call/chain to return the resource model]
                 .then(progress -> {
                     return ProgressEvent.defaultSuccessHandler(progress.getResourceModel());
@@ -65,7 +70,7 @@ public class CreateHandler extends BaseHandlerStd {
 
         ResourceModel model =  progress.getResourceModel();
 
-        return proxy.initiate("AWS-Events-EventBus::Create", proxyClient, progress.getResourceModel(),
+        return proxy.initiate(CREATE, proxyClient, progress.getResourceModel(),
                         progress.getCallbackContext())
                 .translateToServiceRequest(currentModel -> Translator.translateToCreateRequest(tagsToCreate, currentModel))
                 .makeServiceCall((awsRequest, client) -> {
@@ -75,12 +80,13 @@ public class CreateHandler extends BaseHandlerStd {
                     logger.log(String.format("%s with name %s successfully created.", ResourceModel.TYPE_NAME , model.getName()));
                     return awsResponse;
                 })
-                .stabilize((awsRequest, awsResponse, client, currentModel, context) -> stabilizeCreate(awsRequest, awsResponse,
-                        proxyClient, currentModel, progress.getCallbackContext(), logger))
+                .stabilize((awsRequest, awsResponse, client, currentModel, context) -> StepTracer.current().poll(STABILIZE,
+                        () -> stabilizeCreate(awsRequest, awsResponse, proxyClient, currentModel, progress.getCallbackContext(), logger)))
                 .handleError(this::handleError)
                 .done((awsRequest, awsResponse, client, _model, context) -> {
                     logger.log(String.format("Successfully created %s [%s]",ResourceModel.TYPE_NAME, model.getName()));
                     model.setArn(awsResponse.eventBusArn());
+                    context.getStepJournal().putOutput(OUTPUT_EVENT_BUS_ARN, awsResponse.eventBusArn());
                     return ProgressEvent.progress(model, context);
                 });
     }
@@ -88,7 +94,7 @@ public class CreateHandler extends BaseHandlerStd {
     private ProgressEvent<ResourceModel, CallbackContext> associatePolicy(AmazonWebServicesClientProxy proxy, ProxyClient<EventBridgeClient> proxyClient, ProgressEvent<ResourceModel, CallbackContext> progress) {
         String policy = getPolicy(progress.getResourceModel());
         if (policy != null && !policy.isEmpty()) {
-            return proxy.initiate("AWS-Events-EventBus::AssociatePolicy", proxyClient, progress.getResourceModel(),
+            return proxy.initiate(ASSOCIATE_POLICY, proxyClient, progress.getResourceModel(),
                             progress.getCallbackContext())
                     .translateToServiceRequest(Translator::translateToPutPermissionRequest)
                     .makeServiceCall((awsRequest, client) -> {
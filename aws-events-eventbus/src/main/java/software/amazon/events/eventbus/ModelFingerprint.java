@@ -0,0 +1,30 @@
+package software.amazon.events.eventbus;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import software.amazon.events.common.JsonFingerprint;
+
+/**
+ * A canonical fingerprint of the properties of an EventBus that an update can change, so an update whose desired state
+ * is only a different spelling of the previous one can be recognized as a no-op. The read-only Arn is left out, and so
+ * are the Tags, which TagHelper compares together with the stack and system tags. Policy is compared as JSON whether
+ * it is given as an object or as a string, object keys are sorted at every level, and null properties are dropped.
+ */
+final class ModelFingerprint {
+    private ModelFingerprint() {
+    }
+
+    /**
+     * @param model A ResourceModel
+     * @return The SHA-256 of the canonical JSON of the model, hex encoded
+     */
+    static String of(final ResourceModel model) {
+        final ObjectNode tree = JsonFingerprint.toTree(model);
+        tree.remove("Arn");
+        tree.remove("Tags");
+
+        // A policy string hashes the same as the object it spells
+        JsonFingerprint.parseJsonProperty(tree, "Policy", model.getPolicy() instanceof String ? (String) model.getPolicy() : null);
+
+        return JsonFingerprint.of(tree);
+    }
+}
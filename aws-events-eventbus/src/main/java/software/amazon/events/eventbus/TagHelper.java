@@ -230,7 +230,7 @@ public class TagHelper {
                     return awsResponse;
                 })
                 .handleError((tagResourceRequest, e, proxyClient, resourceModel1, callbackContext1) -> {
-                    final ReadHandler handler = new ReadHandler();
+                    final ReadHandler handler = new ReadHandler(proxyClient.client());
                     return handler.handleError(tagResourceRequest, e, proxyClient, resourceModel1, callbackContext1);
                 })
                 .progress();
@@ -256,7 +256,7 @@ public class TagHelper {
                     return awsResponse;
                 })
                 .handleError((tagResourceRequest, e, proxyClient, resourceModel1, callbackContext1) -> {
-                    final ReadHandler handler = new ReadHandler();
+                    final ReadHandler handler = new ReadHandler(proxyClient.client());
                     return handler.handleError(tagResourceRequest, e, proxyClient, resourceModel1, callbackContext1);
                 })
                 .progress();
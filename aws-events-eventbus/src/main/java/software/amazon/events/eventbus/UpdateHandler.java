@@ -17,6 +17,10 @@ import java.util.Set;
 import com.google.common.annotations.VisibleForTesting;
 
 public class UpdateHandler extends BaseHandlerStd {
+    private static final String PRE_UPDATE_CHECK = "AWS-Events-EventBus::Update::PreUpdateCheck";
+    private static final String UPDATE_TAGS = "AWS-Events-EventBus::Update::Tags";
+    private static final String UPDATE_POLICY = "AWS-Events-EventBus::Update::updatePolicy";
+
     private Logger logger;
 
     public UpdateHandler() {
@@ -40,14 +44,30 @@ public class UpdateHandler extends BaseHandlerStd {
         logger.log(String.format("[StackId: %s, ClientRequestToken: %s] Calling Update EventBus",
                 request.getStackId(), request.getClientRequestToken()));
 
+        restoreEventBusArn(request.getDesiredResourceState(), callbackContext);
+
+        // Return right away when nothing effective changed, provided the ARN of the event bus is already known
+        final ResourceModel previousModel = request.getPreviousResourceState();
+        if (previousModel != null && !new TagHelper().shouldUpdateTags(request)
+                && ModelFingerprint.of(previousModel).equals(ModelFingerprint.of(request.getDesiredResourceState()))) {
+            final ResourceModel model = request.getDesiredResourceState();
+            if (model.getArn() == null) {
+                model.setArn(previousModel.getArn());
+            }
+            if (model.getArn() != null) {
+                logger.log(String.format("%s with name %s is unchanged, skipping the update.", ResourceModel.TYPE_NAME, model.getName()));
+                return ProgressEvent.defaultSuccessHandler(model);
+            }
+        }
+
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
 
                 // STEP 1 [check if resource already exists]
-                .then(progress -> getEventBus(proxy, proxyClient, progress, request))
+                .then(progress -> runStep(PRE_UPDATE_CHECK, progress, () -> getEventBus(proxy, proxyClient, progress, request)))
                 // STEP 2 [update tags]
-                .then(progress -> updateTags(proxy, proxyClient, progress, request))
+                .then(progress -> runStep(UPDATE_TAGS, progress, () -> updateTags(proxy, proxyClient, progress, request)))
                 // STEP 3 [second update/stabilize progress chain - update policy]
-                .then(progress -> updatePolicy(proxy, proxyClient, progress, request))
+                .then(progress -> runStep(UPDATE_POLICY, progress, () -> updatePolicy(proxy, proxyClient, progress, request)))
                 // STEP 4 [describe call/chain to return the resource model]
                 .then(progress -> ProgressEvent.defaultSuccessHandler(progress.getResourceModel()));
     }
@@ -58,7 +78,7 @@ public class UpdateHandler extends BaseHandlerStd {
         CallbackContext callbackContext = progress.getCallbackContext();
         ResourceModel model = progress.getResourceModel();
 
-        return proxy.initiate("AWS-Events-EventBus::Update::PreUpdateCheck", proxyClient, model, progress.getCallbackContext())
+        return proxy.initiate(PRE_UPDATE_CHECK, proxyClient, model, progress.getCallbackContext())
                 .translateToServiceRequest(Translator::translateToReadRequest)
                 .makeServiceCall((awsRequest, client) -> {
                     DescribeEventBusResponse awsResponse =
@@ -70,6 +90,7 @@ public class UpdateHandler extends BaseHandlerStd {
                 .handleError(this::handleError)
                 .done(awsResponse -> {
                     progress.getResourceModel().setArn(awsResponse.arn());
+                    callbackContext.getStepJournal().putOutput(OUTPUT_EVENT_BUS_ARN, awsResponse.arn());
                     return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext);
                 });
     }
@@ -114,7 +135,7 @@ public class UpdateHandler extends BaseHandlerStd {
         ResourceModel model = progress.getResourceModel();
         String policy = getPolicy(model);
         if (policy != null && !policy.isEmpty()) {
-            return proxy.initiate("AWS-Events-EventBus::Update::updatePolicy",
+            return proxy.initiate(UPDATE_POLICY,
                             proxyClient, model, progress.getCallbackContext())
                     .translateToServiceRequest(Translator::translateToPutPermissionRequest)
                     .makeServiceCall((awsRequest, client) -> {
@@ -0,0 +1,63 @@
+package software.amazon.events.eventbus;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.eventbridge.model.DescribeEventBusRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.DelayFactory;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.WaitStrategy;
+import software.amazon.events.common.CallbackLoopHarness;
+import software.amazon.events.common.FakeServiceBehavior;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+public class CallbackLoopHarnessTest extends AbstractTestBase {
+    private AmazonWebServicesClientProxy proxy;
+    private FakeServiceBehavior behavior;
+    private FakeEventBridgeClient fakeClient;
+    private CallbackLoopHarness<ResourceModel, CallbackContext> harness;
+
+    @BeforeEach
+    public void setup() {
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, DelayFactory.CONSTANT_DEFAULT_DELAY_FACTORY, WaitStrategy.scheduleForCallbackStrategy());
+        behavior = new FakeServiceBehavior();
+        harness = new CallbackLoopHarness<>(behavior::getTotalCallCount);
+        behavior.clock(harness.clock());
+        fakeClient = new FakeEventBridgeClient("123456789012", "us-east-1", behavior);
+    }
+
+    @Test
+    public void execute_CreateWithPolicyAndDelete() {
+        final ResourceHandlerRequest<ResourceModel> createRequest = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder()
+                        .name(TEST_EVENT_BUS_NAME)
+                        .policy(TEST_POLICY)
+                        .build())
+                .build();
+
+        final CallbackLoopHarness.Execution<ResourceModel, CallbackContext> created = harness.execute(
+                (request, context) -> new CreateHandler(fakeClient).handleRequest(proxy, request, context, logger),
+                createRequest, new CallbackContext());
+
+        assertThat(created.getResponse().getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(fakeClient.getEventBusCount()).isEqualTo(2);
+        // The policy is attached with a single PutPermission rather than statement by statement
+        assertThat(behavior.getCallCount("PutPermission")).isEqualTo(1);
+        assertThat(fakeClient.describeEventBus(DescribeEventBusRequest.builder().name(TEST_EVENT_BUS_NAME).build()).policy())
+                .isEqualTo(TEST_POLICY);
+
+        final CallbackLoopHarness.Execution<ResourceModel, CallbackContext> deleted = harness.execute(
+                (request, context) -> new DeleteHandler(fakeClient).handleRequest(proxy, request, context, logger),
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(created.getResponse().getResourceModel()).build(),
+                new CallbackContext());
+
+        assertThat(deleted.getResponse().getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        // Only the default event bus is left
+        assertThat(fakeClient.getEventBusCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,16 @@
+package software.amazon.events.eventbus;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+public class ClientBuilderTest extends AbstractTestBase {
+
+    @Test
+    public void getClient_ReusesClient() {
+        assertThat(ClientBuilder.getClient()).isSameAs(ClientBuilder.getClient());
+    }
+}
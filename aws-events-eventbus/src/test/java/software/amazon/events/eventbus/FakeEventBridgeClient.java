@@ -0,0 +1,283 @@
+package software.amazon.events.eventbus;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.eventbridge.EventBridgeClient;
+import software.amazon.awssdk.services.eventbridge.model.CreateEventBusRequest;
+import software.amazon.awssdk.services.eventbridge.model.CreateEventBusResponse;
+import software.amazon.awssdk.services.eventbridge.model.DeleteEventBusRequest;
+import software.amazon.awssdk.services.eventbridge.model.DeleteEventBusResponse;
+import software.amazon.awssdk.services.eventbridge.model.DescribeEventBusRequest;
+import software.amazon.awssdk.services.eventbridge.model.DescribeEventBusResponse;
+import software.amazon.awssdk.services.eventbridge.model.EventBridgeException;
+import software.amazon.awssdk.services.eventbridge.model.EventBus;
+import software.amazon.awssdk.services.eventbridge.model.ListEventBusesRequest;
+import software.amazon.awssdk.services.eventbridge.model.ListEventBusesResponse;
+import software.amazon.awssdk.services.eventbridge.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.eventbridge.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.eventbridge.model.PutPermissionRequest;
+import software.amazon.awssdk.services.eventbridge.model.PutPermissionResponse;
+import software.amazon.awssdk.services.eventbridge.model.RemovePermissionRequest;
+import software.amazon.awssdk.services.eventbridge.model.RemovePermissionResponse;
+import software.amazon.awssdk.services.eventbridge.model.ResourceAlreadyExistsException;
+import software.amazon.awssdk.services.eventbridge.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.eventbridge.model.Tag;
+import software.amazon.awssdk.services.eventbridge.model.TagResourceRequest;
+import software.amazon.awssdk.services.eventbridge.model.TagResourceResponse;
+import software.amazon.awssdk.services.eventbridge.model.UntagResourceRequest;
+import software.amazon.awssdk.services.eventbridge.model.UntagResourceResponse;
+import software.amazon.events.common.FakeServiceBehavior;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory EventBridge with real event bus, permission and tag state, for running handlers against a service instead
+ * of per-call Mockito stubs. Latency, throttling and eventual consistency are configured through FakeServiceBehavior.
+ * Creates and deletes of event buses only become visible to reads once the consistency window has passed.
+ */
+public class FakeEventBridgeClient implements EventBridgeClient {
+    static final String DEFAULT_EVENT_BUS_NAME = "default";
+    static final int DEFAULT_PAGE_SIZE = 100;
+
+    private final String accountId;
+    private final String region;
+    private final FakeServiceBehavior behavior;
+
+    private final Map<String, EventBusRecord> eventBuses = new LinkedHashMap<>();
+    private final Map<String, Map<String, String>> tags = new HashMap<>();
+
+    private static final class EventBusRecord {
+        private final String name;
+        private final String arn;
+        // Null for the default event bus, which is visible from the start
+        private final Long visibleAt;
+        private Long goneAt;
+        // Either a policy put as a whole, or the statements put one by one
+        private String policy;
+        private final Map<String, String> statements = new LinkedHashMap<>();
+
+        private EventBusRecord(final String name, final String arn, final Long visibleAt) {
+            this.name = name;
+            this.arn = arn;
+            this.visibleAt = visibleAt;
+        }
+
+        private String policy() {
+            if (policy != null || statements.isEmpty()) {
+                return policy;
+            }
+            return "{\"Version\":\"2012-10-17\",\"Statement\":[" + String.join(",", statements.values()) + "]}";
+        }
+    }
+
+    public FakeEventBridgeClient(final String accountId, final String region, final FakeServiceBehavior behavior) {
+        this.accountId = accountId;
+        this.region = region;
+        this.behavior = behavior;
+
+        // The default event bus always exists
+        eventBuses.put(DEFAULT_EVENT_BUS_NAME, new EventBusRecord(DEFAULT_EVENT_BUS_NAME, eventBusArn(DEFAULT_EVENT_BUS_NAME), null));
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public synchronized CreateEventBusResponse createEventBus(final CreateEventBusRequest request) {
+        enter("CreateEventBus");
+
+        final EventBusRecord existing = eventBuses.get(request.name());
+        if (existing != null && existing.goneAt == null) {
+            throw ResourceAlreadyExistsException.builder()
+                    .awsErrorDetails(details("ResourceAlreadyExistsException", "Event bus " + request.name() + " already exists."))
+                    .statusCode(400)
+                    .build();
+        }
+
+        final EventBusRecord record = new EventBusRecord(request.name(), eventBusArn(request.name()), behavior.visibleAt());
+        eventBuses.put(request.name(), record);
+        if (request.hasTags()) {
+            request.tags().forEach(tag -> tags.computeIfAbsent(record.arn, key -> new HashMap<>()).put(tag.key(), tag.value()));
+        }
+
+        return CreateEventBusResponse.builder().eventBusArn(record.arn).build();
+    }
+
+    @Override
+    public synchronized DescribeEventBusResponse describeEventBus(final DescribeEventBusRequest request) {
+        enter("DescribeEventBus");
+
+        final EventBusRecord record = visibleEventBus(request.name() == null ? DEFAULT_EVENT_BUS_NAME : request.name());
+        return DescribeEventBusResponse.builder()
+                .name(record.name)
+                .arn(record.arn)
+                .policy(record.policy())
+                .build();
+    }
+
+    @Override
+    public synchronized DeleteEventBusResponse deleteEventBus(final DeleteEventBusRequest request) {
+        enter("DeleteEventBus");
+
+        if (DEFAULT_EVENT_BUS_NAME.equals(request.name())) {
+            throw error("ValidationException", "Cannot delete event bus default.");
+        }
+
+        // Deleting a missing event bus succeeds, like the service
+        final EventBusRecord record = eventBuses.get(request.name());
+        if (record != null && record.goneAt == null) {
+            record.goneAt = behavior.visibleAt();
+            tags.remove(record.arn);
+        }
+        return DeleteEventBusResponse.builder().build();
+    }
+
+    @Override
+    public synchronized ListEventBusesResponse listEventBuses(final ListEventBusesRequest request) {
+        enter("ListEventBuses");
+
+        final List<EventBus> matching = eventBuses.values().stream()
+                .filter(this::isVisible)
+                .filter(record -> request.namePrefix() == null || record.name.startsWith(request.namePrefix()))
+                .map(record -> EventBus.builder().name(record.name).arn(record.arn).policy(record.policy()).build())
+                .collect(Collectors.toList());
+
+        final int from = request.nextToken() == null ? 0 : Integer.parseInt(request.nextToken());
+        final int to = Math.min(matching.size(), from + (request.limit() == null ? DEFAULT_PAGE_SIZE : request.limit()));
+
+        return ListEventBusesResponse.builder()
+                .eventBuses(matching.subList(from, to))
+                .nextToken(to < matching.size() ? String.valueOf(to) : null)
+                .build();
+    }
+
+    @Override
+    public synchronized PutPermissionResponse putPermission(final PutPermissionRequest request) {
+        enter("PutPermission");
+
+        final EventBusRecord record = visibleEventBus(request.eventBusName() == null ? DEFAULT_EVENT_BUS_NAME : request.eventBusName());
+        if (request.policy() != null) {
+            record.policy = request.policy();
+            record.statements.clear();
+        } else {
+            record.policy = null;
+            record.statements.put(request.statementId(), String.format(
+                    "{\"Sid\":\"%s\",\"Effect\":\"Allow\",\"Principal\":{\"AWS\":\"%s\"},\"Action\":\"%s\",\"Resource\":\"%s\"}",
+                    request.statementId(), request.principal(), request.action(), record.arn));
+        }
+        return PutPermissionResponse.builder().build();
+    }
+
+    @Override
+    public synchronized RemovePermissionResponse removePermission(final RemovePermissionRequest request) {
+        enter("RemovePermission");
+
+        final EventBusRecord record = visibleEventBus(request.eventBusName() == null ? DEFAULT_EVENT_BUS_NAME : request.eventBusName());
+        if (Boolean.TRUE.equals(request.removeAllPermissions())) {
+            record.policy = null;
+            record.statements.clear();
+        } else if (record.statements.remove(request.statementId()) == null) {
+            throw notFound("Statement " + request.statementId() + " does not exist.");
+        }
+        return RemovePermissionResponse.builder().build();
+    }
+
+    @Override
+    public synchronized TagResourceResponse tagResource(final TagResourceRequest request) {
+        enter("TagResource");
+
+        requireTaggable(request.resourceARN());
+        request.tags().forEach(tag -> tags.computeIfAbsent(request.resourceARN(), key -> new HashMap<>()).put(tag.key(), tag.value()));
+        return TagResourceResponse.builder().build();
+    }
+
+    @Override
+    public synchronized UntagResourceResponse untagResource(final UntagResourceRequest request) {
+        enter("UntagResource");
+
+        requireTaggable(request.resourceARN());
+        request.tagKeys().forEach(tags.getOrDefault(request.resourceARN(), new HashMap<>())::remove);
+        return UntagResourceResponse.builder().build();
+    }
+
+    @Override
+    public synchronized ListTagsForResourceResponse listTagsForResource(final ListTagsForResourceRequest request) {
+        enter("ListTagsForResource");
+
+        requireTaggable(request.resourceARN());
+        return ListTagsForResourceResponse.builder()
+                .tags(tags.getOrDefault(request.resourceARN(), new HashMap<>()).entrySet().stream()
+                        .map(tag -> Tag.builder().key(tag.getKey()).value(tag.getValue()).build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    /**
+     * @return The number of event buses that exist (including the default event bus), whether or not reads observe them yet
+     */
+    public synchronized int getEventBusCount() {
+        return (int) eventBuses.values().stream().filter(record -> record.goneAt == null).count();
+    }
+
+    private void enter(final String operation) {
+        if (behavior.enter(operation)) {
+            throw error(BaseHandlerStd.ERROR_CODE_THROTTLING_EXCEPTION, "Rate exceeded");
+        }
+    }
+
+    private void requireTaggable(final String arn) {
+        if (eventBuses.values().stream().noneMatch(record -> isVisible(record) && record.arn.equals(arn))) {
+            throw notFound("EventBus " + arn + " does not exist.");
+        }
+    }
+
+    private boolean isVisible(final EventBusRecord record) {
+        return (record.visibleAt == null || behavior.isReached(record.visibleAt)) && (record.goneAt == null || !behavior.isReached(record.goneAt));
+    }
+
+    private EventBusRecord visibleEventBus(final String name) {
+        final EventBusRecord record = eventBuses.get(name);
+        if (record == null || !isVisible(record)) {
+            throw notFound("Event bus " + name + " does not exist.");
+        }
+        return record;
+    }
+
+    private String eventBusArn(final String name) {
+        return String.format("arn:aws:events:%s:%s:event-bus/%s", region, accountId, name);
+    }
+
+    private static AwsErrorDetails details(final String errorCode, final String message) {
+        return AwsErrorDetails.builder()
+                .errorCode(errorCode)
+                .errorMessage(message)
+                .serviceName("EventBridge")
+                .build();
+    }
+
+    private static AwsServiceException error(final String errorCode, final String message) {
+        return EventBridgeException.builder()
+                .awsErrorDetails(details(errorCode, message))
+                .message(message)
+                .statusCode(400)
+                .build();
+    }
+
+    private static ResourceNotFoundException notFound(final String message) {
+        return ResourceNotFoundException.builder()
+                .awsErrorDetails(details("ResourceNotFoundException", message))
+                .message(message)
+                .statusCode(400)
+                .build();
+    }
+}
@@ -0,0 +1,67 @@
+package software.amazon.events.eventbus;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.eventbridge.model.CreateEventBusRequest;
+import software.amazon.awssdk.services.eventbridge.model.DescribeEventBusRequest;
+import software.amazon.awssdk.services.eventbridge.model.PutPermissionRequest;
+import software.amazon.awssdk.services.eventbridge.model.RemovePermissionRequest;
+import software.amazon.awssdk.services.eventbridge.model.ResourceAlreadyExistsException;
+import software.amazon.awssdk.services.eventbridge.model.ResourceNotFoundException;
+import software.amazon.events.common.FakeServiceBehavior;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+public class FakeEventBridgeClientTest extends AbstractTestBase {
+
+    private FakeServiceBehavior behavior;
+    private FakeEventBridgeClient fakeClient;
+    private long now;
+
+    @BeforeEach
+    public void setup() {
+        now = 0;
+        behavior = new FakeServiceBehavior().clock(() -> now);
+        fakeClient = new FakeEventBridgeClient("123456789012", "us-east-1", behavior);
+    }
+
+    @Test
+    public void createEventBus_ConflictsBeforeItIsVisible() {
+        behavior.consistencyWindow(Duration.ofSeconds(1));
+        fakeClient.createEventBus(CreateEventBusRequest.builder().name(TEST_EVENT_BUS_NAME).build());
+
+        assertThatThrownBy(() -> fakeClient.describeEventBus(DescribeEventBusRequest.builder().name(TEST_EVENT_BUS_NAME).build()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThatThrownBy(() -> fakeClient.createEventBus(CreateEventBusRequest.builder().name(TEST_EVENT_BUS_NAME).build()))
+                .isInstanceOf(ResourceAlreadyExistsException.class);
+
+        now += Duration.ofSeconds(1).toNanos();
+
+        assertThat(fakeClient.describeEventBus(DescribeEventBusRequest.builder().name(TEST_EVENT_BUS_NAME).build()).name())
+                .isEqualTo(TEST_EVENT_BUS_NAME);
+    }
+
+    @Test
+    public void putPermission_Statements() {
+        fakeClient.putPermission(PutPermissionRequest.builder()
+                .statementId("Statement1")
+                .principal("123456789013")
+                .action("events:PutEvents")
+                .build());
+
+        assertThat(fakeClient.describeEventBus(DescribeEventBusRequest.builder().build()).policy())
+                .contains("\"Sid\":\"Statement1\"");
+
+        fakeClient.removePermission(RemovePermissionRequest.builder().statementId("Statement1").build());
+
+        assertThat(fakeClient.describeEventBus(DescribeEventBusRequest.builder().build()).policy()).isNull();
+        assertThatThrownBy(() -> fakeClient.removePermission(RemovePermissionRequest.builder().statementId("Statement1").build()))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
@@ -0,0 +1,96 @@
+package software.amazon.events.eventbus;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class ModelFingerprintTest extends AbstractTestBase {
+    private static final String POLICY = "{\"Version\":\"2012-10-17\",\"Statement\":[{\"Sid\":\"AllowAccount\","
+            + "\"Effect\":\"Allow\",\"Principal\":{\"AWS\":\"arn:aws:iam::123456789012:root\"},\"Action\":\"events:PutEvents\"}]}";
+
+    private AmazonWebServicesClientProxy proxy;
+
+    @BeforeEach
+    public void setup() {
+        reset(eventBridgeClient);
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+    }
+
+    /**
+     * @return POLICY as a map, with its keys in a different order
+     */
+    private static Map<String, Object> policyMap() {
+        final Map<String, Object> statement = new LinkedHashMap<>();
+        statement.put("Action", "events:PutEvents");
+        statement.put("Principal", Collections.singletonMap("AWS", "arn:aws:iam::123456789012:root"));
+        statement.put("Effect", "Allow");
+        statement.put("Sid", "AllowAccount");
+
+        final Map<String, Object> policy = new LinkedHashMap<>();
+        policy.put("Statement", Collections.singletonList(statement));
+        policy.put("Version", "2012-10-17");
+        return policy;
+    }
+
+    @Test
+    public void of_PolicyMapMatchesPolicyString() {
+        assertThat(ModelFingerprint.of(ResourceModel.builder().name(TEST_EVENT_BUS_NAME).policy(POLICY).build()))
+                .isEqualTo(ModelFingerprint.of(ResourceModel.builder().name(TEST_EVENT_BUS_NAME).policy(policyMap()).build()));
+    }
+
+    @Test
+    public void of_IgnoresArnAndTags() {
+        assertThat(ModelFingerprint.of(ResourceModel.builder().name(TEST_EVENT_BUS_NAME).arn(TEST_ARN).tags(TEST_TAGS1).build()))
+                .isEqualTo(ModelFingerprint.of(ResourceModel.builder().name(TEST_EVENT_BUS_NAME).build()));
+    }
+
+    @Test
+    public void of_DetectsChanges() {
+        assertThat(ModelFingerprint.of(ResourceModel.builder().name(TEST_EVENT_BUS_NAME).policy(TEST_POLICY).build()))
+                .isNotEqualTo(ModelFingerprint.of(ResourceModel.builder().name(TEST_EVENT_BUS_NAME).policy(TEST_POLICY2).build()));
+    }
+
+    @Test
+    public void handleRequest_NoOpUpdateMakesNoCalls() {
+        final ResourceModel model = ResourceModel.builder()
+                .name(TEST_EVENT_BUS_NAME)
+                .policy(policyMap())
+                .tags(Arrays.asList(TEST_TAGS1.get(1), TEST_TAGS1.get(0)))
+                .build();
+        final ResourceModel previousModel = ResourceModel.builder()
+                .name(TEST_EVENT_BUS_NAME)
+                .arn(TEST_ARN)
+                .policy(POLICY)
+                .tags(TEST_TAGS1)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .previousResourceState(previousModel)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = new UpdateHandler(eventBridgeClient)
+                .handleRequest(proxy, request, new CallbackContext(), logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(response.getResourceModel().getArn()).isEqualTo(TEST_ARN);
+        verifyNoInteractions(eventBridgeClient);
+    }
+}
@@ -0,0 +1,112 @@
+package software.amazon.events.rule;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Client-side request rate limiter with additive increase / multiplicative decrease (AIMD).
+ * The limiter does not pace calls until the service throttles. Every throttle halves the allowed rate, every successful
+ * call raises it by a constant step, until the maximum rate is reached again and pacing stops.
+ * One limiter is shared per account, since the EventBridge request rate quotas are per account and region.
+ */
+final class AdaptiveRateLimiter {
+    static final double DEFAULT_MIN_RATE = 0.5;
+    static final double DEFAULT_MAX_RATE = 50.0;
+    static final double DEFAULT_ADDITIVE_INCREASE = 0.5;
+    static final double DEFAULT_MULTIPLICATIVE_DECREASE = 0.5;
+
+    private static final Map<String, AdaptiveRateLimiter> LIMITERS = new ConcurrentHashMap<>();
+
+    /**
+     * Sleeps for the given number of nanoseconds.
+     */
+    interface Sleeper {
+        void sleep(long nanos) throws InterruptedException;
+    }
+
+    private final double minRate;
+    private final double maxRate;
+    private final double additiveIncrease;
+    private final double multiplicativeDecrease;
+    private final LongSupplier nanoClock;
+    private final Sleeper sleeper;
+
+    // Requests per second, guarded by this
+    private double rate;
+    // The earliest time the next permit may be handed out, guarded by this
+    private long nextPermitNanos;
+
+    AdaptiveRateLimiter(final double minRate, final double maxRate, final double additiveIncrease,
+                        final double multiplicativeDecrease, final LongSupplier nanoClock, final Sleeper sleeper) {
+        if (minRate <= 0 || maxRate < minRate) {
+            throw new IllegalArgumentException("Rates must satisfy 0 < minRate <= maxRate");
+        }
+        if (multiplicativeDecrease <= 0 || multiplicativeDecrease >= 1) {
+            throw new IllegalArgumentException("multiplicativeDecrease must be between 0 and 1");
+        }
+
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.additiveIncrease = additiveIncrease;
+        this.multiplicativeDecrease = multiplicativeDecrease;
+        this.nanoClock = nanoClock;
+        this.sleeper = sleeper;
+        this.rate = maxRate;
+        this.nextPermitNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * @param accountId The account the calls are made in
+     * @return The limiter shared by all calls made in the account
+     */
+    static AdaptiveRateLimiter forAccount(final String accountId) {
+        return LIMITERS.computeIfAbsent(String.valueOf(accountId), key -> new AdaptiveRateLimiter(
+                DEFAULT_MIN_RATE, DEFAULT_MAX_RATE, DEFAULT_ADDITIVE_INCREASE, DEFAULT_MULTIPLICATIVE_DECREASE,
+                System::nanoTime, TimeUnit.NANOSECONDS::sleep));
+    }
+
+    /**
+     * Waits until the current rate allows another call.
+     */
+    void acquire() {
+        final long waitNanos;
+        synchronized (this) {
+            if (rate >= maxRate) {
+                return;
+            }
+
+            final long now = nanoClock.getAsLong();
+            final long permitNanos = Math.max(now, nextPermitNanos);
+            nextPermitNanos = permitNanos + (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+            waitNanos = permitNanos - now;
+        }
+
+        if (waitNanos > 0) {
+            try {
+                sleeper.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Records a call the service accepted.
+     */
+    synchronized void onSuccess() {
+        rate = Math.min(maxRate, rate + additiveIncrease);
+    }
+
+    /**
+     * Records a call the service throttled.
+     */
+    synchronized void onThrottle() {
+        rate = Math.max(minRate, rate * multiplicativeDecrease);
+    }
+
+    synchronized double getRate() {
+        return rate;
+    }
+}
@@ -0,0 +1,206 @@
+package software.amazon.events.rule;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Single-pass parser for EventBridge rule/event bus ARNs and native physical resource ids.
+ * It accepts exactly the inputs the former regular expressions accepted:
+ * arn:${Partition}:events:${Region}:${AccountId}:rule/${EventRuleName}
+ * arn:${Partition}:events:${Region}:${AccountId}:rule/${EventBusName}/${EventRuleName}
+ * arn:${Partition}:events:${Region}:${AccountId}:event-bus/${EventBusName}
+ * where Partition consists of [A-Za-z0-9_*-], Region and the names contain neither ':' nor '\n',
+ * and AccountId is exactly 12 digits. For rule ARNs, the event bus name is everything before the last '/'.
+ */
+final class ArnParser {
+    private static final String ARN_PREFIX = "arn:";
+    private static final String EVENTS_SERVICE = "events:";
+    private static final String RULE_RESOURCE_TYPE = "rule/";
+    private static final String EVENT_BUS_RESOURCE_TYPE = "event-bus/";
+    private static final int ACCOUNT_ID_LENGTH = 12;
+    private static final char PHYSICAL_ID_SEPARATOR = '|';
+
+    private ArnParser() {
+    }
+
+    /**
+     * The components of a parsed ARN. Substrings are only created for the components that are present.
+     */
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    static final class ParsedArn {
+        private final String partition;
+        private final String region;
+        private final String accountId;
+        /** The event bus name of an event bus ARN or of a rule ARN that contains one, null otherwise */
+        private final String eventBusName;
+        /** The rule name of a rule ARN, null for event bus ARNs */
+        private final String eventRuleName;
+    }
+
+    /**
+     * Parses an Event Rule ARN.
+     * @param arn The string to parse (may be null)
+     * @return The parsed ARN, or null if the string is not an Event Rule ARN
+     */
+    static ParsedArn parseRuleArn(final String arn) {
+        return parse(arn, RULE_RESOURCE_TYPE);
+    }
+
+    /**
+     * Parses an Event Bus ARN.
+     * @param arn The string to parse (may be null)
+     * @return The parsed ARN, or null if the string is not an Event Bus ARN
+     */
+    static ParsedArn parseEventBusArn(final String arn) {
+        return parse(arn, EVENT_BUS_RESOURCE_TYPE);
+    }
+
+    /**
+     * Returns the rule name of a native physical resource id (${EventRuleName} or ${EventBus|EventRuleName}).
+     * Equivalent to taking the second element of pid.split("\\|") when it has more than one element, pid otherwise.
+     * @param pid The physical resource id
+     * @return The rule name
+     */
+    static String ruleNameFromPhysicalId(final String pid) {
+        final int separator = pid.indexOf(PHYSICAL_ID_SEPARATOR);
+
+        if (separator < 0 || !hasTokenAfter(pid, separator)) {
+            return pid;
+        }
+
+        final int nextSeparator = pid.indexOf(PHYSICAL_ID_SEPARATOR, separator + 1);
+        return pid.substring(separator + 1, nextSeparator < 0 ? pid.length() : nextSeparator);
+    }
+
+    /**
+     * Returns the event bus of a native physical resource id (${EventRuleName} or ${EventBus|EventRuleName}).
+     * Equivalent to taking the first element of pid.split("\\|") when it has more than one element.
+     * @param pid The physical resource id
+     * @param defaultEventBusName The value returned when the physical resource id does not contain an event bus
+     * @return The event bus name or ARN
+     */
+    static String busNameFromPhysicalId(final String pid, final String defaultEventBusName) {
+        if (pid == null) {
+            return defaultEventBusName;
+        }
+
+        final int separator = pid.indexOf(PHYSICAL_ID_SEPARATOR);
+
+        if (separator < 0 || !hasTokenAfter(pid, separator)) {
+            return defaultEventBusName;
+        }
+        return pid.substring(0, separator);
+    }
+
+    /**
+     * String.split drops trailing empty tokens, so a second token only exists if a character other than the
+     * separator follows the first separator.
+     */
+    private static boolean hasTokenAfter(final String pid, final int separator) {
+        for (int i = separator + 1; i < pid.length(); i++) {
+            if (pid.charAt(i) != PHYSICAL_ID_SEPARATOR) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static ParsedArn parse(final String arn, final String resourceType) {
+        if (arn == null || !arn.startsWith(ARN_PREFIX)) {
+            return null;
+        }
+
+        final int length = arn.length();
+
+        // Partition
+        final int partitionStart = ARN_PREFIX.length();
+        int position = partitionStart;
+        while (position < length && isPartitionChar(arn.charAt(position))) {
+            position++;
+        }
+        final int partitionEnd = position;
+        if (position >= length || arn.charAt(position) != ':') {
+            return null;
+        }
+        position++;
+
+        // Service
+        if (!arn.startsWith(EVENTS_SERVICE, position)) {
+            return null;
+        }
+        position += EVENTS_SERVICE.length();
+
+        // Region
+        final int regionStart = position;
+        while (position < length && arn.charAt(position) != ':') {
+            if (arn.charAt(position) == '\n') {
+                return null;
+            }
+            position++;
+        }
+        final int regionEnd = position;
+        if (position >= length) {
+            return null;
+        }
+        position++;
+
+        // Account id
+        final int accountIdStart = position;
+        final int accountIdEnd = accountIdStart + ACCOUNT_ID_LENGTH;
+        if (accountIdEnd >= length) {
+            return null;
+        }
+        for (; position < accountIdEnd; position++) {
+            final char c = arn.charAt(position);
+            if (c < '0' || c > '9') {
+                return null;
+            }
+        }
+        if (arn.charAt(position) != ':') {
+            return null;
+        }
+        position++;
+
+        // Resource type
+        if (!arn.startsWith(resourceType, position)) {
+            return null;
+        }
+        position += resourceType.length();
+
+        // Resource
+        final int resourceStart = position;
+        int lastSlash = -1;
+        for (; position < length; position++) {
+            final char c = arn.charAt(position);
+            if (c == ':' || c == '\n') {
+                return null;
+            }
+            if (c == '/') {
+                lastSlash = position;
+            }
+        }
+
+        final String partition = arn.substring(partitionStart, partitionEnd);
+        final String region = arn.substring(regionStart, regionEnd);
+        final String accountId = arn.substring(accountIdStart, accountIdEnd);
+
+        if (EVENT_BUS_RESOURCE_TYPE.equals(resourceType)) {
+            return new ParsedArn(partition, region, accountId, arn.substring(resourceStart), null);
+        }
+        if (lastSlash < 0) {
+            return new ParsedArn(partition, region, accountId, null, arn.substring(resourceStart));
+        }
+        return new ParsedArn(partition, region, accountId, arn.substring(resourceStart, lastSlash), arn.substring(lastSlash + 1));
+    }
+
+    private static boolean isPartitionChar(final char c) {
+        return (c >= 'a' && c <= 'z')
+                || (c >= 'A' && c <= 'Z')
+                || (c >= '0' && c <= '9')
+                || c == '_'
+                || c == '-'
+                || c == '*';
+    }
+}
@@ -12,9 +12,15 @@ import software.amazon.awssdk.services.cloudwatchevents.model.DeleteRuleRequest;
 import software.amazon.awssdk.services.cloudwatchevents.model.DeleteRuleResponse;
 import software.amazon.awssdk.services.cloudwatchevents.model.DescribeRuleRequest;
 import software.amazon.awssdk.services.cloudwatchevents.model.DescribeRuleResponse;
+import software.amazon.awssdk.services.cloudwatchevents.model.DisableRuleRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.DisableRuleResponse;
+import software.amazon.awssdk.services.cloudwatchevents.model.EnableRuleRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.EnableRuleResponse;
 import software.amazon.awssdk.services.cloudwatchevents.model.InternalException;
 import software.amazon.awssdk.services.cloudwatchevents.model.InvalidEventPatternException;
 import software.amazon.awssdk.services.cloudwatchevents.model.LimitExceededException;
+import software.amazon.awssdk.services.cloudwatchevents.model.ListEventBusesRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.ListEventBusesResponse;
 import software.amazon.awssdk.services.cloudwatchevents.model.ListRulesRequest;
 import software.amazon.awssdk.services.cloudwatchevents.model.ListRulesResponse;
 import software.amazon.awssdk.services.cloudwatchevents.model.ListTargetsByRuleRequest;
@@ -40,17 +46,30 @@ import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
 import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
 import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.CallChain;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.events.common.HandlerLogger;
+import software.amazon.events.common.HandlerMetrics;
+import software.amazon.events.common.StepTracer;
+import software.amazon.events.common.TracingProxyClient;
 
-import java.io.PrintWriter;
-import java.io.StringWriter;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.ConcurrentModificationException;
-import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 // Placeholder for the functionality that could be shared across Create/Read/Update/Delete/List Handlers
@@ -58,9 +77,28 @@ import java.util.function.Supplier;
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     public static final int MAX_RETRIES_ON_PUT_TARGETS = 5;
     public static final int MAX_RETRIES_ON_REMOVE_TARGETS = 5;
+    // Callback delays between failed propagation probes; together they add up to the former fixed 30-second delay
+    static final int[] PROPAGATION_PROBE_DELAYS_SECONDS = {2, 4, 8, 16};
+    static final int PROPAGATION_PROBE_MAX_TOTAL_DELAY_SECONDS = 30;
+    // StepJournal output holding the ARN of the rule, for handlers that resume after the step that resolved it
+    static final String OUTPUT_RULE_ARN = "RuleArn";
+    // StepTracer poll name of the stabilization of a PutRule call
+    static final String STABILIZE = "Stabilize";
+    // HandlerMetrics carrying the Target retry counters of the CallbackContext
+    static final String PUT_TARGETS_RETRY_ATTEMPTS = "PutTargetsRetryAttempts";
+    static final String REMOVE_TARGETS_RETRY_ATTEMPTS = "RemoveTargetsRetryAttempts";
+    // HandlerMetrics carrying the lookups of the CompositePIDCache an invocation made
+    static final String COMPOSITE_PID_CACHE_HITS = "CompositePIDCacheHits";
+    static final String COMPOSITE_PID_CACHE_MISSES = "CompositePIDCacheMisses";
     protected Logger logger;
 
     public static final String ERROR_CODE_THROTTLING_EXCEPTION = "ThrottlingException";
+    // Runs the service calls a handler issues concurrently; daemon threads, so an idle pool never keeps the JVM alive
+    private static final ExecutorService CONCURRENT_CALL_EXECUTOR = Executors.newFixedThreadPool(4, runnable -> {
+        final Thread thread = new Thread(runnable, "aws-events-rule-concurrent-call");
+        thread.setDaemon(true);
+        return thread;
+    });
     private final CloudWatchEventsClient cloudWatchEventsClient;
 
     protected BaseHandlerStd() {
@@ -72,101 +110,286 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     }
 
     /**
-     * Checks for failed target puts and retries. Returns true iff a retry was not required and performed.
+     * Puts the Targets and retries the entries that failed. PutTargets is not routed through proxy.initiate, whose
+     * call graph would keep the whole request and response in the CallbackContext while a retry is scheduled; only
+     * the ids and error codes of the failed entries are recorded, and a callback goes straight to their retry.
      *
-     * @param proxyClient     The client to execute the request
-     * @param model           The ResourceModel originally used
-     * @param callbackContext The CallbackContext containing the number of retries attempted and the response from the last attempt
-     * @param logger          The logger
-     * @return Whether it is safe to move on to stabilization
+     * @param progress          The ProgressEvent object
+     * @param putTargetsRequest The PutTargetsRequest of all Targets to put
+     * @param proxyClient       The client used to make the requests
+     * @param errorHandler      Handles an exception of the first PutTargets call
+     * @param logger            The logger
+     * @param stackId           The stack id (used for logging)
+     * @return progress once no failed entries are left, a ProgressEvent with a callback delay while a retry is
+     * scheduled, or a failed ProgressEvent
      */
-    static boolean mitigateFailedPutTargets(ProxyClient<CloudWatchEventsClient> proxyClient, ResourceModel model, CallbackContext callbackContext, Logger logger, CompositePID compositePID) {
-        boolean hasFailedEntries = callbackContext.getPutTargetsResponse().hasFailedEntries() && callbackContext.getPutTargetsResponse().failedEntries().size() > 0;
+    ProgressEvent<ResourceModel, CallbackContext> putTargetsWithRetries(ProgressEvent<ResourceModel, CallbackContext> progress,
+            PutTargetsRequest putTargetsRequest, ProxyClient<CloudWatchEventsClient> proxyClient,
+            CallChain.Callback<PutTargetsRequest, Exception, CloudWatchEventsClient, ResourceModel, CallbackContext,
+                    ProgressEvent<ResourceModel, CallbackContext>> errorHandler,
+            Logger logger, String stackId) {
+        final CallbackContext callbackContext = progress.getCallbackContext();
+        PutTargetsResponse awsResponse = null;
 
-        if (hasFailedEntries) {
-            if (callbackContext.getRetryAttemptsForPutTargets() < MAX_RETRIES_ON_PUT_TARGETS) {
-                logger.log(String.format("PutTargets has %s failed entries. Retrying...",
-                        callbackContext.getPutTargetsResponse().failedEntryCount()));
+        if (callbackContext.getFailedPutTargets() == null) {
+            try {
+                awsResponse = putTargets(putTargetsRequest, proxyClient, logger, stackId);
+            } catch (AwsServiceException | AmazonServiceException e) {
+                return errorHandler.invoke(putTargetsRequest, e, proxyClient, progress.getResourceModel(), callbackContext);
+            }
+        }
 
-                PutTargetsRequest originalPutTargetsRequest = Translator.translateToPutTargetsRequest(model, compositePID);
+        return retryFailedPutTargets(awsResponse, progress, putTargetsRequest, proxyClient, logger, stackId);
+    }
 
-                // Build a new request from failed entries
-                HashMap<String, Target> targetMap = new HashMap<>();
-                for (Target target : originalPutTargetsRequest.targets()) {
-                    targetMap.put(target.id(), target);
-                }
+    /**
+     * Removes the Targets and retries the entries that failed, without proxy.initiate for the same reason as
+     * putTargetsWithRetries.
+     *
+     * @param progress     The ProgressEvent object
+     * @param compositePID CompositePID object
+     * @param targetIds    The ids of the Targets to remove
+     * @param proxyClient  The client used to make the requests
+     * @param logger       The logger
+     * @param stackId      The stack id (used for logging)
+     * @return progress once no failed entries are left, a ProgressEvent with a callback delay while a retry is
+     * scheduled, or a failed ProgressEvent
+     */
+    ProgressEvent<ResourceModel, CallbackContext> removeTargetsWithRetries(ProgressEvent<ResourceModel, CallbackContext> progress,
+            CompositePID compositePID, Collection<String> targetIds, ProxyClient<CloudWatchEventsClient> proxyClient,
+            Logger logger, String stackId) {
+        final CallbackContext callbackContext = progress.getCallbackContext();
+        RemoveTargetsResponse awsResponse = null;
 
-                ArrayList<Target> targetsToPut = new ArrayList<>();
-                for (PutTargetsResultEntry failedEntry : callbackContext.getPutTargetsResponse().failedEntries()) {
-                    logger.log(failedEntry.errorMessage());
-                    targetsToPut.add(targetMap.get(failedEntry.targetId()));
-                }
+        if (callbackContext.getFailedRemoveTargets() == null) {
+            final RemoveTargetsRequest awsRequest = Translator.translateToRemoveTargetsRequest(compositePID, targetIds);
+            try {
+                awsResponse = removeTargets(awsRequest, proxyClient, logger, stackId);
+            } catch (AwsServiceException | AmazonServiceException e) {
+                return handleError(awsRequest, e, proxyClient, progress.getResourceModel(), callbackContext);
+            }
+        }
+
+        return retryFailedRemoveTargets(awsResponse, progress, compositePID, proxyClient, logger, stackId);
+    }
 
-                PutTargetsRequest putTargetsRequest = PutTargetsRequest.builder()
-                        .targets(targetsToPut)
-                        .build();
+    /**
+     * Removes every Target of the rule page by page and retries the entries that failed, without proxy.initiate for
+     * the same reason as putTargetsWithRetries.
+     *
+     * @param progress     The ProgressEvent object
+     * @param compositePID CompositePID object
+     * @param proxyClient  The client used to make the requests
+     * @param logger       The logger
+     * @param stackId      The stack id (used for logging)
+     * @return progress once a listing has come back empty, a ProgressEvent with a callback delay while a retry is
+     * scheduled, or a failed ProgressEvent
+     */
+    ProgressEvent<ResourceModel, CallbackContext> removeAllTargetsWithRetries(ProgressEvent<ResourceModel, CallbackContext> progress,
+            CompositePID compositePID, ProxyClient<CloudWatchEventsClient> proxyClient, Logger logger, String stackId) {
+        final CallbackContext callbackContext = progress.getCallbackContext();
 
-                // Retry request
-                callbackContext.setRetryAttemptsForPutTargets(callbackContext.getRetryAttemptsForPutTargets() + 1);
-                callbackContext.setPutTargetsResponse(
-                        proxyClient.injectCredentialsAndInvokeV2(putTargetsRequest, proxyClient.client()::putTargets));
-            } else {
-                throw AwsServiceException.builder()
-                        .awsErrorDetails(AwsErrorDetails.builder().errorCode("FailedEntries (put)").build())
-                        .build();
+        if (callbackContext.getFailedRemoveTargets() == null) {
+            final ListTargetsByRuleRequest awsRequest = Translator.translateToListTargetsByRuleRequest(compositePID);
+            try {
+                removeTargetsByPage(awsRequest, proxyClient, compositePID, callbackContext, logger, stackId);
+            } catch (AwsServiceException | AmazonServiceException e) {
+                return handleError(awsRequest, e, proxyClient, progress.getResourceModel(), callbackContext);
             }
         }
 
-        return !callbackContext.getPutTargetsResponse().hasFailedEntries() ||
-                callbackContext.getPutTargetsResponse().failedEntries().size() == 0;
+        return resumeRemoveTargetsByPage(progress, compositePID, proxyClient, logger, stackId);
     }
 
     /**
-     * Checks for failed target removals and retries. Returns true iff a retry was
-     * not required and performed.
+     * Retries the Targets that PutTargets reported as failed, as scheduled by TargetRetryScheduler. The failed entries
+     * of the first response are recorded in the CallbackContext; a retry is scheduled as a callback delay and made
+     * when the handler is called back, until no failed entries are left.
      *
-     * @param proxyClient     The client to execute the request
-     * @param callbackContext The CallbackContext containing the number of retries
-     *                        attempted and the response from the last attempt
+     * @param awsResponse       The response of the first PutTargets call, or null if no Targets were put
+     * @param progress          The ProgressEvent object
+     * @param putTargetsRequest The PutTargetsRequest of all Targets to put
+     * @param proxyClient       The client used to retry
+     * @param logger            The logger
+     * @param stackId           The stack id (used for logging)
+     * @return progress once no failed entries are left, a ProgressEvent with a callback delay while a retry is
+     * scheduled, or a failed ProgressEvent if an entry is terminal or the retries are exhausted
+     */
+    ProgressEvent<ResourceModel, CallbackContext> retryFailedPutTargets(PutTargetsResponse awsResponse,
+            ProgressEvent<ResourceModel, CallbackContext> progress, PutTargetsRequest putTargetsRequest,
+            ProxyClient<CloudWatchEventsClient> proxyClient, Logger logger, String stackId) {
+        final CallbackContext callbackContext = progress.getCallbackContext();
+
+        if (callbackContext.getFailedPutTargets() == null) {
+            recordPutTargetsResponse(awsResponse, callbackContext, logger);
+        }
+
+        while (true) {
+            final ProgressEvent<ResourceModel, CallbackContext> scheduled = scheduleTargetRetry(progress,
+                    callbackContext.getFailedPutTargets(), callbackContext.getRetryAttemptsForPutTargets(),
+                    MAX_RETRIES_ON_PUT_TARGETS, "Target(s) failed to create/update", logger, stackId);
+            if (scheduled != null) {
+                return scheduled;
+            }
+
+            final PutTargetsRequest retryRequest = TargetRetryScheduler.retryRequest(putTargetsRequest,
+                    callbackContext.getFailedPutTargets().keySet());
+            callbackContext.setRetryAttemptsForPutTargets(callbackContext.getRetryAttemptsForPutTargets() + 1);
+            callbackContext.setTargetRetries(callbackContext.getTargetRetries() + 1);
+
+            try {
+                recordPutTargetsResponse(proxyClient.injectCredentialsAndInvokeV2(retryRequest, proxyClient.client()::putTargets),
+                        callbackContext, logger);
+            } catch (AwsServiceException | AmazonServiceException e) {
+                if (!ThrottleClassifier.isRetryable(e)) {
+                    return handleError(retryRequest, e, proxyClient, progress.getResourceModel(), callbackContext);
+                }
+                // The failed entries are left as they were, so the retry is scheduled again
+                logger.log(String.format("StackId: %s: %s retry failed: %s", stackId, "AWS::Events::Target", e.getMessage()));
+            }
+        }
+    }
+
+    /**
+     * Retries the Targets that RemoveTargets reported as failed, as scheduled by TargetRetryScheduler. The failed
+     * entries of the first response are recorded in the CallbackContext; a retry is scheduled as a callback delay and
+     * made when the handler is called back, until no failed entries are left.
+     *
+     * @param awsResponse     The response of the first RemoveTargets call, or null if it has been recorded already
+     * @param progress        The ProgressEvent object
+     * @param compositePID    CompositePID object
+     * @param proxyClient     The client used to retry
      * @param logger          The logger
-     * @return Whether it is safe to move on to stabilization
-     */
-    static boolean mitigateFailedRemoveTargets(ProxyClient<CloudWatchEventsClient> proxyClient,
-                                               CompositePID compositePID, CallbackContext callbackContext, Logger logger) {
-        boolean hasFailedEntries = callbackContext.getRemoveTargetsResponse().hasFailedEntries()
-                && callbackContext.getRemoveTargetsResponse().failedEntries().size() > 0;
-
-        if (hasFailedEntries) {
-            if (callbackContext.getRetryAttemptsForRemoveTargets() < MAX_RETRIES_ON_REMOVE_TARGETS) {
-                logger.log(String.format("Remove Targets has %s failed entries. Retrying...",
-                        callbackContext.getRemoveTargetsResponse().failedEntryCount()));
-
-                // Build a new request from failed entries
-                ArrayList<String> failedEntryIds = new ArrayList<>();
-                for (RemoveTargetsResultEntry failedEntry : callbackContext.getRemoveTargetsResponse()
-                        .failedEntries()) {
-                    failedEntryIds.add(failedEntry.targetId());
-                    logger.log(failedEntry.errorMessage());
+     * @param stackId         The stack id (used for logging)
+     * @return progress once no failed entries are left, a ProgressEvent with a callback delay while a retry is
+     * scheduled, or a failed ProgressEvent if an entry is terminal or the retries are exhausted
+     */
+    ProgressEvent<ResourceModel, CallbackContext> retryFailedRemoveTargets(RemoveTargetsResponse awsResponse,
+            ProgressEvent<ResourceModel, CallbackContext> progress, CompositePID compositePID,
+            ProxyClient<CloudWatchEventsClient> proxyClient, Logger logger, String stackId) {
+        final CallbackContext callbackContext = progress.getCallbackContext();
+
+        if (callbackContext.getFailedRemoveTargets() == null) {
+            recordRemoveTargetsResponse(awsResponse, callbackContext, logger);
+        }
+
+        while (true) {
+            final ProgressEvent<ResourceModel, CallbackContext> scheduled = scheduleTargetRetry(progress,
+                    callbackContext.getFailedRemoveTargets(), callbackContext.getRetryAttemptsForRemoveTargets(),
+                    MAX_RETRIES_ON_REMOVE_TARGETS, "Target(s) failed to be removed", logger, stackId);
+            if (scheduled != null) {
+                return scheduled;
+            }
+
+            final RemoveTargetsRequest removeTargetsRequest = Translator.translateToRemoveTargetsRequest(compositePID,
+                    new ArrayList<>(callbackContext.getFailedRemoveTargets().keySet()));
+            callbackContext.setRetryAttemptsForRemoveTargets(callbackContext.getRetryAttemptsForRemoveTargets() + 1);
+            callbackContext.setTargetRetries(callbackContext.getTargetRetries() + 1);
+
+            try {
+                recordRemoveTargetsResponse(proxyClient.injectCredentialsAndInvokeV2(removeTargetsRequest, proxyClient.client()::removeTargets),
+                        callbackContext, logger);
+            } catch (AwsServiceException | AmazonServiceException e) {
+                if (!ThrottleClassifier.isRetryable(e)) {
+                    return handleError(removeTargetsRequest, e, proxyClient, progress.getResourceModel(), callbackContext);
                 }
+                // The failed entries are left as they were, so the retry is scheduled again
+                logger.log(String.format("StackId: %s: %s retry failed: %s", stackId, "AWS::Events::Target", e.getMessage()));
+            }
+        }
+    }
 
-                RemoveTargetsRequest removeTargetsRequest = Translator.translateToRemoveTargetsRequest(compositePID,
-                        failedEntryIds);
+    /**
+     * Decides what happens to the failed entries of the last PutTargets/RemoveTargets call.
+     *
+     * @param progress       The ProgressEvent object
+     * @param failedTargets  Target id to error code of the failed entries
+     * @param attempts       The number of retries already made for the call
+     * @param maxAttempts    The maximum number of retries for the call
+     * @param failureMessage The message of the failed ProgressEvent
+     * @param logger         The logger
+     * @param stackId        The stack id (used for logging)
+     * @return null if the scheduled retry is due now, otherwise the ProgressEvent to return
+     */
+    private static ProgressEvent<ResourceModel, CallbackContext> scheduleTargetRetry(
+            ProgressEvent<ResourceModel, CallbackContext> progress, Map<String, String> failedTargets, int attempts,
+            int maxAttempts, String failureMessage, Logger logger, String stackId) {
+        final CallbackContext callbackContext = progress.getCallbackContext();
 
-                // Retry request
-                callbackContext
-                        .setRetryAttemptsForRemoveTargets(callbackContext.getRetryAttemptsForRemoveTargets() + 1);
-                callbackContext.setRemoveTargetsResponse(proxyClient.injectCredentialsAndInvokeV2(removeTargetsRequest,
-                        proxyClient.client()::removeTargets));
-            } else {
-                logger.log("Failed to remove Targets.");
-                throw AwsServiceException.builder()
-                        .awsErrorDetails(AwsErrorDetails.builder().errorCode("FailedEntries (remove)").build())
-                        .build();
+        if (failedTargets.isEmpty()) {
+            callbackContext.setTargetRetryScheduled(false);
+            return ProgressEvent.progress(progress.getResourceModel(), callbackContext);
+        }
+
+        if (callbackContext.isTargetRetryScheduled()) {
+            // The backoff has been waited out
+            callbackContext.setTargetRetryScheduled(false);
+            return null;
+        }
+
+        final Map<String, String> terminalEntries = TargetRetryScheduler.terminalEntries(failedTargets);
+        if (!terminalEntries.isEmpty()) {
+            logger.log(String.format("StackId: %s: %s %s cannot be retried.", stackId, "AWS::Events::Target", terminalEntries));
+            return ProgressEvent.failed(progress.getResourceModel(), callbackContext, HandlerErrorCode.GeneralServiceException,
+                    String.format("%s: %s", failureMessage, terminalEntries));
+        }
+
+        if (attempts >= maxAttempts || callbackContext.getTargetRetries() >= TargetRetryScheduler.RETRY_BUDGET) {
+            logger.log(String.format("StackId: %s: %s %s still failed after %s retries.", stackId, "AWS::Events::Target",
+                    failedTargets, attempts));
+            return ProgressEvent.failed(progress.getResourceModel(), callbackContext, HandlerErrorCode.GeneralServiceException,
+                    failureMessage);
+        }
+
+        final int delaySeconds = TargetRetryScheduler.backoffSeconds(attempts);
+        logger.log(String.format("StackId: %s: %s %s failed, retrying in %s seconds.", stackId, "AWS::Events::Target",
+                failedTargets, delaySeconds));
+        callbackContext.setTargetRetryScheduled(true);
+        return ProgressEvent.defaultInProgressHandler(callbackContext, delaySeconds, progress.getResourceModel());
+    }
+
+    /**
+     * Records the failed entries of a PutTargetsResponse in the CallbackContext, keeping only their Target ids and
+     * error codes rather than the whole response.
+     *
+     * @param awsResponse     The PutTargetsResponse, or null if no Targets were put
+     * @param callbackContext The CallbackContext to record the failed entries in
+     * @param logger          The logger
+     */
+    static void recordPutTargetsResponse(PutTargetsResponse awsResponse, CallbackContext callbackContext, Logger logger) {
+        final Map<String, String> failedPutTargets = new LinkedHashMap<>();
+
+        if (awsResponse != null && awsResponse.hasFailedEntries()) {
+            for (PutTargetsResultEntry failedEntry : awsResponse.failedEntries()) {
+                logger.log(failedEntry.errorMessage());
+                failedPutTargets.put(failedEntry.targetId(), failedEntry.errorCode());
+            }
+        }
+
+        HandlerMetrics.current().count(HandlerMetrics.FAILED_ENTRIES, failedPutTargets.size());
+        callbackContext.setFailedPutTargets(failedPutTargets);
+    }
+
+    /**
+     * Records the failed entries of a RemoveTargetsResponse in the CallbackContext, keeping only their Target ids
+     * and error codes rather than the whole response.
+     *
+     * @param awsResponse     The RemoveTargetsResponse, or null if no Targets were removed
+     * @param callbackContext The CallbackContext to record the failed entries in
+     * @param logger          The logger
+     */
+    static void recordRemoveTargetsResponse(RemoveTargetsResponse awsResponse, CallbackContext callbackContext, Logger logger) {
+        final Map<String, String> failedRemoveTargets = new LinkedHashMap<>();
+
+        if (awsResponse != null && awsResponse.hasFailedEntries()) {
+            for (RemoveTargetsResultEntry failedEntry : awsResponse.failedEntries()) {
+                logger.log(failedEntry.errorMessage());
+                failedRemoveTargets.put(failedEntry.targetId(), failedEntry.errorCode());
             }
         }
 
-        return !callbackContext.getRemoveTargetsResponse().hasFailedEntries() ||
-                callbackContext.getRemoveTargetsResponse().failedEntries().size() == 0;
+        HandlerMetrics.current().count(HandlerMetrics.FAILED_ENTRIES, failedRemoveTargets.size());
+        callbackContext.setFailedRemoveTargets(failedRemoveTargets);
     }
 
     /**
@@ -190,7 +413,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             stabilized = true;
         } catch (ResourceNotFoundException e) {
             stabilized = false;
-        } catch (AmazonServiceException e) {
+        } catch (AwsServiceException | AmazonServiceException e) {
             if (isThrottlingException(e)) {
                 stabilized = false;
             } else {
@@ -204,69 +427,55 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     }
 
     /**
-     * Determines whether PutTargets has stabilized.
+     * Calls PutRule and returns the result.
      *
-     * @param awsResponse     The response from the first call to PutTargets
-     * @param proxyClient     The client used to read the resource and retry if necessary
-     * @param model           The model used to generate a read request
-     * @param callbackContext The CallbackContext containing the number of retries attempted and the response from the last attempt
-     * @param logger          The logger
-     * @param stackId         The stack id (used for logging)
-     * @return Whether the request has stabilized
+     * @param awsRequest  The PutRuleRequest
+     * @param proxyClient The client used to make the request
+     * @param logger      The logger
+     * @param stackId     The stack id (used for logging)
+     * @return The PutRuleResponse
      */
-    static boolean stabilizePutTargets(PutTargetsResponse awsResponse, ProxyClient<CloudWatchEventsClient> proxyClient, ResourceModel model, CallbackContext callbackContext, Logger logger, String stackId, CompositePID compositePID) {
-
-        if (callbackContext.getPutTargetsResponse() == null) {
-            callbackContext.setPutTargetsResponse(awsResponse);
-        }
-
-        boolean stabilized = mitigateFailedPutTargets(proxyClient, model, callbackContext, logger, compositePID);
-
-        logger.log(String.format("StackId: %s: %s [%s] have been stabilized: %s", stackId, "AWS::Events::Target", model.getTargets().size(), stabilized));
-        return stabilized;
+    static PutRuleResponse putRule(PutRuleRequest awsRequest, ProxyClient<CloudWatchEventsClient> proxyClient,
+            Logger logger, String stackId) {
+        PutRuleResponse awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest,
+                proxyClient.client()::putRule);
+        logger.log(String.format("StackId: %s: %s [%s] has successfully been updated.", stackId,
+                ResourceModel.TYPE_NAME, awsRequest.name()));
+        return awsResponse;
     }
 
     /**
-     * Determines whether RemoveTargets has stabilized.
+     * Calls EnableRule and returns the result.
      *
-     * @param awsResponse       The response from the first call to RemoveTargets
-     * @param proxyClient       The client used to read the resource and retry if
-     *                          necessary
-     * @param compositePID      CompositePID object
-     * @param callbackContext   The CallbackContext containing the number of retries
-     *                          attempted and the response from the last attempt
-     * @param logger            The logger
-     * @param stackId           The stack id (used for logging)
-     * @return Whether the request has stabilized
+     * @param awsRequest  The EnableRuleRequest
+     * @param proxyClient The client used to make the request
+     * @param logger      The logger
+     * @param stackId     The stack id (used for logging)
+     * @return The EnableRuleResponse
      */
-    static boolean stabilizeRemoveTargets(RemoveTargetsResponse awsResponse, ProxyClient<CloudWatchEventsClient> proxyClient,
-                                          CompositePID compositePID, CallbackContext callbackContext,
-                                          Logger logger, String stackId) {
-
-        if (callbackContext.getRemoveTargetsResponse() == null) {
-            callbackContext.setRemoveTargetsResponse(awsResponse);
-        }
-
-        boolean stabilized = mitigateFailedRemoveTargets(proxyClient, compositePID, callbackContext, logger);
-
-        logger.log(String.format("StackId: %s: %s delete has stabilized: %s", stackId, "AWS::Events::Target", stabilized));
-        return stabilized;
+    static EnableRuleResponse enableRule(EnableRuleRequest awsRequest, ProxyClient<CloudWatchEventsClient> proxyClient,
+            Logger logger, String stackId) {
+        EnableRuleResponse awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest,
+                proxyClient.client()::enableRule);
+        logger.log(String.format("StackId: %s: %s [%s] has successfully been enabled.", stackId,
+                ResourceModel.TYPE_NAME, awsRequest.name()));
+        return awsResponse;
     }
 
     /**
-     * Calls PutRule and returns the result.
+     * Calls DisableRule and returns the result.
      *
-     * @param awsRequest  The PutRuleRequest
+     * @param awsRequest  The DisableRuleRequest
      * @param proxyClient The client used to make the request
      * @param logger      The logger
      * @param stackId     The stack id (used for logging)
-     * @return The PutRuleResponse
+     * @return The DisableRuleResponse
      */
-    static PutRuleResponse putRule(PutRuleRequest awsRequest, ProxyClient<CloudWatchEventsClient> proxyClient,
+    static DisableRuleResponse disableRule(DisableRuleRequest awsRequest, ProxyClient<CloudWatchEventsClient> proxyClient,
             Logger logger, String stackId) {
-        PutRuleResponse awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest,
-                proxyClient.client()::putRule);
-        logger.log(String.format("StackId: %s: %s [%s] has successfully been updated.", stackId,
+        DisableRuleResponse awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest,
+                proxyClient.client()::disableRule);
+        logger.log(String.format("StackId: %s: %s [%s] has successfully been disabled.", stackId,
                 ResourceModel.TYPE_NAME, awsRequest.name()));
         return awsResponse;
     }
@@ -307,6 +516,73 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         return awsResponse;
     }
 
+    /**
+     * Calls DescribeRule on CONCURRENT_CALL_EXECUTOR.
+     *
+     * @param awsRequest  The DescribeRuleRequest
+     * @param proxyClient The client used to make the request
+     * @param logger      The logger
+     * @param stackId     The stack id (used for logging)
+     * @return The future DescribeRuleResponse
+     */
+    static CompletableFuture<DescribeRuleResponse> describeRuleAsync(DescribeRuleRequest awsRequest,
+            ProxyClient<CloudWatchEventsClient> proxyClient, Logger logger, String stackId) {
+        return proxyClient.injectCredentialsAndInvokeV2Async(awsRequest,
+                request -> CompletableFuture.supplyAsync(() -> proxyClient.client().describeRule(request), CONCURRENT_CALL_EXECUTOR))
+                .thenApply(awsResponse -> {
+                    logger.log(String.format("StackId: %s: %s [%s] has successfully been read.", stackId, ResourceModel.TYPE_NAME,
+                            awsRequest.name()));
+                    return awsResponse;
+                });
+    }
+
+    /**
+     * Calls DescribeRule and lists the Targets of the Rule page by page at the same time. Neither call depends on the
+     * other, so DescribeRule runs asynchronously while the Targets are listed on the calling thread.
+     *
+     * @param awsRequest   The DescribeRuleRequest
+     * @param proxyClient  The client used to make the requests
+     * @param compositePID CompositePID object
+     * @param pageConsumer Called with every ListTargetsByRuleResponse, in order
+     * @param logger       The logger
+     * @param stackId      The stack id (used for logging)
+     * @return The DescribeRuleResponse
+     */
+    static DescribeRuleResponse describeRuleAndListTargets(DescribeRuleRequest awsRequest,
+            ProxyClient<CloudWatchEventsClient> proxyClient, CompositePID compositePID,
+            Consumer<ListTargetsByRuleResponse> pageConsumer, Logger logger, String stackId) {
+        final CompletableFuture<DescribeRuleResponse> describeRuleFuture = describeRuleAsync(awsRequest, proxyClient, logger, stackId);
+
+        RuntimeException listTargetsException = null;
+        try {
+            listTargetsByPage(Translator.translateToListTargetsByRuleRequest(compositePID), proxyClient, compositePID,
+                    pageConsumer, logger, stackId);
+        } catch (RuntimeException e) {
+            listTargetsException = e;
+        }
+
+        // A failed DescribeRule (e.g. ResourceNotFoundException) takes precedence over a failed ListTargetsByRule
+        final DescribeRuleResponse describeRuleResponse = join(describeRuleFuture);
+        if (listTargetsException != null) {
+            throw listTargetsException;
+        }
+        return describeRuleResponse;
+    }
+
+    /**
+     * Waits for a future and rethrows its failure unwrapped, so handleError sees the original service exception.
+     */
+    static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
     /**
      * Calls PutTargets and returns the result.
      *
@@ -366,46 +642,383 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     }
 
     /**
-     * Calls ListRules and returns the result.
+     * Calls ListTargetsByRule for every page of Targets, starting at the page requested by awsRequest, and hands
+     * each page to pageConsumer before the next page is requested, so that pages can be translated incrementally.
+     *
+     * @param awsRequest   The ListTargetsByRuleRequest of the first page
+     * @param proxyClient  The client used to make the requests
+     * @param compositePID CompositePID object
+     * @param pageConsumer Receives every ListTargetsByRuleResponse in order
+     * @param logger       The logger
+     * @param stackId      The stack id (used for logging)
+     * @return The ListTargetsByRuleResponse of the last page
+     */
+    static ListTargetsByRuleResponse listTargetsByPage(ListTargetsByRuleRequest awsRequest,
+            ProxyClient<CloudWatchEventsClient> proxyClient, CompositePID compositePID,
+            Consumer<ListTargetsByRuleResponse> pageConsumer, Logger logger, String stackId) {
+        ListTargetsByRuleRequest listTargetsByRuleRequest = awsRequest;
+        ListTargetsByRuleResponse awsResponse;
+
+        do {
+            awsResponse = listTargets(listTargetsByRuleRequest, proxyClient, logger, stackId);
+            pageConsumer.accept(awsResponse);
+            listTargetsByRuleRequest = Translator.translateToListTargetsByRuleRequest(compositePID, awsResponse.nextToken());
+        } while (awsResponse.nextToken() != null);
+
+        return awsResponse;
+    }
+
+    /**
+     * Lists the Targets of a Rule and removes the Targets of the listed page, then lists again from the first page,
+     * until a listing comes back empty. The listing always starts over instead of following nextToken: removing
+     * Targets under a live pagination cursor can skip the Targets of later pages. Stops at the first page with failed
+     * entries and records in the CallbackContext that Targets remain, so that resumeRemoveTargetsByPage can resume
+     * once the failed entries have been retried.
+     *
+     * @param awsRequest      The ListTargetsByRuleRequest of the first page
+     * @param proxyClient     The client used to make the requests
+     * @param compositePID    CompositePID object
+     * @param callbackContext The CallbackContext recording the failed entries of the last page and whether Targets remain
+     * @param logger          The logger
+     * @param stackId         The stack id (used for logging)
+     * @return The RemoveTargetsResponse of the last page that had Targets
+     */
+    static RemoveTargetsResponse removeTargetsByPage(ListTargetsByRuleRequest awsRequest,
+            ProxyClient<CloudWatchEventsClient> proxyClient, CompositePID compositePID,
+            CallbackContext callbackContext, Logger logger, String stackId) {
+        RemoveTargetsResponse removeTargetsResponse = RemoveTargetsResponse.builder().build();
+        boolean targetsRemaining = false;
+
+        while (true) {
+            ListTargetsByRuleResponse listTargetsByRuleResponse = listTargets(awsRequest, proxyClient, logger, stackId);
+            if (!listTargetsByRuleResponse.hasTargets() || listTargetsByRuleResponse.targets().isEmpty()) {
+                break;
+            }
+
+            ArrayList<String> targetIds = new ArrayList<>();
+            for (Target target : listTargetsByRuleResponse.targets()) {
+                targetIds.add(target.id());
+            }
+
+            removeTargetsResponse = removeTargets(Translator.translateToRemoveTargetsRequest(compositePID, targetIds),
+                    proxyClient, logger, stackId);
+            callbackContext.setTargetsRemoved(true);
+            callbackContext.setRetryAttemptsForRemoveTargets(0);
+
+            if (removeTargetsResponse.hasFailedEntries() && removeTargetsResponse.failedEntries().size() > 0) {
+                targetsRemaining = true;
+                break;
+            }
+        }
+
+        recordRemoveTargetsResponse(removeTargetsResponse, callbackContext, logger);
+        callbackContext.setTargetsRemaining(targetsRemaining);
+        return removeTargetsResponse;
+    }
+
+    /**
+     * Resumes the paginated removal started by removeTargetsByPage. Failed entries of the current page are retried
+     * first; once they are gone, the removal continues by listing from the first page again.
+     *
+     * @param progress        The ProgressEvent object
+     * @param compositePID    CompositePID object
+     * @param proxyClient     The client used to make the requests
+     * @param logger          The logger
+     * @param stackId         The stack id (used for logging)
+     * @return progress once a listing has come back empty, a ProgressEvent with a callback delay while a retry is
+     * scheduled, or a failed ProgressEvent
+     */
+    ProgressEvent<ResourceModel, CallbackContext> resumeRemoveTargetsByPage(ProgressEvent<ResourceModel, CallbackContext> progress,
+            CompositePID compositePID, ProxyClient<CloudWatchEventsClient> proxyClient, Logger logger, String stackId) {
+        final CallbackContext callbackContext = progress.getCallbackContext();
+
+        while (true) {
+            final ProgressEvent<ResourceModel, CallbackContext> retried = retryFailedRemoveTargets(null, progress,
+                    compositePID, proxyClient, logger, stackId);
+            if (!retried.isInProgress() || retried.getCallbackDelaySeconds() > 0 || !callbackContext.isTargetsRemaining()) {
+                logger.log(String.format("StackId: %s: %s delete has stabilized: %s", stackId, "AWS::Events::Target",
+                        retried.isInProgress() && retried.getCallbackDelaySeconds() == 0));
+                return retried;
+            }
+
+            final ListTargetsByRuleRequest listTargetsByRuleRequest = Translator.translateToListTargetsByRuleRequest(compositePID);
+            try {
+                removeTargetsByPage(listTargetsByRuleRequest, proxyClient, compositePID, callbackContext, logger, stackId);
+            } catch (AwsServiceException | AmazonServiceException e) {
+                return handleError(listTargetsByRuleRequest, e, proxyClient, progress.getResourceModel(), callbackContext);
+            }
+        }
+    }
+
+    /**
+     * Calls ListRules on CONCURRENT_CALL_EXECUTOR.
      *
      * @param awsRequest  The ListRulesRequest
      * @param proxyClient The client used to make the request
      * @param logger      The logger
      * @param stackId     The stack id (used for logging)
-     * @return The ListRulesResponse
-     */
-    static ListRulesResponse listRules(ListRulesRequest awsRequest,
-                                       ProxyClient<CloudWatchEventsClient> proxyClient, Logger logger, String stackId) {
-        ListRulesResponse awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest,
-                proxyClient.client()::listRules);
-        logger.log(String.format("StackId: %s: %s [%s] successfully read.", stackId, "AWS::Events::Rule",
-                awsResponse.rules().size()));
+     * @return The future ListRulesResponse
+     */
+    static CompletableFuture<ListRulesResponse> listRulesAsync(ListRulesRequest awsRequest,
+            ProxyClient<CloudWatchEventsClient> proxyClient, Logger logger, String stackId) {
+        return proxyClient.injectCredentialsAndInvokeV2Async(awsRequest,
+                request -> CompletableFuture.supplyAsync(() -> proxyClient.client().listRules(request), CONCURRENT_CALL_EXECUTOR))
+                .thenApply(awsResponse -> {
+                    logger.log(String.format("StackId: %s: %s [%s] successfully read on %s.", stackId, "AWS::Events::Rule",
+                            awsResponse.rules().size(), awsRequest.eventBusName()));
+                    return awsResponse;
+                });
+    }
+
+    /**
+     * Calls ListEventBuses and returns the result.
+     *
+     * @param awsRequest  The ListEventBusesRequest
+     * @param proxyClient The client used to make the request
+     * @param logger      The logger
+     * @param stackId     The stack id (used for logging)
+     * @return The ListEventBusesResponse
+     */
+    static ListEventBusesResponse listEventBuses(ListEventBusesRequest awsRequest,
+                                                 ProxyClient<CloudWatchEventsClient> proxyClient, Logger logger, String stackId) {
+        ListEventBusesResponse awsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest,
+                proxyClient.client()::listEventBuses);
+        logger.log(String.format("StackId: %s: %s [%s] successfully read.", stackId, "AWS::Events::EventBus",
+                awsResponse.eventBuses().size()));
         return awsResponse;
     }
 
+    // Resumes at the first incomplete step, see StepJournal
+    static ProgressEvent<ResourceModel, CallbackContext> runStep(
+            String step, ProgressEvent<ResourceModel, CallbackContext> progress,
+            Supplier<ProgressEvent<ResourceModel, CallbackContext>> function) {
+        return progress.getCallbackContext().getStepJournal().run(step, progress,
+                () -> StepTracer.current().step(step, function));
+    }
+
     /**
-     * Returns a ProgressEvent with a delay that does not result in an infinite loop.
+     * Restores the ARN recorded by a completed step, since the desired ResourceModel of a callback does not carry it.
      *
-     * @param progress             The ProgressEvent object
-     * @param callbackDelaySeconds The length of the delay
-     * @param delayCount           Which call to delayedProgress this is. For example: if this function is called twice in one
-     *                             handler, the delayCount of the first call will be 1, and the delayCount of the second call will
-     *                             be 2.
-     * @return A ProgressEvent with a 30-second delay on the first invocation, and a normal ProgressEvent on subsequent
-     * invocations.
+     * @param resourceModel   The desired ResourceModel
+     * @param callbackContext The CallbackContext object
      */
-    static ProgressEvent<ResourceModel, CallbackContext> delayedProgress(
-            ProgressEvent<ResourceModel, CallbackContext> progress, int callbackDelaySeconds, int delayCount) {
-        ProgressEvent<ResourceModel, CallbackContext> progressEvent;
+    static void restoreRuleArn(ResourceModel resourceModel, CallbackContext callbackContext) {
+        final String ruleArn = callbackContext.getStepJournal().getOutput(OUTPUT_RULE_ARN);
+        if (ruleArn != null) {
+            resourceModel.setArn(ruleArn);
+        }
+    }
 
-        if (progress.getCallbackContext().getCompletedPropagationDelays() < delayCount) {
-            progress.getCallbackContext().setCompletedPropagationDelays(delayCount);
-            progressEvent = ProgressEvent.defaultInProgressHandler(progress.getCallbackContext(), callbackDelaySeconds, progress.getResourceModel());
-        } else {
-            progressEvent = ProgressEvent.progress(progress.getResourceModel(), progress.getCallbackContext());
+    /**
+     * Validates the event pattern of the desired ResourceModel before any API call, and logs patterns whose complexity
+     * makes them expensive to match.
+     *
+     * @param progress The ProgressEvent carrying the desired ResourceModel
+     * @param logger   The logger
+     * @param stackId  The stack id (used for logging)
+     * @return The unchanged ProgressEvent if the pattern is valid, a failed InvalidRequest ProgressEvent otherwise
+     */
+    static ProgressEvent<ResourceModel, CallbackContext> validateEventPattern(
+            ProgressEvent<ResourceModel, CallbackContext> progress, Logger logger, String stackId) {
+        final long complexity;
+        try {
+            complexity = EventPatternValidator.validate(progress.getResourceModel().getEventPattern());
+        } catch (CfnInvalidRequestException e) {
+            logger.log(String.format("StackId: %s: %s failed validation: %s", stackId, "EventPattern", e.getMessage()));
+            return ProgressEvent.failed(progress.getResourceModel(), progress.getCallbackContext(),
+                    HandlerErrorCode.InvalidRequest, e.getMessage());
+        }
+
+        if (complexity > EventPatternValidator.COMPLEXITY_WARNING_THRESHOLD) {
+            logger.log(String.format("StackId: %s: %s [%s] has an EventPattern of complexity %d, above %d; it is expensive to match.",
+                    stackId, ResourceModel.TYPE_NAME, progress.getResourceModel().getName(), complexity,
+                    EventPatternValidator.COMPLEXITY_WARNING_THRESHOLD));
+        }
+        return progress;
+    }
+
+    /**
+     * Parses the schedule expression of the desired ResourceModel, if any, before any API call.
+     *
+     * @param progress The ProgressEvent carrying the desired ResourceModel
+     * @param logger   The logger
+     * @param stackId  The stack id (used for logging)
+     * @return The unchanged ProgressEvent if the expression is valid, a failed InvalidRequest ProgressEvent otherwise
+     */
+    static ProgressEvent<ResourceModel, CallbackContext> validateScheduleExpression(
+            ProgressEvent<ResourceModel, CallbackContext> progress, Logger logger, String stackId) {
+        if (progress.getResourceModel().getScheduleExpression() == null) {
+            return progress;
+        }
+
+        try {
+            ScheduleExpression.parse(progress.getResourceModel().getScheduleExpression());
+        } catch (CfnInvalidRequestException e) {
+            logger.log(String.format("StackId: %s: %s failed validation: %s", stackId, "ScheduleExpression", e.getMessage()));
+            return ProgressEvent.failed(progress.getResourceModel(), progress.getCallbackContext(),
+                    HandlerErrorCode.InvalidRequest, e.getMessage());
+        }
+        return progress;
+    }
+
+    /**
+     * Validates the targets of the desired ResourceModel before any of them are sent to PutTargets.
+     *
+     * @param progress The ProgressEvent carrying the desired ResourceModel
+     * @param logger   The logger
+     * @param stackId  The stack id (used for logging)
+     * @return The unchanged ProgressEvent if all targets are valid, a failed InvalidRequest ProgressEvent otherwise
+     */
+    static ProgressEvent<ResourceModel, CallbackContext> validateTargets(
+            ProgressEvent<ResourceModel, CallbackContext> progress, Logger logger, String stackId) {
+        try {
+            TargetValidator.validate(progress.getResourceModel().getTargets());
+        } catch (CfnInvalidRequestException e) {
+            logger.log(String.format("StackId: %s: %s failed validation: %s", stackId, "AWS::Events::Target", e.getMessage()));
+            return ProgressEvent.failed(progress.getResourceModel(), progress.getCallbackContext(),
+                    HandlerErrorCode.InvalidRequest, e.getMessage());
+        }
+
+        return progress;
+    }
+
+    /**
+     * Waits until a change has propagated, instead of sleeping for a fixed period. The probe is evaluated right away;
+     * while it fails, the handler is called back after growing delays (see PROPAGATION_PROBE_DELAYS_SECONDS). Once the
+     * delays are exhausted the handler moves on, exactly as it did after the former fixed 30-second delay.
+     *
+     * @param progress  The ProgressEvent object
+     * @param probeName The name under which the probe is recorded in the CallbackContext (unique per handler)
+     * @param probe     Returns whether the change has propagated
+     * @param logger    The logger
+     * @param stackId   The stack id (used for logging)
+     * @return A ProgressEvent with a callback delay while the probe fails, a normal ProgressEvent otherwise
+     */
+    static ProgressEvent<ResourceModel, CallbackContext> awaitPropagation(
+            ProgressEvent<ResourceModel, CallbackContext> progress, String probeName, BooleanSupplier probe,
+            Logger logger, String stackId) {
+        final CallbackContext callbackContext = progress.getCallbackContext();
+        final int failedProbes = callbackContext.getPropagationProbeAttempts().getOrDefault(probeName, 0);
+
+        if (callbackContext.getPassedPropagationProbes().contains(probeName)
+                || failedProbes > PROPAGATION_PROBE_DELAYS_SECONDS.length) {
+            return ProgressEvent.progress(progress.getResourceModel(), callbackContext);
+        }
+
+        if (StepTracer.current().poll(probeName, probe)) {
+            logger.log(String.format("StackId: %s: %s propagation probe [%s] passed after %s attempt(s).", stackId,
+                    ResourceModel.TYPE_NAME, probeName, failedProbes + 1));
+            callbackContext.getPassedPropagationProbes().add(probeName);
+            return ProgressEvent.progress(progress.getResourceModel(), callbackContext);
+        }
+
+        callbackContext.getPropagationProbeAttempts().put(probeName, failedProbes + 1);
+
+        if (failedProbes == PROPAGATION_PROBE_DELAYS_SECONDS.length) {
+            logger.log(String.format("StackId: %s: %s propagation probe [%s] did not pass within %s seconds, continuing.",
+                    stackId, ResourceModel.TYPE_NAME, probeName, PROPAGATION_PROBE_MAX_TOTAL_DELAY_SECONDS));
+            return ProgressEvent.progress(progress.getResourceModel(), callbackContext);
         }
 
-        return progressEvent;
+        return ProgressEvent.defaultInProgressHandler(callbackContext, PROPAGATION_PROBE_DELAYS_SECONDS[failedProbes],
+                progress.getResourceModel());
+    }
+
+    /**
+     * Propagation probe: DescribeRule no longer finds the rule.
+     *
+     * @param proxyClient  The client used to make the request
+     * @param compositePID CompositePID object
+     * @param logger       The logger
+     * @param stackId      The stack id (used for logging)
+     * @return Whether DescribeRule threw ResourceNotFoundException
+     */
+    static boolean ruleIsGone(ProxyClient<CloudWatchEventsClient> proxyClient, CompositePID compositePID,
+                              Logger logger, String stackId) {
+        try {
+            describeRule(Translator.translateToDescribeRuleRequest(compositePID), proxyClient, logger, stackId);
+            return false;
+        } catch (ResourceNotFoundException e) {
+            return true;
+        } catch (AwsServiceException | AmazonServiceException e) {
+            logger.log(String.format("StackId: %s: %s propagation probe failed: %s", stackId, ResourceModel.TYPE_NAME, e.getMessage()));
+            return false;
+        }
+    }
+
+    /**
+     * Propagation probe: ListTargetsByRule returns all of the given Targets.
+     *
+     * @param proxyClient  The client used to make the requests
+     * @param compositePID CompositePID object
+     * @param targetIds    The ids of the Targets that must be listed
+     * @param logger       The logger
+     * @param stackId      The stack id (used for logging)
+     * @return Whether every Target id was listed
+     */
+    static boolean targetsAreVisible(ProxyClient<CloudWatchEventsClient> proxyClient, CompositePID compositePID,
+                                     Collection<String> targetIds, Logger logger, String stackId) {
+        final Set<String> listedTargetIds = listTargetIds(proxyClient, compositePID, logger, stackId);
+        return listedTargetIds != null && listedTargetIds.containsAll(targetIds);
+    }
+
+    /**
+     * Propagation probe: ListTargetsByRule no longer returns the given Targets.
+     *
+     * @param proxyClient  The client used to make the requests
+     * @param compositePID CompositePID object
+     * @param targetIds    The ids of the removed Targets, or null if the Rule must not have any Targets left
+     * @param logger       The logger
+     * @param stackId      The stack id (used for logging)
+     * @return Whether none of the Target ids was listed
+     */
+    static boolean targetsAreGone(ProxyClient<CloudWatchEventsClient> proxyClient, CompositePID compositePID,
+                                  Collection<String> targetIds, Logger logger, String stackId) {
+        final Set<String> listedTargetIds = listTargetIds(proxyClient, compositePID, logger, stackId);
+
+        if (listedTargetIds == null) {
+            return false;
+        }
+        if (targetIds == null) {
+            return listedTargetIds.isEmpty();
+        }
+        return targetIds.stream().noneMatch(listedTargetIds::contains);
+    }
+
+    /**
+     * Returns the ids of the given model Targets.
+     *
+     * @param targets The model Targets
+     * @return The Target ids
+     */
+    static Collection<String> extractTargetIds(Collection<software.amazon.events.rule.Target> targets) {
+        ArrayList<String> targetIds = new ArrayList<>();
+
+        for (software.amazon.events.rule.Target target : targets) {
+            targetIds.add(target.getId());
+        }
+
+        return targetIds;
+    }
+
+    /**
+     * Lists the ids of all Targets of a Rule for the propagation probes.
+     *
+     * @return The Target ids, or null if they could not be listed
+     */
+    private static Set<String> listTargetIds(ProxyClient<CloudWatchEventsClient> proxyClient, CompositePID compositePID,
+                                             Logger logger, String stackId) {
+        final Set<String> targetIds = new HashSet<>();
+
+        try {
+            listTargetsByPage(Translator.translateToListTargetsByRuleRequest(compositePID), proxyClient, compositePID,
+                    page -> page.targets().forEach(target -> targetIds.add(target.id())), logger, stackId);
+        } catch (AwsServiceException | AmazonServiceException e) {
+            logger.log(String.format("StackId: %s: %s propagation probe failed: %s", stackId, "AWS::Events::Target", e.getMessage()));
+            return null;
+        }
+
+        return targetIds;
     }
 
     private CloudWatchEventsClient getCloudWatchEventsClient() {
@@ -418,13 +1031,45 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final Logger logger) {
-        return handleRequest(
-                proxy,
-                request,
-                callbackContext != null ? callbackContext : new CallbackContext(),
-                proxy.newProxy(this::getCloudWatchEventsClient),
-                logger
-        );
+        final HandlerLogger handlerLogger = HandlerLogger.batching(logger);
+        final StepTracer tracer = StepTracer.begin(ResourceModel.TYPE_NAME, getClass().getSimpleName(), request.getClientRequestToken(), handlerLogger);
+        final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
+        tracer.getMetrics().count(HandlerMetrics.CALLBACK_INVOCATIONS, callbackContext != null ? 1 : 0);
+        final CompositePIDCache compositePIDCache = CompositePIDCache.getInstance();
+        final long compositePIDCacheHits = compositePIDCache.getHits();
+        final long compositePIDCacheMisses = compositePIDCache.getMisses();
+        try {
+            // The tracer wraps the rate limiter, so the span of a call includes the time it was paced for
+            final ProgressEvent<ResourceModel, CallbackContext> result = handleRequest(
+                    proxy,
+                    request,
+                    context,
+                    new TracingProxyClient<>(new RateLimitedProxyClient<>(proxy.newProxy(this::getCloudWatchEventsClient),
+                            AdaptiveRateLimiter.forAccount(request.getAwsAccountId())), tracer),
+                    handlerLogger
+            );
+            tracer.getMetrics().set(PUT_TARGETS_RETRY_ATTEMPTS, context.getRetryAttemptsForPutTargets());
+            tracer.getMetrics().set(REMOVE_TARGETS_RETRY_ATTEMPTS, context.getRetryAttemptsForRemoveTargets());
+            recordCompositePIDCacheLookups(tracer.getMetrics(), compositePIDCache, compositePIDCacheHits, compositePIDCacheMisses);
+            return tracer.end(result);
+        } catch (RuntimeException e) {
+            recordCompositePIDCacheLookups(tracer.getMetrics(), compositePIDCache, compositePIDCacheHits, compositePIDCacheMisses);
+            tracer.end(e);
+            throw e;
+        } finally {
+            // The tracer has written the batched lines, unless the invocation threw an Error
+            handlerLogger.flush();
+        }
+    }
+
+    /**
+     * Sets the hits and misses of the CompositePIDCache since the start of the invocation as metrics of the invocation.
+     * They are read off the counters of the cache rather than counted per lookup, so the lookups the ListHandler makes
+     * on its enrichment threads are included; a container runs one invocation at a time.
+     */
+    static void recordCompositePIDCacheLookups(final HandlerMetrics metrics, final CompositePIDCache cache, final long hitsBefore, final long missesBefore) {
+        metrics.set(COMPOSITE_PID_CACHE_HITS, cache.getHits() - hitsBefore);
+        metrics.set(COMPOSITE_PID_CACHE_MISSES, cache.getMisses() - missesBefore);
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -435,13 +1080,7 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final Logger logger);
 
     public ProgressEvent<ResourceModel, CallbackContext> handleError(final CloudWatchEventsRequest request, final Exception e, final ProxyClient<CloudWatchEventsClient> proxyClient, final ResourceModel resourceModel, final CallbackContext callbackContext) {
-        logger.log(String.format("handleError for: %s", e));
-
-        if (e.getStackTrace() != null) {
-            StringWriter sw = new StringWriter();
-            e.printStackTrace(new PrintWriter(sw));
-            logger.log(sw.toString());
-        }
+        HandlerLogger.of(logger).error(e, "handleError for:");
 
         BaseHandlerException ex;
         if (e instanceof ConcurrentModificationException) {
@@ -458,6 +1097,8 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         } else if (e instanceof CfnAlreadyExistsException) {
             // if you do a CREATE with an existing name, you get BadRequestException
             return ProgressEvent.defaultFailureHandler(e, HandlerErrorCode.AlreadyExists);
+        } else if (isThrottlingException(e)) {
+            ex = new CfnThrottlingException(e);
         } else if (e instanceof AwsServiceException) {
             if (((AwsServiceException) e).awsErrorDetails().equals("")) { // Do not touch. IDK man...
                 ex = new CfnGeneralServiceException(e);
@@ -472,12 +1113,6 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             } else {
                 ex = new CfnGeneralServiceException(e);
             }
-        } else if (e instanceof AmazonServiceException) {
-            if (ERROR_CODE_THROTTLING_EXCEPTION.equals(getErrorCode(e))) {
-                ex = new CfnThrottlingException(e);
-            } else {
-                ex = new CfnGeneralServiceException(e);
-            }
         }
         else { // InternalException
             ex = new CfnGeneralServiceException(e);
@@ -486,12 +1121,11 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     }
 
     public static boolean isThrottlingException(Exception e) {
-        return e instanceof AmazonServiceException &&
-                ERROR_CODE_THROTTLING_EXCEPTION.equals(getErrorCode(e));
+        return ThrottleClassifier.isThrottle(e);
     }
 
     public ProgressEvent<ResourceModel, CallbackContext> CatchThrottling(ProgressEvent<ResourceModel, CallbackContext> progressEvent) {
-        if (progressEvent.isFailed() && progressEvent.getErrorCode().equals(ERROR_CODE_THROTTLING_EXCEPTION)) {
+        if (progressEvent.isFailed() && progressEvent.getErrorCode() == HandlerErrorCode.Throttling) {
             return ProgressEvent.progress(progressEvent.getResourceModel(), progressEvent.getCallbackContext());
         } else {
             return progressEvent;
@@ -1,24 +1,43 @@
 package software.amazon.events.rule;
 
-import software.amazon.awssdk.services.cloudwatchevents.model.PutTargetsResponse;
-import software.amazon.awssdk.services.cloudwatchevents.model.RemoveTargetsResponse;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.events.common.StepJournal;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 
+/**
+ * The state a handler carries across callbacks. Only what resumption needs is kept: the ids and error codes of failed
+ * Targets, retry counters and resolved identifiers. Fields left at their defaults are not serialized, and fields
+ * written by an older version of the handler are ignored when the context is read back.
+ */
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
+@JsonInclude(JsonInclude.Include.NON_DEFAULT)
+@JsonIgnoreProperties(ignoreUnknown = true)
 public class CallbackContext extends StdCallbackContext {
-
     private int retryAttemptsForPutTargets;
     private int retryAttemptsForRemoveTargets;
-    private PutTargetsResponse putTargetsResponse;
-    private RemoveTargetsResponse removeTargetsResponse;
+    // Target id to error code of the failed entries of the last PutTargets/RemoveTargets call; null until recorded
+    private Map<String, String> failedPutTargets;
+    private Map<String, String> failedRemoveTargets;
+    // Retries of failed Target entries made by the handler, counted against TargetRetryScheduler.RETRY_BUDGET
+    private int targetRetries;
+    // Whether the callback delay before the next retry of failed Target entries is being waited out
+    private boolean targetRetryScheduled;
     private boolean ruleExists;
-    private boolean ruleCreated = false;
-    private ResourceModel.ResourceModelBuilder resourceModelBuilder;
-    private int completedPropagationDelays;
+    private Set<String> passedPropagationProbes = new HashSet<>();
+    private Map<String, Integer> propagationProbeAttempts = new HashMap<>();
     private Collection<String> targetIds;
+    // Whether the paginated removal of Targets stopped at failed entries before a listing came back empty
+    private boolean targetsRemaining;
+    private boolean targetsRemoved;
+    private StepJournal stepJournal = new StepJournal();
 }
@@ -1,19 +1,27 @@
 package software.amazon.events.rule;
 
-// TODO: replace all usage of SdkClient with your service client type, e.g; YourServiceClient
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.services.cloudwatchevents.CloudWatchEventsClient;
 import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.events.common.ClientRegistry;
+import software.amazon.events.common.HandlerMetrics;
 
 public class ClientBuilder {
-  /*
-  TODO: uncomment the following, replacing YourServiceClient with your service client name
-  It is recommended to use static HTTP client so less memory is consumed
-  e.g. https://github.com/aws-cloudformation/aws-cloudformation-resource-providers-logs/blob/master/aws-logs-loggroup/src/main/java/software/amazon/logs/loggroup/ClientBuilder.java#L9
-  */
+  private static final String REGION = System.getenv("AWS_REGION");
 
+  /**
+   * @return The CloudWatchEventsClient shared by all handlers of the JVM
+   */
   public static CloudWatchEventsClient getClient() {
+    return ClientRegistry.getClient(CloudWatchEventsClient.SERVICE_NAME, REGION, ClientRegistry.DEFAULT_RETRY_PROFILE,
+            ClientBuilder::buildClient);
+  }
+
+  private static CloudWatchEventsClient buildClient() {
     return CloudWatchEventsClient.builder()
             .httpClient(LambdaWrapper.HTTP_CLIENT)
+            .overrideConfiguration(ClientOverrideConfiguration.builder()
+                    .addExecutionInterceptor(new HandlerMetrics.SdkRetryCounter()).build())
             .build();
   }
 
@@ -0,0 +1,108 @@
+package software.amazon.events.rule;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded, least recently used cache of resolved CompositePID identities.
+ * The cache lives as long as the JVM, so warm Lambda containers and long-running hosts resolve the same rule identity
+ * (ARN matching, cross-account detection and PID formatting) only once. BaseHandlerStd reports the hits and misses of
+ * every invocation as HandlerMetrics.
+ */
+final class CompositePIDCache {
+    static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+    private static final CompositePIDCache INSTANCE = new CompositePIDCache(DEFAULT_MAXIMUM_SIZE);
+
+    private final Map<Key, CompositePID> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * The inputs CompositePID derives an identity from.
+     */
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static final class Key {
+        private final String name;
+        private final String eventBusName;
+        private final String arn;
+        private final String stackOwnerAccountId;
+    }
+
+    CompositePIDCache(final int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive");
+        }
+
+        // Access ordered, so the eldest entry is the least recently used one
+        this.entries = new LinkedHashMap<Key, CompositePID>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, CompositePID> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    /**
+     * @return The cache shared by all handlers
+     */
+    static CompositePIDCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the identity of a rule, resolving it only if it is not cached yet.
+     * @param model The ResourceModel
+     * @param stackOwnerAccountId The account id of the stack owner
+     * @return The resolved CompositePID
+     */
+    CompositePID resolve(final ResourceModel model, final String stackOwnerAccountId) {
+        final Key key = new Key(model.getName(), model.getEventBusName(), model.getArn(), stackOwnerAccountId);
+
+        CompositePID compositePID;
+        synchronized (entries) {
+            compositePID = entries.get(key);
+        }
+
+        if (compositePID != null) {
+            hits.incrementAndGet();
+            return compositePID;
+        }
+
+        // Resolve outside the lock; concurrent misses of the same key resolve identical values
+        misses.incrementAndGet();
+        compositePID = new CompositePID(model, stackOwnerAccountId);
+
+        synchronized (entries) {
+            entries.put(key, compositePID);
+        }
+        return compositePID;
+    }
+
+    long getHits() {
+        return hits.get();
+    }
+
+    long getMisses() {
+        return misses.get();
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+        hits.set(0);
+        misses.set(0);
+    }
+}
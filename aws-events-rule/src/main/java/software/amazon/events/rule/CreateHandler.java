@@ -13,9 +13,13 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.resource.IdentifierUtils;
+import software.amazon.events.common.StepTracer;
 
 public class CreateHandler extends BaseHandlerStd {
     private final int EVENT_RULE_NAME_MAX_LENGTH = 64;
+    private static final String PRE_EXISTENCE_CHECK = "AWS-Events-Rule::Create::PreExistenceCheck";
+    private static final String CREATE_RULE = "AWS-Events-Rule::CreateRule";
+    private static final String CREATE_TARGETS = "AWS-Events-Rule::CreateTargets";
 
     private String generateEventRuleName(final ResourceHandlerRequest<ResourceModel> request) {
         return IdentifierUtils.generateResourceIdentifier(
@@ -41,14 +45,20 @@ public class CreateHandler extends BaseHandlerStd {
             resourceModel.setName(generateEventRuleName(request));
         }
 
-        final CompositePID compositePID = new CompositePID(resourceModel, request.getAwsAccountId());
+        final CompositePID compositePID = CompositePIDCache.getInstance().resolve(resourceModel, request.getAwsAccountId());
         resourceModel.setId(compositePID.getPid());
+        restoreRuleArn(resourceModel, callbackContext);
 
         return ProgressEvent.progress(resourceModel, callbackContext)
 
+            // STEP 0 [reject an event pattern, schedule and targets that PutRule and PutTargets can never accept]
+            .then(progress -> validateEventPattern(progress, logger, request.getStackId()))
+            .then(progress -> validateScheduleExpression(progress, logger, request.getStackId()))
+            .then(progress -> validateTargets(progress, logger, request.getStackId()))
+
             // STEP 1 [check if resource already exists]
-            .then(progress ->
-                proxy.initiate("AWS-Events-Rule::Create::PreExistenceCheck", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+            .then(progress -> runStep(PRE_EXISTENCE_CHECK, progress, () ->
+                proxy.initiate(PRE_EXISTENCE_CHECK, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest((model) -> Translator.translateToDescribeRuleRequest(compositePID))
                 .makeServiceCall((awsRequest, client) -> {
 
@@ -75,41 +85,46 @@ public class CreateHandler extends BaseHandlerStd {
                         return ProgressEvent.progress(progress.getResourceModel(), progress.getCallbackContext());
                     }
                 })
-            )
+            ))
 
             // STEP 2 [create/stabilize rule]
-            .then(progress ->
-                proxy.initiate("AWS-Events-Rule::CreateRule", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+            .then(progress -> runStep(CREATE_RULE, progress, () ->
+                proxy.initiate(CREATE_RULE, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                     .translateToServiceRequest(model -> Translator.translateToPutRuleRequest(model, compositePID))
                     .makeServiceCall((awsRequest, client) -> putRule(awsRequest, client, logger, request.getStackId()))
-                    .stabilize((awsRequest, awsResponse, client, model, context) -> stabilizePutRule(client, compositePID, logger, request.getStackId()))
+                    .stabilize((awsRequest, awsResponse, client, model, context) -> StepTracer.current().poll(STABILIZE,
+                        () -> stabilizePutRule(client, compositePID, logger, request.getStackId())))
                     .handleError(this::handleError)
                     .done(awsResponse -> {
                         progress.getResourceModel().setArn(awsResponse.ruleArn());
-                        callbackContext.setRuleCreated(true);
+                        callbackContext.getStepJournal().putOutput(OUTPUT_RULE_ARN, awsResponse.ruleArn());
 
-                        return delayedProgress(progress, 30, 1);
+                        return ProgressEvent.progress(progress.getResourceModel(), progress.getCallbackContext());
                     })
-                )
+                ))
 
             // STEP 3 [create/stabilize targets]
             .then(progress -> progress.getResourceModel().getTargets() == null ?
                             progress :
-                            proxy.initiate("AWS-Events-Rule::CreateTargets", proxyClient,progress.getResourceModel(), progress.getCallbackContext())
-                    .translateToServiceRequest((model) -> Translator.translateToPutTargetsRequest(model, compositePID))
-                    .makeServiceCall((awsRequest, client) -> putTargets(awsRequest, client, logger, request.getStackId()))
-                    .stabilize((awsRequest, awsResponse, client, model, context) -> stabilizePutTargets(awsResponse, client, model, context, logger, request.getStackId(), compositePID))
-                    .handleError((req, e, proxyC, model, context) -> {
+                            runStep(CREATE_TARGETS, progress, () -> putTargetsWithRetries(progress,
+                    Translator.translateToPutTargetsRequest(progress.getResourceModel(), compositePID), proxyClient,
+                    (req, e, proxyC, model, context) -> {
 
-                        if (BaseHandlerStd.ERROR_CODE_THROTTLING_EXCEPTION.equals(BaseHandlerStd.getErrorCode(e)))
+                        if (isThrottlingException(e))
                         {
                             return ProgressEvent.defaultInProgressHandler(context, 5, model);
                         }
                         return handleError(req, e, proxyC, model, context);
-                    })
-                    .done(awsResponse -> delayedProgress(progress, 30, 2))
+                    }, logger, request.getStackId()))
                 )
 
+            // STEP 3.1 [wait until the targets are visible]
+            .then(progress -> progress.getResourceModel().getTargets() == null ?
+                    progress :
+                    awaitPropagation(progress, "TargetsCreated",
+                            () -> targetsAreVisible(proxyClient, compositePID, extractTargetIds(progress.getResourceModel().getTargets()),
+                                    logger, request.getStackId()), logger, request.getStackId()))
+
             // STEP 4 [describe call/chain to return the resource model]
             .then(progress -> ProgressEvent.defaultSuccessHandler(progress.getResourceModel()));
     }
@@ -8,10 +8,11 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Set;
 
 public class DeleteHandler extends BaseHandlerStd {
+    private static final String EXISTENCE_CHECK = "AWS-Events-Rule::ExistenceCheck";
+    private static final String DELETE_TARGETS = "AWS-Events-Rule::DeleteTargets";
+    private static final String DELETE_RULE = "AWS-Events-Rule::DeleteRule";
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -23,12 +24,12 @@ public class DeleteHandler extends BaseHandlerStd {
         this.logger = logger;
 
         final ResourceModel resourceModel = request.getDesiredResourceState();
-        final CompositePID compositePID = new CompositePID(resourceModel, request.getAwsAccountId());
+        final CompositePID compositePID = CompositePIDCache.getInstance().resolve(resourceModel, request.getAwsAccountId());
 
         return ProgressEvent.progress(resourceModel, callbackContext)
             // STEP 1 [check if resource exists]
-            .then(progress ->
-                proxy.initiate("AWS-Events-Rule::ExistenceCheck", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+            .then(progress -> runStep(EXISTENCE_CHECK, progress, () ->
+                proxy.initiate(EXISTENCE_CHECK, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                     .translateToServiceRequest((model) -> Translator.translateToDescribeRuleRequest(compositePID))
                     .makeServiceCall((awsRequest, client) -> describeRule(awsRequest, client, logger, request.getStackId()))
                     .handleError(this::handleError)
@@ -36,71 +37,60 @@ public class DeleteHandler extends BaseHandlerStd {
                         progress.getResourceModel().setArn(awsResponse.arn());
                         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext);
                     })
-            )
+            ))
 
-            // STEP 2 [get targets]
-            .then(progress -> {
+            // STEP 2 [delete targets]
+            .then(progress -> runStep(DELETE_TARGETS, progress, () -> {
                 if (isCCAPI(request)) {
-                    return proxy.initiate("AWS-Events-Rule::ListTargets", proxyClient, progress.getResourceModel(),
-                                    progress.getCallbackContext())
-                            .translateToServiceRequest(
-                                    (model) -> Translator.translateToListTargetsByRuleRequest(compositePID))
-                            .makeServiceCall((awsRequest, client) -> listTargets(awsRequest, client, logger,
-                                    request.getStackId()))
-                            .handleError(this::handleError)
-                            .done(awsResponse -> {
-                                // Record the list of Targets
-                                callbackContext.setTargetIds(extractTargetIds(
-                                        Translator.translateFromListTargetsByRuleResponse(awsResponse)));
-                                return ProgressEvent.progress(progress.getResourceModel(), callbackContext);
-                            });
+                    // The model does not carry the targets, so remove them page by page while listing
+                    return removeAllTargetsWithRetries(progress, compositePID, proxyClient, logger, request.getStackId());
+                }
+
+                if (resourceModel.getTargets() != null && resourceModel.getTargets().size() != 0) {
+                    callbackContext.setTargetIds(extractTargetIds(resourceModel.getTargets()));
                 } else {
-                    if (resourceModel.getTargets() != null && resourceModel.getTargets().size() != 0) {
-                        callbackContext.setTargetIds(extractTargetIds(resourceModel.getTargets()));
-                    } else {
-                        callbackContext.setTargetIds(new ArrayList<>());
-                    }
-                    return ProgressEvent.progress(progress.getResourceModel(), callbackContext);
+                    callbackContext.setTargetIds(new ArrayList<>());
                 }
-            })
 
-            // STEP 3 [delete targets]
-            .then(progress -> callbackContext.getTargetIds().size() == 0 ?
+                return callbackContext.getTargetIds().size() == 0 ?
                         progress :
-                proxy.initiate("AWS-Events-Rule::DeleteTargets", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                    .translateToServiceRequest(unused -> Translator.translateToRemoveTargetsRequest(compositePID, callbackContext.getTargetIds()))
-                    .makeServiceCall((awsRequest, client) -> removeTargets(awsRequest, client, logger, request.getStackId()))
-                    .stabilize((awsRequest, awsResponse, client, model, context) -> stabilizeRemoveTargets(awsResponse, client, compositePID, callbackContext, logger, request.getStackId()))
-                    .handleError(this::handleError)
-                    .done(awsResponse -> delayedProgress(progress, 30, 1))
-            )
+                        removeTargetsWithRetries(progress, compositePID, callbackContext.getTargetIds(), proxyClient, logger,
+                                request.getStackId());
+            }))
+
+            // STEP 2.1 [wait until the targets are gone]
+            .then(progress -> {
+                if (isCCAPI(request)) {
+                    return callbackContext.isTargetsRemoved() ?
+                            awaitPropagation(progress, "TargetsDeleted",
+                                    () -> targetsAreGone(proxyClient, compositePID, null, logger, request.getStackId()), logger, request.getStackId()) :
+                            progress;
+                }
 
-            // STEP 4 [delete rule]
-            .then(progress ->
-                proxy.initiate("AWS-Events-Rule::DeleteRule", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                return callbackContext.getTargetIds().size() == 0 ?
+                        progress :
+                        awaitPropagation(progress, "TargetsDeleted",
+                                () -> targetsAreGone(proxyClient, compositePID, callbackContext.getTargetIds(), logger, request.getStackId()), logger, request.getStackId());
+            })
+
+            // STEP 3 [delete rule]
+            .then(progress -> runStep(DELETE_RULE, progress, () ->
+                proxy.initiate(DELETE_RULE, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                     .translateToServiceRequest((model) -> Translator.translateToDeleteRuleRequest(compositePID))
                     .makeServiceCall((awsRequest, client) -> deleteRule(awsRequest, client, logger, request.getStackId()))
                     .handleError(this::handleError)
-                    .done(awsResponse -> delayedProgress(progress, 30, 1))
-            )
+                    .progress()
+            ))
+
+            // STEP 3.1 [wait until the rule is gone]
+            .then(progress -> awaitPropagation(progress, "RuleDeleted",
+                    () -> ruleIsGone(proxyClient, compositePID, logger, request.getStackId()), logger, request.getStackId()))
 
-            // STEP 5 [return the successful progress event without resource model]
+            // STEP 4 [return the successful progress event without resource model]
             .then(progress -> ProgressEvent.defaultSuccessHandler(null));
     }
 
     private boolean isCCAPI(final ResourceHandlerRequest<ResourceModel> request) {
         return request.getStackId() == null;
     }
-
-    private static Collection<String> extractTargetIds(Set<Target> targets)
-    {
-        ArrayList<String> targetIds = new ArrayList<>();
-
-        for (Target target : targets)
-        {
-            targetIds.add(target.getId());
-        }
-
-        return targetIds;
-    }
 }
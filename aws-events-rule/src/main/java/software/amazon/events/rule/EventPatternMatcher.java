@@ -0,0 +1,481 @@
+package software.amazon.events.rule;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Matches events against the event patterns of many rules at once, offline, so a pattern change can be checked
+ * against sample events before it is sent to PutRule.
+ * <p>
+ * Every pattern is flattened into conditions on dot-separated field paths ("detail.state"), sorted by path, and the
+ * conditions of all the rules are compiled into one automaton: rules sharing leading conditions share states, and
+ * each state indexes its outgoing transitions by path and then by kind: a hash map for exact values, a character
+ * trie for prefixes, and lists for numeric ranges, anything-but and exists. Matching an event flattens it once,
+ * keeping only the paths some pattern refers to, and walks the automaton, so the cost grows with the conditions an
+ * event can satisfy rather than with the number of rules.
+ * <p>
+ * The supported syntax is the subset of the EventBridge content filtering we use: exact strings, numbers, booleans
+ * and null, {"prefix": ...}, {"anything-but": ...} (a value, a list of values or a prefix), {"numeric": [...]} and
+ * {"exists": ...}. Anything else is rejected with an IllegalArgumentException. A matcher is not thread-safe while
+ * rules are added; once built it can be shared.
+ */
+public final class EventPatternMatcher {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String PATH_SEPARATOR = ".";
+
+    private final State root = new State();
+    private final Set<String> paths = new HashSet<>();
+    private final Set<String> pathPrefixes = new HashSet<>();
+    private int ruleCount;
+
+    /**
+     * @param ruleId The id reported when the pattern matches
+     * @param eventPattern The event pattern of the rule, as in ResourceModel
+     * @return This matcher
+     */
+    public EventPatternMatcher addRule(final String ruleId, final Map<String, Object> eventPattern) {
+        final Map<String, List<Condition>> conditions = new TreeMap<>();
+        flattenPattern("", eventPattern, conditions);
+
+        State state = root;
+        for (final Map.Entry<String, List<Condition>> entry : conditions.entrySet()) {
+            state = state.next(entry.getKey(), entry.getValue());
+            addPath(entry.getKey());
+        }
+        state.ruleIds.add(ruleId);
+        ruleCount++;
+        return this;
+    }
+
+    /**
+     * Adds a rule by its Id, or its Name when the Id is not known yet. Rules without an EventPattern are skipped, and
+     * a string EventPattern is parsed first.
+     *
+     * @param model A rule
+     * @return This matcher
+     */
+    public EventPatternMatcher addRule(final ResourceModel model) {
+        if (model.getEventPattern() != null) {
+            addRule(model.getId() != null ? model.getId() : model.getName(), LazyEventPattern.toMap(model.getEventPattern()));
+        }
+        return this;
+    }
+
+    /**
+     * @return The number of rules added
+     */
+    public int getRuleCount() {
+        return ruleCount;
+    }
+
+    /**
+     * @param event An event
+     * @return The ids of the rules whose pattern matches the event, in the order they were reached
+     */
+    public Set<String> match(final JsonNode event) {
+        final Map<String, List<Value>> fields = new HashMap<>();
+        flattenEvent("", event, fields);
+
+        final Set<String> ruleIds = new LinkedHashSet<>();
+        final Set<State> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Deque<State> pending = new ArrayDeque<>();
+        pending.push(root);
+        visited.add(root);
+        while (!pending.isEmpty()) {
+            final State state = pending.pop();
+            ruleIds.addAll(state.ruleIds);
+            state.transitions.forEach((path, transitions) ->
+                    transitions.collect(fields.getOrDefault(path, Collections.emptyList()), next -> {
+                        if (visited.add(next)) {
+                            pending.push(next);
+                        }
+                    }));
+        }
+        return ruleIds;
+    }
+
+    /**
+     * @param event An event, as JSON
+     * @return The ids of the rules whose pattern matches the event
+     * @throws IOException When the event is not valid JSON
+     */
+    public Set<String> match(final String event) throws IOException {
+        return match(MAPPER.readTree(event));
+    }
+
+    /**
+     * Replays a stream of newline-delimited JSON events against the rules.
+     *
+     * @param ndjson The events, one JSON object per line
+     * @param onEvent Called for every event with its zero-based index and the ids of the rules it matches
+     * @return The number of events replayed
+     * @throws IOException When the stream cannot be read or holds invalid JSON
+     */
+    public long replay(final Reader ndjson, final BiConsumer<Long, Set<String>> onEvent) throws IOException {
+        long index = 0;
+        try (MappingIterator<JsonNode> events = MAPPER.readerFor(JsonNode.class).readValues(ndjson)) {
+            while (events.hasNextValue()) {
+                onEvent.accept(index++, match(events.nextValue()));
+            }
+        }
+        return index;
+    }
+
+    private void addPath(final String path) {
+        paths.add(path);
+        for (int i = path.indexOf(PATH_SEPARATOR); i >= 0; i = path.indexOf(PATH_SEPARATOR, i + 1)) {
+            pathPrefixes.add(path.substring(0, i));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void flattenPattern(final String prefix, final Map<String, Object> pattern, final Map<String, List<Condition>> conditions) {
+        for (final Map.Entry<String, Object> entry : pattern.entrySet()) {
+            final String path = prefix.isEmpty() ? entry.getKey() : prefix + PATH_SEPARATOR + entry.getKey();
+            final Object value = entry.getValue();
+            if (value instanceof Map) {
+                flattenPattern(path, (Map<String, Object>) value, conditions);
+            } else if (value instanceof List && !((List<?>) value).isEmpty()) {
+                final List<Condition> alternatives = new ArrayList<>();
+                for (final Object alternative : (List<?>) value) {
+                    alternatives.add(Condition.parse(path, alternative));
+                }
+                conditions.put(path, alternatives);
+            } else {
+                throw new IllegalArgumentException(String.format("Event pattern field %s must be an object or a non-empty array", path));
+            }
+        }
+    }
+
+    private void flattenEvent(final String prefix, final JsonNode node, final Map<String, List<Value>> fields) {
+        if (node.isObject()) {
+            final Iterator<Map.Entry<String, JsonNode>> iterator = node.fields();
+            while (iterator.hasNext()) {
+                final Map.Entry<String, JsonNode> field = iterator.next();
+                final String path = prefix.isEmpty() ? field.getKey() : prefix + PATH_SEPARATOR + field.getKey();
+                if (paths.contains(path) || pathPrefixes.contains(path)) {
+                    flattenEvent(path, field.getValue(), fields);
+                }
+            }
+        } else if (node.isArray()) {
+            node.forEach(element -> flattenEvent(prefix, element, fields));
+        } else if (!prefix.isEmpty() && paths.contains(prefix)) {
+            fields.computeIfAbsent(prefix, path -> new ArrayList<>(1)).add(Value.of(node));
+        }
+    }
+
+    /**
+     * A leaf value of an event. The key identifies the value for exact matching: numbers are compared by value, so
+     * 5 and 5.0 have the same key, and a string never has the key of a number.
+     */
+    private static final class Value {
+        private final String key;
+        private final String text;
+        private final Double number;
+
+        private Value(final String key, final String text, final Double number) {
+            this.key = key;
+            this.text = text;
+            this.number = number;
+        }
+
+        static Value of(final JsonNode node) {
+            if (node.isTextual()) {
+                return new Value(stringKey(node.textValue()), node.textValue(), null);
+            }
+            if (node.isNumber()) {
+                return new Value(numberKey(node.decimalValue()), null, node.doubleValue());
+            }
+            return new Value(node.asText(), null, null);
+        }
+    }
+
+    private static String stringKey(final String value) {
+        return "\"" + value;
+    }
+
+    private static String numberKey(final BigDecimal value) {
+        return value.signum() == 0 ? "0" : value.stripTrailingZeros().toPlainString();
+    }
+
+    /**
+     * @return The exact-match key of a scalar of an event pattern
+     */
+    private static String scalarKey(final String path, final Object value) {
+        if (value instanceof String) {
+            return stringKey((String) value);
+        }
+        if (value instanceof Number) {
+            return numberKey(new BigDecimal(value.toString()));
+        }
+        if (value == null || value instanceof Boolean) {
+            return String.valueOf(value);
+        }
+        throw new IllegalArgumentException(String.format("Unsupported value in event pattern field %s: %s", path, value));
+    }
+
+    private enum Kind {
+        EXACT, PREFIX, ANYTHING_BUT, ANYTHING_BUT_PREFIX, NUMERIC, EXISTS, ABSENT
+    }
+
+    /**
+     * One alternative of the array of an event pattern field.
+     */
+    private static final class Condition {
+        private final Kind kind;
+        private final String value;
+        private final Set<String> values;
+        private final NumericRange range;
+
+        private Condition(final Kind kind, final String value, final Set<String> values, final NumericRange range) {
+            this.kind = kind;
+            this.value = value;
+            this.values = values;
+            this.range = range;
+        }
+
+        @SuppressWarnings("unchecked")
+        static Condition parse(final String path, final Object alternative) {
+            if (!(alternative instanceof Map)) {
+                return new Condition(Kind.EXACT, scalarKey(path, alternative), null, null);
+            }
+            final Map<String, Object> matcher = (Map<String, Object>) alternative;
+            if (matcher.size() != 1) {
+                throw new IllegalArgumentException(String.format("Event pattern field %s has a matcher without exactly one key", path));
+            }
+            final Map.Entry<String, Object> entry = matcher.entrySet().iterator().next();
+            final Object operand = entry.getValue();
+            switch (entry.getKey()) {
+                case "prefix":
+                    return new Condition(Kind.PREFIX, requireString(path, operand), null, null);
+                case "exists":
+                    if (!(operand instanceof Boolean)) {
+                        throw new IllegalArgumentException(String.format("Event pattern field %s: exists takes true or false", path));
+                    }
+                    return new Condition((Boolean) operand ? Kind.EXISTS : Kind.ABSENT, null, null, null);
+                case "numeric":
+                    return new Condition(Kind.NUMERIC, null, null, NumericRange.parse(path, operand));
+                case "anything-but":
+                    if (operand instanceof Map) {
+                        final Map<String, Object> nested = (Map<String, Object>) operand;
+                        if (nested.size() != 1 || !nested.containsKey("prefix")) {
+                            throw new IllegalArgumentException(String.format("Event pattern field %s: anything-but only nests a prefix", path));
+                        }
+                        return new Condition(Kind.ANYTHING_BUT_PREFIX, requireString(path, nested.get("prefix")), null, null);
+                    }
+                    final Set<String> excluded = new TreeSet<>();
+                    if (operand instanceof List) {
+                        for (final Object value : (List<?>) operand) {
+                            excluded.add(scalarKey(path, value));
+                        }
+                    } else {
+                        excluded.add(scalarKey(path, operand));
+                    }
+                    return new Condition(Kind.ANYTHING_BUT, null, Collections.unmodifiableSet(excluded), null);
+                default:
+                    throw new IllegalArgumentException(String.format("Event pattern field %s uses the unsupported matcher %s", path, entry.getKey()));
+            }
+        }
+
+        private static String requireString(final String path, final Object operand) {
+            if (!(operand instanceof String)) {
+                throw new IllegalArgumentException(String.format("Event pattern field %s: prefix takes a string", path));
+            }
+            return (String) operand;
+        }
+
+        /**
+         * @return A key identifying the condition, so rules with the same conditions share states
+         */
+        String key() {
+            switch (kind) {
+                case ANYTHING_BUT:
+                    return kind + values.toString();
+                case NUMERIC:
+                    return kind + range.toString();
+                default:
+                    return kind + String.valueOf(value);
+            }
+        }
+    }
+
+    private static final class NumericRange {
+        private double lower = Double.NEGATIVE_INFINITY;
+        private boolean lowerInclusive;
+        private double upper = Double.POSITIVE_INFINITY;
+        private boolean upperInclusive;
+
+        static NumericRange parse(final String path, final Object operand) {
+            if (!(operand instanceof List) || ((List<?>) operand).isEmpty() || ((List<?>) operand).size() % 2 != 0) {
+                throw new IllegalArgumentException(String.format("Event pattern field %s: numeric takes operator and number pairs", path));
+            }
+            final NumericRange range = new NumericRange();
+            final List<?> operands = (List<?>) operand;
+            for (int i = 0; i < operands.size(); i += 2) {
+                if (!(operands.get(i + 1) instanceof Number)) {
+                    throw new IllegalArgumentException(String.format("Event pattern field %s: numeric compares with numbers", path));
+                }
+                final double bound = ((Number) operands.get(i + 1)).doubleValue();
+                final Object operator = operands.get(i);
+                if ("=".equals(operator)) {
+                    range.lower = range.upper = bound;
+                    range.lowerInclusive = range.upperInclusive = true;
+                } else if (">".equals(operator) || ">=".equals(operator)) {
+                    range.lower = bound;
+                    range.lowerInclusive = ">=".equals(operator);
+                } else if ("<".equals(operator) || "<=".equals(operator)) {
+                    range.upper = bound;
+                    range.upperInclusive = "<=".equals(operator);
+                } else {
+                    throw new IllegalArgumentException(String.format("Event pattern field %s: unsupported numeric operator %s", path, operator));
+                }
+            }
+            return range;
+        }
+
+        boolean contains(final double number) {
+            return (lowerInclusive ? number >= lower : number > lower) && (upperInclusive ? number <= upper : number < upper);
+        }
+
+        @Override
+        public String toString() {
+            return (lowerInclusive ? "[" : "(") + lower + "," + upper + (upperInclusive ? "]" : ")");
+        }
+    }
+
+    /**
+     * A state of the automaton: the rules whose conditions are all satisfied once it is reached, and the transitions
+     * to the states of the conditions that follow, by path.
+     */
+    private static final class State {
+        private final Set<String> ruleIds = new LinkedHashSet<>();
+        private final Map<String, State> children = new HashMap<>();
+        private final Map<String, Transitions> transitions = new LinkedHashMap<>();
+
+        State next(final String path, final List<Condition> alternatives) {
+            final Set<String> keys = new TreeSet<>();
+            alternatives.forEach(condition -> keys.add(condition.key()));
+            return children.computeIfAbsent(path + keys, key -> {
+                final State next = new State();
+                final Transitions pathTransitions = transitions.computeIfAbsent(path, p -> new Transitions());
+                alternatives.forEach(condition -> pathTransitions.add(condition, next));
+                return next;
+            });
+        }
+    }
+
+    /**
+     * The transitions out of one state on one path.
+     */
+    private static final class Transitions {
+        private final Map<String, List<State>> exact = new HashMap<>();
+        private final PrefixTrie prefixes = new PrefixTrie();
+        private final List<Map.Entry<Condition, State>> others = new ArrayList<>();
+        private final List<State> exists = new ArrayList<>();
+        private final List<State> absent = new ArrayList<>();
+
+        void add(final Condition condition, final State next) {
+            switch (condition.kind) {
+                case EXACT:
+                    exact.computeIfAbsent(condition.value, key -> new ArrayList<>(1)).add(next);
+                    break;
+                case PREFIX:
+                    prefixes.add(condition.value, next);
+                    break;
+                case EXISTS:
+                    exists.add(next);
+                    break;
+                case ABSENT:
+                    absent.add(next);
+                    break;
+                default:
+                    others.add(new AbstractMap.SimpleImmutableEntry<>(condition, next));
+            }
+        }
+
+        void collect(final List<Value> values, final Consumer<State> onNext) {
+            if (values.isEmpty()) {
+                absent.forEach(onNext);
+                return;
+            }
+            exists.forEach(onNext);
+            for (final Value value : values) {
+                final List<State> exactNext = exact.get(value.key);
+                if (exactNext != null) {
+                    exactNext.forEach(onNext);
+                }
+                if (value.text != null) {
+                    prefixes.collect(value.text, onNext);
+                }
+                for (final Map.Entry<Condition, State> other : others) {
+                    if (matches(other.getKey(), value)) {
+                        onNext.accept(other.getValue());
+                    }
+                }
+            }
+        }
+
+        private static boolean matches(final Condition condition, final Value value) {
+            switch (condition.kind) {
+                case NUMERIC:
+                    return value.number != null && condition.range.contains(value.number);
+                case ANYTHING_BUT:
+                    return !condition.values.contains(value.key);
+                case ANYTHING_BUT_PREFIX:
+                    return value.text != null && !value.text.startsWith(condition.value);
+                default:
+                    return false;
+            }
+        }
+    }
+
+    /**
+     * A character trie of prefixes, walked once per string value.
+     */
+    private static final class PrefixTrie {
+        private final Map<Character, PrefixTrie> children = new HashMap<>();
+        private final List<State> states = new ArrayList<>(0);
+
+        void add(final String prefix, final State state) {
+            PrefixTrie node = this;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.children.computeIfAbsent(prefix.charAt(i), c -> new PrefixTrie());
+            }
+            node.states.add(state);
+        }
+
+        void collect(final String text, final Consumer<State> onNext) {
+            PrefixTrie node = this;
+            node.states.forEach(onNext);
+            for (int i = 0; i < text.length() && node != null; i++) {
+                node = node.children.get(text.charAt(i));
+                if (node != null) {
+                    node.states.forEach(onNext);
+                }
+            }
+        }
+    }
+}
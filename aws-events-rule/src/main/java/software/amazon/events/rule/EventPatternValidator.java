@@ -0,0 +1,240 @@
+package software.amazon.events.rule;
+
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Validates the event pattern of a rule locally before it is sent to PutRule.
+ * PutRule reports an invalid pattern with InvalidEventPatternException only after the pre-existence check and a
+ * callback cycle; a pattern that violates one of the constraints below can never be accepted, so it is rejected
+ * before any call instead. The checks mirror the EventBridge content filtering syntax: every field is an object or a
+ * non-empty array, and an array holds strings, numbers, booleans, null or one-key matcher objects.
+ * <p>
+ * The validator also scores the complexity of a pattern: the number of matching paths it expands to, where the
+ * alternatives of one field add up, fields multiply, and the branches of a $or add up. A high score does not make a
+ * pattern invalid, but such patterns are expensive to match on busy event buses.
+ */
+public class EventPatternValidator {
+    static final int EVENT_PATTERN_MAX_LENGTH = 4096;
+    static final int COMPLEXITY_WARNING_THRESHOLD = 300;
+
+    private static final String OR = "$or";
+    private static final int OR_MIN_BRANCHES = 2;
+    private static final Set<String> STRING_MATCHERS = new HashSet<>(Arrays.asList("equals-ignore-case", "wildcard", "cidr"));
+    private static final Set<String> AFFIX_MATCHERS = new HashSet<>(Arrays.asList("prefix", "suffix"));
+    private static final Set<String> ANYTHING_BUT_MATCHERS = new HashSet<>(Arrays.asList("prefix", "suffix", "wildcard", "equals-ignore-case"));
+    private static final Set<String> LOWER_BOUNDS = new HashSet<>(Arrays.asList(">", ">="));
+    private static final Set<String> UPPER_BOUNDS = new HashSet<>(Arrays.asList("<", "<="));
+
+    private EventPatternValidator() {
+    }
+
+    /**
+     * Validates an event pattern and reports all violations at once.
+     * @param eventPattern The EventPattern of the desired ResourceModel, a JSON string or an object (may be null)
+     * @return The complexity score of the pattern, 0 if there is none
+     * @throws CfnInvalidRequestException if the pattern can never be accepted by PutRule, or is a string that is not a
+     * JSON object
+     */
+    static long validate(final Object eventPattern) {
+        if (eventPattern == null) {
+            return 0;
+        }
+
+        final List<String> violations = new ArrayList<>();
+        final String json = LazyEventPattern.toJson(eventPattern);
+        if (json.length() > EVENT_PATTERN_MAX_LENGTH) {
+            violations.add(String.format("EventPattern must be at most %d characters, got %d", EVENT_PATTERN_MAX_LENGTH, json.length()));
+        }
+
+        final long complexity = validateObject(LazyEventPattern.toMap(eventPattern), "", violations);
+
+        if (!violations.isEmpty()) {
+            throw new CfnInvalidRequestException(String.join("; ", violations));
+        }
+        return complexity;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static long validateObject(final Map<String, Object> pattern, final String path, final List<String> violations) {
+        if (pattern.isEmpty()) {
+            violations.add(String.format("EventPattern%s must not be an empty object", describe(path)));
+            return 0;
+        }
+
+        long complexity = 1;
+        for (final Map.Entry<String, Object> entry : pattern.entrySet()) {
+            final String fieldPath = path.isEmpty() ? entry.getKey() : path + "." + entry.getKey();
+            final Object value = entry.getValue();
+            final long fieldComplexity;
+            if (OR.equals(entry.getKey())) {
+                fieldComplexity = validateOr(value, path, fieldPath, violations);
+            } else if (value instanceof Map) {
+                fieldComplexity = validateObject((Map<String, Object>) value, fieldPath, violations);
+            } else if (value instanceof List) {
+                fieldComplexity = validateArray((List<?>) value, fieldPath, violations);
+            } else {
+                violations.add(String.format("EventPattern%s must be an object or an array", describe(fieldPath)));
+                fieldComplexity = 0;
+            }
+            complexity = saturatedMultiply(complexity, Math.max(fieldComplexity, 1));
+        }
+        return complexity;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static long validateOr(final Object value, final String path, final String orPath, final List<String> violations) {
+        if (!(value instanceof List) || ((List<?>) value).size() < OR_MIN_BRANCHES) {
+            violations.add(String.format("EventPattern%s must be an array of at least %d objects", describe(orPath), OR_MIN_BRANCHES));
+            return 0;
+        }
+
+        long complexity = 0;
+        for (final Object branch : (List<?>) value) {
+            if (branch instanceof Map) {
+                complexity = saturatedAdd(complexity, validateObject((Map<String, Object>) branch, path, violations));
+            } else {
+                violations.add(String.format("EventPattern%s must only hold objects", describe(orPath)));
+            }
+        }
+        return complexity;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static long validateArray(final List<?> values, final String path, final List<String> violations) {
+        if (values.isEmpty()) {
+            violations.add(String.format("EventPattern%s must not be an empty array", describe(path)));
+            return 0;
+        }
+
+        for (final Object value : values) {
+            if (value instanceof Map) {
+                validateMatcher((Map<String, Object>) value, path, violations);
+            } else if (value instanceof List) {
+                violations.add(String.format("EventPattern%s must not hold nested arrays", describe(path)));
+            } else if (value != null && !(value instanceof String) && !(value instanceof Number) && !(value instanceof Boolean)) {
+                violations.add(String.format("EventPattern%s holds an unsupported value %s", describe(path), value));
+            }
+        }
+        return values.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void validateMatcher(final Map<String, Object> matcher, final String path, final List<String> violations) {
+        if (matcher.size() != 1) {
+            violations.add(String.format("EventPattern%s: a matcher must have exactly one key, got %s", describe(path), matcher.keySet()));
+            return;
+        }
+
+        final Map.Entry<String, Object> entry = matcher.entrySet().iterator().next();
+        final String name = entry.getKey();
+        final Object operand = entry.getValue();
+        if (AFFIX_MATCHERS.contains(name)) {
+            // {"prefix": "a"} or {"prefix": {"equals-ignore-case": "a"}}
+            final Object affix = operand instanceof Map && ((Map<String, Object>) operand).size() == 1
+                    ? ((Map<String, Object>) operand).get("equals-ignore-case") : operand;
+            if (!(affix instanceof String)) {
+                violations.add(String.format("EventPattern%s: %s takes a string", describe(path), name));
+            }
+        } else if (STRING_MATCHERS.contains(name)) {
+            if (!(operand instanceof String)) {
+                violations.add(String.format("EventPattern%s: %s takes a string", describe(path), name));
+            }
+        } else if ("exists".equals(name)) {
+            if (!(operand instanceof Boolean)) {
+                violations.add(String.format("EventPattern%s: exists takes true or false", describe(path)));
+            }
+        } else if ("numeric".equals(name)) {
+            validateNumeric(operand, path, violations);
+        } else if ("anything-but".equals(name)) {
+            validateAnythingBut(operand, path, violations);
+        } else {
+            violations.add(String.format("EventPattern%s: unknown matcher %s", describe(path), name));
+        }
+    }
+
+    private static void validateNumeric(final Object operand, final String path, final List<String> violations) {
+        final List<?> operands = operand instanceof List ? (List<?>) operand : null;
+        if (operands == null || operands.isEmpty() || operands.size() % 2 != 0 || operands.size() > 4) {
+            violations.add(String.format("EventPattern%s: numeric takes one or two operator and number pairs", describe(path)));
+            return;
+        }
+
+        boolean lowerBound = false;
+        boolean upperBound = false;
+        for (int i = 0; i < operands.size(); i += 2) {
+            final Object operator = operands.get(i);
+            if (!(operands.get(i + 1) instanceof Number)) {
+                violations.add(String.format("EventPattern%s: numeric compares with numbers, got %s", describe(path), operands.get(i + 1)));
+            }
+            if ("=".equals(operator) && operands.size() == 2) {
+                continue;
+            }
+            if (LOWER_BOUNDS.contains(operator) && !lowerBound) {
+                lowerBound = true;
+            } else if (UPPER_BOUNDS.contains(operator) && !upperBound) {
+                upperBound = true;
+            } else {
+                violations.add(String.format("EventPattern%s: numeric does not accept %s here", describe(path), operator));
+            }
+        }
+
+        if (lowerBound && upperBound && operands.get(1) instanceof Number && operands.get(3) instanceof Number) {
+            final double lower = ((Number) operands.get(LOWER_BOUNDS.contains(operands.get(0)) ? 1 : 3)).doubleValue();
+            final double upper = ((Number) operands.get(UPPER_BOUNDS.contains(operands.get(0)) ? 1 : 3)).doubleValue();
+            if (lower > upper) {
+                violations.add(String.format("EventPattern%s: numeric range is empty", describe(path)));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void validateAnythingBut(final Object operand, final String path, final List<String> violations) {
+        if (operand instanceof String || operand instanceof Number) {
+            return;
+        }
+        if (operand instanceof List) {
+            final List<?> values = (List<?>) operand;
+            final boolean strings = values.stream().allMatch(value -> value instanceof String);
+            final boolean numbers = values.stream().allMatch(value -> value instanceof Number);
+            if (values.isEmpty() || (!strings && !numbers)) {
+                violations.add(String.format("EventPattern%s: anything-but takes a non-empty array of only strings or only numbers", describe(path)));
+            }
+            return;
+        }
+        if (operand instanceof Map && ((Map<String, Object>) operand).size() == 1) {
+            final Map.Entry<String, Object> nested = ((Map<String, Object>) operand).entrySet().iterator().next();
+            if (ANYTHING_BUT_MATCHERS.contains(nested.getKey())) {
+                final Object value = nested.getValue();
+                final boolean valid = value instanceof String || (value instanceof List && !((List<?>) value).isEmpty()
+                        && ((List<?>) value).stream().allMatch(element -> element instanceof String));
+                if (!valid) {
+                    violations.add(String.format("EventPattern%s: anything-but %s takes a string", describe(path), nested.getKey()));
+                }
+                return;
+            }
+        }
+        violations.add(String.format("EventPattern%s: anything-but takes a value, an array of values or one of %s",
+                describe(path), ANYTHING_BUT_MATCHERS));
+    }
+
+    private static String describe(final String path) {
+        return path.isEmpty() ? "" : " field " + path;
+    }
+
+    private static long saturatedMultiply(final long a, final long b) {
+        final long result = a * b;
+        return a != 0 && result / a != b ? Long.MAX_VALUE : result;
+    }
+
+    private static long saturatedAdd(final long a, final long b) {
+        final long result = a + b;
+        return result < 0 ? Long.MAX_VALUE : result;
+    }
+}
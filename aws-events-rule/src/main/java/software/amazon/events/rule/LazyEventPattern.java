@@ -0,0 +1,126 @@
+package software.amazon.events.rule;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.TerminalException;
+
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The EventPattern of a Rule as DescribeRule returns it: the JSON is kept as is and only parsed once the map is
+ * inspected. Serializing a pattern that was never inspected writes the JSON back without parsing it, so reads and
+ * lists that only pass the model on do not pay for the parse, and toJson hands an unmodified pattern to PutRule as the
+ * service returned it. The map is read-only, so the JSON always matches its contents.
+ */
+@JsonSerialize(using = LazyEventPattern.Serializer.class)
+final class LazyEventPattern extends AbstractMap<String, Object> {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ObjectReader READER = MAPPER.readerFor(new TypeReference<Map<String, Object>>() {});
+    private static final ObjectWriter WRITER = MAPPER.writer();
+
+    private final String json;
+    private volatile Map<String, Object> parsed;
+
+    LazyEventPattern(final String json) {
+        this.json = json;
+    }
+
+    /**
+     * @param eventPattern The EventPattern of a ResourceModel, a JSON string or an object
+     * @return The EventPattern as JSON, without serializing it again if it is a string or still the one DescribeRule
+     * returned
+     */
+    static String toJson(final Object eventPattern) {
+        if (eventPattern instanceof String) {
+            return (String) eventPattern;
+        }
+        if (eventPattern instanceof LazyEventPattern) {
+            return ((LazyEventPattern) eventPattern).json;
+        }
+
+        try {
+            return WRITER.writeValueAsString(eventPattern);
+        } catch (final JsonProcessingException e) {
+            throw new TerminalException(e);
+        }
+    }
+
+    /**
+     * @param eventPattern The EventPattern of a ResourceModel, a JSON string or an object
+     * @return The EventPattern as a map, parsing it if it is a string; a pattern DescribeRule returned stays lazy
+     * @throws CfnInvalidRequestException If the EventPattern is a string that is not a JSON object
+     */
+    @SuppressWarnings("unchecked")
+    static Map<String, Object> toMap(final Object eventPattern) {
+        if (eventPattern == null || eventPattern instanceof Map) {
+            return (Map<String, Object>) eventPattern;
+        }
+
+        final Map<String, Object> parsedPattern;
+        try {
+            parsedPattern = READER.readValue(String.valueOf(eventPattern));
+        } catch (final IOException e) {
+            throw new CfnInvalidRequestException("EventPattern is not a JSON object", e);
+        }
+        if (parsedPattern == null) {
+            throw new CfnInvalidRequestException("EventPattern is not a JSON object");
+        }
+        return parsedPattern;
+    }
+
+    String getJson() {
+        return json;
+    }
+
+    boolean isParsed() {
+        return parsed != null;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return parse().entrySet();
+    }
+
+    @Override
+    public Object get(final Object key) {
+        return parse().get(key);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return parse().containsKey(key);
+    }
+
+    private Map<String, Object> parse() {
+        Map<String, Object> result = parsed;
+        if (result == null) {
+            try {
+                result = Collections.unmodifiableMap(READER.readValue(json));
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            parsed = result;
+        }
+        return result;
+    }
+
+    static final class Serializer extends JsonSerializer<LazyEventPattern> {
+        @Override
+        public void serialize(final LazyEventPattern value, final JsonGenerator gen, final SerializerProvider serializers)
+                throws IOException {
+            gen.writeRawValue(value.json);
+        }
+    }
+}
@@ -1,6 +1,13 @@
 package software.amazon.events.rule;
 
 import software.amazon.awssdk.services.cloudwatchevents.CloudWatchEventsClient;
+import software.amazon.awssdk.services.cloudwatchevents.model.DescribeRuleRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.DescribeRuleResponse;
+import software.amazon.awssdk.services.cloudwatchevents.model.EventBus;
+import software.amazon.awssdk.services.cloudwatchevents.model.ListEventBusesResponse;
+import software.amazon.awssdk.services.cloudwatchevents.model.ListRulesRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.ListRulesResponse;
+import software.amazon.awssdk.services.cloudwatchevents.model.ResourceNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -8,7 +15,65 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
 public class ListHandler extends BaseHandlerStd {
+    /**
+     * Opts into full-model listing: the number of Rules of a page enriched at the same time, 0 (the default) for
+     * identifier-only models.
+     */
+    static final String LIST_ENRICHMENT_CONCURRENCY_ENV = "LIST_ENRICHMENT_CONCURRENCY";
+    static final int MAX_LIST_ENRICHMENT_CONCURRENCY = 16;
+    /**
+     * The number of event buses whose Rules are listed at the same time, the size of CONCURRENT_CALL_EXECUTOR.
+     */
+    static final int MAX_CONCURRENT_BUSES = 4;
+
+    private final int enrichmentConcurrency;
+    // Reads the Rules of a page in full-model listing, null otherwise; kept across invocations, its idle threads time out
+    private final ExecutorService enrichmentExecutor;
+
+    public ListHandler() {
+        this(enrichmentConcurrencyFromEnv());
+    }
+
+    ListHandler(final int enrichmentConcurrency) {
+        this.enrichmentConcurrency = Math.max(0, Math.min(enrichmentConcurrency, MAX_LIST_ENRICHMENT_CONCURRENCY));
+        this.enrichmentExecutor = this.enrichmentConcurrency == 0 ? null : enrichmentExecutor(this.enrichmentConcurrency);
+    }
+
+    private static int enrichmentConcurrencyFromEnv() {
+        final String value = System.getenv(LIST_ENRICHMENT_CONCURRENCY_ENV);
+        if (value == null || value.trim().isEmpty()) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static ExecutorService enrichmentExecutor(final int threads) {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "aws-events-rule-list-enrichment");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -24,15 +89,180 @@ public class ListHandler extends BaseHandlerStd {
         logger.log("Stack ID: " + request.getStackId());
 
         ResourceModel model = request.getDesiredResourceState();
+        final ListRulesCursor cursor = ListRulesCursor.decode(request.getNextToken());
 
         return proxy.initiate("AWS-Events-Rule::List", proxyClient, model, callbackContext)
-                .translateToServiceRequest(r -> Translator.translateToListRulesRequest(request.getNextToken()))
-                .makeServiceCall((awsRequest, client) -> listRules(awsRequest, client, logger, request.getStackId()))
+                .translateToServiceRequest(r -> Translator.translateToListEventBusesRequest(cursor.getBusPageToken()))
+                .makeServiceCall((awsRequest, client) -> listEventBuses(awsRequest, client, logger, request.getStackId()))
                 .handleError(this::handleError)
-                .done((awsRequest, awsResponse, client, resourceModel, context) -> ProgressEvent.<ResourceModel, CallbackContext>builder()
-                        .resourceModels(Translator.translateFromListRulesResponse(awsResponse))
-                        .nextToken(awsResponse.nextToken())
-                        .status(OperationStatus.SUCCESS)
-                        .build());
+                .done((awsRequest, awsResponse, client, resourceModel, context) ->
+                        listRulesOfBuses(awsResponse, cursor, client, request, resourceModel, context, logger));
+    }
+
+    /**
+     * Lists a page of Rules of the event buses of a page of ListEventBuses, resuming at the cursor. The buses the cursor
+     * has started and not finished, followed by buses not started yet, up to MAX_CONCURRENT_BUSES of them, each get
+     * their next page of ListRules at the same time. The Rules are returned in bus order, along with a nextToken that
+     * encodes the cursor after those pages; the enumeration is complete once it returns no nextToken.
+     *
+     * @param eventBuses  The page of ListEventBuses the cursor is on
+     * @param cursor      The cursor the list request resumes at
+     * @param proxyClient The client used to make the requests
+     * @param request     The list request
+     * @param model       The model of the list request
+     * @param context     The CallbackContext
+     * @param logger      The logger
+     * @return A SUCCESS ProgressEvent with the Rules and the nextToken, or a failure
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> listRulesOfBuses(final ListEventBusesResponse eventBuses,
+            final ListRulesCursor cursor, final ProxyClient<CloudWatchEventsClient> proxyClient,
+            final ResourceHandlerRequest<ResourceModel> request, final ResourceModel model, final CallbackContext context,
+            final Logger logger) {
+
+        final List<String> busNames = eventBuses.eventBuses().stream().map(EventBus::name).collect(Collectors.toList());
+
+        // Unfinished buses first, then the buses not started yet
+        final List<ListRulesRequest> listRulesRequests = new ArrayList<>();
+        for (int i = cursor.getBusIndex(); i < Math.min(cursor.getBusIndex() + cursor.getStartedBuses(), busNames.size()); i++) {
+            final String busName = busNames.get(i);
+            if (cursor.getRuleTokens().containsKey(busName)) {
+                listRulesRequests.add(Translator.translateToListRulesRequest(busName, cursor.getRuleTokens().get(busName)));
+            }
+        }
+        while (listRulesRequests.size() < MAX_CONCURRENT_BUSES && cursor.getBusIndex() + cursor.getStartedBuses() < busNames.size()) {
+            listRulesRequests.add(Translator.translateToListRulesRequest(busNames.get(cursor.getBusIndex() + cursor.getStartedBuses()), null));
+            cursor.setStartedBuses(cursor.getStartedBuses() + 1);
+        }
+
+        final List<CompletableFuture<ListRulesResponse>> pages = new ArrayList<>();
+        for (final ListRulesRequest listRulesRequest : listRulesRequests) {
+            pages.add(listRulesAsync(listRulesRequest, proxyClient, logger, request.getStackId()));
+        }
+
+        final List<ResourceModel> identifiers = new ArrayList<>();
+        for (int i = 0; i < pages.size(); i++) {
+            final ListRulesRequest listRulesRequest = listRulesRequests.get(i);
+            final ListRulesResponse page;
+            try {
+                page = join(pages.get(i));
+            } catch (ResourceNotFoundException e) {
+                // The event bus was deleted since it was listed
+                cursor.getRuleTokens().remove(listRulesRequest.eventBusName());
+                continue;
+            } catch (RuntimeException e) {
+                return handleError(listRulesRequest, e, proxyClient, model, context);
+            }
+
+            identifiers.addAll(Translator.translateFromListRulesResponse(page));
+            if (page.nextToken() == null) {
+                cursor.getRuleTokens().remove(listRulesRequest.eventBusName());
+            } else {
+                cursor.getRuleTokens().put(listRulesRequest.eventBusName(), page.nextToken());
+            }
+        }
+
+        cursor.advance(busNames);
+
+        final String nextToken;
+        if (!cursor.isPageListed(busNames)) {
+            nextToken = cursor.encode();
+        } else if (eventBuses.nextToken() != null) {
+            final ListRulesCursor nextPage = new ListRulesCursor();
+            nextPage.setBusPageToken(eventBuses.nextToken());
+            nextToken = nextPage.encode();
+        } else {
+            nextToken = null;
+        }
+
+        if (enrichmentConcurrency == 0) {
+            return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                    .resourceModels(identifiers)
+                    .nextToken(nextToken)
+                    .status(OperationStatus.SUCCESS)
+                    .build();
+        }
+        return listFullModels(identifiers, nextToken, proxyClient, request, model, context, logger);
+    }
+
+    /**
+     * Reads every Rule of a page the way the ReadHandler does: DescribeRule, then ListTargetsByRule page
+     * by page. Up to enrichmentConcurrency Rules are read at the same time, on a pool of their own rather than
+     * CONCURRENT_CALL_EXECUTOR, and every call goes through the proxy client, so the reads share the account's rate
+     * limiter with every other handler of the JVM. Rules deleted since the page was listed are left out.
+     *
+     * @param identifiers The models of the Rules of the page, with only their ARN
+     * @param nextToken   The nextToken of the page
+     * @param proxyClient The client used to make the requests
+     * @param request     The list request
+     * @param model       The model of the list request
+     * @param context     The CallbackContext
+     * @param logger      The logger
+     * @return A SUCCESS ProgressEvent with the fully populated models of the page, or a failure
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> listFullModels(final List<ResourceModel> identifiers,
+            final String nextToken, final ProxyClient<CloudWatchEventsClient> proxyClient, final ResourceHandlerRequest<ResourceModel> request,
+            final ResourceModel model, final CallbackContext context, final Logger logger) {
+
+        final List<ResourceModel> resourceModels = new ArrayList<>();
+
+        final List<CompletableFuture<ResourceModel>> reads = new ArrayList<>();
+        for (final ResourceModel identifier : identifiers) {
+            reads.add(CompletableFuture.supplyAsync(() -> readFullModel(identifier, proxyClient, request, logger), enrichmentExecutor));
+        }
+
+        for (int i = 0; i < reads.size(); i++) {
+            try {
+                final ResourceModel resourceModel = join(reads.get(i));
+                if (resourceModel != null) {
+                    resourceModels.add(resourceModel);
+                }
+            } catch (RuntimeException e) {
+                final CompositePID compositePID = CompositePIDCache.getInstance().resolve(identifiers.get(i), request.getAwsAccountId());
+                return handleError(Translator.translateToDescribeRuleRequest(compositePID), e, proxyClient, model, context);
+            }
+        }
+
+        return ProgressEvent.<ResourceModel, CallbackContext>builder()
+                .resourceModels(resourceModels)
+                .nextToken(nextToken)
+                .status(OperationStatus.SUCCESS)
+                .build();
+    }
+
+    /**
+     * @return The fully populated model of the Rule, or null if the Rule no longer exists
+     */
+    private static ResourceModel readFullModel(final ResourceModel identifier, final ProxyClient<CloudWatchEventsClient> proxyClient,
+            final ResourceHandlerRequest<ResourceModel> request, final Logger logger) {
+
+        final CompositePID compositePID = CompositePIDCache.getInstance().resolve(identifier, request.getAwsAccountId());
+        final DescribeRuleRequest describeRuleRequest = Translator.translateToDescribeRuleRequest(compositePID);
+        final Set<Target> targets = new HashSet<>();
+        final AtomicBoolean hasTargets = new AtomicBoolean();
+
+        final DescribeRuleResponse describeRuleResponse;
+        try {
+            describeRuleResponse = describeRule(describeRuleRequest, proxyClient, logger, request.getStackId());
+            listTargetsByPage(Translator.translateToListTargetsByRuleRequest(compositePID), proxyClient, compositePID,
+                    page -> {
+                        targets.addAll(Translator.translateFromListTargetsByRuleResponse(page));
+                        if (page.hasTargets()) {
+                            hasTargets.set(true);
+                        }
+                    }, logger, request.getStackId());
+        } catch (ResourceNotFoundException e) {
+            logger.log(String.format("StackId: %s: %s [%s] was deleted while listing.", request.getStackId(), ResourceModel.TYPE_NAME,
+                    describeRuleRequest.name()));
+            return null;
+        }
+
+        final ResourceModel.ResourceModelBuilder resourceModelBuilder = Translator.translateFromDescribeRuleResponse(describeRuleResponse);
+        if (targets.size() > 0 || hasTargets.get()) {
+            resourceModelBuilder.targets(targets);
+        }
+
+        final ResourceModel resourceModel = resourceModelBuilder.build();
+        resourceModel.setId(compositePID.getPid());
+        return resourceModel;
     }
 }
@@ -0,0 +1,84 @@
+package software.amazon.events.rule;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The position of the ListHandler in the enumeration of the Rules of every event bus, carried between invocations as
+ * the nextToken of the list request.
+ *
+ * The event buses are enumerated a page of ListEventBuses at a time (busPageToken). Within that page the buses before
+ * busIndex have been listed completely, and the startedBuses buses from busIndex on have been started: each of them
+ * either still has Rules to list, with the nextToken of its ListRules in ruleTokens, or has been listed completely.
+ * The buses after those have not been started.
+ */
+@lombok.Getter
+@lombok.Setter
+@lombok.ToString
+@lombok.EqualsAndHashCode
+@JsonInclude(JsonInclude.Include.NON_DEFAULT)
+@JsonIgnoreProperties(ignoreUnknown = true)
+class ListRulesCursor {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private String busPageToken;
+    private int busIndex;
+    private int startedBuses;
+    private Map<String, String> ruleTokens = new LinkedHashMap<>();
+
+    /**
+     * @param nextToken The nextToken of the list request, null for the first page
+     * @return The cursor the nextToken encodes, or a cursor at the start of the enumeration
+     */
+    static ListRulesCursor decode(final String nextToken) {
+        if (nextToken == null) {
+            return new ListRulesCursor();
+        }
+
+        try {
+            return MAPPER.readValue(Base64.getUrlDecoder().decode(nextToken), ListRulesCursor.class);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new CfnInvalidRequestException(String.format("Invalid nextToken: %s", nextToken), e);
+        }
+    }
+
+    /**
+     * @return The nextToken that resumes the enumeration at this cursor
+     */
+    String encode() {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsString(this).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Moves the cursor past the leading started buses that have been listed completely.
+     *
+     * @param busNames The names of the event buses of the current page of ListEventBuses
+     */
+    void advance(final List<String> busNames) {
+        while (startedBuses > 0 && busIndex < busNames.size() && !ruleTokens.containsKey(busNames.get(busIndex))) {
+            busIndex++;
+            startedBuses--;
+        }
+    }
+
+    /**
+     * @param busNames The names of the event buses of the current page of ListEventBuses
+     * @return Whether every bus of the page has been listed completely
+     */
+    boolean isPageListed(final List<String> busNames) {
+        return busIndex >= busNames.size();
+    }
+}
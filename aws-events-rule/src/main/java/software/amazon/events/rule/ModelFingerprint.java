@@ -0,0 +1,89 @@
+package software.amazon.events.rule;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import software.amazon.events.common.JsonFingerprint;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A canonical fingerprint of the properties of a Rule that an update can change, so an update whose desired state is
+ * only a different spelling of the previous one can be recognized as a no-op. Read-only properties (Arn, Id) are left
+ * out, object keys are sorted at every level (including inside EventPattern), null properties and empty Targets are
+ * dropped, and the Targets are sorted, as they are a set. The arrays of scalar values inside an EventPattern are sorted
+ * too, as EventBridge matches any of their values, except for numeric matchers, whose order is their meaning. Arrays
+ * are otherwise kept in order.
+ */
+final class ModelFingerprint {
+    // The EventPattern matcher whose array is a sequence of operators and bounds rather than a set of values
+    private static final String NUMERIC = "numeric";
+
+    private ModelFingerprint() {
+    }
+
+    /**
+     * @param model A ResourceModel
+     * @return The SHA-256 of the canonical JSON of the model, hex encoded
+     */
+    static String of(final ResourceModel model) {
+        final ObjectNode tree = JsonFingerprint.toTree(model);
+        tree.remove("Arn");
+        tree.remove("Id");
+
+        // A string pattern, or the JSON DescribeRule returned, hashes the same as the object it spells
+        if (model.getEventPattern() != null) {
+            JsonFingerprint.parseJsonProperty(tree, "EventPattern", LazyEventPattern.toJson(model.getEventPattern()));
+            final JsonNode eventPattern = tree.get("EventPattern");
+            if (eventPattern != null && eventPattern.isContainerNode()) {
+                final JsonNode canonicalEventPattern = JsonFingerprint.canonicalize(eventPattern);
+                sortValues(canonicalEventPattern);
+                tree.set("EventPattern", canonicalEventPattern);
+            }
+        }
+
+        final JsonNode targets = tree.get("Targets");
+        if (targets != null && targets.isArray()) {
+            final List<JsonNode> sortedTargets = new ArrayList<>();
+            targets.forEach(target -> sortedTargets.add(JsonFingerprint.canonicalize(target)));
+            sortedTargets.sort(Comparator.comparing(JsonNode::toString));
+            tree.set("Targets", tree.arrayNode().addAll(sortedTargets));
+            if (sortedTargets.isEmpty()) {
+                tree.remove("Targets");
+            }
+        }
+
+        return JsonFingerprint.of(tree);
+    }
+
+    /**
+     * Sorts, in place, the arrays of an EventPattern that only hold scalar values, leaving numeric matchers as they are.
+     */
+    private static void sortValues(final JsonNode node) {
+        if (node.isObject()) {
+            final Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                final Map.Entry<String, JsonNode> field = fields.next();
+                if (!NUMERIC.equals(field.getKey())) {
+                    sortValues(field.getValue());
+                }
+            }
+        } else if (node.isArray()) {
+            final List<JsonNode> values = new ArrayList<>();
+            boolean scalars = true;
+            for (final JsonNode element : node) {
+                sortValues(element);
+                values.add(element);
+                scalars &= element.isValueNode();
+            }
+            if (scalars) {
+                values.sort(Comparator.comparing(JsonNode::toString));
+                ((ArrayNode) node).removeAll().addAll(values);
+            }
+        }
+    }
+}
@@ -7,6 +7,10 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 public class ReadHandler extends BaseHandlerStd {
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -19,34 +23,33 @@ public class ReadHandler extends BaseHandlerStd {
         this.logger = logger;
 
         final ResourceModel resourceModel = request.getDesiredResourceState();
-        final CompositePID compositePID = new CompositePID(resourceModel, request.getAwsAccountId());
+        final CompositePID compositePID = CompositePIDCache.getInstance().resolve(resourceModel, request.getAwsAccountId());
+        final Set<Target> targets = new HashSet<>();
+        final AtomicBoolean hasTargets = new AtomicBoolean();
 
         return ProgressEvent.progress(resourceModel, callbackContext)
 
-            // STEP 1 [read rule]
+            // STEP 1 [read rule and list targets page by page, concurrently]
             .then(progress -> proxy.initiate("AWS-Events-Rule::ReadRule", proxyClient, request.getDesiredResourceState(), callbackContext)
                 .translateToServiceRequest((model) -> Translator.translateToDescribeRuleRequest(compositePID))
-                .makeServiceCall((awsRequest, client) -> describeRule(awsRequest, client, logger, request.getStackId()))
+                .makeServiceCall((awsRequest, client) -> describeRuleAndListTargets(awsRequest, client, compositePID,
+                        page -> {
+                            targets.addAll(Translator.translateFromListTargetsByRuleResponse(page));
+                            if (page.hasTargets()) {
+                                hasTargets.set(true);
+                            }
+                        }, logger, request.getStackId()))
                 .handleError(this::handleError)
                 .done(awsResponse -> {
                     // Build the Rule part of the response
-                    callbackContext.setResourceModelBuilder(Translator.translateFromDescribeRuleResponse(awsResponse));
-                    return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext);
-                })
-            )
+                    final ResourceModel.ResourceModelBuilder resourceModelBuilder = Translator.translateFromDescribeRuleResponse(awsResponse);
 
-            // STEP 2 [list targets]
-            .then(p -> proxy.initiate("AWS-Events-Rule::ListTargets", proxyClient, request.getDesiredResourceState(), callbackContext)
-                .translateToServiceRequest((model) -> Translator.translateToListTargetsByRuleRequest(compositePID))
-                .makeServiceCall((awsRequest, client) -> listTargets(awsRequest, client, logger, request.getStackId()))
-                .handleError(this::handleError)
-                .done(awsResponse -> {
                     // Add the list of Targets to the response
-                    if (awsResponse.hasTargets()) {
-                        callbackContext.getResourceModelBuilder().targets(Translator.translateFromListTargetsByRuleResponse(awsResponse));
+                    if (targets.size() > 0 || hasTargets.get()) {
+                        resourceModelBuilder.targets(targets);
                     }
 
-                    final ResourceModel model = callbackContext.getResourceModelBuilder().build();
+                    final ResourceModel model = resourceModelBuilder.build();
                     model.setId(compositePID.getPid());
 
                     return ProgressEvent.defaultSuccessHandler(model);
@@ -0,0 +1,63 @@
+package software.amazon.events.rule;
+
+import java.util.Objects;
+
+/**
+ * Decides which rule-level call an update needs, based on the properties PutRule would send.
+ * Targets are planned separately by TargetDiff.
+ */
+final class RuleChangePlanner {
+    static final String STATE_ENABLED = "ENABLED";
+    static final String STATE_DISABLED = "DISABLED";
+
+    enum RuleChange {
+        /** No rule property changed, PutRule can be skipped */
+        NONE,
+        /** Only State changed to ENABLED */
+        ENABLE,
+        /** Only State changed to DISABLED */
+        DISABLE,
+        /** Any other change */
+        PUT_RULE
+    }
+
+    private RuleChangePlanner() {
+    }
+
+    /**
+     * Plans the rule-level call of an update.
+     * @param previousModel The previous ResourceModel (may be null)
+     * @param desiredModel The desired ResourceModel
+     * @return The RuleChange
+     */
+    static RuleChange plan(final ResourceModel previousModel, final ResourceModel desiredModel) {
+        if (previousModel == null || !ruleAttributesEqual(previousModel, desiredModel)) {
+            return RuleChange.PUT_RULE;
+        }
+
+        if (Objects.equals(previousModel.getState(), desiredModel.getState())) {
+            return RuleChange.NONE;
+        }
+
+        // Any other State (e.g. ENABLED_WITH_ALL_CLOUDTRAIL_MANAGEMENT_EVENTS) can only be set by PutRule
+        if (STATE_ENABLED.equals(desiredModel.getState())) {
+            return RuleChange.ENABLE;
+        }
+        if (STATE_DISABLED.equals(desiredModel.getState())) {
+            return RuleChange.DISABLE;
+        }
+        return RuleChange.PUT_RULE;
+    }
+
+    /**
+     * Compares every property sent by PutRule, except State.
+     */
+    private static boolean ruleAttributesEqual(final ResourceModel previousModel, final ResourceModel desiredModel) {
+        return Objects.equals(previousModel.getName(), desiredModel.getName())
+                && Objects.equals(previousModel.getEventBusName(), desiredModel.getEventBusName())
+                && Objects.equals(previousModel.getDescription(), desiredModel.getDescription())
+                && Objects.equals(previousModel.getEventPattern(), desiredModel.getEventPattern())
+                && Objects.equals(previousModel.getScheduleExpression(), desiredModel.getScheduleExpression())
+                && Objects.equals(previousModel.getRoleArn(), desiredModel.getRoleArn());
+    }
+}
@@ -0,0 +1,405 @@
+package software.amazon.events.rule;
+
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * A parsed EventBridge schedule expression, rate(value unit) or cron(minutes hours day-of-month month day-of-week
+ * year), so a malformed ScheduleExpression is rejected before PutRule and the fire times of a rule can be computed
+ * offline. Cron expressions are evaluated in UTC, as EventBridge does for rules.
+ * <p>
+ * Every cron field is compiled into a BitSet when the expression is parsed; computing a fire time then works on
+ * epoch days and minutes with primitive arithmetic and only allocates the resulting Instant. A rate schedule fires
+ * every period from the time its rule was created, which is not part of the expression: its fire times are counted
+ * from the instant they are asked after.
+ */
+public final class ScheduleExpression {
+    static final int MIN_YEAR = 1970;
+    static final int MAX_YEAR = 2199;
+
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int MINUTES_PER_DAY = 24 * MINUTES_PER_HOUR;
+    private static final String[] MONTH_NAMES = {"JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV", "DEC"};
+    private static final String[] DAY_OF_WEEK_NAMES = {"SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT"};
+
+    private final String expression;
+    private final Duration rate;
+
+    private BitSet minutes;
+    private BitSet hours;
+    private BitSet daysOfMonth;
+    private BitSet months;
+    private BitSet daysOfWeek;
+    private BitSet years;
+    private boolean dayOfMonthUnspecified;
+    private boolean lastDayOfMonth;
+    private boolean lastWeekdayOfMonth;
+    private int nearestWeekday;
+    private int lastDayOfWeek;
+    private int nthDayOfWeek;
+    private int nthOccurrence;
+
+    private ScheduleExpression(final String expression, final Duration rate) {
+        this.expression = expression;
+        this.rate = rate;
+    }
+
+    /**
+     * @param expression A ScheduleExpression
+     * @return The parsed expression
+     * @throws CfnInvalidRequestException if the expression can never be accepted by PutRule
+     */
+    public static ScheduleExpression parse(final String expression) {
+        if (expression == null) {
+            throw invalid(null, "it is missing");
+        }
+        if (expression.startsWith("rate(") && expression.endsWith(")")) {
+            return new ScheduleExpression(expression, parseRate(expression, expression.substring("rate(".length(), expression.length() - 1)));
+        }
+        if (expression.startsWith("cron(") && expression.endsWith(")")) {
+            final ScheduleExpression cron = new ScheduleExpression(expression, null);
+            cron.parseCron(expression.substring("cron(".length(), expression.length() - 1).trim());
+            return cron;
+        }
+        throw invalid(expression, "it must be rate(value unit) or cron(minutes hours day-of-month month day-of-week year)");
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * @return Whether this is a rate expression
+     */
+    public boolean isRate() {
+        return rate != null;
+    }
+
+    /**
+     * @return The period of a rate expression, null for a cron expression
+     */
+    public Duration getRate() {
+        return rate;
+    }
+
+    /**
+     * @param after An instant
+     * @return The first fire time strictly after the instant, null if the schedule never fires again
+     */
+    public Instant nextFireTime(final Instant after) {
+        if (rate != null) {
+            return after.plus(rate);
+        }
+
+        final long nextMinute = Math.floorDiv(after.getEpochSecond(), SECONDS_PER_MINUTE) + 1;
+        long day = Math.floorDiv(nextMinute, MINUTES_PER_DAY);
+        int fromMinute = (int) Math.floorMod(nextMinute, MINUTES_PER_DAY);
+        while (true) {
+            final int date = civilFromDays(day);
+            final int year = date / 10000;
+            final int month = date / 100 % 100;
+            final int dayOfMonth = date % 100;
+
+            if (year > MAX_YEAR) {
+                return null;
+            }
+            if (year < MIN_YEAR || !years.get(year)) {
+                final int nextYear = years.nextSetBit(Math.max(year + 1, MIN_YEAR));
+                if (nextYear < 0) {
+                    return null;
+                }
+                day = daysFromCivil(nextYear, 1, 1);
+                fromMinute = 0;
+                continue;
+            }
+            if (!months.get(month)) {
+                final int nextMonth = months.nextSetBit(month + 1);
+                day = nextMonth < 0 ? daysFromCivil(year + 1, 1, 1) : daysFromCivil(year, nextMonth, 1);
+                fromMinute = 0;
+                continue;
+            }
+            if (isDayMatch(year, month, dayOfMonth, day)) {
+                final int minuteOfDay = nextMinuteOfDay(fromMinute);
+                if (minuteOfDay >= 0) {
+                    return Instant.ofEpochSecond((day * MINUTES_PER_DAY + minuteOfDay) * SECONDS_PER_MINUTE);
+                }
+            }
+            day++;
+            fromMinute = 0;
+        }
+    }
+
+    /**
+     * @param after An instant
+     * @param count The number of fire times
+     * @return Up to count fire times after the instant, fewer if the schedule stops firing
+     */
+    public List<Instant> nextFireTimes(final Instant after, final int count) {
+        final List<Instant> fireTimes = new ArrayList<>(count);
+        Instant fireTime = after;
+        while (fireTimes.size() < count && (fireTime = nextFireTime(fireTime)) != null) {
+            fireTimes.add(fireTime);
+        }
+        return fireTimes;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    private static Duration parseRate(final String expression, final String rate) {
+        final int space = rate.indexOf(' ');
+        if (space < 0 || rate.indexOf(' ', space + 1) >= 0) {
+            throw invalid(expression, "rate takes a value and a unit");
+        }
+
+        final long value;
+        try {
+            value = Long.parseLong(rate.substring(0, space));
+        } catch (final NumberFormatException e) {
+            throw invalid(expression, "the rate value must be a positive integer");
+        }
+        if (value < 1) {
+            throw invalid(expression, "the rate value must be a positive integer");
+        }
+
+        final String unit = rate.substring(space + 1);
+        if ((value == 1) == unit.endsWith("s")) {
+            throw invalid(expression, "the rate unit must be singular for a value of 1 and plural otherwise");
+        }
+        final String singular = value == 1 ? unit : unit.substring(0, unit.length() - 1);
+        switch (singular) {
+            case "minute":
+                return Duration.ofMinutes(value);
+            case "hour":
+                return Duration.ofHours(value);
+            case "day":
+                return Duration.ofDays(value);
+            default:
+                throw invalid(expression, "the rate unit must be minute(s), hour(s) or day(s)");
+        }
+    }
+
+    private void parseCron(final String cron) {
+        final String[] fields = cron.split(" +");
+        if (fields.length != 6) {
+            throw invalid(expression, "cron takes 6 fields: minutes hours day-of-month month day-of-week year");
+        }
+
+        minutes = parseField(fields[0], "minutes", 0, 59, null);
+        hours = parseField(fields[1], "hours", 0, 23, null);
+        months = parseField(fields[3], "month", 1, 12, MONTH_NAMES);
+        years = parseField(fields[5], "year", MIN_YEAR, MAX_YEAR, null);
+
+        dayOfMonthUnspecified = "?".equals(fields[2]);
+        final boolean dayOfWeekUnspecified = "?".equals(fields[4]);
+        if (dayOfMonthUnspecified == dayOfWeekUnspecified) {
+            throw invalid(expression, "exactly one of day-of-month and day-of-week must be ?");
+        }
+        if (!dayOfMonthUnspecified) {
+            parseDayOfMonth(fields[2]);
+        } else {
+            parseDayOfWeek(fields[4]);
+        }
+    }
+
+    private void parseDayOfMonth(final String field) {
+        if ("L".equals(field)) {
+            lastDayOfMonth = true;
+        } else if ("LW".equals(field)) {
+            lastWeekdayOfMonth = true;
+        } else if (field.endsWith("W")) {
+            nearestWeekday = parseValue(field.substring(0, field.length() - 1), "day-of-month", 1, 31, null);
+        } else {
+            daysOfMonth = parseField(field, "day-of-month", 1, 31, null);
+        }
+    }
+
+    private void parseDayOfWeek(final String field) {
+        final int hash = field.indexOf('#');
+        if ("L".equals(field)) {
+            daysOfWeek = new BitSet(8);
+            daysOfWeek.set(7);
+        } else if (field.length() > 1 && field.endsWith("L")) {
+            lastDayOfWeek = parseValue(field.substring(0, field.length() - 1), "day-of-week", 1, 7, DAY_OF_WEEK_NAMES);
+        } else if (hash > 0) {
+            nthDayOfWeek = parseValue(field.substring(0, hash), "day-of-week", 1, 7, DAY_OF_WEEK_NAMES);
+            nthOccurrence = parseValue(field.substring(hash + 1), "day-of-week", 1, 5, null);
+        } else {
+            daysOfWeek = parseField(field, "day-of-week", 1, 7, DAY_OF_WEEK_NAMES);
+        }
+    }
+
+    /**
+     * Parses a comma-separated list of *, values, ranges (a-b) and increments (*&#47;n, a/n, a-b/n).
+     */
+    private BitSet parseField(final String field, final String name, final int min, final int max, final String[] names) {
+        final BitSet values = new BitSet(max + 1);
+        for (final String part : field.split(",", -1)) {
+            final int slash = part.indexOf('/');
+            final String range = slash < 0 ? part : part.substring(0, slash);
+            final int step = slash < 0 ? 1 : parseValue(part.substring(slash + 1), name, 1, max, null);
+
+            final int start;
+            final int end;
+            final int dash = range.indexOf('-');
+            if ("*".equals(range)) {
+                start = min;
+                end = max;
+            } else if (dash > 0) {
+                start = parseValue(range.substring(0, dash), name, min, max, names);
+                end = parseValue(range.substring(dash + 1), name, min, max, names);
+                if (start > end) {
+                    throw invalid(expression, String.format("the %s range %s is empty", name, range));
+                }
+            } else {
+                start = parseValue(range, name, min, max, names);
+                end = slash < 0 ? start : max;
+            }
+
+            for (int value = start; value <= end; value += step) {
+                values.set(value);
+            }
+        }
+        return values;
+    }
+
+    private int parseValue(final String text, final String name, final int min, final int max, final String[] names) {
+        if (names != null) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equalsIgnoreCase(text)) {
+                    return min + i;
+                }
+            }
+        }
+
+        int value = 0;
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (c < '0' || c > '9' || i >= 4) {
+                value = -1;
+                break;
+            }
+            value = value * 10 + (c - '0');
+        }
+        if (text.isEmpty() || value < min || value > max) {
+            throw invalid(expression, String.format("the %s value %s must be %d to %d", name, text, min, max));
+        }
+        return value;
+    }
+
+    private boolean isDayMatch(final int year, final int month, final int dayOfMonth, final long day) {
+        final int lengthOfMonth = lengthOfMonth(year, month);
+        if (!dayOfMonthUnspecified) {
+            if (lastDayOfMonth) {
+                return dayOfMonth == lengthOfMonth;
+            }
+            if (lastWeekdayOfMonth) {
+                return dayOfMonth == nearestWeekday(year, month, lengthOfMonth);
+            }
+            if (nearestWeekday > 0) {
+                return nearestWeekday <= lengthOfMonth && dayOfMonth == nearestWeekday(year, month, nearestWeekday);
+            }
+            return daysOfMonth.get(dayOfMonth);
+        }
+
+        final int dayOfWeek = dayOfWeek(day);
+        if (lastDayOfWeek > 0) {
+            return dayOfWeek == lastDayOfWeek && dayOfMonth + 7 > lengthOfMonth;
+        }
+        if (nthDayOfWeek > 0) {
+            return dayOfWeek == nthDayOfWeek && (dayOfMonth - 1) / 7 + 1 == nthOccurrence;
+        }
+        return daysOfWeek.get(dayOfWeek);
+    }
+
+    /**
+     * @return The first minute of the day, at or after fromMinute, matching the hours and minutes
+     */
+    private int nextMinuteOfDay(final int fromMinute) {
+        final int fromHour = fromMinute / MINUTES_PER_HOUR;
+        for (int hour = hours.nextSetBit(fromHour); hour >= 0; hour = hours.nextSetBit(hour + 1)) {
+            final int minute = minutes.nextSetBit(hour == fromHour ? fromMinute % MINUTES_PER_HOUR : 0);
+            if (minute >= 0) {
+                return hour * MINUTES_PER_HOUR + minute;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return The weekday of the month closest to the given day, without leaving the month
+     */
+    private static int nearestWeekday(final int year, final int month, final int dayOfMonth) {
+        final int lengthOfMonth = lengthOfMonth(year, month);
+        switch (dayOfWeek(daysFromCivil(year, month, dayOfMonth))) {
+            case 7:
+                return dayOfMonth == 1 ? 3 : dayOfMonth - 1;
+            case 1:
+                return dayOfMonth == lengthOfMonth ? dayOfMonth - 2 : dayOfMonth + 1;
+            default:
+                return dayOfMonth;
+        }
+    }
+
+    /**
+     * @return The day of the week of an epoch day, from 1 (Sunday) to 7 (Saturday)
+     */
+    private static int dayOfWeek(final long day) {
+        // 1970-01-01 was a Thursday
+        return (int) Math.floorMod(day + 4, 7) + 1;
+    }
+
+    private static int lengthOfMonth(final int year, final int month) {
+        switch (month) {
+            case 2:
+                return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * @return The epoch day of a date of the proleptic Gregorian calendar
+     */
+    static long daysFromCivil(final int year, final int month, final int dayOfMonth) {
+        final long y = month <= 2 ? year - 1 : year;
+        final long era = Math.floorDiv(y, 400);
+        final long yearOfEra = y - era * 400;
+        final long dayOfYear = (153L * (month > 2 ? month - 3 : month + 9) + 2) / 5 + dayOfMonth - 1;
+        final long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    /**
+     * @return The date of an epoch day, as year * 10000 + month * 100 + day of month
+     */
+    static int civilFromDays(final long day) {
+        final long z = day + 719468;
+        final long era = Math.floorDiv(z, 146097);
+        final long dayOfEra = z - era * 146097;
+        final long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        final long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        final long mp = (5 * dayOfYear + 2) / 153;
+        final int dayOfMonth = (int) (dayOfYear - (153 * mp + 2) / 5 + 1);
+        final int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+        final long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return (int) year * 10000 + month * 100 + dayOfMonth;
+    }
+
+    private static CfnInvalidRequestException invalid(final String expression, final String reason) {
+        return new CfnInvalidRequestException(String.format("ScheduleExpression %s is invalid: %s", expression, reason));
+    }
+}
@@ -0,0 +1,69 @@
+package software.amazon.events.rule;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Classifies the targets of a rule update by comparing the previous and desired targets by id and content.
+ * Targets are indexed by id once, so the diff runs in O(n + m) instead of comparing id lists pairwise.
+ */
+@Getter
+public class TargetDiff {
+    private final List<Target> added = new ArrayList<>();
+    private final List<Target> changed = new ArrayList<>();
+    private final List<Target> unchanged = new ArrayList<>();
+    private final List<String> removedIds = new ArrayList<>();
+
+    private TargetDiff() {
+    }
+
+    /**
+     * Computes the diff between two sets of targets.
+     * @param previousTargets The targets of the previous ResourceModel (may be null)
+     * @param desiredTargets The targets of the desired ResourceModel (may be null)
+     * @return A TargetDiff
+     */
+    static TargetDiff between(final Collection<Target> previousTargets, final Collection<Target> desiredTargets) {
+        final TargetDiff targetDiff = new TargetDiff();
+        final Map<String, Target> previousTargetsById = new LinkedHashMap<>();
+
+        if (previousTargets != null) {
+            for (final Target target : previousTargets) {
+                previousTargetsById.put(target.getId(), target);
+            }
+        }
+
+        if (desiredTargets != null) {
+            for (final Target target : desiredTargets) {
+                final Target previousTarget = previousTargetsById.remove(target.getId());
+
+                if (previousTarget == null) {
+                    targetDiff.added.add(target);
+                } else if (previousTarget.equals(target)) {
+                    targetDiff.unchanged.add(target);
+                } else {
+                    targetDiff.changed.add(target);
+                }
+            }
+        }
+
+        targetDiff.removedIds.addAll(previousTargetsById.keySet());
+
+        return targetDiff;
+    }
+
+    /**
+     * @return The added and changed targets, i.e. the targets that have to be sent to PutTargets
+     */
+    List<Target> getTargetsToPut() {
+        final List<Target> targetsToPut = new ArrayList<>(added.size() + changed.size());
+        targetsToPut.addAll(added);
+        targetsToPut.addAll(changed);
+        return targetsToPut;
+    }
+}
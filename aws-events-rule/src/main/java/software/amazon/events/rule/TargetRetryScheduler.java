@@ -0,0 +1,75 @@
+package software.amazon.events.rule;
+
+import software.amazon.awssdk.services.cloudwatchevents.model.PutTargetsRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.Target;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Schedules the retries of the entries that PutTargets and RemoveTargets report as failed. Every failed entry is
+ * classified by its error code: retryable entries are retried together after an exponential backoff with jitter,
+ * which the handler waits out as a callback delay, while a single terminal entry fails the handler right away.
+ * Retries are limited per call (MAX_RETRIES_ON_PUT_TARGETS, MAX_RETRIES_ON_REMOVE_TARGETS) and in total per handler
+ * (RETRY_BUDGET).
+ */
+final class TargetRetryScheduler {
+    static final int MAX_DELAY_SECONDS = 16;
+    static final int RETRY_BUDGET = 8;
+    static final String ERROR_CODE_CONCURRENT_MODIFICATION = "ConcurrentModificationException";
+
+    private TargetRetryScheduler() {
+    }
+
+    /**
+     * @param putTargetsRequest The PutTargetsRequest of all Targets to put
+     * @param targetIds         The ids of the failed Targets
+     * @return A PutTargetsRequest for the same Rule that only puts the given Targets
+     */
+    static PutTargetsRequest retryRequest(final PutTargetsRequest putTargetsRequest, final Collection<String> targetIds) {
+        final List<Target> targets = putTargetsRequest.targets().stream()
+                .filter(target -> targetIds.contains(target.id()))
+                .collect(Collectors.toList());
+        return putTargetsRequest.toBuilder().targets(targets).build();
+    }
+
+    /**
+     * @param errorCode The error code of a failed entry, or null if the service did not report one
+     * @return Whether the entry may succeed if it is retried unchanged
+     */
+    static boolean isRetryable(final String errorCode) {
+        return errorCode == null
+                || ERROR_CODE_CONCURRENT_MODIFICATION.equals(errorCode)
+                || ThrottleClassifier.isRetryableErrorCode(errorCode);
+    }
+
+    /**
+     * @param failedTargets Target id to error code of the failed entries
+     * @return The failed entries that can never succeed, in the order they were reported
+     */
+    static Map<String, String> terminalEntries(final Map<String, String> failedTargets) {
+        final Map<String, String> terminalEntries = new LinkedHashMap<>();
+        failedTargets.forEach((targetId, errorCode) -> {
+            if (!isRetryable(errorCode)) {
+                terminalEntries.put(targetId, errorCode);
+            }
+        });
+        return terminalEntries;
+    }
+
+    /**
+     * Exponential backoff with jitter: the delay before retry n is drawn from [2^n / 2, 2^n] seconds, capped at
+     * MAX_DELAY_SECONDS, and is never shorter than one second.
+     *
+     * @param attempts The number of retries already made
+     * @return The callback delay in seconds before the next retry
+     */
+    static int backoffSeconds(final int attempts) {
+        final int ceiling = Math.min(MAX_DELAY_SECONDS, 1 << Math.min(attempts, 30));
+        return ceiling - ThreadLocalRandom.current().nextInt(ceiling / 2 + 1);
+    }
+}
@@ -0,0 +1,364 @@
+package software.amazon.events.rule;
+
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Validates rule targets locally before they are sent to PutTargets.
+ * PutTargets reports invalid targets as failed entries rather than as an exception, and failed entries are retried
+ * with a backoff by TargetRetryScheduler. A target that violates one of the constraints below can never succeed,
+ * so it is rejected here instead of waiting out those retries.
+ * The limits mirror the EventBridge API reference for the parameter families mapped by the Translator.
+ */
+public class TargetValidator {
+    private static final Pattern TARGET_ID_PATTERN = Pattern.compile("[.\\-_A-Za-z0-9]+");
+    private static final Pattern INPUT_PATHS_MAP_KEY_PATTERN = Pattern.compile("[A-Za-z0-9_\\-]+");
+    private static final Pattern RUN_COMMAND_TARGET_KEY_PATTERN = Pattern.compile("[\\p{L}\\p{Z}\\p{N}_.:/=+\\-@]*");
+    private static final String SQS_FIFO_QUEUE_SUFFIX = ".fifo";
+    private static final String SQS_ARN_PREFIX = ":sqs:";
+    private static final String RESERVED_INPUT_PATHS_MAP_KEY_PREFIX = "AWS";
+
+    private static final int TARGET_ID_MAX_LENGTH = 64;
+    private static final int TARGET_ARN_MAX_LENGTH = 1600;
+    private static final int INPUT_MAX_LENGTH = 8192;
+    private static final int INPUT_PATH_MAX_LENGTH = 256;
+
+    private static final int BATCH_ARRAY_SIZE_MIN = 2;
+    private static final int BATCH_ARRAY_SIZE_MAX = 10000;
+    private static final int BATCH_ATTEMPTS_MIN = 1;
+    private static final int BATCH_ATTEMPTS_MAX = 10;
+
+    private static final int ECS_TASK_COUNT_MIN = 1;
+    private static final int ECS_PLACEMENT_CONSTRAINTS_MAX = 10;
+    private static final int ECS_PLACEMENT_STRATEGIES_MAX = 5;
+    private static final int ECS_CAPACITY_PROVIDER_STRATEGY_MAX = 6;
+    private static final int ECS_CAPACITY_PROVIDER_WEIGHT_MAX = 1000;
+    private static final int ECS_CAPACITY_PROVIDER_BASE_MAX = 100000;
+
+    private static final int HTTP_PARAMETER_MAX_LENGTH = 512;
+
+    private static final int INPUT_TEMPLATE_MAX_LENGTH = 8192;
+    private static final int INPUT_PATHS_MAP_MAX_ENTRIES = 100;
+    private static final int INPUT_PATHS_MAP_KEY_MAX_LENGTH = 256;
+    private static final int INPUT_PATHS_MAP_VALUE_MAX_LENGTH = 256;
+
+    private static final int KINESIS_PARTITION_KEY_PATH_MAX_LENGTH = 256;
+
+    private static final int REDSHIFT_DATABASE_MAX_LENGTH = 64;
+    private static final int REDSHIFT_DB_USER_MAX_LENGTH = 128;
+    private static final int REDSHIFT_SQL_MAX_LENGTH = 100000;
+    private static final int REDSHIFT_STATEMENT_NAME_MAX_LENGTH = 500;
+
+    private static final int RETRY_POLICY_MAXIMUM_EVENT_AGE_MIN = 60;
+    private static final int RETRY_POLICY_MAXIMUM_EVENT_AGE_MAX = 86400;
+    private static final int RETRY_POLICY_MAXIMUM_RETRY_ATTEMPTS_MAX = 185;
+
+    private static final int RUN_COMMAND_TARGETS_MAX = 5;
+    private static final int RUN_COMMAND_TARGET_KEY_MAX_LENGTH = 128;
+    private static final int RUN_COMMAND_TARGET_VALUES_MAX = 50;
+    private static final int RUN_COMMAND_TARGET_VALUE_MAX_LENGTH = 256;
+
+    private static final int SQS_MESSAGE_GROUP_ID_MAX_LENGTH = 128;
+
+    private static final int SAGEMAKER_PIPELINE_PARAMETERS_MAX = 200;
+    private static final int SAGEMAKER_PIPELINE_PARAMETER_NAME_MAX_LENGTH = 256;
+    private static final int SAGEMAKER_PIPELINE_PARAMETER_VALUE_MAX_LENGTH = 1024;
+
+    private TargetValidator() {
+    }
+
+    /**
+     * Validates every target of a rule and reports all violations at once.
+     * @param targets The targets of the desired ResourceModel (may be null)
+     * @throws CfnInvalidRequestException if at least one target can never be accepted by PutTargets
+     */
+    static void validate(final Collection<Target> targets) {
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+
+        final List<String> violations = new ArrayList<>();
+        final Set<String> targetIds = new HashSet<>();
+
+        for (final Target target : targets) {
+            final String prefix = String.format("Target [%s]: ", target.getId());
+
+            if (target.getId() != null && !targetIds.add(target.getId())) {
+                violations.add(prefix + "Id must be unique within the rule");
+            }
+
+            validateTarget(target, prefix, violations);
+            validateBatchParameters(target.getBatchParameters(), prefix, violations);
+            validateEcsParameters(target.getEcsParameters(), prefix, violations);
+            validateHttpParameters(target.getHttpParameters(), prefix, violations);
+            validateInputTransformer(target.getInputTransformer(), prefix, violations);
+            validateKinesisParameters(target.getKinesisParameters(), prefix, violations);
+            validateRedshiftDataParameters(target.getRedshiftDataParameters(), prefix, violations);
+            validateRetryPolicy(target.getRetryPolicy(), prefix, violations);
+            validateRunCommandParameters(target.getRunCommandParameters(), prefix, violations);
+            validateSqsParameters(target, prefix, violations);
+            validateSageMakerPipelineParameters(target.getSageMakerPipelineParameters(), prefix, violations);
+        }
+
+        if (!violations.isEmpty()) {
+            throw new CfnInvalidRequestException(String.join("; ", violations));
+        }
+    }
+
+    private static void validateTarget(final Target target, final String prefix, final List<String> violations) {
+        if (target.getId() == null || target.getId().isEmpty() || target.getId().length() > TARGET_ID_MAX_LENGTH
+                || !TARGET_ID_PATTERN.matcher(target.getId()).matches()) {
+            violations.add(prefix + String.format("Id must be 1 to %d characters of [.-_A-Za-z0-9]", TARGET_ID_MAX_LENGTH));
+        }
+        if (target.getArn() == null || target.getArn().isEmpty() || target.getArn().length() > TARGET_ARN_MAX_LENGTH) {
+            violations.add(prefix + String.format("Arn must be 1 to %d characters", TARGET_ARN_MAX_LENGTH));
+        }
+
+        int inputOptions = 0;
+        if (target.getInput() != null) {
+            inputOptions++;
+            checkMaxLength(target.getInput(), INPUT_MAX_LENGTH, "Input", prefix, violations);
+        }
+        if (target.getInputPath() != null) {
+            inputOptions++;
+            checkMaxLength(target.getInputPath(), INPUT_PATH_MAX_LENGTH, "InputPath", prefix, violations);
+        }
+        if (target.getInputTransformer() != null) {
+            inputOptions++;
+        }
+        if (inputOptions > 1) {
+            violations.add(prefix + "only one of Input, InputPath and InputTransformer may be specified");
+        }
+    }
+
+    private static void validateBatchParameters(final BatchParameters batchParameters, final String prefix, final List<String> violations) {
+        if (batchParameters == null) {
+            return;
+        }
+        if (batchParameters.getArrayProperties() != null) {
+            checkRange(batchParameters.getArrayProperties().getSize(), BATCH_ARRAY_SIZE_MIN, BATCH_ARRAY_SIZE_MAX,
+                    "BatchParameters.ArrayProperties.Size", prefix, violations);
+        }
+        if (batchParameters.getRetryStrategy() != null) {
+            checkRange(batchParameters.getRetryStrategy().getAttempts(), BATCH_ATTEMPTS_MIN, BATCH_ATTEMPTS_MAX,
+                    "BatchParameters.RetryStrategy.Attempts", prefix, violations);
+        }
+    }
+
+    private static void validateEcsParameters(final EcsParameters ecsParameters, final String prefix, final List<String> violations) {
+        if (ecsParameters == null) {
+            return;
+        }
+        if (ecsParameters.getTaskCount() != null && ecsParameters.getTaskCount() < ECS_TASK_COUNT_MIN) {
+            violations.add(prefix + String.format("EcsParameters.TaskCount must be at least %d", ECS_TASK_COUNT_MIN));
+        }
+        // LaunchType, PropagateTags and AssignPublicIp are left to the service, which may accept values this SDK does not know
+        if (ecsParameters.getLaunchType() != null && !isNullOrEmpty(ecsParameters.getCapacityProviderStrategy())) {
+            violations.add(prefix + "EcsParameters.LaunchType must be omitted when a CapacityProviderStrategy is specified");
+        }
+        checkMaxItems(ecsParameters.getPlacementConstraints(), ECS_PLACEMENT_CONSTRAINTS_MAX,
+                "EcsParameters.PlacementConstraints", prefix, violations);
+        checkMaxItems(ecsParameters.getPlacementStrategies(), ECS_PLACEMENT_STRATEGIES_MAX,
+                "EcsParameters.PlacementStrategies", prefix, violations);
+        checkMaxItems(ecsParameters.getCapacityProviderStrategy(), ECS_CAPACITY_PROVIDER_STRATEGY_MAX,
+                "EcsParameters.CapacityProviderStrategy", prefix, violations);
+
+        if (ecsParameters.getCapacityProviderStrategy() != null) {
+            for (final CapacityProviderStrategyItem item : ecsParameters.getCapacityProviderStrategy()) {
+                checkRange(item.getWeight(), 0, ECS_CAPACITY_PROVIDER_WEIGHT_MAX,
+                        "EcsParameters.CapacityProviderStrategy.Weight", prefix, violations);
+                checkRange(item.getBase(), 0, ECS_CAPACITY_PROVIDER_BASE_MAX,
+                        "EcsParameters.CapacityProviderStrategy.Base", prefix, violations);
+            }
+        }
+    }
+
+    private static void validateHttpParameters(final HttpParameters httpParameters, final String prefix, final List<String> violations) {
+        if (httpParameters == null) {
+            return;
+        }
+        checkEntries(httpParameters.getHeaderParameters(), HTTP_PARAMETER_MAX_LENGTH,
+                "HttpParameters.HeaderParameters", prefix, violations);
+        checkEntries(httpParameters.getQueryStringParameters(), HTTP_PARAMETER_MAX_LENGTH,
+                "HttpParameters.QueryStringParameters", prefix, violations);
+
+        if (httpParameters.getPathParameterValues() != null) {
+            for (final String value : httpParameters.getPathParameterValues()) {
+                checkMaxLength(value, HTTP_PARAMETER_MAX_LENGTH, "HttpParameters.PathParameterValues", prefix, violations);
+            }
+        }
+    }
+
+    private static void validateInputTransformer(final InputTransformer inputTransformer, final String prefix, final List<String> violations) {
+        if (inputTransformer == null) {
+            return;
+        }
+        if (inputTransformer.getInputTemplate() == null || inputTransformer.getInputTemplate().isEmpty()
+                || inputTransformer.getInputTemplate().length() > INPUT_TEMPLATE_MAX_LENGTH) {
+            violations.add(prefix + String.format("InputTransformer.InputTemplate must be 1 to %d characters", INPUT_TEMPLATE_MAX_LENGTH));
+        }
+
+        final Map<String, String> inputPathsMap = inputTransformer.getInputPathsMap();
+        if (inputPathsMap == null) {
+            return;
+        }
+        if (inputPathsMap.size() > INPUT_PATHS_MAP_MAX_ENTRIES) {
+            violations.add(prefix + String.format("InputTransformer.InputPathsMap must not have more than %d entries", INPUT_PATHS_MAP_MAX_ENTRIES));
+        }
+        for (final Map.Entry<String, String> entry : inputPathsMap.entrySet()) {
+            final String key = entry.getKey();
+            final String value = entry.getValue();
+
+            if (key == null || key.isEmpty() || key.length() > INPUT_PATHS_MAP_KEY_MAX_LENGTH
+                    || !INPUT_PATHS_MAP_KEY_PATTERN.matcher(key).matches()) {
+                violations.add(prefix + String.format("InputTransformer.InputPathsMap key [%s] must be 1 to %d characters of [A-Za-z0-9_-]",
+                        key, INPUT_PATHS_MAP_KEY_MAX_LENGTH));
+            } else if (key.startsWith(RESERVED_INPUT_PATHS_MAP_KEY_PREFIX)) {
+                violations.add(prefix + String.format("InputTransformer.InputPathsMap key [%s] must not start with %s",
+                        key, RESERVED_INPUT_PATHS_MAP_KEY_PREFIX));
+            }
+            if (value == null || !value.startsWith("$") || value.length() > INPUT_PATHS_MAP_VALUE_MAX_LENGTH) {
+                violations.add(prefix + String.format("InputTransformer.InputPathsMap value for [%s] must be a JSON path of at most %d characters",
+                        key, INPUT_PATHS_MAP_VALUE_MAX_LENGTH));
+            }
+        }
+    }
+
+    private static void validateKinesisParameters(final KinesisParameters kinesisParameters, final String prefix, final List<String> violations) {
+        if (kinesisParameters == null) {
+            return;
+        }
+        checkMaxLength(kinesisParameters.getPartitionKeyPath(), KINESIS_PARTITION_KEY_PATH_MAX_LENGTH,
+                "KinesisParameters.PartitionKeyPath", prefix, violations);
+    }
+
+    private static void validateRedshiftDataParameters(final RedshiftDataParameters redshiftDataParameters, final String prefix, final List<String> violations) {
+        if (redshiftDataParameters == null) {
+            return;
+        }
+        checkMaxLength(redshiftDataParameters.getDatabase(), REDSHIFT_DATABASE_MAX_LENGTH,
+                "RedshiftDataParameters.Database", prefix, violations);
+        checkMaxLength(redshiftDataParameters.getDbUser(), REDSHIFT_DB_USER_MAX_LENGTH,
+                "RedshiftDataParameters.DbUser", prefix, violations);
+        checkMaxLength(redshiftDataParameters.getSql(), REDSHIFT_SQL_MAX_LENGTH,
+                "RedshiftDataParameters.Sql", prefix, violations);
+        checkMaxLength(redshiftDataParameters.getStatementName(), REDSHIFT_STATEMENT_NAME_MAX_LENGTH,
+                "RedshiftDataParameters.StatementName", prefix, violations);
+    }
+
+    private static void validateRetryPolicy(final RetryPolicy retryPolicy, final String prefix, final List<String> violations) {
+        if (retryPolicy == null) {
+            return;
+        }
+        checkRange(retryPolicy.getMaximumEventAgeInSeconds(), RETRY_POLICY_MAXIMUM_EVENT_AGE_MIN, RETRY_POLICY_MAXIMUM_EVENT_AGE_MAX,
+                "RetryPolicy.MaximumEventAgeInSeconds", prefix, violations);
+        checkRange(retryPolicy.getMaximumRetryAttempts(), 0, RETRY_POLICY_MAXIMUM_RETRY_ATTEMPTS_MAX,
+                "RetryPolicy.MaximumRetryAttempts", prefix, violations);
+    }
+
+    private static void validateRunCommandParameters(final RunCommandParameters runCommandParameters, final String prefix, final List<String> violations) {
+        if (runCommandParameters == null) {
+            return;
+        }
+        final Set<RunCommandTarget> runCommandTargets = runCommandParameters.getRunCommandTargets();
+
+        if (isNullOrEmpty(runCommandTargets) || runCommandTargets.size() > RUN_COMMAND_TARGETS_MAX) {
+            violations.add(prefix + String.format("RunCommandParameters.RunCommandTargets must have 1 to %d items", RUN_COMMAND_TARGETS_MAX));
+            return;
+        }
+        for (final RunCommandTarget runCommandTarget : runCommandTargets) {
+            final String key = runCommandTarget.getKey();
+
+            if (key == null || key.isEmpty() || key.length() > RUN_COMMAND_TARGET_KEY_MAX_LENGTH
+                    || !RUN_COMMAND_TARGET_KEY_PATTERN.matcher(key).matches()) {
+                violations.add(prefix + String.format("RunCommandParameters.RunCommandTargets key [%s] must be 1 to %d valid characters",
+                        key, RUN_COMMAND_TARGET_KEY_MAX_LENGTH));
+            }
+            if (isNullOrEmpty(runCommandTarget.getValues()) || runCommandTarget.getValues().size() > RUN_COMMAND_TARGET_VALUES_MAX) {
+                violations.add(prefix + String.format("RunCommandParameters.RunCommandTargets values for [%s] must have 1 to %d items",
+                        key, RUN_COMMAND_TARGET_VALUES_MAX));
+            } else {
+                for (final String value : runCommandTarget.getValues()) {
+                    checkMaxLength(value, RUN_COMMAND_TARGET_VALUE_MAX_LENGTH,
+                            "RunCommandParameters.RunCommandTargets.Values", prefix, violations);
+                }
+            }
+        }
+    }
+
+    private static void validateSqsParameters(final Target target, final String prefix, final List<String> violations) {
+        final SqsParameters sqsParameters = target.getSqsParameters();
+        final boolean fifoQueue = target.getArn() != null
+                && target.getArn().contains(SQS_ARN_PREFIX)
+                && target.getArn().endsWith(SQS_FIFO_QUEUE_SUFFIX);
+
+        if (fifoQueue && (sqsParameters == null || sqsParameters.getMessageGroupId() == null
+                || sqsParameters.getMessageGroupId().isEmpty())) {
+            violations.add(prefix + "SqsParameters.MessageGroupId is required for a FIFO queue");
+        }
+        if (sqsParameters != null) {
+            checkMaxLength(sqsParameters.getMessageGroupId(), SQS_MESSAGE_GROUP_ID_MAX_LENGTH,
+                    "SqsParameters.MessageGroupId", prefix, violations);
+        }
+    }
+
+    private static void validateSageMakerPipelineParameters(final SageMakerPipelineParameters sageMakerPipelineParameters, final String prefix, final List<String> violations) {
+        if (sageMakerPipelineParameters == null || sageMakerPipelineParameters.getPipelineParameterList() == null) {
+            return;
+        }
+        checkMaxItems(sageMakerPipelineParameters.getPipelineParameterList(), SAGEMAKER_PIPELINE_PARAMETERS_MAX,
+                "SageMakerPipelineParameters.PipelineParameterList", prefix, violations);
+
+        for (final SageMakerPipelineParameter parameter : sageMakerPipelineParameters.getPipelineParameterList()) {
+            checkMaxLength(parameter.getName(), SAGEMAKER_PIPELINE_PARAMETER_NAME_MAX_LENGTH,
+                    "SageMakerPipelineParameters.PipelineParameterList.Name", prefix, violations);
+            checkMaxLength(parameter.getValue(), SAGEMAKER_PIPELINE_PARAMETER_VALUE_MAX_LENGTH,
+                    "SageMakerPipelineParameters.PipelineParameterList.Value", prefix, violations);
+        }
+    }
+
+    // STATIC HELPER FUNCTIONS
+
+    private static void checkRange(final Integer value, final int min, final int max, final String name,
+                                   final String prefix, final List<String> violations) {
+        if (value != null && (value < min || value > max)) {
+            violations.add(prefix + String.format("%s must be between %d and %d", name, min, max));
+        }
+    }
+
+    private static void checkMaxLength(final String value, final int maxLength, final String name,
+                                       final String prefix, final List<String> violations) {
+        if (value != null && value.length() > maxLength) {
+            violations.add(prefix + String.format("%s must not be longer than %d characters", name, maxLength));
+        }
+    }
+
+    private static void checkMaxItems(final Collection<?> items, final int maxItems, final String name,
+                                      final String prefix, final List<String> violations) {
+        if (items != null && items.size() > maxItems) {
+            violations.add(prefix + String.format("%s must not have more than %d items", name, maxItems));
+        }
+    }
+
+    private static void checkEntries(final Map<String, String> entries, final int maxLength, final String name,
+                                     final String prefix, final List<String> violations) {
+        if (entries == null) {
+            return;
+        }
+        for (final Map.Entry<String, String> entry : entries.entrySet()) {
+            checkMaxLength(entry.getKey(), maxLength, name + " key", prefix, violations);
+            checkMaxLength(entry.getValue(), maxLength, name + " value", prefix, violations);
+        }
+    }
+
+    private static boolean isNullOrEmpty(final Collection<?> collection) {
+        return collection == null || collection.isEmpty();
+    }
+}
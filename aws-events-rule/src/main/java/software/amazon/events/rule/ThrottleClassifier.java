@@ -0,0 +1,103 @@
+package software.amazon.events.rule;
+
+import com.amazonaws.AmazonServiceException;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Classifies service exceptions of both the v2 SDK (AwsServiceException), which the CloudWatchEventsClient throws,
+ * and the v1 SDK (AmazonServiceException).
+ */
+final class ThrottleClassifier {
+    static final int STATUS_CODE_TOO_MANY_REQUESTS = 429;
+    static final int STATUS_CODE_SERVER_ERROR = 500;
+
+    private static final Set<String> THROTTLING_ERROR_CODES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            BaseHandlerStd.ERROR_CODE_THROTTLING_EXCEPTION,
+            "Throttling",
+            "TooManyRequestsException",
+            "RequestLimitExceeded",
+            "RequestThrottled",
+            "RequestThrottledException",
+            "PriorRequestNotComplete"
+    )));
+
+    private static final Set<String> TRANSIENT_ERROR_CODES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "InternalException",
+            "InternalFailure",
+            "ServiceUnavailable",
+            "RequestTimeout",
+            "RequestTimeoutException"
+    )));
+
+    private ThrottleClassifier() {
+    }
+
+    /**
+     * @param e The exception thrown by a service call
+     * @return Whether the service rejected the call because of its request rate
+     */
+    static boolean isThrottle(final Throwable e) {
+        final Throwable cause = unwrap(e);
+
+        if (cause instanceof AwsServiceException) {
+            final AwsServiceException serviceException = (AwsServiceException) cause;
+            return THROTTLING_ERROR_CODES.contains(errorCode(serviceException))
+                    || serviceException.statusCode() == STATUS_CODE_TOO_MANY_REQUESTS;
+        }
+        if (cause instanceof AmazonServiceException) {
+            final AmazonServiceException serviceException = (AmazonServiceException) cause;
+            return THROTTLING_ERROR_CODES.contains(serviceException.getErrorCode())
+                    || serviceException.getStatusCode() == STATUS_CODE_TOO_MANY_REQUESTS;
+        }
+        return false;
+    }
+
+    /**
+     * @param e The exception thrown by a service call
+     * @return Whether the call may succeed if it is repeated unchanged (throttles and transient service failures)
+     */
+    static boolean isRetryable(final Throwable e) {
+        if (isThrottle(e)) {
+            return true;
+        }
+
+        final Throwable cause = unwrap(e);
+
+        if (cause instanceof AwsServiceException) {
+            final AwsServiceException serviceException = (AwsServiceException) cause;
+            return TRANSIENT_ERROR_CODES.contains(errorCode(serviceException))
+                    || serviceException.statusCode() >= STATUS_CODE_SERVER_ERROR;
+        }
+        if (cause instanceof AmazonServiceException) {
+            final AmazonServiceException serviceException = (AmazonServiceException) cause;
+            return TRANSIENT_ERROR_CODES.contains(serviceException.getErrorCode())
+                    || serviceException.getStatusCode() >= STATUS_CODE_SERVER_ERROR;
+        }
+        return false;
+    }
+
+    /**
+     * @param errorCode The error code of a service exception or of a failed PutTargets/RemoveTargets entry
+     * @return Whether the error code denotes a throttle or a transient service failure
+     */
+    static boolean isRetryableErrorCode(final String errorCode) {
+        return THROTTLING_ERROR_CODES.contains(errorCode) || TRANSIENT_ERROR_CODES.contains(errorCode);
+    }
+
+    private static String errorCode(final AwsServiceException e) {
+        return e.awsErrorDetails() != null ? e.awsErrorDetails().errorCode() : null;
+    }
+
+    /**
+     * Async service calls surface their failures wrapped in a CompletionException.
+     */
+    private static Throwable unwrap(final Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+}
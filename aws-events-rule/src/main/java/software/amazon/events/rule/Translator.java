@@ -1,9 +1,5 @@
 package software.amazon.events.rule;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.core.type.TypeReference;
 import software.amazon.awssdk.services.cloudwatchevents.model.AwsVpcConfiguration;
 import software.amazon.awssdk.services.cloudwatchevents.model.BatchParameters;
 import software.amazon.awssdk.services.cloudwatchevents.model.BatchRetryStrategy;
@@ -28,7 +24,10 @@ import software.amazon.awssdk.services.cloudwatchevents.model.DescribeRuleRespon
 import software.amazon.awssdk.services.cloudwatchevents.model.DescribeRuleRequest;
 import software.amazon.awssdk.services.cloudwatchevents.model.ListTargetsByRuleResponse;
 import software.amazon.awssdk.services.cloudwatchevents.model.DeleteRuleRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.DisableRuleRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.EnableRuleRequest;
 import software.amazon.awssdk.services.cloudwatchevents.model.RemoveTargetsRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.ListEventBusesRequest;
 import software.amazon.awssdk.services.cloudwatchevents.model.ListRulesRequest;
 import software.amazon.awssdk.services.cloudwatchevents.model.ListTargetsByRuleRequest;
 import software.amazon.awssdk.services.cloudwatchevents.model.ListRulesResponse;
@@ -36,11 +35,9 @@ import software.amazon.awssdk.services.cloudwatchevents.model.CapacityProviderSt
 import software.amazon.awssdk.services.cloudwatchevents.model.PlacementConstraint;
 import software.amazon.awssdk.services.cloudwatchevents.model.Tag;
 import software.amazon.awssdk.services.cloudwatchevents.model.SageMakerPipelineParameter;
-import software.amazon.cloudformation.exceptions.TerminalException;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -50,8 +47,6 @@ import java.util.stream.Stream;
 
 public class Translator {
 
-  private static final ObjectMapper MAPPER = new ObjectMapper();
-
   // CREATE/UPDATE
 
   /**
@@ -66,11 +61,7 @@ public class Translator {
     PutRuleRequest.Builder putRuleRequestBuilder = PutRuleRequest.builder();
 
     if (model.getEventPattern() != null) {
-      try {
-        eventPattern = MAPPER.writeValueAsString(model.getEventPattern());
-      } catch (final JsonProcessingException e) {
-        throw new TerminalException(e);
-      }
+      eventPattern = LazyEventPattern.toJson(model.getEventPattern());
     }
 
     return putRuleRequestBuilder
@@ -92,13 +83,23 @@ public class Translator {
    * @return A PutTargetsRequest
    */
   static PutTargetsRequest translateToPutTargetsRequest(final ResourceModel model, final CompositePID compositePID) {
+    return translateToPutTargetsRequest(model.getTargets(), compositePID);
+  }
+
+  /**
+   * Generates a PutTargetsRequest for a subset of the targets of a Rule.
+   * @param modelTargets The Targets to put
+   * @param compositePID The CompositePID of the Rule
+   * @return A PutTargetsRequest, or null if modelTargets is null
+   */
+  static PutTargetsRequest translateToPutTargetsRequest(final Collection<software.amazon.events.rule.Target> modelTargets, final CompositePID compositePID) {
     PutTargetsRequest putTargetsRequest = null;
 
-    if (model.getTargets() != null) {
+    if (modelTargets != null) {
 
       ArrayList<Target> targets = new ArrayList<>();
 
-      for (software.amazon.events.rule.Target target : model.getTargets()) {
+      for (software.amazon.events.rule.Target target : modelTargets) {
         Target.Builder targetBuilder = Target.builder();
 
         addBatchParameters(targetBuilder, target.getBatchParameters());
@@ -133,6 +134,30 @@ public class Translator {
     return putTargetsRequest;
   }
 
+  /**
+   * Generates an EnableRuleRequest for a Rule.
+   * @param compositePID The CompositePID of the Rule
+   * @return An EnableRuleRequest
+   */
+  static EnableRuleRequest translateToEnableRuleRequest(final CompositePID compositePID) {
+    return EnableRuleRequest.builder()
+            .name(compositePID.getEventRuleName())
+            .eventBusName(compositePID.getEventBusName())
+            .build();
+  }
+
+  /**
+   * Generates a DisableRuleRequest for a Rule.
+   * @param compositePID The CompositePID of the Rule
+   * @return A DisableRuleRequest
+   */
+  static DisableRuleRequest translateToDisableRuleRequest(final CompositePID compositePID) {
+    return DisableRuleRequest.builder()
+            .name(compositePID.getEventRuleName())
+            .eventBusName(compositePID.getEventBusName())
+            .build();
+  }
+
   // READ
   /**
    * Generates a DescribeRuleRequest based on a ResourceModel.
@@ -157,19 +182,8 @@ public class Translator {
    */
   static ResourceModel.ResourceModelBuilder translateFromDescribeRuleResponse(final DescribeRuleResponse awsResponse) {
     // e.g. https://github.com/aws-cloudformation/aws-cloudformation-resource-providers-logs/blob/2077c92299aeb9a68ae8f4418b5e932b12a8b186/aws-logs-loggroup/src/main/java/com/aws/logs/loggroup/Translator.java#L58-L73
-    TypeReference<HashMap<String, Object>> typeRef = new TypeReference<HashMap<String, Object>>() {};
-    HashMap<String, Object> eventPattern = null;
-
-    if (awsResponse.eventPattern() != null) {
-      try {
-        eventPattern = MAPPER.readValue(
-                awsResponse.eventPattern(),
-                typeRef
-        );
-      } catch (JsonProcessingException e) {
-        throw new RuntimeException(e);
-      }
-    }
+    // Parsed only once the pattern is inspected
+    final Object eventPattern = awsResponse.eventPattern() == null ? null : new LazyEventPattern(awsResponse.eventPattern());
 
     return ResourceModel.builder()
             .arn(awsResponse.arn())
@@ -270,14 +284,27 @@ public class Translator {
 
   // LIST
 
+  /**
+   * Generates a ListEventBusesRequest.
+   * @param nextToken The nextToken in case there are too many Event Buses to be sent in one SDK call
+   * @return A ListEventBusesRequest
+   */
+  static ListEventBusesRequest translateToListEventBusesRequest(final String nextToken) {
+    return ListEventBusesRequest.builder()
+            .nextToken(nextToken)
+            .build();
+  }
+
   /**
    * Generates a ListRulesRequest.
+   * @param eventBusName The name of the Event Bus to list the Rules of
    * @param nextToken The nextToken in case there are too many Rules to be sent in one SDK call
    * @return A ListRulesRequest
    */
-  static ListRulesRequest translateToListRulesRequest(final String nextToken) {
+  static ListRulesRequest translateToListRulesRequest(final String eventBusName, final String nextToken) {
     // e.g. https://github.com/aws-cloudformation/aws-cloudformation-resource-providers-logs/blob/2077c92299aeb9a68ae8f4418b5e932b12a8b186/aws-logs-loggroup/src/main/java/com/aws/logs/loggroup/Translator.java#L26-L31
     return ListRulesRequest.builder()
+            .eventBusName(eventBusName)
             .nextToken(nextToken)
             .build();
   }
@@ -288,11 +315,22 @@ public class Translator {
    * @return A ListTargetsByRuleRequest
    */
   static ListTargetsByRuleRequest translateToListTargetsByRuleRequest(final CompositePID compositePID) {
+    return translateToListTargetsByRuleRequest(compositePID, null);
+  }
+
+  /**
+   * Generates a ListTargetsByRuleRequest for a given page of Targets.
+   * @param compositePID The CompositePID of the Rule
+   * @param nextToken The nextToken of the previous page, or null for the first page
+   * @return A ListTargetsByRuleRequest
+   */
+  static ListTargetsByRuleRequest translateToListTargetsByRuleRequest(final CompositePID compositePID, final String nextToken) {
 
     // e.g. https://github.com/aws-cloudformation/aws-cloudformation-resource-providers-logs/blob/2077c92299aeb9a68ae8f4418b5e932b12a8b186/aws-logs-loggroup/src/main/java/com/aws/logs/loggroup/Translator.java#L20-L24
     return ListTargetsByRuleRequest.builder()
             .rule(compositePID.getEventRuleName())
             .eventBusName(compositePID.getEventBusName())
+            .nextToken(nextToken)
             .build();
   }
 
@@ -1,16 +1,20 @@
 package software.amazon.events.rule;
 
-import org.apache.commons.collections4.CollectionUtils;
 import software.amazon.awssdk.services.cloudwatchevents.CloudWatchEventsClient;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.events.common.StepTracer;
 
-import java.util.ArrayList;
+import java.util.List;
 
 public class UpdateHandler extends BaseHandlerStd {
+    private static final String UPDATE_RULE = "AWS-Events-Rule::Update::Rule";
+    private static final String DESCRIBE_RULE = "AWS-Events-Rule::Update::DescribeRule";
+    private static final String DELETE_TARGETS = "AWS-Events-Rule::Update::DeleteTargets";
+    private static final String PUT_TARGETS = "AWS-Events-Rule::Update::Targets";
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -21,68 +25,119 @@ public class UpdateHandler extends BaseHandlerStd {
 
         this.logger = logger;
         final ResourceModel resourceModel = request.getDesiredResourceState();
-        final CompositePID compositePID = new CompositePID(resourceModel, request.getAwsAccountId());
+        final CompositePID compositePID = CompositePIDCache.getInstance().resolve(resourceModel, request.getAwsAccountId());
+        resourceModel.setId(compositePID.getPid());
+        restoreRuleArn(resourceModel, callbackContext);
 
-        // Create lists of ids
-        ArrayList<String> existingTargetIds = new ArrayList<>();
-        ArrayList<String> modelTargetIds = new ArrayList<>();
-        ArrayList<String> targetIdsToDelete = new ArrayList<>();
-
-        // Build the list of Targets ids that already exist
-        if (request.getPreviousResourceState().getTargets() != null) {
-            for (software.amazon.events.rule.Target target : request.getPreviousResourceState().getTargets()) {
-                existingTargetIds.add(target.getId());
+        // Return right away when nothing effective changed, provided the ARN of the rule is already known. Without a
+        // previous state, everything is taken to have changed
+        final ResourceModel previousModel = request.getPreviousResourceState();
+        if (previousModel != null && ModelFingerprint.of(previousModel).equals(ModelFingerprint.of(resourceModel))) {
+            final String ruleArn = resourceModel.getArn() != null ? resourceModel.getArn() : previousModel.getArn();
+            if (ArnParser.parseRuleArn(ruleArn) != null) {
+                logger.log(String.format("StackId: %s: %s [%s] is unchanged, skipping the update.", request.getStackId(),
+                        ResourceModel.TYPE_NAME, compositePID.getPid()));
+                resourceModel.setArn(ruleArn);
+                return ProgressEvent.defaultSuccessHandler(resourceModel);
             }
         }
 
-        // Build the list of Targets ids that should exist after update
-        if (request.getDesiredResourceState().getTargets() != null) {
-            for (software.amazon.events.rule.Target target : request.getDesiredResourceState().getTargets()) {
-                modelTargetIds.add(target.getId());
-            }
-        }
+        // Classify targets so that only added/changed ones are put and only removed ones are deleted
+        final TargetDiff targetDiff = TargetDiff.between(
+                previousModel != null ? previousModel.getTargets() : null,
+                resourceModel.getTargets());
+        final List<String> targetIdsToDelete = targetDiff.getRemovedIds();
+        final List<Target> targetsToPut = targetDiff.getTargetsToPut();
 
-        // Subtract model target ids from existing target ids to get the list of Targets to delete
-        targetIdsToDelete.addAll(CollectionUtils.subtract(existingTargetIds, modelTargetIds));
+        // Skip PutRule when only targets changed, and toggle State with EnableRule/DisableRule when nothing else changed
+        final RuleChangePlanner.RuleChange ruleChange = RuleChangePlanner.plan(previousModel, resourceModel);
 
         return ProgressEvent.progress(resourceModel, callbackContext)
 
-            // STEP 1 [update the rule]putTargetsRequest
-            .then(progress ->
-                proxy.initiate("AWS-Events-Rule::Update::Rule", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                    .translateToServiceRequest(model -> Translator.translateToPutRuleRequest(model, compositePID))
-                    .makeServiceCall((awsRequest, client) -> putRule(awsRequest, client, logger, request.getStackId()))
-                    .stabilize((awsRequest, awsResponse, client, model, context) -> stabilizePutRule(client, compositePID, logger, request.getStackId()))
+            // STEP 0 [reject an event pattern, schedule and targets that PutRule and PutTargets can never accept]
+            .then(progress -> validateEventPattern(progress, logger, request.getStackId()))
+            .then(progress -> validateScheduleExpression(progress, logger, request.getStackId()))
+            .then(progress -> validateTargets(progress, logger, request.getStackId()))
+
+            // STEP 1 [update the rule]
+            .then(progress -> runStep(UPDATE_RULE, progress, () -> {
+                switch (ruleChange) {
+                    case NONE:
+                        return progress;
+                    case ENABLE:
+                        return proxy.initiate("AWS-Events-Rule::Update::EnableRule", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                            .translateToServiceRequest(model -> Translator.translateToEnableRuleRequest(compositePID))
+                            .makeServiceCall((awsRequest, client) -> enableRule(awsRequest, client, logger, request.getStackId()))
+                            .handleError(this::handleError)
+                            .progress();
+                    case DISABLE:
+                        return proxy.initiate("AWS-Events-Rule::Update::DisableRule", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                            .translateToServiceRequest(model -> Translator.translateToDisableRuleRequest(compositePID))
+                            .makeServiceCall((awsRequest, client) -> disableRule(awsRequest, client, logger, request.getStackId()))
+                            .handleError(this::handleError)
+                            .progress();
+                    default:
+                        return proxy.initiate(UPDATE_RULE, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                            .translateToServiceRequest(model -> Translator.translateToPutRuleRequest(model, compositePID))
+                            .makeServiceCall((awsRequest, client) -> putRule(awsRequest, client, logger, request.getStackId()))
+                            .stabilize((awsRequest, awsResponse, client, model, context) -> StepTracer.current().poll(STABILIZE,
+                                () -> stabilizePutRule(client, compositePID, logger, request.getStackId())))
+                            .handleError(this::handleError)
+                            .done(awsResponse -> {
+                                progress.getResourceModel().setArn(awsResponse.ruleArn());
+                                callbackContext.getStepJournal().putOutput(OUTPUT_RULE_ARN, awsResponse.ruleArn());
+                                return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext);
+                            });
+                }
+            }))
+
+            // STEP 1.1 [resolve the identifiers when PutRule was skipped]
+            .then(progress -> ruleChange == RuleChangePlanner.RuleChange.PUT_RULE ? progress : runStep(DESCRIBE_RULE, progress, () -> {
+                // PutRule is only skipped when there is a previous state
+                if (progress.getResourceModel().getArn() == null) {
+                    progress.getResourceModel().setArn(previousModel.getArn());
+                }
+
+                // Without PutRule nothing has confirmed that the rule exists, and the identifier may be a legacy physical id
+                final boolean hasRuleArn = ArnParser.parseRuleArn(progress.getResourceModel().getArn()) != null;
+                if (ruleChange != RuleChangePlanner.RuleChange.NONE && hasRuleArn) {
+                    callbackContext.getStepJournal().putOutput(OUTPUT_RULE_ARN, progress.getResourceModel().getArn());
+                    return progress;
+                }
+
+                return proxy.initiate(DESCRIBE_RULE, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                    .translateToServiceRequest(model -> Translator.translateToDescribeRuleRequest(compositePID))
+                    .makeServiceCall((awsRequest, client) -> describeRule(awsRequest, client, logger, request.getStackId()))
                     .handleError(this::handleError)
                     .done(awsResponse -> {
-                        progress.getResourceModel().setArn(awsResponse.ruleArn());
-                        progress.getResourceModel().setId(compositePID.getPid());
-                        return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext);
-                    })
-            )
+                        progress.getResourceModel().setArn(awsResponse.arn());
+                        callbackContext.getStepJournal().putOutput(OUTPUT_RULE_ARN, awsResponse.arn());
+                        return ProgressEvent.progress(progress.getResourceModel(), callbackContext);
+                    });
+            }))
 
             // STEP 2 [delete extra targets]
             .then(progress -> targetIdsToDelete.size() == 0 ?
                         progress :
-                        proxy.initiate("AWS-Events-Rule::Update::DeleteTargets", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                    .translateToServiceRequest(model -> Translator.translateToRemoveTargetsRequest(compositePID, targetIdsToDelete))
-                    .makeServiceCall((awsRequest, client) -> removeTargets(awsRequest, client, logger, request.getStackId()))
-                    .stabilize((awsRequest, awsResponse, client, model, context) -> stabilizeRemoveTargets(awsResponse, client, compositePID, callbackContext, logger, request.getStackId()))
-                    .handleError(this::handleError)
-                    .progress()
+                        runStep(DELETE_TARGETS, progress, () -> removeTargetsWithRetries(progress, compositePID, targetIdsToDelete,
+                                proxyClient, logger, request.getStackId()))
             )
 
-            // STEP 3 [put targets]
-            .then(progress -> progress.getResourceModel().getTargets() == null || progress.getResourceModel().getTargets().size() == 0 ?
+            // STEP 3 [put added and changed targets]
+            .then(progress -> targetsToPut.size() == 0 ?
                         progress :
-                        proxy.initiate("AWS-Events-Rule::Update::Targets", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                    .translateToServiceRequest((model) -> Translator.translateToPutTargetsRequest(model, compositePID))
-                    .makeServiceCall((awsRequest, client) -> putTargets(awsRequest, client, logger, request.getStackId()))
-                    .stabilize((awsRequest, awsResponse, client, model, context) -> stabilizePutTargets(awsResponse, client, model, context, logger, request.getStackId(), compositePID))
-                    .handleError(this::handleError)
-                    .done(awsResponse -> delayedProgress(progress, 30, 2))
+                        runStep(PUT_TARGETS, progress, () -> putTargetsWithRetries(progress,
+                                Translator.translateToPutTargetsRequest(targetsToPut, compositePID), proxyClient,
+                                this::handleError, logger, request.getStackId()))
             )
 
+            // STEP 3.1 [wait until the added and changed targets are visible]
+            .then(progress -> targetsToPut.size() == 0 ?
+                        progress :
+                        awaitPropagation(progress, "TargetsUpdated",
+                                () -> targetsAreVisible(proxyClient, compositePID, extractTargetIds(targetsToPut), logger, request.getStackId()),
+                                logger, request.getStackId()))
+
             // STEP 4 [describe call/chain to return the resource model]
             .then(progress -> ProgressEvent.defaultSuccessHandler(progress.getResourceModel()));
     }
@@ -0,0 +1,135 @@
+package software.amazon.events.rule;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.cloudwatchevents.CloudWatchEventsClient;
+import software.amazon.awssdk.services.cloudwatchevents.model.DescribeRuleRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.DescribeRuleResponse;
+import software.amazon.awssdk.services.cloudwatchevents.model.ResourceNotFoundException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class AdaptiveRateLimiterTest extends AbstractTestBase {
+    private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Mock
+    private ProxyClient<CloudWatchEventsClient> delegate;
+
+    private long now;
+    private List<Long> sleeps;
+    private AdaptiveRateLimiter rateLimiter;
+
+    @BeforeEach
+    public void setup() {
+        now = 0;
+        sleeps = new ArrayList<>();
+        rateLimiter = new AdaptiveRateLimiter(1.0, 8.0, 1.0, 0.5, () -> now, nanos -> {
+            sleeps.add(nanos);
+            now += nanos;
+        });
+    }
+
+    @Test
+    public void acquire_DoesNotPaceAtMaximumRate() {
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.acquire();
+        }
+
+        assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    public void onThrottle_DecreasesMultiplicatively() {
+        rateLimiter.onThrottle();
+        assertThat(rateLimiter.getRate()).isEqualTo(4.0);
+
+        rateLimiter.onThrottle();
+        rateLimiter.onThrottle();
+        rateLimiter.onThrottle();
+        assertThat(rateLimiter.getRate()).isEqualTo(1.0);
+    }
+
+    @Test
+    public void onSuccess_IncreasesAdditively() {
+        rateLimiter.onThrottle();
+        rateLimiter.onThrottle();
+
+        rateLimiter.onSuccess();
+        assertThat(rateLimiter.getRate()).isEqualTo(3.0);
+
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.onSuccess();
+        }
+        assertThat(rateLimiter.getRate()).isEqualTo(8.0);
+    }
+
+    @Test
+    public void acquire_PacesAfterThrottle() {
+        rateLimiter.onThrottle();
+        rateLimiter.onThrottle();
+
+        rateLimiter.acquire();
+        rateLimiter.acquire();
+        rateLimiter.acquire();
+
+        // 2 requests per second
+        assertThat(sleeps).containsExactly(ONE_SECOND / 2, ONE_SECOND / 2);
+        assertThat(now).isEqualTo(ONE_SECOND);
+    }
+
+    @Test
+    public void constructor_InvalidParameters() {
+        assertThatThrownBy(() -> new AdaptiveRateLimiter(0, 1, 1, 0.5, () -> 0, nanos -> { }))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveRateLimiter(2, 1, 1, 0.5, () -> 0, nanos -> { }))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AdaptiveRateLimiter(1, 2, 1, 1, () -> 0, nanos -> { }))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void forAccount_IsSharedPerAccount() {
+        assertThat(AdaptiveRateLimiter.forAccount(SOURCE_ACCOUNT_ID)).isSameAs(AdaptiveRateLimiter.forAccount(SOURCE_ACCOUNT_ID));
+        assertThat(AdaptiveRateLimiter.forAccount(SOURCE_ACCOUNT_ID)).isNotSameAs(AdaptiveRateLimiter.forAccount(CROSS_ACCOUNT_ID));
+    }
+
+    @Test
+    public void rateLimitedProxyClient_RecordsOutcomes() {
+        final RateLimitedProxyClient<CloudWatchEventsClient> proxyClient = new RateLimitedProxyClient<>(delegate, rateLimiter);
+        final DescribeRuleRequest request = DescribeRuleRequest.builder().name(EVENT_RULE_NAME).build();
+
+        when(delegate.injectCredentialsAndInvokeV2(any(DescribeRuleRequest.class), any()))
+                .thenThrow(AwsServiceException.builder()
+                        .awsErrorDetails(AwsErrorDetails.builder().errorCode("ThrottlingException").build())
+                        .build())
+                .thenThrow(ResourceNotFoundException.builder().build())
+                .thenReturn(DescribeRuleResponse.builder().build());
+
+        assertThatThrownBy(() -> proxyClient.injectCredentialsAndInvokeV2(request, r -> DescribeRuleResponse.builder().build()))
+                .isInstanceOf(AwsServiceException.class);
+        assertThat(rateLimiter.getRate()).isEqualTo(4.0);
+
+        // Not a throttle, the service accepted the call
+        assertThatThrownBy(() -> proxyClient.injectCredentialsAndInvokeV2(request, r -> DescribeRuleResponse.builder().build()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(rateLimiter.getRate()).isEqualTo(5.0);
+
+        assertThat(proxyClient.injectCredentialsAndInvokeV2(request, r -> DescribeRuleResponse.builder().build())).isNotNull();
+        assertThat(rateLimiter.getRate()).isEqualTo(6.0);
+        assertThat(sleeps).hasSize(2);
+    }
+}
@@ -0,0 +1,159 @@
+package software.amazon.events.rule;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+public class ArnParserTest extends AbstractTestBase {
+    private static Stream<Arguments> provideIdentifiers() {
+        return Stream.of(
+                // Event Rule ARNs
+                Arguments.of(EVENT_RULE_ARN_DEFAULT_BUS, null),
+                Arguments.of(EVENT_RULE_ARN_CUSTOM_BUS, null),
+                Arguments.of(CROSS_ACCOUNT_EVENT_RULE_ARN_CUSTOM_BUS, null),
+                Arguments.of("arn:aws:events:us-east-1:" + CROSS_ACCOUNT_ID + ":rule/" + EVENT_RULE_NAME, null),
+                Arguments.of("arn:aws-cn:events:cn-north-1:" + CROSS_ACCOUNT_ID + ":rule/default/" + EVENT_RULE_NAME, null),
+                Arguments.of("arn:aws-us-gov:events:us-gov-west-1:" + SOURCE_ACCOUNT_ID + ":rule/a/b/" + EVENT_RULE_NAME, null),
+                Arguments.of("arn:aws:events::" + SOURCE_ACCOUNT_ID + ":rule/", null),
+                Arguments.of("arn:aws:events:us-east-1:" + SOURCE_ACCOUNT_ID + ":rule//" + EVENT_RULE_NAME, null),
+                Arguments.of("arn:aws:events:us-east-1:" + SOURCE_ACCOUNT_ID + ":rule/" + CUSTOM_EVENT_BUS_NAME + "/", null),
+                // Strings that look like Event Rule ARNs but are not
+                Arguments.of("arn:aws:events:us-east-1:12345678901:rule/" + EVENT_RULE_NAME, null),
+                Arguments.of("arn:aws:events:us-east-1:1234567890123:rule/" + EVENT_RULE_NAME, null),
+                Arguments.of("arn:aws:events:us-east-1:12345678901a:rule/" + EVENT_RULE_NAME, null),
+                Arguments.of("arn:aws:events:us-east-1:" + SOURCE_ACCOUNT_ID + ":rule/bus:" + EVENT_RULE_NAME, null),
+                Arguments.of("arn:aws:lambda:us-east-1:" + SOURCE_ACCOUNT_ID + ":rule/" + EVENT_RULE_NAME, null),
+                Arguments.of("arn:a.b:events:us-east-1:" + SOURCE_ACCOUNT_ID + ":rule/" + EVENT_RULE_NAME, null),
+                Arguments.of("arn:aws:events:us-east-1:" + SOURCE_ACCOUNT_ID + ":event-bus/" + CUSTOM_EVENT_BUS_NAME, null),
+                Arguments.of("arn:aws:events:us-east-1:" + SOURCE_ACCOUNT_ID, null),
+                Arguments.of("arn:aws:events:us-east-1", null),
+                Arguments.of("arn:aws", null),
+                // Native physical resource ids
+                Arguments.of(SAME_ACCOUNT_PID_DEFAULT_BUS, null),
+                Arguments.of(SAME_ACCOUNT_PID_CUSTOM_BUS, null),
+                Arguments.of(CROSS_ACCOUNT_CUSTOM_PID_CUSTOM_BUS, null),
+                Arguments.of("arn:aws:events:us-east-1:" + SOURCE_ACCOUNT_ID + ":event-bus/" + CUSTOM_EVENT_BUS_NAME + "|" + EVENT_RULE_NAME, null),
+                Arguments.of(SAME_ACCOUNT_DEFAULT_BUS_ARN + "|" + EVENT_RULE_NAME, null),
+                Arguments.of("|" + EVENT_RULE_NAME, null),
+                Arguments.of(EVENT_RULE_NAME + "|", null),
+                Arguments.of(EVENT_RULE_NAME + "||", null),
+                Arguments.of("a|b|c", null),
+                Arguments.of("a||c", null),
+                Arguments.of("", null),
+                // Explicit event bus names
+                Arguments.of(EVENT_RULE_NAME, CUSTOM_EVENT_BUS_NAME),
+                Arguments.of(EVENT_RULE_NAME, SAME_ACCOUNT_DEFAULT_BUS_ARN),
+                Arguments.of(EVENT_RULE_NAME, SAME_ACCOUNT_CUSTOM_EVENT_BUS_ARN),
+                Arguments.of(EVENT_RULE_NAME, CROSS_ACCOUNT_CUSTOM_EVENT_BUS_ARN),
+                Arguments.of(EVENT_RULE_NAME, "arn:aws:events:us-east-1:" + SOURCE_ACCOUNT_ID + ":event-bus/a:b"),
+                Arguments.of(EVENT_RULE_ARN_CUSTOM_BUS, DEFAULT_EVENT_BUS_NAME),
+                Arguments.of(CROSS_ACCOUNT_EVENT_RULE_ARN_CUSTOM_BUS, SAME_ACCOUNT_CUSTOM_EVENT_BUS_ARN)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideIdentifiers")
+    public void compositePID_MatchesRegexImplementation(final String identifier, final String eventBusName) {
+        final ResourceModel model = ResourceModel.builder()
+                .arn(identifier)
+                .eventBusName(eventBusName)
+                .build();
+
+        final CompositePID compositePID = new CompositePID(model, SOURCE_ACCOUNT_ID);
+        final LegacyCompositePID legacyCompositePID = new LegacyCompositePID(model, SOURCE_ACCOUNT_ID);
+
+        assertThat(compositePID.getPid()).isEqualTo(legacyCompositePID.getPid());
+        assertThat(compositePID.getEventRuleName()).isEqualTo(legacyCompositePID.getEventRuleName());
+        assertThat(compositePID.getEventBusName()).isEqualTo(legacyCompositePID.getEventBusName());
+    }
+
+    @Test
+    public void compositePID_ModelNameTakesPrecedence() {
+        final ResourceModel model = ResourceModel.builder()
+                .arn(CROSS_ACCOUNT_EVENT_RULE_ARN_CUSTOM_BUS)
+                .name("OtherRule")
+                .build();
+
+        final CompositePID compositePID = new CompositePID(model, SOURCE_ACCOUNT_ID);
+
+        assertThat(compositePID.getEventRuleName()).isEqualTo("OtherRule");
+        assertThat(compositePID.getEventBusName()).isEqualTo(CROSS_ACCOUNT_CUSTOM_EVENT_BUS_ARN);
+        assertThat(compositePID.getPid()).isEqualTo(CROSS_ACCOUNT_CUSTOM_EVENT_BUS_ARN + "|OtherRule");
+    }
+
+    @Test
+    public void parseRuleArn_WithEventBus() {
+        final ArnParser.ParsedArn parsedArn = ArnParser.parseRuleArn(CROSS_ACCOUNT_EVENT_RULE_ARN_CUSTOM_BUS);
+
+        assertThat(parsedArn).isNotNull();
+        assertThat(parsedArn.getPartition()).isEqualTo("aws");
+        assertThat(parsedArn.getRegion()).isEqualTo("us-east-1");
+        assertThat(parsedArn.getAccountId()).isEqualTo(CROSS_ACCOUNT_ID);
+        assertThat(parsedArn.getEventBusName()).isEqualTo(CUSTOM_EVENT_BUS_NAME);
+        assertThat(parsedArn.getEventRuleName()).isEqualTo(EVENT_RULE_NAME);
+    }
+
+    @Test
+    public void parseRuleArn_WithoutEventBus() {
+        final ArnParser.ParsedArn parsedArn = ArnParser.parseRuleArn(EVENT_RULE_ARN_DEFAULT_BUS);
+
+        assertThat(parsedArn).isNotNull();
+        assertThat(parsedArn.getAccountId()).isEqualTo(SOURCE_ACCOUNT_ID);
+        assertThat(parsedArn.getEventBusName()).isNull();
+        assertThat(parsedArn.getEventRuleName()).isEqualTo(EVENT_RULE_NAME);
+    }
+
+    @Test
+    public void parseEventBusArn() {
+        final ArnParser.ParsedArn parsedArn = ArnParser.parseEventBusArn(SAME_ACCOUNT_CUSTOM_EVENT_BUS_ARN);
+
+        assertThat(parsedArn).isNotNull();
+        assertThat(parsedArn.getAccountId()).isEqualTo(SOURCE_ACCOUNT_ID);
+        assertThat(parsedArn.getEventBusName()).isEqualTo(CUSTOM_EVENT_BUS_NAME);
+        assertThat(parsedArn.getEventRuleName()).isNull();
+        assertThat(ArnParser.parseEventBusArn(EVENT_RULE_ARN_CUSTOM_BUS)).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "arn:",
+            "arn:aws",
+            "arn:aws:",
+            "arn:aws:events:",
+            "arn:aws:events:us-east-1",
+            "arn:aws:events:us-east\n-1:123456789012:rule/Rule",
+            "arn:aws:events:us-east-1:123456789012",
+            "arn:aws:events:us-east-1:123456789012/rule/Rule",
+            "arn:aws:events:us-east-1:123456789012:rule",
+            "arn:aws:events:us-east-1:123456789012:rule/Ru\nle",
+            "ARN:aws:events:us-east-1:123456789012:rule/Rule"
+    })
+    public void parseRuleArn_Invalid(final String arn) {
+        assertThat(ArnParser.parseRuleArn(arn)).isNull();
+    }
+
+    @Test
+    public void parseRuleArn_Null() {
+        assertThat(ArnParser.parseRuleArn(null)).isNull();
+        assertThat(ArnParser.busNameFromPhysicalId(null, DEFAULT_EVENT_BUS_NAME)).isEqualTo(DEFAULT_EVENT_BUS_NAME);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Rule", "Bus|Rule", "|Rule", "Rule|", "Rule||", "a|b|c", "a||c", "", "|", "||x"})
+    public void physicalId_MatchesSplit(final String pid) {
+        final String[] tokens = pid.split("\\|");
+
+        assertThat(ArnParser.ruleNameFromPhysicalId(pid)).isEqualTo(tokens.length > 1 ? tokens[1] : pid);
+        assertThat(ArnParser.busNameFromPhysicalId(pid, DEFAULT_EVENT_BUS_NAME)).isEqualTo(tokens.length > 1 ? tokens[0] : DEFAULT_EVENT_BUS_NAME);
+    }
+}
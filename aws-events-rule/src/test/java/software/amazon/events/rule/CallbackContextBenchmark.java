@@ -0,0 +1,165 @@
+package software.amazon.events.rule;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.services.cloudwatchevents.model.PutTargetsResponse;
+import software.amazon.awssdk.services.cloudwatchevents.model.PutTargetsResultEntry;
+import software.amazon.awssdk.services.cloudwatchevents.model.RemoveTargetsResponse;
+import software.amazon.awssdk.services.cloudwatchevents.model.RemoveTargetsResultEntry;
+import software.amazon.cloudformation.resource.Serializer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the serialization of the version 1 LegacyCallbackContext with the compact CallbackContext, for a Rule
+ * whose Targets carry a large Input and half of which failed in the last PutTargets and RemoveTargets calls.
+ * Not picked up by surefire; run main() from the test classpath. The serialized size of each context is printed
+ * once per trial; allocation rates are reported by the gc profiler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CallbackContextBenchmark {
+    private static final TypeReference<CallbackContext> CALLBACK_CONTEXT = new TypeReference<CallbackContext>() {};
+    private static final TypeReference<LegacyCallbackContext> LEGACY_CALLBACK_CONTEXT = new TypeReference<LegacyCallbackContext>() {};
+    private static final int INPUT_LENGTH = 2048;
+
+    @Param({"1", "10", "100"})
+    public int targetCount;
+
+    private final Serializer serializer = new Serializer();
+    private LegacyCallbackContext legacyContext;
+    private CallbackContext compactContext;
+    private String legacyPayload;
+    private String compactPayload;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        final List<Target> targets = new ArrayList<>();
+        final List<String> targetIds = new ArrayList<>();
+        final List<String> sources = new ArrayList<>();
+        final List<PutTargetsResultEntry> failedPutEntries = new ArrayList<>();
+        final List<RemoveTargetsResultEntry> failedRemoveEntries = new ArrayList<>();
+        final Map<String, String> failedTargets = new LinkedHashMap<>();
+        final String input = String.join("", Collections.nCopies(INPUT_LENGTH / 16, "{\"key\":\"value\"}"));
+
+        for (int i = 0; i < targetCount; i++) {
+            final String targetId = "Target" + i;
+            targets.add(Target.builder()
+                    .id(targetId)
+                    .arn("arn:aws:sqs:us-east-1:123456789012:queue" + i)
+                    .input(input)
+                    .build());
+            targetIds.add(targetId);
+            sources.add("custom.source" + i);
+
+            if (i % 2 == 0) {
+                failedPutEntries.add(PutTargetsResultEntry.builder()
+                        .targetId(targetId)
+                        .errorCode("ConcurrentModificationException")
+                        .errorMessage("Another request to modify the rule is in progress.")
+                        .build());
+                failedRemoveEntries.add(RemoveTargetsResultEntry.builder()
+                        .targetId(targetId)
+                        .errorCode("ConcurrentModificationException")
+                        .errorMessage("Another request to modify the rule is in progress.")
+                        .build());
+                failedTargets.put(targetId, "ConcurrentModificationException");
+            }
+        }
+
+        final Set<String> passedPropagationProbes = new HashSet<>(Collections.singleton("TargetsCreated"));
+        final Map<String, Integer> propagationProbeAttempts = new HashMap<>(Collections.singletonMap("TargetsVisible", 2));
+
+        legacyContext = new LegacyCallbackContext();
+        legacyContext.setRetryAttemptsForPutTargets(1);
+        legacyContext.setRetryAttemptsForRemoveTargets(1);
+        legacyContext.setPutTargetsResponse(PutTargetsResponse.builder()
+                .failedEntryCount(failedPutEntries.size())
+                .failedEntries(failedPutEntries)
+                .build());
+        legacyContext.setRemoveTargetsResponse(RemoveTargetsResponse.builder()
+                .failedEntryCount(failedRemoveEntries.size())
+                .failedEntries(failedRemoveEntries)
+                .build());
+        legacyContext.setResourceModelBuilder(ResourceModel.builder()
+                .name("EventRuleName")
+                .eventPattern(Collections.singletonMap("source", sources))
+                .state("ENABLED")
+                .targets(new HashSet<>(targets)));
+        legacyContext.setPassedPropagationProbes(passedPropagationProbes);
+        legacyContext.setPropagationProbeAttempts(propagationProbeAttempts);
+        legacyContext.setTargetIds(targetIds);
+
+        compactContext = new CallbackContext();
+        compactContext.setRetryAttemptsForPutTargets(1);
+        compactContext.setRetryAttemptsForRemoveTargets(1);
+        compactContext.setFailedPutTargets(failedTargets);
+        compactContext.setFailedRemoveTargets(new LinkedHashMap<>(failedTargets));
+        compactContext.setPassedPropagationProbes(passedPropagationProbes);
+        compactContext.setPropagationProbeAttempts(propagationProbeAttempts);
+        compactContext.setTargetIds(targetIds);
+
+        legacyPayload = serializer.serialize(legacyContext);
+        compactPayload = serializer.serialize(compactContext);
+        System.out.printf("%n%d targets: legacy %d bytes, compact %d bytes%n", targetCount,
+                legacyPayload.getBytes(StandardCharsets.UTF_8).length, compactPayload.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Benchmark
+    public String serializeLegacy() throws JsonProcessingException {
+        return serializer.serialize(legacyContext);
+    }
+
+    @Benchmark
+    public String serializeCompact() throws JsonProcessingException {
+        return serializer.serialize(compactContext);
+    }
+
+    @Benchmark
+    public LegacyCallbackContext deserializeLegacy() throws IOException {
+        return serializer.deserialize(legacyPayload, LEGACY_CALLBACK_CONTEXT);
+    }
+
+    @Benchmark
+    public CallbackContext deserializeCompact() throws IOException {
+        return serializer.deserialize(compactPayload, CALLBACK_CONTEXT);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder()
+                .include(CallbackContextBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,74 @@
+package software.amazon.events.rule;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.cloudwatchevents.model.PutTargetsResponse;
+import software.amazon.awssdk.services.cloudwatchevents.model.PutTargetsResultEntry;
+import software.amazon.cloudformation.resource.Serializer;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+@ExtendWith(MockitoExtension.class)
+public class CallbackContextTest extends AbstractTestBase {
+    private static final TypeReference<CallbackContext> CALLBACK_CONTEXT = new TypeReference<CallbackContext>() {};
+
+    private final Serializer serializer = new Serializer();
+
+    @Test
+    public void serialize_RoundTrip() throws IOException {
+        final CallbackContext context = new CallbackContext();
+        context.setRetryAttemptsForPutTargets(2);
+        context.setFailedPutTargets(Collections.singletonMap("Target1", "ConcurrentModificationException"));
+        context.setTargetIds(Arrays.asList("Target1", "Target2"));
+
+        final String payload = serializer.serialize(context);
+        final CallbackContext deserialized = serializer.deserialize(payload, CALLBACK_CONTEXT);
+
+        assertThat(deserialized).isEqualTo(context);
+        // Fields left at their defaults are not written
+        assertThat(payload).doesNotContain("ruleExists", "failedRemoveTargets", "targetsRemaining");
+    }
+
+    @Test
+    public void deserialize_IgnoresVersion1Fields() throws IOException {
+        final String payload = "{\"retryAttemptsForPutTargets\":1,"
+                + "\"putTargetsResponse\":{\"FailedEntryCount\":1,\"FailedEntries\":[{\"TargetId\":\"Target1\","
+                + "\"ErrorCode\":\"ConcurrentModificationException\",\"ErrorMessage\":\"Retry\"}]},"
+                + "\"resourceModelBuilder\":{},"
+                + "\"targetIds\":[\"Target1\"]}";
+
+        final CallbackContext context = serializer.deserialize(payload, CALLBACK_CONTEXT);
+
+        assertThat(context.getRetryAttemptsForPutTargets()).isEqualTo(1);
+        assertThat(context.getTargetIds()).containsExactly("Target1");
+        // Without recorded failed entries the Targets are put again, which PutTargets accepts
+        assertThat(context.getFailedPutTargets()).isNull();
+    }
+
+    @Test
+    public void recordPutTargetsResponse_KeepsFailedIdsAndErrorCodes() {
+        final CallbackContext context = new CallbackContext();
+
+        BaseHandlerStd.recordPutTargetsResponse(PutTargetsResponse.builder()
+                .failedEntryCount(2)
+                .failedEntries(
+                        PutTargetsResultEntry.builder().targetId("Target1").errorCode("InternalFailure").errorMessage("Failure").build(),
+                        PutTargetsResultEntry.builder().targetId("Target2").errorCode("ConcurrentModificationException").errorMessage("Conflict").build())
+                .build(), context, logger);
+
+        assertThat(context.getFailedPutTargets()).containsExactly(
+                entry("Target1", "InternalFailure"),
+                entry("Target2", "ConcurrentModificationException"));
+
+        BaseHandlerStd.recordPutTargetsResponse(null, context, logger);
+
+        assertThat(context.getFailedPutTargets()).isEmpty();
+    }
+}
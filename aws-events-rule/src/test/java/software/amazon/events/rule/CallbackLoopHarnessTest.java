@@ -0,0 +1,100 @@
+package software.amazon.events.rule;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.cloudwatchevents.CloudWatchEventsClient;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.DelayFactory;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.WaitStrategy;
+import software.amazon.events.common.CallbackLoopHarness;
+import software.amazon.events.common.FakeServiceBehavior;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+public class CallbackLoopHarnessTest extends AbstractTestBase {
+    private static final Duration CONSISTENCY_WINDOW = Duration.ofSeconds(3);
+
+    private AmazonWebServicesClientProxy proxy;
+    private FakeServiceBehavior behavior;
+    private FakeCloudWatchEventsClient fakeClient;
+    private ProxyClient<CloudWatchEventsClient> proxyClient;
+    private CallbackLoopHarness<ResourceModel, CallbackContext> harness;
+
+    @BeforeEach
+    public void setup() {
+        // Delays are returned as callback delays instead of being waited out in process
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, DelayFactory.CONSTANT_DEFAULT_DELAY_FACTORY,
+                WaitStrategy.scheduleForCallbackStrategy());
+        behavior = new FakeServiceBehavior();
+        harness = new CallbackLoopHarness<>(behavior::getTotalCallCount);
+        behavior.clock(harness.clock());
+        fakeClient = new FakeCloudWatchEventsClient(SOURCE_ACCOUNT_ID, "us-east-1", behavior);
+        proxyClient = MOCK_PROXY(proxy, fakeClient);
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> createRequest() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId(SOURCE_ACCOUNT_ID)
+                .stackId(MOCK_STACK_ID)
+                .desiredResourceState(ResourceModel.builder()
+                        .name(EVENT_RULE_NAME)
+                        .eventPattern(Collections.singletonMap("source", Collections.singletonList("aws.s3")))
+                        .state("ENABLED")
+                        .build())
+                .build();
+    }
+
+    @Test
+    public void execute_CreateWaitsOutTheConsistencyWindow() {
+        behavior.consistencyWindow(CONSISTENCY_WINDOW);
+
+        final CallbackLoopHarness.Execution<ResourceModel, CallbackContext> created = harness.execute(
+                (request, context) -> new CreateHandler().handleRequest(proxy, request, context, proxyClient, logger),
+                createRequest(), new CallbackContext());
+
+        assertThat(created.getResponse().getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(fakeClient.getRuleCount()).isEqualTo(1);
+        // The rule only becomes visible after the window, which takes at least one callback of polling DescribeRule
+        assertThat(created.getInvocations()).isGreaterThan(1);
+        assertThat(created.getLatencyNanos()).isGreaterThanOrEqualTo(CONSISTENCY_WINDOW.toNanos());
+        assertThat(behavior.getCallCount("PutRule")).isEqualTo(1);
+        assertThat(behavior.getCallCount("DescribeRule")).isGreaterThan(1);
+    }
+
+    @Test
+    public void execute_Lifecycle() {
+        final CallbackLoopHarness.Execution<ResourceModel, CallbackContext> created = harness.execute(
+                (request, context) -> new CreateHandler().handleRequest(proxy, request, context, proxyClient, logger),
+                createRequest(), new CallbackContext());
+        assertThat(created.getResponse().getStatus()).isEqualTo(OperationStatus.SUCCESS);
+
+        final ResourceHandlerRequest<ResourceModel> deleteRequest = ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId(SOURCE_ACCOUNT_ID)
+                .stackId(MOCK_STACK_ID)
+                .desiredResourceState(created.getResponse().getResourceModel())
+                .build();
+
+        final CallbackLoopHarness.Execution<ResourceModel, CallbackContext> deleted = harness.execute(
+                (request, context) -> new DeleteHandler().handleRequest(proxy, request, context, proxyClient, logger),
+                deleteRequest, new CallbackContext());
+        assertThat(deleted.getResponse().getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(fakeClient.getRuleCount()).isEqualTo(0);
+
+        final CallbackLoopHarness.Execution<ResourceModel, CallbackContext> read = harness.execute(
+                (request, context) -> new ReadHandler().handleRequest(proxy, request, context, proxyClient, logger),
+                deleteRequest, new CallbackContext());
+        assertThat(read.getResponse().getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(read.getResponse().getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+        assertThat(read.getInvocations()).isEqualTo(1);
+    }
+}
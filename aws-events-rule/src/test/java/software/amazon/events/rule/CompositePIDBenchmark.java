@@ -0,0 +1,68 @@
+package software.amazon.events.rule;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the regular expression based LegacyCompositePID with the ArnParser based CompositePID.
+ * Not picked up by surefire; run main() from the test classpath. Allocation rates are reported by the gc profiler
+ * (gc.alloc.rate.norm is the number of bytes allocated per constructor call).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompositePIDBenchmark {
+    private static final String SOURCE_ACCOUNT_ID = "123456789012";
+
+    @Param({
+            "arn:aws:events:us-east-1:123456789012:rule/TestRule",
+            "arn:aws:events:us-east-1:123456789012:rule/TestEventBus/TestRule",
+            "arn:aws:events:us-east-1:123456789013:rule/TestEventBus/TestRule",
+            "TestEventBus|TestRule"
+    })
+    public String identifier;
+
+    private ResourceModel model;
+
+    @Setup
+    public void setUp() {
+        model = ResourceModel.builder().arn(identifier).build();
+    }
+
+    @Benchmark
+    public CompositePID parser() {
+        return new CompositePID(model, SOURCE_ACCOUNT_ID);
+    }
+
+    @Benchmark
+    public LegacyCompositePID regex() {
+        return new LegacyCompositePID(model, SOURCE_ACCOUNT_ID);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder()
+                .include(CompositePIDBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+
+        new Runner(options).run();
+    }
+}
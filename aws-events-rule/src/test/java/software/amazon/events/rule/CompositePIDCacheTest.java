@@ -0,0 +1,100 @@
+package software.amazon.events.rule;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+public class CompositePIDCacheTest extends AbstractTestBase {
+    private static ResourceModel model(final String arn) {
+        return ResourceModel.builder().arn(arn).build();
+    }
+
+    @Test
+    public void resolve_CountsHitsAndMisses() {
+        final CompositePIDCache cache = new CompositePIDCache(CompositePIDCache.DEFAULT_MAXIMUM_SIZE);
+
+        final CompositePID first = cache.resolve(model(EVENT_RULE_ARN_CUSTOM_BUS), SOURCE_ACCOUNT_ID);
+        final CompositePID second = cache.resolve(model(EVENT_RULE_ARN_CUSTOM_BUS), SOURCE_ACCOUNT_ID);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.getPid()).isEqualTo(SAME_ACCOUNT_PID_CUSTOM_BUS);
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+
+        cache.clear();
+
+        assertThat(cache.size()).isEqualTo(0);
+        assertThat(cache.getHits()).isEqualTo(0);
+        assertThat(cache.getMisses()).isEqualTo(0);
+    }
+
+    @Test
+    public void resolve_KeysOnAllInputs() {
+        final CompositePIDCache cache = new CompositePIDCache(CompositePIDCache.DEFAULT_MAXIMUM_SIZE);
+
+        final CompositePID sameAccount = cache.resolve(model(CROSS_ACCOUNT_EVENT_RULE_ARN_CUSTOM_BUS), SOURCE_ACCOUNT_ID);
+        final CompositePID crossAccount = cache.resolve(model(CROSS_ACCOUNT_EVENT_RULE_ARN_CUSTOM_BUS), CROSS_ACCOUNT_ID);
+        final CompositePID withBusName = cache.resolve(ResourceModel.builder()
+                .arn(CROSS_ACCOUNT_EVENT_RULE_ARN_CUSTOM_BUS)
+                .eventBusName(CUSTOM_EVENT_BUS_NAME)
+                .build(), SOURCE_ACCOUNT_ID);
+        final CompositePID withName = cache.resolve(ResourceModel.builder()
+                .arn(CROSS_ACCOUNT_EVENT_RULE_ARN_CUSTOM_BUS)
+                .name(EVENT_RULE_NAME)
+                .build(), SOURCE_ACCOUNT_ID);
+
+        assertThat(sameAccount.getPid()).isEqualTo(CROSS_ACCOUNT_CUSTOM_PID_CUSTOM_BUS);
+        assertThat(crossAccount.getPid()).isEqualTo(SAME_ACCOUNT_PID_CUSTOM_BUS);
+        assertThat(withBusName.getPid()).isEqualTo(SAME_ACCOUNT_PID_CUSTOM_BUS);
+        assertThat(withName).isNotSameAs(sameAccount);
+        assertThat(cache.getMisses()).isEqualTo(4);
+        assertThat(cache.getHits()).isEqualTo(0);
+    }
+
+    @Test
+    public void resolve_EvictsLeastRecentlyUsed() {
+        final CompositePIDCache cache = new CompositePIDCache(2);
+
+        final CompositePID defaultBus = cache.resolve(model(EVENT_RULE_ARN_DEFAULT_BUS), SOURCE_ACCOUNT_ID);
+        cache.resolve(model(EVENT_RULE_ARN_CUSTOM_BUS), SOURCE_ACCOUNT_ID);
+
+        // Touch the default bus rule, so the custom bus rule becomes the eldest entry
+        assertThat(cache.resolve(model(EVENT_RULE_ARN_DEFAULT_BUS), SOURCE_ACCOUNT_ID)).isSameAs(defaultBus);
+
+        cache.resolve(model(CROSS_ACCOUNT_EVENT_RULE_ARN_CUSTOM_BUS), SOURCE_ACCOUNT_ID);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.resolve(model(EVENT_RULE_ARN_DEFAULT_BUS), SOURCE_ACCOUNT_ID)).isSameAs(defaultBus);
+        assertThat(cache.getMisses()).isEqualTo(3);
+
+        cache.resolve(model(EVENT_RULE_ARN_CUSTOM_BUS), SOURCE_ACCOUNT_ID);
+
+        assertThat(cache.getMisses()).isEqualTo(4);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void resolve_InternsNames() {
+        final CompositePIDCache cache = new CompositePIDCache(CompositePIDCache.DEFAULT_MAXIMUM_SIZE);
+
+        final CompositePID compositePID = cache.resolve(model(new String(EVENT_RULE_ARN_CUSTOM_BUS.toCharArray())), SOURCE_ACCOUNT_ID);
+
+        assertThat(compositePID.getEventRuleName()).isSameAs(EVENT_RULE_NAME.intern());
+        assertThat(compositePID.getEventBusName()).isSameAs(CUSTOM_EVENT_BUS_NAME.intern());
+    }
+
+    @Test
+    public void constructor_InvalidSize() {
+        assertThatThrownBy(() -> new CompositePIDCache(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void getInstance_IsShared() {
+        assertThat(CompositePIDCache.getInstance()).isSameAs(CompositePIDCache.getInstance());
+    }
+}
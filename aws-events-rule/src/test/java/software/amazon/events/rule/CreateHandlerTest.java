@@ -20,17 +20,22 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.resource.Serializer;
+import software.amazon.events.common.StepJournal;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -118,6 +123,7 @@ public class CreateHandlerTest extends AbstractTestBase {
          * putRule
          * describeRule
          * putTargets
+         * listTargetsByRule
          */
 
         final DescribeRuleResponse describeRuleResponse = DescribeRuleResponse.builder()
@@ -135,6 +141,13 @@ public class CreateHandlerTest extends AbstractTestBase {
         final PutTargetsResponse putTargetsResponse = PutTargetsResponse.builder()
                 .build();
 
+        final ListTargetsByRuleResponse listTargetsByRuleResponse = ListTargetsByRuleResponse.builder()
+                .targets(software.amazon.awssdk.services.cloudwatchevents.model.Target.builder()
+                        .id("TestLambdaFunctionId")
+                        .arn("arn:aws:lambda:us-west-2:123456789123:function:TestLambdaFunctionId")
+                        .build())
+                .build();
+
         when(proxyClient.client().describeRule(any(DescribeRuleRequest.class)))
                 .thenThrow(ResourceNotFoundException.class)
                 .thenThrow(ResourceNotFoundException.class)
@@ -146,6 +159,9 @@ public class CreateHandlerTest extends AbstractTestBase {
         when(proxyClient.client().putTargets(any(PutTargetsRequest.class)))
                 .thenReturn(putTargetsResponse);
 
+        when(proxyClient.client().listTargetsByRule(any(ListTargetsByRuleRequest.class)))
+                .thenReturn(listTargetsByRuleResponse);
+
         // RUN
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .awsAccountId(SOURCE_ACCOUNT_ID)
@@ -159,10 +175,6 @@ public class CreateHandlerTest extends AbstractTestBase {
         CallbackContext context = new CallbackContext();
         ProgressEvent<ResourceModel, CallbackContext> response;
 
-        response = handler.handleRequest(proxy, request, context, proxyClient, logger);
-        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
-        response = handler.handleRequest(proxy, request, context, proxyClient, logger);
-        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
         response = handler.handleRequest(proxy, request, context, proxyClient, logger);
 
         // ASSERT
@@ -203,6 +215,7 @@ public class CreateHandlerTest extends AbstractTestBase {
          * putRule
          * describeRule
          * putTargets
+         * listTargetsByRule
          */
 
         final DescribeRuleResponse describeRuleResponse = DescribeRuleResponse.builder()
@@ -220,6 +233,13 @@ public class CreateHandlerTest extends AbstractTestBase {
         final PutTargetsResponse putTargetsResponse = PutTargetsResponse.builder()
                 .build();
 
+        final ListTargetsByRuleResponse listTargetsByRuleResponse = ListTargetsByRuleResponse.builder()
+                .targets(software.amazon.awssdk.services.cloudwatchevents.model.Target.builder()
+                        .id("TestLambdaFunctionId")
+                        .arn("arn:aws:lambda:us-west-2:123456789123:function:TestLambdaFunctionId")
+                        .build())
+                .build();
+
         when(proxyClient.client().describeRule(any(DescribeRuleRequest.class)))
                 .thenThrow(ResourceNotFoundException.class)
                 .thenThrow(ResourceNotFoundException.class)
@@ -231,6 +251,9 @@ public class CreateHandlerTest extends AbstractTestBase {
         when(proxyClient.client().putTargets(any(PutTargetsRequest.class)))
                 .thenReturn(putTargetsResponse);
 
+        when(proxyClient.client().listTargetsByRule(any(ListTargetsByRuleRequest.class)))
+                .thenReturn(listTargetsByRuleResponse);
+
         // RUN
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .awsAccountId(SOURCE_ACCOUNT_ID)
@@ -241,10 +264,6 @@ public class CreateHandlerTest extends AbstractTestBase {
         CallbackContext context = new CallbackContext();
         ProgressEvent<ResourceModel, CallbackContext> response;
 
-        response = handler.handleRequest(proxy, request, context, proxyClient, logger);
-        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
-        response = handler.handleRequest(proxy, request, context, proxyClient, logger);
-        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
         response = handler.handleRequest(proxy, request, context, proxyClient, logger);
 
         // ASSERT
@@ -371,6 +390,7 @@ public class CreateHandlerTest extends AbstractTestBase {
          * putRule
          * describeRule
          * putTargets
+         * listTargetsByRule
          */
 
         final DescribeRuleResponse describeRuleResponse = DescribeRuleResponse.builder()
@@ -388,6 +408,13 @@ public class CreateHandlerTest extends AbstractTestBase {
         final PutTargetsResponse putTargetsResponse = PutTargetsResponse.builder()
                 .build();
 
+        final ListTargetsByRuleResponse listTargetsByRuleResponse = ListTargetsByRuleResponse.builder()
+                .targets(software.amazon.awssdk.services.cloudwatchevents.model.Target.builder()
+                        .id("TestLambdaFunctionId")
+                        .arn("arn:aws:lambda:us-west-2:123456789123:function:TestLambdaFunctionId")
+                        .build())
+                .build();
+
         when(proxyClient.client().describeRule(any(DescribeRuleRequest.class)))
                 .thenThrow(ResourceNotFoundException.class)
                 .thenThrow(ResourceNotFoundException.class)
@@ -400,6 +427,9 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .thenThrow(AwsServiceException.builder().awsErrorDetails(AwsErrorDetails.builder().errorCode("ThrottlingException").build()).build())
                 .thenReturn(putTargetsResponse);
 
+        when(proxyClient.client().listTargetsByRule(any(ListTargetsByRuleRequest.class)))
+                .thenReturn(listTargetsByRuleResponse);
+
         // RUN
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
                 .awsAccountId(SOURCE_ACCOUNT_ID)
@@ -412,10 +442,7 @@ public class CreateHandlerTest extends AbstractTestBase {
 
         response = handler.handleRequest(proxy, request, context, proxyClient, logger);
         assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
-        response = handler.handleRequest(proxy, request, context, proxyClient, logger);
-        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
-        response = handler.handleRequest(proxy, request, context, proxyClient, logger);
-        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(5);
         response = handler.handleRequest(proxy, request, context, proxyClient, logger);
 
         // ASSERT
@@ -427,4 +454,416 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    @Test
+    public void handleRequest_TargetsPropagationProbe() {
+        final CreateHandler handler = new CreateHandler();
+
+        // MODEL
+
+        Set<software.amazon.events.rule.Target> targets = new HashSet<>();
+
+        targets.add(software.amazon.events.rule.Target.builder()
+                .id("TestLambdaFunctionId")
+                .arn("arn:aws:lambda:us-west-2:123456789123:function:TestLambdaFunctionId")
+                .build());
+
+        final ResourceModel model = ResourceModel.builder()
+                .name(EVENT_RULE_NAME)
+                .scheduleExpression("rate(1 day)")
+                .state("ENABLED")
+                .targets(targets)
+                .build();
+
+        // MOCK
+
+        /*
+         * describeRule
+         * putRule
+         * describeRule
+         * putTargets
+         * listTargetsByRule (not yet visible)
+         * listTargetsByRule (not yet visible)
+         * listTargetsByRule
+         */
+
+        final DescribeRuleResponse describeRuleResponse = DescribeRuleResponse.builder()
+                .name(model.getName())
+                .scheduleExpression(model.getScheduleExpression())
+                .state(model.getState())
+                .arn(EVENT_RULE_ARN_DEFAULT_BUS)
+                .build();
+
+        final PutRuleResponse putRuleResponse = PutRuleResponse.builder()
+                .ruleArn(EVENT_RULE_ARN_DEFAULT_BUS)
+                .build();
+
+        final ListTargetsByRuleResponse listTargetsByRuleResponse = ListTargetsByRuleResponse.builder()
+                .targets(software.amazon.awssdk.services.cloudwatchevents.model.Target.builder()
+                        .id("TestLambdaFunctionId")
+                        .arn("arn:aws:lambda:us-west-2:123456789123:function:TestLambdaFunctionId")
+                        .build())
+                .build();
+
+        when(proxyClient.client().describeRule(any(DescribeRuleRequest.class)))
+                .thenThrow(ResourceNotFoundException.class)
+                .thenReturn(describeRuleResponse);
+
+        when(proxyClient.client().putRule(any(PutRuleRequest.class)))
+                .thenReturn(putRuleResponse);
+
+        when(proxyClient.client().putTargets(any(PutTargetsRequest.class)))
+                .thenReturn(PutTargetsResponse.builder().build());
+
+        when(proxyClient.client().listTargetsByRule(any(ListTargetsByRuleRequest.class)))
+                .thenReturn(ListTargetsByRuleResponse.builder().build())
+                .thenReturn(ListTargetsByRuleResponse.builder().build())
+                .thenReturn(listTargetsByRuleResponse);
+
+        // RUN
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId(SOURCE_ACCOUNT_ID)
+                .desiredResourceState(model)
+                .build();
+
+        CallbackContext context = new CallbackContext();
+        ProgressEvent<ResourceModel, CallbackContext> response;
+
+        response = handler.handleRequest(proxy, request, context, proxyClient, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(2);
+        response = handler.handleRequest(proxy, request, context, proxyClient, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(4);
+        response = handler.handleRequest(proxy, request, context, proxyClient, logger);
+
+        // ASSERT
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(context.getPassedPropagationProbes()).containsExactly("TargetsCreated");
+        assertThat(context.getPropagationProbeAttempts()).containsEntry("TargetsCreated", 2);
+    }
+
+    @Test
+    public void handleRequest_NoPropagationProbeAfterStabilizedRule() {
+        final CreateHandler handler = new CreateHandler();
+
+        // MODEL
+
+        final ResourceModel model = ResourceModel.builder()
+                .name(EVENT_RULE_NAME)
+                .scheduleExpression("rate(1 day)")
+                .state("ENABLED")
+                .build();
+
+        // MOCK
+
+        /*
+         * describeRule
+         * putRule
+         * describeRule (the stabilizer already sees the rule, so no propagation probe follows)
+         */
+
+        when(proxyClient.client().describeRule(any(DescribeRuleRequest.class)))
+                .thenThrow(ResourceNotFoundException.class)
+                .thenReturn(DescribeRuleResponse.builder().name(EVENT_RULE_NAME).arn(EVENT_RULE_ARN_DEFAULT_BUS).build());
+
+        when(proxyClient.client().putRule(any(PutRuleRequest.class)))
+                .thenReturn(PutRuleResponse.builder().ruleArn(EVENT_RULE_ARN_DEFAULT_BUS).build());
+
+        // RUN
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId(SOURCE_ACCOUNT_ID)
+                .desiredResourceState(model)
+                .build();
+
+        final CallbackContext context = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, context, proxyClient, logger);
+
+        // ASSERT
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(context.getPassedPropagationProbes()).isEmpty();
+        verify(sdkClient, times(2)).describeRule(any(DescribeRuleRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ResumesAfterCompletedSteps() throws JsonProcessingException {
+        final CreateHandler handler = new CreateHandler();
+
+        // MODEL
+
+        final ResourceModel model = ResourceModel.builder()
+                .name(EVENT_RULE_NAME)
+                .scheduleExpression("rate(1 day)")
+                .state("ENABLED")
+                .build();
+
+        // MOCK
+
+        /*
+         * No calls: the pre-existence check and PutRule have completed, and the model has no targets
+         */
+
+        // RUN
+
+        final StepJournal stepJournal = new StepJournal();
+        stepJournal.complete("AWS-Events-Rule::Create::PreExistenceCheck");
+        stepJournal.complete("AWS-Events-Rule::CreateRule");
+        stepJournal.putOutput(BaseHandlerStd.OUTPUT_RULE_ARN, EVENT_RULE_ARN_DEFAULT_BUS);
+
+        // The journal survives the serialization of the CallbackContext between invocations
+        final CallbackContext context = new CallbackContext();
+        context.setStepJournal(MAPPER.readValue(MAPPER.writeValueAsString(stepJournal), StepJournal.class));
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId(SOURCE_ACCOUNT_ID)
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, context, proxyClient, logger);
+
+        // ASSERT
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getArn()).isEqualTo(EVENT_RULE_ARN_DEFAULT_BUS);
+        assertThat(context.getStepJournal()).isEqualTo(stepJournal);
+        verify(sdkClient, never()).describeRule(any(DescribeRuleRequest.class));
+        verify(sdkClient, never()).putRule(any(PutRuleRequest.class));
+    }
+
+    @Test
+    public void handleRequest_RetriesFailedTargetAfterBackoff() {
+        final CreateHandler handler = new CreateHandler();
+
+        // MODEL
+
+        Set<software.amazon.events.rule.Target> targets = new HashSet<>();
+
+        targets.add(software.amazon.events.rule.Target.builder()
+                .id("TestLambdaFunctionId")
+                .arn("arn:aws:lambda:us-west-2:123456789123:function:TestLambdaFunctionId")
+                .build());
+        targets.add(software.amazon.events.rule.Target.builder()
+                .id("TestQueueId")
+                .arn("arn:aws:sqs:us-west-2:123456789123:TestQueue")
+                .build());
+
+        final ResourceModel model = ResourceModel.builder()
+                .name(EVENT_RULE_NAME)
+                .scheduleExpression("rate(1 day)")
+                .state("ENABLED")
+                .targets(targets)
+                .build();
+
+        // MOCK
+
+        /*
+         * describeRule
+         * putRule
+         * describeRule
+         * putTargets (TestQueueId fails with a transient error)
+         * putTargets (retry of TestQueueId after the callback delay)
+         * listTargetsByRule
+         */
+
+        when(proxyClient.client().describeRule(any(DescribeRuleRequest.class)))
+                .thenThrow(ResourceNotFoundException.class)
+                .thenReturn(DescribeRuleResponse.builder().name(EVENT_RULE_NAME).arn(EVENT_RULE_ARN_DEFAULT_BUS).build());
+
+        when(proxyClient.client().putRule(any(PutRuleRequest.class)))
+                .thenReturn(PutRuleResponse.builder().ruleArn(EVENT_RULE_ARN_DEFAULT_BUS).build());
+
+        when(proxyClient.client().putTargets(any(PutTargetsRequest.class)))
+                .thenReturn(PutTargetsResponse.builder()
+                        .failedEntryCount(1)
+                        .failedEntries(PutTargetsResultEntry.builder()
+                                .targetId("TestQueueId")
+                                .errorCode("InternalFailure")
+                                .errorMessage("Target could not be put")
+                                .build())
+                        .build())
+                .thenReturn(PutTargetsResponse.builder().build());
+
+        when(proxyClient.client().listTargetsByRule(any(ListTargetsByRuleRequest.class)))
+                .thenReturn(ListTargetsByRuleResponse.builder()
+                        .targets(software.amazon.awssdk.services.cloudwatchevents.model.Target.builder().id("TestLambdaFunctionId").build(),
+                                software.amazon.awssdk.services.cloudwatchevents.model.Target.builder().id("TestQueueId").build())
+                        .build());
+
+        // RUN
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId(SOURCE_ACCOUNT_ID)
+                .desiredResourceState(model)
+                .build();
+
+        CallbackContext context = new CallbackContext();
+        ProgressEvent<ResourceModel, CallbackContext> response;
+
+        response = handler.handleRequest(proxy, request, context, proxyClient, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(1);
+        assertThat(context.getFailedPutTargets()).containsOnlyKeys("TestQueueId");
+        response = handler.handleRequest(proxy, request, context, proxyClient, logger);
+
+        // ASSERT
+        final ArgumentCaptor<PutTargetsRequest> putTargetsRequestCaptor = ArgumentCaptor.forClass(PutTargetsRequest.class);
+        verify(sdkClient, atLeastOnce()).describeRule(any(DescribeRuleRequest.class));
+        verify(sdkClient).putRule(any(PutRuleRequest.class));
+        verify(sdkClient, times(2)).putTargets(putTargetsRequestCaptor.capture());
+        verify(sdkClient).listTargetsByRule(any(ListTargetsByRuleRequest.class));
+
+        final PutTargetsRequest retryRequest = putTargetsRequestCaptor.getAllValues().get(1);
+        assertThat(retryRequest.rule()).isEqualTo(EVENT_RULE_NAME);
+        assertThat(retryRequest.targets()).extracting(software.amazon.awssdk.services.cloudwatchevents.model.Target::id).containsExactly("TestQueueId");
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(context.getFailedPutTargets()).isEmpty();
+        assertThat(context.getRetryAttemptsForPutTargets()).isEqualTo(1);
+        assertThat(context.getTargetRetries()).isEqualTo(1);
+    }
+
+    @Test
+    public void handleRequest_TerminalFailedTargetFailsFast() {
+        final CreateHandler handler = new CreateHandler();
+
+        // MODEL
+
+        Set<software.amazon.events.rule.Target> targets = new HashSet<>();
+
+        targets.add(software.amazon.events.rule.Target.builder()
+                .id("TestLambdaFunctionId")
+                .arn("arn:aws:lambda:us-west-2:123456789123:function:TestLambdaFunctionId")
+                .build());
+
+        final ResourceModel model = ResourceModel.builder()
+                .name(EVENT_RULE_NAME)
+                .scheduleExpression("rate(1 day)")
+                .state("ENABLED")
+                .targets(targets)
+                .build();
+
+        // MOCK
+
+        /*
+         * describeRule
+         * putRule
+         * describeRule
+         * putTargets (TestLambdaFunctionId fails with an error that retries cannot fix)
+         */
+
+        when(proxyClient.client().describeRule(any(DescribeRuleRequest.class)))
+                .thenThrow(ResourceNotFoundException.class)
+                .thenReturn(DescribeRuleResponse.builder().name(EVENT_RULE_NAME).arn(EVENT_RULE_ARN_DEFAULT_BUS).build());
+
+        when(proxyClient.client().putRule(any(PutRuleRequest.class)))
+                .thenReturn(PutRuleResponse.builder().ruleArn(EVENT_RULE_ARN_DEFAULT_BUS).build());
+
+        when(proxyClient.client().putTargets(any(PutTargetsRequest.class)))
+                .thenReturn(PutTargetsResponse.builder()
+                        .failedEntryCount(1)
+                        .failedEntries(PutTargetsResultEntry.builder()
+                                .targetId("TestLambdaFunctionId")
+                                .errorCode("ValidationException")
+                                .errorMessage("Invalid target")
+                                .build())
+                        .build());
+
+        // RUN
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId(SOURCE_ACCOUNT_ID)
+                .desiredResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // ASSERT
+        verify(sdkClient, atLeastOnce()).describeRule(any(DescribeRuleRequest.class));
+        verify(sdkClient).putRule(any(PutRuleRequest.class));
+        verify(sdkClient, times(1)).putTargets(any(PutTargetsRequest.class));
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.GeneralServiceException);
+        assertThat(response.getMessage()).startsWith("Target(s) failed to create/update").contains("ValidationException");
+    }
+
+    @Test
+    public void handleRequest_ScheduledRetryKeepsTheContextSmall() throws JsonProcessingException {
+        final CreateHandler handler = new CreateHandler();
+        final Serializer serializer = new Serializer();
+
+        // MODEL
+
+        final String padding = new String(new char[2048]).replace('\0', 'x');
+        Set<software.amazon.events.rule.Target> targets = new HashSet<>();
+        for (int i = 0; i < 20; i++) {
+            targets.add(software.amazon.events.rule.Target.builder()
+                    .id("TestLambdaFunctionId" + i)
+                    .arn("arn:aws:lambda:us-west-2:123456789123:function:TestLambdaFunctionId" + i)
+                    .input("{\"payload\":\"" + padding + "\"}")
+                    .build());
+        }
+
+        final ResourceModel model = ResourceModel.builder()
+                .name(EVENT_RULE_NAME)
+                .scheduleExpression("rate(1 day)")
+                .state("ENABLED")
+                .targets(targets)
+                .build();
+
+        // MOCK
+
+        final PutTargetsResponse putTargetsResponse = PutTargetsResponse.builder()
+                .failedEntryCount(1)
+                .failedEntries(PutTargetsResultEntry.builder()
+                        .targetId("TestLambdaFunctionId0")
+                        .errorCode("InternalFailure")
+                        .errorMessage("Target could not be put")
+                        .build())
+                .build();
+
+        when(proxyClient.client().describeRule(any(DescribeRuleRequest.class)))
+                .thenThrow(ResourceNotFoundException.class)
+                .thenReturn(DescribeRuleResponse.builder().name(EVENT_RULE_NAME).arn(EVENT_RULE_ARN_DEFAULT_BUS).build());
+
+        when(proxyClient.client().putRule(any(PutRuleRequest.class)))
+                .thenReturn(PutRuleResponse.builder().ruleArn(EVENT_RULE_ARN_DEFAULT_BUS).build());
+
+        when(proxyClient.client().putTargets(any(PutTargetsRequest.class)))
+                .thenReturn(putTargetsResponse);
+
+        // RUN
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId(SOURCE_ACCOUNT_ID)
+                .desiredResourceState(model)
+                .build();
+
+        final CallbackContext context = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, context, proxyClient, logger);
+
+        // ASSERT
+        verify(sdkClient, atLeastOnce()).describeRule(any(DescribeRuleRequest.class));
+        verify(sdkClient).putRule(any(PutRuleRequest.class));
+        verify(sdkClient).putTargets(any(PutTargetsRequest.class));
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isGreaterThan(0);
+
+        final String payload = serializer.serialize(context);
+
+        // The same PutTargets call memoized in the call graph of proxy.initiate, as the handler used to make it
+        proxy.initiate("AWS-Events-Rule::CreateTargets", proxyClient, model, context)
+                .translateToServiceRequest(unused -> Translator.translateToPutTargetsRequest(model,
+                        CompositePIDCache.getInstance().resolve(model, SOURCE_ACCOUNT_ID)))
+                .makeServiceCall((awsRequest, client) -> putTargetsResponse)
+                .done(awsResponse -> ProgressEvent.progress(model, context));
+        final String memoizedPayload = serializer.serialize(context);
+        logger.log(String.format("CallbackContext of a scheduled retry: %d bytes, %d bytes with the call graph memoization",
+                payload.length(), memoizedPayload.length()));
+
+        assertThat(memoizedPayload).contains(padding);
+        assertThat(payload).doesNotContain(padding, "TestLambdaFunctionId1").contains("TestLambdaFunctionId0");
+        assertThat(payload.length()).isLessThan(memoizedPayload.length() / 10);
+    }
 }
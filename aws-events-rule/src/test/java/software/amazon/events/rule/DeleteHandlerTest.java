@@ -3,6 +3,7 @@ package software.amazon.events.rule;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -15,6 +16,7 @@ import software.amazon.awssdk.services.cloudwatchevents.model.ListTargetsByRuleR
 import software.amazon.awssdk.services.cloudwatchevents.model.ListTargetsByRuleResponse;
 import software.amazon.awssdk.services.cloudwatchevents.model.RemoveTargetsRequest;
 import software.amazon.awssdk.services.cloudwatchevents.model.RemoveTargetsResponse;
+import software.amazon.awssdk.services.cloudwatchevents.model.RemoveTargetsResultEntry;
 import software.amazon.awssdk.services.cloudwatchevents.model.ResourceNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
@@ -26,12 +28,14 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -81,8 +85,11 @@ public class DeleteHandlerTest extends AbstractTestBase {
         // MOCK
         /*
         describeRule
+        listTargetsByRule
         removeTargets
+        listTargetsByRule
         deleteRule
+        describeRule
          */
 
         final DescribeRuleResponse describeRuleResponse = DescribeRuleResponse.builder()
@@ -100,10 +107,12 @@ public class DeleteHandlerTest extends AbstractTestBase {
                 .build();
 
         when(proxyClient.client().describeRule(any(DescribeRuleRequest.class)))
-                .thenReturn(describeRuleResponse);
+                .thenReturn(describeRuleResponse)
+                .thenThrow(ResourceNotFoundException.class);
 
         when(proxyClient.client().listTargetsByRule(any(ListTargetsByRuleRequest.class)))
-                .thenReturn(listTargetsByRuleResponse);
+                .thenReturn(listTargetsByRuleResponse)
+                .thenReturn(ListTargetsByRuleResponse.builder().build());
 
         when(proxyClient.client().removeTargets(any(RemoveTargetsRequest.class)))
                 .thenReturn(removeTargetsResponse);
@@ -121,8 +130,6 @@ public class DeleteHandlerTest extends AbstractTestBase {
         CallbackContext context = new CallbackContext();
         ProgressEvent<ResourceModel, CallbackContext> response;
 
-        response = handler.handleRequest(proxy, request, context, proxyClient, logger);
-        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
         response = handler.handleRequest(proxy, request, context, proxyClient, logger);
 
         // ASSERT
@@ -134,6 +141,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        assertThat(context.getPassedPropagationProbes()).containsExactlyInAnyOrder("TargetsDeleted", "RuleDeleted");
     }
 
     @Test
@@ -163,7 +171,10 @@ public class DeleteHandlerTest extends AbstractTestBase {
         /*
         describeRule
         removeTargets
+        listTargetsByRule
         deleteRule
+        describeRule (not yet deleted)
+        describeRule
          */
 
         final DescribeRuleResponse describeRuleResponse = DescribeRuleResponse.builder()
@@ -177,7 +188,12 @@ public class DeleteHandlerTest extends AbstractTestBase {
                 .build();
 
         when(proxyClient.client().describeRule(any(DescribeRuleRequest.class)))
-                .thenReturn(describeRuleResponse);
+                .thenReturn(describeRuleResponse)
+                .thenReturn(describeRuleResponse)
+                .thenThrow(ResourceNotFoundException.class);
+
+        when(proxyClient.client().listTargetsByRule(any(ListTargetsByRuleRequest.class)))
+                .thenReturn(ListTargetsByRuleResponse.builder().build());
 
         when(proxyClient.client().removeTargets(any(RemoveTargetsRequest.class)))
                 .thenReturn(removeTargetsResponse);
@@ -198,6 +214,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
 
         response = handler.handleRequest(proxy, request, context, proxyClient, logger);
         assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(2);
         response = handler.handleRequest(proxy, request, context, proxyClient, logger);
 
         // ASSERT
@@ -295,4 +312,100 @@ public class DeleteHandlerTest extends AbstractTestBase {
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
     }
+
+    @Test
+    public void handleRequest_MultiplePagesOfTargets_ListTargets() {
+        final DeleteHandler handler = new DeleteHandler();
+
+        // MODEL
+        final ResourceModel model = ResourceModel.builder()
+                .arn(EVENT_RULE_ARN_DEFAULT_BUS)
+                .build();
+
+        // MOCK
+        /*
+        describeRule
+        listTargetsByRule (first page)
+        removeTargets (one failed entry)
+        removeTargets (retry of the failed entry)
+        listTargetsByRule (first page again, without the nextToken of the removed page)
+        removeTargets
+        listTargetsByRule (empty)
+        listTargetsByRule (propagation probe)
+        deleteRule
+        describeRule
+         */
+
+        final ListTargetsByRuleResponse firstPage = ListTargetsByRuleResponse.builder()
+                .targets(software.amazon.awssdk.services.cloudwatchevents.model.Target.builder()
+                        .id("ToDeleteId1")
+                        .arn("ToDeleteArn1")
+                        .build())
+                .nextToken("NEXT_TOKEN")
+                .build();
+
+        final ListTargetsByRuleResponse secondPage = ListTargetsByRuleResponse.builder()
+                .targets(software.amazon.awssdk.services.cloudwatchevents.model.Target.builder()
+                        .id("ToDeleteId2")
+                        .arn("ToDeleteArn2")
+                        .build())
+                .build();
+
+        final RemoveTargetsResponse failedRemoveTargetsResponse = RemoveTargetsResponse.builder()
+                .failedEntries(RemoveTargetsResultEntry.builder()
+                        .targetId("ToDeleteId1")
+                        .build())
+                .failedEntryCount(1)
+                .build();
+
+        when(proxyClient.client().describeRule(any(DescribeRuleRequest.class)))
+                .thenReturn(DescribeRuleResponse.builder().arn(EVENT_RULE_ARN_DEFAULT_BUS).build())
+                .thenThrow(ResourceNotFoundException.class);
+
+        when(proxyClient.client().listTargetsByRule(any(ListTargetsByRuleRequest.class)))
+                .thenReturn(firstPage, secondPage, ListTargetsByRuleResponse.builder().build());
+
+        when(proxyClient.client().removeTargets(any(RemoveTargetsRequest.class)))
+                .thenReturn(failedRemoveTargetsResponse, RemoveTargetsResponse.builder().build());
+
+        when(proxyClient.client().deleteRule(any(DeleteRuleRequest.class)))
+                .thenReturn(DeleteRuleResponse.builder().build());
+
+        // RUN
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId(SOURCE_ACCOUNT_ID)
+                .desiredResourceState(model)
+                .build();
+
+        CallbackContext context = new CallbackContext();
+        ProgressEvent<ResourceModel, CallbackContext> response;
+
+        response = handler.handleRequest(proxy, request, context, proxyClient, logger);
+
+        // The failed entry is retried after a callback delay
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(1);
+
+        response = handler.handleRequest(proxy, request, context, proxyClient, logger);
+
+        // ASSERT
+
+        final ArgumentCaptor<ListTargetsByRuleRequest> listTargetsByRuleRequestCaptor = ArgumentCaptor.forClass(ListTargetsByRuleRequest.class);
+        verify(sdkClient, times(4)).listTargetsByRule(listTargetsByRuleRequestCaptor.capture());
+        assertThat(listTargetsByRuleRequestCaptor.getAllValues()).extracting(ListTargetsByRuleRequest::nextToken).containsOnlyNulls();
+
+        final ArgumentCaptor<RemoveTargetsRequest> removeTargetsRequestCaptor = ArgumentCaptor.forClass(RemoveTargetsRequest.class);
+        verify(sdkClient, times(3)).removeTargets(removeTargetsRequestCaptor.capture());
+        assertThat(removeTargetsRequestCaptor.getAllValues())
+                .extracting(RemoveTargetsRequest::ids)
+                .containsExactly(
+                        Collections.singletonList("ToDeleteId1"),
+                        Collections.singletonList("ToDeleteId1"),
+                        Collections.singletonList("ToDeleteId2"));
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isNull();
+    }
 }
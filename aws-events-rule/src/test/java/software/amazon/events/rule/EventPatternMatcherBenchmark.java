@@ -0,0 +1,141 @@
+package software.amazon.events.rule;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays a fixed set of sample events against an EventPatternMatcher holding from 100 to 10000 rules, and reports
+ * events per second. The rules mix exact, prefix, anything-but, numeric and exists matching over a few sources, the
+ * shapes our stacks use most. matchEvents works on parsed events; replayNdjson includes parsing the NDJSON stream.
+ * Not picked up by surefire; run main() from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventPatternMatcherBenchmark {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int EVENT_COUNT = 1000;
+    private static final List<String> SOURCES = Arrays.asList("aws.s3", "aws.ec2", "aws.ecs", "aws.codebuild", "custom.orders");
+
+    @Param({"100", "1000", "10000"})
+    public int ruleCount;
+
+    private EventPatternMatcher matcher;
+    private List<JsonNode> events;
+    private String ndjson;
+
+    @Setup
+    public void setUp() throws IOException {
+        final Random random = new Random(42);
+        matcher = new EventPatternMatcher();
+        for (int i = 0; i < ruleCount; i++) {
+            matcher.addRule("rule-" + i, rulePattern(i, random));
+        }
+
+        events = new ArrayList<>(EVENT_COUNT);
+        final StringBuilder lines = new StringBuilder();
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            final String event = MAPPER.writeValueAsString(event(random));
+            events.add(MAPPER.readTree(event));
+            lines.append(event).append('\n');
+        }
+        ndjson = lines.toString();
+    }
+
+    private Map<String, Object> rulePattern(final int index, final Random random) {
+        final Map<String, Object> detail = new HashMap<>();
+        switch (index % 5) {
+            case 0:
+                detail.put("key", Collections.singletonList(Collections.singletonMap("prefix", "logs/" + random.nextInt(100) + "/")));
+                break;
+            case 1:
+                detail.put("state", Collections.singletonList(Collections.singletonMap("anything-but", Arrays.asList("pending", "state-" + random.nextInt(50)))));
+                break;
+            case 2:
+                detail.put("price", Collections.singletonList(Collections.singletonMap("numeric", Arrays.asList(">=", random.nextInt(100), "<", 100 + random.nextInt(100)))));
+                break;
+            case 3:
+                detail.put("error", Collections.singletonList(Collections.singletonMap("exists", random.nextBoolean())));
+                detail.put("state", Collections.singletonList("state-" + random.nextInt(50)));
+                break;
+            default:
+                detail.put("id", Collections.singletonList("id-" + random.nextInt(ruleCount)));
+        }
+        final Map<String, Object> pattern = new HashMap<>();
+        pattern.put("source", Collections.singletonList(SOURCES.get(random.nextInt(SOURCES.size()))));
+        pattern.put("detail", detail);
+        return pattern;
+    }
+
+    private Map<String, Object> event(final Random random) {
+        final Map<String, Object> detail = new HashMap<>();
+        detail.put("key", "logs/" + random.nextInt(100) + "/object-" + random.nextInt(1000));
+        detail.put("state", "state-" + random.nextInt(50));
+        detail.put("price", random.nextInt(200));
+        detail.put("id", "id-" + random.nextInt(ruleCount));
+        if (random.nextBoolean()) {
+            detail.put("error", "AccessDenied");
+        }
+        final Map<String, Object> event = new HashMap<>();
+        event.put("version", "0");
+        event.put("source", SOURCES.get(random.nextInt(SOURCES.size())));
+        event.put("detail-type", "Sample Event");
+        event.put("resources", Collections.emptyList());
+        event.put("detail", detail);
+        return event;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENT_COUNT)
+    public void matchEvents(final Blackhole blackhole) {
+        for (final JsonNode event : events) {
+            blackhole.consume(matcher.match(event));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENT_COUNT)
+    public long replayNdjson(final Blackhole blackhole) throws IOException {
+        return matcher.replay(new StringReader(ndjson), (index, ruleIds) -> blackhole.consume(ruleIds));
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder()
+                .include(EventPatternMatcherBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+
+        new Runner(options).run();
+    }
+}
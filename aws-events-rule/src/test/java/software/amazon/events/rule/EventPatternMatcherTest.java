@@ -0,0 +1,142 @@
+package software.amazon.events.rule;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.cloudwatchevents.model.DescribeRuleResponse;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+public class EventPatternMatcherTest extends AbstractTestBase {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static Map<String, Object> pattern(final String json) throws IOException {
+        return MAPPER.readValue(json, new TypeReference<Map<String, Object>>() {});
+    }
+
+    @Test
+    public void match_ExactValues() throws IOException {
+        final EventPatternMatcher matcher = new EventPatternMatcher()
+                .addRule("s3", pattern("{\"source\":[\"aws.s3\"]}"))
+                .addRule("s3-or-ec2", pattern("{\"source\":[\"aws.s3\",\"aws.ec2\"]}"))
+                .addRule("running", pattern("{\"source\":[\"aws.ec2\"],\"detail\":{\"state\":[\"running\"],\"count\":[2]}}"));
+
+        assertThat(matcher.match("{\"source\":\"aws.s3\"}")).containsExactlyInAnyOrder("s3", "s3-or-ec2");
+        assertThat(matcher.match("{\"source\":\"aws.ec2\",\"detail\":{\"state\":\"running\",\"count\":2.0}}"))
+                .containsExactlyInAnyOrder("s3-or-ec2", "running");
+        assertThat(matcher.match("{\"source\":\"aws.ec2\",\"detail\":{\"state\":\"running\",\"count\":\"2\"}}"))
+                .containsExactly("s3-or-ec2");
+        assertThat(matcher.match("{\"source\":\"aws.sqs\"}")).isEmpty();
+    }
+
+    @Test
+    public void match_ArraysInEventsMatchAnyElement() throws IOException {
+        final EventPatternMatcher matcher = new EventPatternMatcher()
+                .addRule("bucket", pattern("{\"resources\":[\"arn:aws:s3:::bucket\"]}"));
+
+        assertThat(matcher.match("{\"resources\":[\"arn:aws:s3:::other\",\"arn:aws:s3:::bucket\"]}")).containsExactly("bucket");
+        assertThat(matcher.match("{\"resources\":[\"arn:aws:s3:::other\"]}")).isEmpty();
+    }
+
+    @Test
+    public void match_PrefixAndAnythingBut() throws IOException {
+        final EventPatternMatcher matcher = new EventPatternMatcher()
+                .addRule("prefix", pattern("{\"detail\":{\"key\":[{\"prefix\":\"logs/\"}]}}"))
+                .addRule("anything-but", pattern("{\"detail\":{\"key\":[{\"anything-but\":[\"logs/a\",\"tmp\"]}]}}"))
+                .addRule("anything-but-prefix", pattern("{\"detail\":{\"key\":[{\"anything-but\":{\"prefix\":\"logs/\"}}]}}"));
+
+        assertThat(matcher.match("{\"detail\":{\"key\":\"logs/a\"}}")).containsExactly("prefix");
+        assertThat(matcher.match("{\"detail\":{\"key\":\"logs/b\"}}")).containsExactlyInAnyOrder("prefix", "anything-but");
+        assertThat(matcher.match("{\"detail\":{\"key\":\"data\"}}")).containsExactlyInAnyOrder("anything-but", "anything-but-prefix");
+        assertThat(matcher.match("{\"detail\":{}}")).isEmpty();
+    }
+
+    @Test
+    public void match_NumericRanges() throws IOException {
+        final EventPatternMatcher matcher = new EventPatternMatcher()
+                .addRule("range", pattern("{\"detail\":{\"price\":[{\"numeric\":[\">\",0,\"<=\",5]}]}}"))
+                .addRule("equals", pattern("{\"detail\":{\"price\":[{\"numeric\":[\"=\",10]}]}}"));
+
+        assertThat(matcher.match("{\"detail\":{\"price\":5}}")).containsExactly("range");
+        assertThat(matcher.match("{\"detail\":{\"price\":0}}")).isEmpty();
+        assertThat(matcher.match("{\"detail\":{\"price\":10.0}}")).containsExactly("equals");
+        assertThat(matcher.match("{\"detail\":{\"price\":\"5\"}}")).isEmpty();
+    }
+
+    @Test
+    public void match_Exists() throws IOException {
+        final EventPatternMatcher matcher = new EventPatternMatcher()
+                .addRule("exists", pattern("{\"source\":[\"aws.s3\"],\"detail\":{\"error\":[{\"exists\":true}]}}"))
+                .addRule("absent", pattern("{\"source\":[\"aws.s3\"],\"detail\":{\"error\":[{\"exists\":false}]}}"));
+
+        assertThat(matcher.match("{\"source\":\"aws.s3\",\"detail\":{\"error\":\"AccessDenied\"}}")).containsExactly("exists");
+        assertThat(matcher.match("{\"source\":\"aws.s3\",\"detail\":{}}")).containsExactly("absent");
+        assertThat(matcher.match("{\"source\":\"aws.ec2\"}")).isEmpty();
+    }
+
+    @Test
+    public void addRule_UsesTheDescribedEventPattern() throws IOException {
+        final ResourceModel model = Translator.translateFromDescribeRuleResponse(DescribeRuleResponse.builder()
+                .name(EVENT_RULE_NAME)
+                .eventPattern("{\"source\":[\"aws.s3\"]}")
+                .build()).build();
+        final ResourceModel noPattern = ResourceModel.builder().name("ScheduledRule").scheduleExpression("rate(1 minute)").build();
+
+        final EventPatternMatcher matcher = new EventPatternMatcher().addRule(model).addRule(noPattern);
+
+        assertThat(matcher.getRuleCount()).isEqualTo(1);
+        assertThat(matcher.match("{\"source\":\"aws.s3\"}")).containsExactly(EVENT_RULE_NAME);
+    }
+
+    @Test
+    public void addRule_ParsesAStringEventPattern() throws IOException {
+        final ResourceModel model = ResourceModel.builder().name(EVENT_RULE_NAME).eventPattern("{\"source\":[\"aws.s3\"]}").build();
+        final ResourceModel invalid = ResourceModel.builder().name("InvalidRule").eventPattern("[\"aws.s3\"]").build();
+
+        final EventPatternMatcher matcher = new EventPatternMatcher().addRule(model);
+
+        assertThat(matcher.match("{\"source\":\"aws.s3\"}")).containsExactly(EVENT_RULE_NAME);
+        assertThatThrownBy(() -> matcher.addRule(invalid)).isInstanceOf(CfnInvalidRequestException.class);
+    }
+
+    @Test
+    public void addRule_RejectsUnsupportedSyntax() {
+        final EventPatternMatcher matcher = new EventPatternMatcher();
+
+        assertThatThrownBy(() -> matcher.addRule("scalar", pattern("{\"source\":\"aws.s3\"}")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> matcher.addRule("suffix", pattern("{\"source\":[{\"wildcard\":\"*.s3\"}]}")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> matcher.addRule("numeric", pattern("{\"price\":[{\"numeric\":[\"!=\",5]}]}")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void replay_ReportsTheRulesOfEveryEvent() throws IOException {
+        final EventPatternMatcher matcher = new EventPatternMatcher()
+                .addRule("s3", pattern("{\"source\":[\"aws.s3\"]}"))
+                .addRule("ec2", pattern("{\"source\":[\"aws.ec2\"]}"));
+        final String ndjson = "{\"source\":\"aws.s3\"}\n\n{\"source\":\"aws.sqs\"}\n{\"source\":\"aws.ec2\"}\n";
+
+        final List<Set<String>> matches = new ArrayList<>();
+        final long count = matcher.replay(new StringReader(ndjson), (index, ruleIds) -> matches.add(ruleIds));
+
+        assertThat(count).isEqualTo(3);
+        assertThat(matches).hasSize(3);
+        assertThat(matches.get(0)).containsExactly("s3");
+        assertThat(matches.get(1)).isEmpty();
+        assertThat(matches.get(2)).containsExactly("ec2");
+    }
+}
@@ -0,0 +1,149 @@
+package software.amazon.events.rule;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+public class EventPatternValidatorTest extends AbstractTestBase {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static Map<String, Object> pattern(final String json) throws IOException {
+        return MAPPER.readValue(json, new TypeReference<Map<String, Object>>() {});
+    }
+
+    @Test
+    public void validate_NoPattern() {
+        assertThat(EventPatternValidator.validate(null)).isEqualTo(0);
+    }
+
+    @Test
+    public void validate_AcceptsEveryMatcher() throws IOException {
+        final Map<String, Object> eventPattern = pattern("{"
+                + "\"source\":[\"aws.s3\",\"aws.ec2\"],"
+                + "\"detail\":{"
+                + "\"key\":[{\"prefix\":\"logs/\"},{\"suffix\":\".png\"},{\"prefix\":{\"equals-ignore-case\":\"TMP/\"}}],"
+                + "\"state\":[{\"anything-but\":[\"pending\",\"stopped\"]},{\"anything-but\":{\"prefix\":\"shutting\"}}],"
+                + "\"price\":[{\"numeric\":[\">\",0,\"<=\",5]},{\"numeric\":[\"=\",10]}],"
+                + "\"error\":[{\"exists\":false}],"
+                + "\"name\":[{\"equals-ignore-case\":\"alice\"},{\"wildcard\":\"bob*\"},null,true,5],"
+                + "\"ip\":[{\"cidr\":\"10.0.0.0/24\"}]"
+                + "}}");
+
+        // source 2 x key 3 x state 2 x price 2 x error 1 x name 5 x ip 1
+        assertThat(EventPatternValidator.validate(eventPattern)).isEqualTo(120);
+    }
+
+    @Test
+    public void validate_ScoresOrBranches() throws IOException {
+        final Map<String, Object> eventPattern = pattern("{"
+                + "\"source\":[\"aws.s3\",\"aws.ec2\"],"
+                + "\"$or\":[{\"detail-type\":[\"a\",\"b\",\"c\"]},{\"detail\":{\"state\":[\"running\"]}}]"
+                + "}");
+
+        // source 2 x (3 + 1)
+        assertThat(EventPatternValidator.validate(eventPattern)).isEqualTo(8);
+    }
+
+    @Test
+    public void validate_DescribedPattern() {
+        final Object eventPattern = Translator.translateFromDescribeRuleResponse(
+                software.amazon.awssdk.services.cloudwatchevents.model.DescribeRuleResponse.builder()
+                        .eventPattern("{\"source\":[\"aws.s3\"]}")
+                        .build()).build().getEventPattern();
+
+        assertThat(EventPatternValidator.validate(eventPattern)).isEqualTo(1);
+    }
+
+    @Test
+    public void validate_StringPattern() {
+        assertThat(EventPatternValidator.validate("{\"source\":[\"aws.s3\",\"aws.ec2\"]}")).isEqualTo(2);
+        assertThatThrownBy(() -> EventPatternValidator.validate("{\"source\":[]}"))
+                .isInstanceOf(CfnInvalidRequestException.class)
+                .hasMessageContaining("field source must not be an empty array");
+    }
+
+    @Test
+    public void validate_RejectsStringsThatAreNotJsonObjects() {
+        assertThatThrownBy(() -> EventPatternValidator.validate("{\"source\":"))
+                .isInstanceOf(CfnInvalidRequestException.class)
+                .hasMessageContaining("EventPattern is not a JSON object");
+        assertThatThrownBy(() -> EventPatternValidator.validate("[\"aws.s3\"]"))
+                .isInstanceOf(CfnInvalidRequestException.class)
+                .hasMessageContaining("EventPattern is not a JSON object");
+        assertThatThrownBy(() -> EventPatternValidator.validate("null"))
+                .isInstanceOf(CfnInvalidRequestException.class)
+                .hasMessageContaining("EventPattern is not a JSON object");
+    }
+
+    private static Stream<Arguments> invalidPatterns() {
+        return Stream.of(
+                Arguments.of("{}", "must not be an empty object"),
+                Arguments.of("{\"source\":\"aws.s3\"}", "field source must be an object or an array"),
+                Arguments.of("{\"source\":[]}", "field source must not be an empty array"),
+                Arguments.of("{\"source\":[[\"aws.s3\"]]}", "field source must not hold nested arrays"),
+                Arguments.of("{\"detail\":{}}", "field detail must not be an empty object"),
+                Arguments.of("{\"source\":[{\"prefix\":\"a\",\"suffix\":\"b\"}]}", "exactly one key"),
+                Arguments.of("{\"source\":[{\"regex\":\"a.*\"}]}", "unknown matcher regex"),
+                Arguments.of("{\"source\":[{\"prefix\":5}]}", "prefix takes a string"),
+                Arguments.of("{\"source\":[{\"exists\":\"yes\"}]}", "exists takes true or false"),
+                Arguments.of("{\"price\":[{\"numeric\":[\">\"]}]}", "numeric takes one or two operator and number pairs"),
+                Arguments.of("{\"price\":[{\"numeric\":[\"!=\",5]}]}", "numeric does not accept !="),
+                Arguments.of("{\"price\":[{\"numeric\":[\">\",0,\">\",5]}]}", "numeric does not accept >"),
+                Arguments.of("{\"price\":[{\"numeric\":[\">\",\"0\"]}]}", "numeric compares with numbers"),
+                Arguments.of("{\"price\":[{\"numeric\":[\">\",10,\"<\",5]}]}", "numeric range is empty"),
+                Arguments.of("{\"state\":[{\"anything-but\":[\"a\",5]}]}", "only strings or only numbers"),
+                Arguments.of("{\"state\":[{\"anything-but\":{\"numeric\":[\">\",5]}}]}", "anything-but takes a value"),
+                Arguments.of("{\"$or\":[{\"source\":[\"aws.s3\"]}]}", "field $or must be an array of at least 2 objects"),
+                Arguments.of("{\"$or\":[{\"source\":[\"aws.s3\"]},[\"aws.ec2\"]]}", "field $or must only hold objects")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidPatterns")
+    public void validate_RejectsInvalidPatterns(final String json, final String message) throws IOException {
+        final Map<String, Object> eventPattern = pattern(json);
+
+        assertThatThrownBy(() -> EventPatternValidator.validate(eventPattern))
+                .isInstanceOf(CfnInvalidRequestException.class)
+                .hasMessageContaining(message);
+    }
+
+    @Test
+    public void validate_RejectsPatternsOverTheSizeLimit() {
+        final List<String> sources = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            sources.add("custom.source" + i);
+        }
+
+        assertThatThrownBy(() -> EventPatternValidator.validate(Collections.singletonMap("source", sources)))
+                .isInstanceOf(CfnInvalidRequestException.class)
+                .hasMessageContaining("at most " + EventPatternValidator.EVENT_PATTERN_MAX_LENGTH + " characters");
+    }
+
+    @Test
+    public void validate_ReportsAllViolations() throws IOException {
+        final Map<String, Object> eventPattern = pattern("{\"source\":[],\"detail\":{\"price\":[{\"numeric\":[\"!=\",5]}]}}");
+
+        assertThatThrownBy(() -> EventPatternValidator.validate(eventPattern))
+                .isInstanceOf(CfnInvalidRequestException.class)
+                .hasMessageContaining("field source must not be an empty array")
+                .hasMessageContaining("field detail.price: numeric does not accept !=");
+    }
+}
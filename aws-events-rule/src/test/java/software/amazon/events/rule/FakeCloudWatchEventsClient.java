@@ -0,0 +1,451 @@
+package software.amazon.events.rule;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.cloudwatchevents.CloudWatchEventsClient;
+import software.amazon.awssdk.services.cloudwatchevents.model.CloudWatchEventsException;
+import software.amazon.awssdk.services.cloudwatchevents.model.DeleteRuleRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.DeleteRuleResponse;
+import software.amazon.awssdk.services.cloudwatchevents.model.DescribeRuleRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.DescribeRuleResponse;
+import software.amazon.awssdk.services.cloudwatchevents.model.DisableRuleRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.DisableRuleResponse;
+import software.amazon.awssdk.services.cloudwatchevents.model.EnableRuleRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.EnableRuleResponse;
+import software.amazon.awssdk.services.cloudwatchevents.model.EventBus;
+import software.amazon.awssdk.services.cloudwatchevents.model.LimitExceededException;
+import software.amazon.awssdk.services.cloudwatchevents.model.ListEventBusesRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.ListEventBusesResponse;
+import software.amazon.awssdk.services.cloudwatchevents.model.ListRulesRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.ListRulesResponse;
+import software.amazon.awssdk.services.cloudwatchevents.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.cloudwatchevents.model.ListTargetsByRuleRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.ListTargetsByRuleResponse;
+import software.amazon.awssdk.services.cloudwatchevents.model.PutRuleRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.PutRuleResponse;
+import software.amazon.awssdk.services.cloudwatchevents.model.PutTargetsRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.PutTargetsResponse;
+import software.amazon.awssdk.services.cloudwatchevents.model.PutTargetsResultEntry;
+import software.amazon.awssdk.services.cloudwatchevents.model.RemoveTargetsRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.RemoveTargetsResponse;
+import software.amazon.awssdk.services.cloudwatchevents.model.RemoveTargetsResultEntry;
+import software.amazon.awssdk.services.cloudwatchevents.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.cloudwatchevents.model.Rule;
+import software.amazon.awssdk.services.cloudwatchevents.model.Tag;
+import software.amazon.awssdk.services.cloudwatchevents.model.TagResourceRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.TagResourceResponse;
+import software.amazon.awssdk.services.cloudwatchevents.model.Target;
+import software.amazon.awssdk.services.cloudwatchevents.model.UntagResourceRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.UntagResourceResponse;
+import software.amazon.events.common.FakeServiceBehavior;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory CloudWatch Events with real rule, target and tag state, for running handlers against a service instead of
+ * per-call Mockito stubs. Latency, throttling, eventual consistency and failed batch entries are configured through
+ * FakeServiceBehavior.
+ * Creates and deletes of rules and targets only become visible to reads once the consistency window has passed.
+ */
+public class FakeCloudWatchEventsClient implements CloudWatchEventsClient {
+    static final String DEFAULT_EVENT_BUS_NAME = "default";
+    static final int MAX_TARGETS_PER_RULE = 5;
+    static final int DEFAULT_PAGE_SIZE = 100;
+
+    private final String accountId;
+    private final String region;
+    private final FakeServiceBehavior behavior;
+
+    // Every event bus a rule has been put on, or that was added explicitly
+    private final Set<String> eventBuses = new LinkedHashSet<>();
+    // Keyed by event bus name and rule name
+    private final Map<String, RuleRecord> rules = new LinkedHashMap<>();
+    private final Map<String, Map<String, String>> tags = new HashMap<>();
+
+    /**
+     * A rule (or target) together with the times at which its creation and deletion become visible.
+     */
+    private static final class Versioned<T> {
+        private T value;
+        private long visibleAt;
+        private Long goneAt;
+
+        private Versioned(final T value, final long visibleAt) {
+            this.value = value;
+            this.visibleAt = visibleAt;
+        }
+    }
+
+    private static final class RuleRecord {
+        private final Versioned<Rule> rule;
+        private final Map<String, Versioned<Target>> targets = new LinkedHashMap<>();
+
+        private RuleRecord(final Versioned<Rule> rule) {
+            this.rule = rule;
+        }
+    }
+
+    public FakeCloudWatchEventsClient(final String accountId, final String region, final FakeServiceBehavior behavior) {
+        this.accountId = accountId;
+        this.region = region;
+        this.behavior = behavior;
+        this.eventBuses.add(DEFAULT_EVENT_BUS_NAME);
+    }
+
+    public synchronized FakeCloudWatchEventsClient addEventBus(final String eventBusName) {
+        eventBuses.add(eventBusName);
+        return this;
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public synchronized PutRuleResponse putRule(final PutRuleRequest request) {
+        enter("PutRule");
+
+        if (request.eventPattern() == null && request.scheduleExpression() == null) {
+            throw error("ValidationException", "Parameter(s) EventPattern or ScheduleExpression must be specified.");
+        }
+
+        final String eventBusName = eventBusName(request.eventBusName());
+        final String arn = ruleArn(eventBusName, request.name());
+        final Rule rule = Rule.builder()
+                .name(request.name())
+                .arn(arn)
+                .eventBusName(eventBusName)
+                .description(request.description())
+                .eventPattern(request.eventPattern())
+                .scheduleExpression(request.scheduleExpression())
+                .roleArn(request.roleArn())
+                .state(request.state() == null ? "ENABLED" : request.stateAsString())
+                .build();
+
+        eventBuses.add(eventBusName);
+        final RuleRecord existing = visibleOrPendingRule(eventBusName, request.name());
+        if (existing == null) {
+            rules.put(key(eventBusName, request.name()), new RuleRecord(new Versioned<>(rule, behavior.visibleAt())));
+        } else {
+            existing.rule.value = rule;
+        }
+
+        if (request.hasTags()) {
+            request.tags().forEach(tag -> tags.computeIfAbsent(arn, key -> new HashMap<>()).put(tag.key(), tag.value()));
+        }
+
+        return PutRuleResponse.builder().ruleArn(arn).build();
+    }
+
+    @Override
+    public synchronized DescribeRuleResponse describeRule(final DescribeRuleRequest request) {
+        enter("DescribeRule");
+
+        final Rule rule = visibleRule(eventBusName(request.eventBusName()), request.name()).rule.value;
+        return DescribeRuleResponse.builder()
+                .name(rule.name())
+                .arn(rule.arn())
+                .eventBusName(rule.eventBusName())
+                .description(rule.description())
+                .eventPattern(rule.eventPattern())
+                .scheduleExpression(rule.scheduleExpression())
+                .roleArn(rule.roleArn())
+                .state(rule.stateAsString())
+                .build();
+    }
+
+    @Override
+    public synchronized EnableRuleResponse enableRule(final EnableRuleRequest request) {
+        enter("EnableRule");
+
+        setState(visibleRule(eventBusName(request.eventBusName()), request.name()), "ENABLED");
+        return EnableRuleResponse.builder().build();
+    }
+
+    @Override
+    public synchronized DisableRuleResponse disableRule(final DisableRuleRequest request) {
+        enter("DisableRule");
+
+        setState(visibleRule(eventBusName(request.eventBusName()), request.name()), "DISABLED");
+        return DisableRuleResponse.builder().build();
+    }
+
+    @Override
+    public synchronized DeleteRuleResponse deleteRule(final DeleteRuleRequest request) {
+        enter("DeleteRule");
+
+        final RuleRecord record = visibleRule(eventBusName(request.eventBusName()), request.name());
+        if (!Boolean.TRUE.equals(request.force()) && record.targets.values().stream().anyMatch(target -> target.goneAt == null)) {
+            throw error("ValidationException", "Rule can't be deleted since it has targets.");
+        }
+
+        record.rule.goneAt = behavior.visibleAt();
+        tags.remove(record.rule.value.arn());
+        return DeleteRuleResponse.builder().build();
+    }
+
+    @Override
+    public synchronized ListRulesResponse listRules(final ListRulesRequest request) {
+        enter("ListRules");
+
+        final String eventBusName = eventBusName(request.eventBusName());
+        final List<Rule> matching = rules.values().stream()
+                .filter(this::isVisible)
+                .map(record -> record.rule.value)
+                .filter(rule -> rule.eventBusName().equals(eventBusName))
+                .filter(rule -> request.namePrefix() == null || rule.name().startsWith(request.namePrefix()))
+                .collect(Collectors.toList());
+
+        final int from = request.nextToken() == null ? 0 : Integer.parseInt(request.nextToken());
+        final int to = Math.min(matching.size(), from + (request.limit() == null ? DEFAULT_PAGE_SIZE : request.limit()));
+
+        return ListRulesResponse.builder()
+                .rules(matching.subList(from, to))
+                .nextToken(to < matching.size() ? String.valueOf(to) : null)
+                .build();
+    }
+
+    @Override
+    public synchronized ListEventBusesResponse listEventBuses(final ListEventBusesRequest request) {
+        enter("ListEventBuses");
+
+        final List<EventBus> matching = eventBuses.stream()
+                .filter(name -> request.namePrefix() == null || name.startsWith(request.namePrefix()))
+                .map(name -> EventBus.builder()
+                        .name(name)
+                        .arn(String.format("arn:aws:events:%s:%s:event-bus/%s", region, accountId, name))
+                        .build())
+                .collect(Collectors.toList());
+
+        final int from = request.nextToken() == null ? 0 : Integer.parseInt(request.nextToken());
+        final int to = Math.min(matching.size(), from + (request.limit() == null ? DEFAULT_PAGE_SIZE : request.limit()));
+
+        return ListEventBusesResponse.builder()
+                .eventBuses(matching.subList(from, to))
+                .nextToken(to < matching.size() ? String.valueOf(to) : null)
+                .build();
+    }
+
+    @Override
+    public synchronized PutTargetsResponse putTargets(final PutTargetsRequest request) {
+        enter("PutTargets");
+
+        final RuleRecord record = visibleRule(eventBusName(request.eventBusName()), request.rule());
+        final long liveTargets = record.targets.values().stream().filter(target -> target.goneAt == null).count();
+        final long newTargets = request.targets().stream().filter(target -> !record.targets.containsKey(target.id())
+                || record.targets.get(target.id()).goneAt != null).count();
+        if (liveTargets + newTargets > MAX_TARGETS_PER_RULE) {
+            throw LimitExceededException.builder()
+                    .awsErrorDetails(details("LimitExceededException", "The requested resource exceeds the maximum number allowed."))
+                    .build();
+        }
+
+        final List<PutTargetsResultEntry> failedEntries = new ArrayList<>();
+        for (final Target target : request.targets()) {
+            if (behavior.nextEntryFails()) {
+                failedEntries.add(PutTargetsResultEntry.builder()
+                        .targetId(target.id())
+                        .errorCode("InternalFailure")
+                        .errorMessage("Target " + target.id() + " could not be put")
+                        .build());
+                continue;
+            }
+
+            final Versioned<Target> existing = record.targets.get(target.id());
+            if (existing == null || existing.goneAt != null) {
+                record.targets.put(target.id(), new Versioned<>(target, behavior.visibleAt()));
+            } else {
+                existing.value = target;
+            }
+        }
+
+        return PutTargetsResponse.builder()
+                .failedEntryCount(failedEntries.size())
+                .failedEntries(failedEntries)
+                .build();
+    }
+
+    @Override
+    public synchronized RemoveTargetsResponse removeTargets(final RemoveTargetsRequest request) {
+        enter("RemoveTargets");
+
+        final RuleRecord record = visibleRule(eventBusName(request.eventBusName()), request.rule());
+        final List<RemoveTargetsResultEntry> failedEntries = new ArrayList<>();
+        for (final String id : request.ids()) {
+            if (behavior.nextEntryFails()) {
+                failedEntries.add(RemoveTargetsResultEntry.builder()
+                        .targetId(id)
+                        .errorCode("InternalFailure")
+                        .errorMessage("Target " + id + " could not be removed")
+                        .build());
+                continue;
+            }
+
+            final Versioned<Target> target = record.targets.get(id);
+            if (target != null && target.goneAt == null) {
+                target.goneAt = behavior.visibleAt();
+            }
+        }
+
+        return RemoveTargetsResponse.builder()
+                .failedEntryCount(failedEntries.size())
+                .failedEntries(failedEntries)
+                .build();
+    }
+
+    @Override
+    public synchronized ListTargetsByRuleResponse listTargetsByRule(final ListTargetsByRuleRequest request) {
+        enter("ListTargetsByRule");
+
+        final RuleRecord record = visibleRule(eventBusName(request.eventBusName()), request.rule());
+        final List<Target> visibleTargets = record.targets.values().stream()
+                .filter(target -> behavior.isReached(target.visibleAt))
+                .filter(target -> target.goneAt == null || !behavior.isReached(target.goneAt))
+                .map(target -> target.value)
+                .collect(Collectors.toList());
+
+        final int from = request.nextToken() == null ? 0 : Integer.parseInt(request.nextToken());
+        final int to = Math.min(visibleTargets.size(), from + (request.limit() == null ? DEFAULT_PAGE_SIZE : request.limit()));
+
+        return ListTargetsByRuleResponse.builder()
+                .targets(visibleTargets.subList(from, to))
+                .nextToken(to < visibleTargets.size() ? String.valueOf(to) : null)
+                .build();
+    }
+
+    @Override
+    public synchronized TagResourceResponse tagResource(final TagResourceRequest request) {
+        enter("TagResource");
+
+        requireTaggable(request.resourceARN());
+        request.tags().forEach(tag -> tags.computeIfAbsent(request.resourceARN(), key -> new HashMap<>()).put(tag.key(), tag.value()));
+        return TagResourceResponse.builder().build();
+    }
+
+    @Override
+    public synchronized UntagResourceResponse untagResource(final UntagResourceRequest request) {
+        enter("UntagResource");
+
+        requireTaggable(request.resourceARN());
+        request.tagKeys().forEach(tags.getOrDefault(request.resourceARN(), new HashMap<>())::remove);
+        return UntagResourceResponse.builder().build();
+    }
+
+    @Override
+    public synchronized ListTagsForResourceResponse listTagsForResource(final ListTagsForResourceRequest request) {
+        enter("ListTagsForResource");
+
+        requireTaggable(request.resourceARN());
+        return ListTagsForResourceResponse.builder()
+                .tags(tags.getOrDefault(request.resourceARN(), new HashMap<>()).entrySet().stream()
+                        .map(tag -> Tag.builder().key(tag.getKey()).value(tag.getValue()).build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    /**
+     * @return The number of rules that exist, whether or not reads observe them yet
+     */
+    public synchronized int getRuleCount() {
+        return (int) rules.values().stream().filter(record -> record.rule.goneAt == null).count();
+    }
+
+    private void enter(final String operation) {
+        if (behavior.enter(operation)) {
+            throw error(BaseHandlerStd.ERROR_CODE_THROTTLING_EXCEPTION, "Rate exceeded");
+        }
+    }
+
+    private void setState(final RuleRecord record, final String state) {
+        record.rule.value = record.rule.value.toBuilder().state(state).build();
+    }
+
+    private void requireTaggable(final String arn) {
+        final boolean exists = rules.values().stream()
+                .anyMatch(record -> isVisible(record) && record.rule.value.arn().equals(arn));
+        if (!exists) {
+            throw notFound("Rule " + arn + " does not exist.");
+        }
+    }
+
+    private boolean isVisible(final RuleRecord record) {
+        return behavior.isReached(record.rule.visibleAt)
+                && (record.rule.goneAt == null || !behavior.isReached(record.rule.goneAt));
+    }
+
+    /**
+     * @return The rule as reads observe it
+     */
+    private RuleRecord visibleRule(final String eventBusName, final String name) {
+        final RuleRecord record = rules.get(key(eventBusName, name));
+        if (record == null || !isVisible(record)) {
+            throw notFound(String.format("Rule %s does not exist on EventBus %s.", name, eventBusName));
+        }
+        return record;
+    }
+
+    /**
+     * @return The rule as writes observe it, i.e. including creates that are not yet visible to reads
+     */
+    private RuleRecord visibleOrPendingRule(final String eventBusName, final String name) {
+        final RuleRecord record = rules.get(key(eventBusName, name));
+        return record == null || record.rule.goneAt != null ? null : record;
+    }
+
+    private String ruleArn(final String eventBusName, final String name) {
+        return String.format("arn:aws:events:%s:%s:rule/%s", region, accountId,
+                DEFAULT_EVENT_BUS_NAME.equals(eventBusName) ? name : eventBusName + "/" + name);
+    }
+
+    /**
+     * Accepts event bus names and ARNs, like the service does.
+     */
+    private static String eventBusName(final String nameOrArn) {
+        if (nameOrArn == null) {
+            return DEFAULT_EVENT_BUS_NAME;
+        }
+        final int index = nameOrArn.indexOf(":event-bus/");
+        return index < 0 ? nameOrArn : nameOrArn.substring(index + ":event-bus/".length());
+    }
+
+    private static String key(final String eventBusName, final String name) {
+        return eventBusName + "|" + name;
+    }
+
+    private static AwsErrorDetails details(final String errorCode, final String message) {
+        return AwsErrorDetails.builder()
+                .errorCode(errorCode)
+                .errorMessage(message)
+                .serviceName("CloudWatchEvents")
+                .build();
+    }
+
+    private static AwsServiceException error(final String errorCode, final String message) {
+        return CloudWatchEventsException.builder()
+                .awsErrorDetails(details(errorCode, message))
+                .message(message)
+                .statusCode(400)
+                .build();
+    }
+
+    private static ResourceNotFoundException notFound(final String message) {
+        return ResourceNotFoundException.builder()
+                .awsErrorDetails(details("ResourceNotFoundException", message))
+                .message(message)
+                .statusCode(400)
+                .build();
+    }
+}
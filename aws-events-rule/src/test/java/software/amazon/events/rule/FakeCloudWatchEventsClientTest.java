@@ -0,0 +1,186 @@
+package software.amazon.events.rule;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.cloudwatchevents.CloudWatchEventsClient;
+import software.amazon.awssdk.services.cloudwatchevents.model.ListRulesRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.ListRulesResponse;
+import software.amazon.awssdk.services.cloudwatchevents.model.PutRuleRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.PutTargetsRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.PutTargetsResponse;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.events.common.FakeServiceBehavior;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+public class FakeCloudWatchEventsClientTest extends AbstractTestBase {
+    private static final int MAX_INVOCATIONS = 20;
+
+    private AmazonWebServicesClientProxy proxy;
+    private FakeServiceBehavior behavior;
+    private FakeCloudWatchEventsClient fakeClient;
+    private ProxyClient<CloudWatchEventsClient> proxyClient;
+    private long now;
+
+    @BeforeEach
+    public void setup() {
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        now = 0;
+        behavior = new FakeServiceBehavior().clock(() -> now);
+        fakeClient = new FakeCloudWatchEventsClient(SOURCE_ACCOUNT_ID, "us-east-1", behavior);
+        proxyClient = MOCK_PROXY(proxy, fakeClient);
+    }
+
+    private static Set<Target> targets(final String... ids) {
+        final Set<Target> targets = new HashSet<>();
+        for (final String id : ids) {
+            targets.add(Target.builder()
+                    .id(id)
+                    .arn("arn:aws:lambda:us-east-1:123456789012:function:" + id)
+                    .build());
+        }
+        return targets;
+    }
+
+    /**
+     * Invokes the handler with the returned CallbackContext until it stops returning IN_PROGRESS.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> run(final BaseHandlerStd handler,
+                                                              final ResourceHandlerRequest<ResourceModel> request) {
+        CallbackContext context = new CallbackContext();
+        ProgressEvent<ResourceModel, CallbackContext> response;
+        int invocations = 0;
+
+        do {
+            response = handler.handleRequest(proxy, request, context, proxyClient, logger);
+            context = response.getCallbackContext();
+        } while (response.isInProgress() && ++invocations < MAX_INVOCATIONS);
+
+        return response;
+    }
+
+    @Test
+    public void handlers_RuleLifecycle() {
+        final ResourceModel model = ResourceModel.builder()
+                .name(EVENT_RULE_NAME)
+                .description("TestDescription")
+                .eventPattern(Collections.singletonMap("source", Collections.singletonList("aws.s3")))
+                .state("ENABLED")
+                .targets(targets("Target1", "Target2"))
+                .build();
+
+        // CREATE
+        final ProgressEvent<ResourceModel, CallbackContext> created = run(new CreateHandler(),
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .awsAccountId(SOURCE_ACCOUNT_ID)
+                        .stackId(MOCK_STACK_ID)
+                        .desiredResourceState(model)
+                        .build());
+
+        assertThat(created.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(fakeClient.getRuleCount()).isEqualTo(1);
+
+        // READ
+        final ProgressEvent<ResourceModel, CallbackContext> read = run(new ReadHandler(),
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .awsAccountId(SOURCE_ACCOUNT_ID)
+                        .desiredResourceState(ResourceModel.builder().arn(created.getResourceModel().getArn()).build())
+                        .build());
+
+        assertThat(read.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(read.getResourceModel().getDescription()).isEqualTo("TestDescription");
+        assertThat(read.getResourceModel().getTargets()).extracting(Target::getId).containsExactlyInAnyOrder("Target1", "Target2");
+
+        // UPDATE
+        final ResourceModel updatedModel = ResourceModel.builder()
+                .name(EVENT_RULE_NAME)
+                .arn(created.getResourceModel().getArn())
+                .description("NewDescription")
+                .eventPattern(model.getEventPattern())
+                .state("DISABLED")
+                .targets(targets("Target2", "Target3"))
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> updated = run(new UpdateHandler(),
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .awsAccountId(SOURCE_ACCOUNT_ID)
+                        .stackId(MOCK_STACK_ID)
+                        .previousResourceState(model)
+                        .desiredResourceState(updatedModel)
+                        .build());
+
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final ProgressEvent<ResourceModel, CallbackContext> reread = run(new ReadHandler(),
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .awsAccountId(SOURCE_ACCOUNT_ID)
+                        .desiredResourceState(ResourceModel.builder().arn(created.getResourceModel().getArn()).build())
+                        .build());
+        assertThat(reread.getResourceModel().getState()).isEqualTo("DISABLED");
+        assertThat(reread.getResourceModel().getTargets()).extracting(Target::getId).containsExactlyInAnyOrder("Target2", "Target3");
+
+        // DELETE
+        final ProgressEvent<ResourceModel, CallbackContext> deleted = run(new DeleteHandler(),
+                ResourceHandlerRequest.<ResourceModel>builder()
+                        .awsAccountId(SOURCE_ACCOUNT_ID)
+                        .stackId(MOCK_STACK_ID)
+                        .desiredResourceState(updatedModel)
+                        .build());
+
+        assertThat(deleted.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(fakeClient.getRuleCount()).isEqualTo(0);
+        assertThat(behavior.getCallCount("DeleteRule")).isEqualTo(1);
+    }
+
+    @Test
+    public void putTargets_FailedEntries() {
+        fakeClient.putRule(PutRuleRequest.builder().name(EVENT_RULE_NAME).scheduleExpression("rate(1 day)").build());
+        behavior.failedEntryRate(1.0);
+
+        final PutTargetsResponse response = fakeClient.putTargets(PutTargetsRequest.builder()
+                .rule(EVENT_RULE_NAME)
+                .targets(Arrays.asList(
+                        software.amazon.awssdk.services.cloudwatchevents.model.Target.builder().id("Target1").arn("Arn1").build(),
+                        software.amazon.awssdk.services.cloudwatchevents.model.Target.builder().id("Target2").arn("Arn2").build()))
+                .build());
+
+        assertThat(response.failedEntryCount()).isEqualTo(2);
+        assertThat(response.failedEntries()).extracting(entry -> entry.targetId()).containsExactly("Target1", "Target2");
+    }
+
+    @Test
+    public void throttle_IsClassifiedAsThrottle() {
+        behavior.throttleRate("ListRules", 1.0);
+
+        assertThatThrownBy(() -> fakeClient.listRules(ListRulesRequest.builder().build()))
+                .isInstanceOfSatisfying(AwsServiceException.class, e -> assertThat(ThrottleClassifier.isThrottle(e)).isTrue());
+    }
+
+    @Test
+    public void listRules_Paginates() {
+        for (int i = 0; i < 3; i++) {
+            fakeClient.putRule(PutRuleRequest.builder().name("Rule" + i).scheduleExpression("rate(1 day)").build());
+        }
+
+        final ListRulesResponse firstPage = fakeClient.listRules(ListRulesRequest.builder().limit(2).build());
+        final ListRulesResponse secondPage = fakeClient.listRules(ListRulesRequest.builder().limit(2).nextToken(firstPage.nextToken()).build());
+
+        assertThat(firstPage.rules()).hasSize(2);
+        assertThat(secondPage.rules()).hasSize(1);
+        assertThat(secondPage.nextToken()).isNull();
+    }
+}
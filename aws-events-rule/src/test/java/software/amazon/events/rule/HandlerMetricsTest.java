@@ -0,0 +1,63 @@
+package software.amazon.events.rule;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.cloudwatchevents.model.PutTargetsResponse;
+import software.amazon.awssdk.services.cloudwatchevents.model.PutTargetsResultEntry;
+import software.amazon.awssdk.services.cloudwatchevents.model.RemoveTargetsResponse;
+import software.amazon.awssdk.services.cloudwatchevents.model.RemoveTargetsResultEntry;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.events.common.HandlerLogger;
+import software.amazon.events.common.HandlerMetrics;
+import software.amazon.events.common.StepTracer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+public class HandlerMetricsTest extends AbstractTestBase {
+    private final List<String> lines = new ArrayList<>();
+
+    @Test
+    public void recordTargetsResponses_CountFailedEntries() {
+        final StepTracer tracer = StepTracer.begin(ResourceModel.TYPE_NAME, "UpdateHandler", null, HandlerLogger.batching(lines::add));
+
+        BaseHandlerStd.recordPutTargetsResponse(PutTargetsResponse.builder()
+                .failedEntries(PutTargetsResultEntry.builder().targetId("a").errorCode("InternalFailure").build())
+                .failedEntryCount(1)
+                .build(), new CallbackContext(), logger);
+        BaseHandlerStd.recordRemoveTargetsResponse(RemoveTargetsResponse.builder()
+                .failedEntries(RemoveTargetsResultEntry.builder().targetId("b").errorCode("InternalFailure").build(),
+                        RemoveTargetsResultEntry.builder().targetId("c").errorCode("InternalFailure").build())
+                .failedEntryCount(2)
+                .build(), new CallbackContext(), logger);
+
+        assertThat(HandlerMetrics.current().get(HandlerMetrics.FAILED_ENTRIES)).isEqualTo(3);
+        tracer.end(ProgressEvent.progress(ResourceModel.builder().build(), new CallbackContext()));
+    }
+
+    @Test
+    public void recordCompositePIDCacheLookups_CountsTheLookupsOfTheInvocation() {
+        final StepTracer tracer = StepTracer.begin(ResourceModel.TYPE_NAME, "ReadHandler", null, HandlerLogger.batching(lines::add));
+        final CompositePIDCache cache = new CompositePIDCache(CompositePIDCache.DEFAULT_MAXIMUM_SIZE);
+        final ResourceModel model = ResourceModel.builder().arn(EVENT_RULE_ARN_CUSTOM_BUS).build();
+        // A lookup of an earlier invocation of the container
+        cache.resolve(model, SOURCE_ACCOUNT_ID);
+        final long hits = cache.getHits();
+        final long misses = cache.getMisses();
+
+        cache.resolve(model, SOURCE_ACCOUNT_ID);
+        cache.resolve(model, SOURCE_ACCOUNT_ID);
+        cache.resolve(ResourceModel.builder().arn(EVENT_RULE_ARN_DEFAULT_BUS).build(), SOURCE_ACCOUNT_ID);
+        BaseHandlerStd.recordCompositePIDCacheLookups(tracer.getMetrics(), cache, hits, misses);
+
+        assertThat(tracer.getMetrics().get(BaseHandlerStd.COMPOSITE_PID_CACHE_HITS)).isEqualTo(2);
+        assertThat(tracer.getMetrics().get(BaseHandlerStd.COMPOSITE_PID_CACHE_MISSES)).isEqualTo(1);
+        tracer.end(ProgressEvent.progress(model, new CallbackContext()));
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0)).contains("\"" + BaseHandlerStd.COMPOSITE_PID_CACHE_HITS + "\":2");
+    }
+}
@@ -0,0 +1,123 @@
+package software.amazon.events.rule;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.services.cloudwatchevents.model.DescribeRuleResponse;
+import software.amazon.awssdk.services.cloudwatchevents.model.PutRuleRequest;
+import software.amazon.cloudformation.resource.Serializer;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares parsing every EventPattern of a DescribeRuleResponse into a HashMap, as the Translator used to, with the
+ * LazyEventPattern, for patterns from 100 bytes to the 4096 characters PutRule accepts. Covers the read path (the
+ * model serialized as the handler response) and the read-modify-write path (the pattern handed back to PutRule).
+ * Not picked up by surefire; run main() from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LazyEventPatternBenchmark {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Param({"100", "1024", "4096"})
+    public int patternLength;
+
+    private final Serializer serializer = new Serializer();
+    private final CompositePID compositePID = new CompositePID(ResourceModel.builder().name("EventRuleName").build(), "123456789012");
+    private DescribeRuleResponse describeRuleResponse;
+
+    @Setup
+    public void setUp() {
+        describeRuleResponse = DescribeRuleResponse.builder()
+                .name("EventRuleName")
+                .arn("arn:aws:events:us-east-1:123456789012:rule/EventRuleName")
+                .eventPattern(eventPattern(patternLength))
+                .state("ENABLED")
+                .build();
+        System.out.printf("%npattern of %d characters%n", describeRuleResponse.eventPattern().length());
+    }
+
+    /**
+     * @return An EventPattern matching S3 object keys, of at most the given length
+     */
+    static String eventPattern(final int maxLength) {
+        final String prefix = "{\"source\":[\"aws.s3\"],\"detail-type\":[\"Object Created\"],\"detail\":{\"object\":{\"key\":[";
+        final String suffix = "]}}}";
+        final StringBuilder pattern = new StringBuilder(prefix);
+        for (int i = 0; ; i++) {
+            final String key = (i == 0 ? "" : ",") + "{\"prefix\":\"k" + i + "/\"}";
+            if (pattern.length() + key.length() + suffix.length() > maxLength && i > 0) {
+                break;
+            }
+            pattern.append(key);
+        }
+        return pattern.append(suffix).toString();
+    }
+
+    private ResourceModel eagerModel() throws JsonProcessingException {
+        final HashMap<String, Object> eventPattern = MAPPER.readValue(describeRuleResponse.eventPattern(),
+                new TypeReference<HashMap<String, Object>>() {});
+        return ResourceModel.builder()
+                .arn(describeRuleResponse.arn())
+                .name(describeRuleResponse.name())
+                .eventPattern(eventPattern)
+                .state(describeRuleResponse.stateAsString())
+                .build();
+    }
+
+    @Benchmark
+    public String readEager() throws JsonProcessingException {
+        return serializer.serialize(eagerModel());
+    }
+
+    @Benchmark
+    public String readLazy() throws JsonProcessingException {
+        return serializer.serialize(Translator.translateFromDescribeRuleResponse(describeRuleResponse).build());
+    }
+
+    @Benchmark
+    public PutRuleRequest roundTripEager() throws JsonProcessingException {
+        final ResourceModel model = eagerModel();
+        return PutRuleRequest.builder()
+                .name(compositePID.getEventRuleName())
+                .eventBusName(compositePID.getEventBusName())
+                .eventPattern(MAPPER.writeValueAsString(model.getEventPattern()))
+                .state(model.getState())
+                .build();
+    }
+
+    @Benchmark
+    public PutRuleRequest roundTripLazy() {
+        return Translator.translateToPutRuleRequest(Translator.translateFromDescribeRuleResponse(describeRuleResponse).build(), compositePID);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder()
+                .include(LazyEventPatternBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,92 @@
+package software.amazon.events.rule;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.cloudwatchevents.model.DescribeRuleResponse;
+import software.amazon.cloudformation.resource.Serializer;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+public class LazyEventPatternTest extends AbstractTestBase {
+    private static final TypeReference<ResourceModel> RESOURCE_MODEL = new TypeReference<ResourceModel>() {};
+    private static final String EVENT_PATTERN = "{\"source\":[\"aws.s3\"],\"detail\":{\"bucket\":{\"name\":[\"bucket\"]}}}";
+
+    private final Serializer serializer = new Serializer();
+
+    private static LazyEventPattern describedPattern() {
+        final ResourceModel model = Translator.translateFromDescribeRuleResponse(DescribeRuleResponse.builder()
+                .arn(EVENT_RULE_ARN_DEFAULT_BUS)
+                .eventPattern(EVENT_PATTERN)
+                .build()).build();
+        assertThat(model.getEventPattern()).isInstanceOf(LazyEventPattern.class);
+        return (LazyEventPattern) model.getEventPattern();
+    }
+
+    @Test
+    public void serialize_WritesJsonWithoutParsing() throws IOException {
+        final LazyEventPattern eventPattern = describedPattern();
+        final ResourceModel model = ResourceModel.builder().arn(EVENT_RULE_ARN_DEFAULT_BUS).eventPattern(eventPattern).build();
+
+        final String payload = serializer.serialize(model);
+
+        assertThat(payload).contains(EVENT_PATTERN);
+        assertThat(eventPattern.isParsed()).isFalse();
+        assertThat(serializer.deserialize(payload, RESOURCE_MODEL)).isEqualTo(model);
+    }
+
+    @Test
+    public void toJson_UnmodifiedPatternIsNotSerializedAgain() {
+        final LazyEventPattern eventPattern = describedPattern();
+
+        assertThat(LazyEventPattern.toJson(eventPattern)).isSameAs(eventPattern.getJson());
+        assertThat(eventPattern.isParsed()).isFalse();
+        assertThat(Translator.translateToPutRuleRequest(ResourceModel.builder().eventPattern(eventPattern).build(),
+                new CompositePID(ResourceModel.builder().arn(EVENT_RULE_ARN_DEFAULT_BUS).build(), SOURCE_ACCOUNT_ID))
+                .eventPattern()).isEqualTo(EVENT_PATTERN);
+    }
+
+    @Test
+    public void toJson_SerializesOtherMaps() {
+        final Map<String, Object> eventPattern = Collections.singletonMap("source", Collections.singletonList("aws.s3"));
+
+        assertThat(LazyEventPattern.toJson(eventPattern)).isEqualTo("{\"source\":[\"aws.s3\"]}");
+    }
+
+    @Test
+    public void toJson_PassesStringPatternsThrough() {
+        assertThat(LazyEventPattern.toJson(EVENT_PATTERN)).isSameAs(EVENT_PATTERN);
+        assertThat(Translator.translateToPutRuleRequest(ResourceModel.builder().eventPattern(EVENT_PATTERN).build(),
+                new CompositePID(ResourceModel.builder().arn(EVENT_RULE_ARN_DEFAULT_BUS).build(), SOURCE_ACCOUNT_ID))
+                .eventPattern()).isEqualTo(EVENT_PATTERN);
+    }
+
+    @Test
+    public void get_ParsesOnFirstInspection() {
+        final LazyEventPattern eventPattern = describedPattern();
+
+        assertThat(eventPattern.get("source")).isEqualTo(Collections.singletonList("aws.s3"));
+        assertThat(eventPattern.isParsed()).isTrue();
+
+        final Map<String, Object> expected = new HashMap<>();
+        expected.put("source", Collections.singletonList("aws.s3"));
+        expected.put("detail", Collections.singletonMap("bucket", Collections.singletonMap("name", Collections.singletonList("bucket"))));
+        assertThat(eventPattern).isEqualTo(expected);
+        assertThat(expected).isEqualTo(eventPattern);
+        assertThat(eventPattern.hashCode()).isEqualTo(expected.hashCode());
+    }
+
+    @Test
+    public void put_IsNotSupported() {
+        assertThatThrownBy(() -> describedPattern().put("source", Collections.emptyList()))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -0,0 +1,36 @@
+package software.amazon.events.rule;
+
+import software.amazon.awssdk.services.cloudwatchevents.model.PutTargetsResponse;
+import software.amazon.awssdk.services.cloudwatchevents.model.RemoveTargetsResponse;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.events.common.StepJournal;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The version 1 CallbackContext, which kept the full PutTargetsResponse, RemoveTargetsResponse and a
+ * ResourceModelBuilder. Kept as the baseline of CallbackContextBenchmark and to produce version 1 payloads in tests.
+ */
+@lombok.Getter
+@lombok.Setter
+@lombok.ToString
+@lombok.EqualsAndHashCode(callSuper = true)
+public class LegacyCallbackContext extends StdCallbackContext {
+
+    private int retryAttemptsForPutTargets;
+    private int retryAttemptsForRemoveTargets;
+    private PutTargetsResponse putTargetsResponse;
+    private RemoveTargetsResponse removeTargetsResponse;
+    private boolean ruleExists;
+    private ResourceModel.ResourceModelBuilder resourceModelBuilder;
+    private Set<String> passedPropagationProbes = new HashSet<>();
+    private Map<String, Integer> propagationProbeAttempts = new HashMap<>();
+    private Collection<String> targetIds;
+    private String listTargetsNextToken;
+    private boolean targetsRemoved;
+    private StepJournal stepJournal = new StepJournal();
+}
@@ -1,27 +1,64 @@
 package software.amazon.events.rule;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import software.amazon.awssdk.services.cloudwatchevents.CloudWatchEventsClient;
+import software.amazon.awssdk.services.cloudwatchevents.model.DescribeRuleRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.DescribeRuleResponse;
+import software.amazon.awssdk.services.cloudwatchevents.model.EventBus;
+import software.amazon.awssdk.services.cloudwatchevents.model.LimitExceededException;
+import software.amazon.awssdk.services.cloudwatchevents.model.ListEventBusesRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.ListEventBusesResponse;
+import software.amazon.awssdk.services.cloudwatchevents.model.ListRulesRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.ListRulesResponse;
+import software.amazon.awssdk.services.cloudwatchevents.model.ListTargetsByRuleRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.ListTargetsByRuleResponse;
+import software.amazon.awssdk.services.cloudwatchevents.model.PutRuleRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.cloudwatchevents.model.Rule;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
-import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.events.common.FakeServiceBehavior;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
-public class ListHandler extends BaseHandlerStd {
+@ExtendWith(MockitoExtension.class)
+public class ListHandlerTest extends AbstractTestBase {
+    private static final String NEXT_TOKEN = "NextPageToken";
+    private static final String DELETED_RULE_NAME = "DeletedRuleName";
+    private static final String DELETED_RULE_ARN = "arn:aws:events:us-east-1:" + SOURCE_ACCOUNT_ID + ":rule/" + DELETED_RULE_NAME;
+    private static final String TARGET_ID = "TestLambdaFunctionId";
+    private static final String TARGET_ARN = "arn:aws:lambda:us-west-2:123456789123:function:TestLambdaFunctionId";
 
-    @Override
-    public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
-        final AmazonWebServicesClientProxy proxy,
-        final ResourceHandlerRequest<ResourceModel> request,
-        final CallbackContext callbackContext,
-        final ProxyClient<CloudWatchEventsClient> proxyClient,
-        final Logger logger) {
+    @Mock
+    private AmazonWebServicesClientProxy proxy;
 
-        this.logger = logger;
+    @Mock
+    private ProxyClient<CloudWatchEventsClient> proxyClient;
 
-        logger.log("List handler starting with model: " + request.getDesiredResourceState());
-        logger.log("Stack ID: " + request.getStackId());
+    @Mock
+    CloudWatchEventsClient sdkClient;
 
     @BeforeEach
     public void setup() {
@@ -32,14 +69,181 @@ public class ListHandler extends BaseHandlerStd {
         proxyClient = MOCK_PROXY(proxy, sdkClient);
     }
 
-        return proxy.initiate("AWS-Events-Rule::List", proxyClient, model, callbackContext)
-                .translateToServiceRequest(r -> Translator.translateToListRulesRequest(request.getNextToken()))
-                .makeServiceCall((awsRequest, client) -> listRules(awsRequest, client, logger, request.getStackId()))
-                .handleError(this::handleError)
-                .done((awsRequest, awsResponse, client, resourceModel, context) -> ProgressEvent.<ResourceModel, CallbackContext>builder()
-                        .resourceModels(Translator.translateFromListRulesResponse(awsResponse))
-                        .nextToken(awsResponse.nextToken())
-                        .status(OperationStatus.SUCCESS)
+    private static ResourceHandlerRequest<ResourceModel> listRequest() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId(SOURCE_ACCOUNT_ID)
+                .desiredResourceState(ResourceModel.builder().build())
+                .build();
+    }
+
+    private void mockListRules(final String... ruleArns) {
+        final Rule[] rules = new Rule[ruleArns.length];
+        for (int i = 0; i < ruleArns.length; i++) {
+            rules[i] = Rule.builder().arn(ruleArns[i]).build();
+        }
+
+        when(proxyClient.client().listEventBuses(any(ListEventBusesRequest.class)))
+                .thenReturn(ListEventBusesResponse.builder().eventBuses(EventBus.builder().name(DEFAULT_EVENT_BUS_NAME).build()).build());
+        when(proxyClient.client().listRules(any(ListRulesRequest.class)))
+                .thenReturn(ListRulesResponse.builder().rules(rules).nextToken(NEXT_TOKEN).build());
+    }
+
+    private static String ruleToken(final ProgressEvent<ResourceModel, CallbackContext> response) {
+        return ListRulesCursor.decode(response.getNextToken()).getRuleTokens().get(DEFAULT_EVENT_BUS_NAME);
+    }
+
+    @Test
+    public void handleRequest_SimpleSuccess() {
+        final ListHandler handler = new ListHandler(0);
+
+        mockListRules(EVENT_RULE_ARN_DEFAULT_BUS, EVENT_RULE_ARN_CUSTOM_BUS);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, listRequest(),
+                new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(response.getResourceModel()).isNull();
+        assertThat(response.getResourceModels()).containsExactly(
+                ResourceModel.builder().arn(EVENT_RULE_ARN_DEFAULT_BUS).build(),
+                ResourceModel.builder().arn(EVENT_RULE_ARN_CUSTOM_BUS).build());
+        assertThat(ruleToken(response)).isEqualTo(NEXT_TOKEN);
+        assertThat(response.getMessage()).isNull();
+        assertThat(response.getErrorCode()).isNull();
+
+        verify(sdkClient, never()).describeRule(any(DescribeRuleRequest.class));
+        verify(sdkClient, never()).listTargetsByRule(any(ListTargetsByRuleRequest.class));
+    }
+
+    @Test
+    public void handleRequest_FullModels() {
+        final ListHandler handler = new ListHandler(4);
+
+        mockListRules(EVENT_RULE_ARN_DEFAULT_BUS, DELETED_RULE_ARN, EVENT_RULE_ARN_CUSTOM_BUS);
+
+        when(proxyClient.client().describeRule(any(DescribeRuleRequest.class))).thenAnswer(invocation -> {
+            final DescribeRuleRequest describeRuleRequest = invocation.getArgument(0);
+            if (DELETED_RULE_NAME.equals(describeRuleRequest.name())) {
+                throw ResourceNotFoundException.builder().message("Rule DeletedRuleName does not exist.").build();
+            }
+            final boolean customBus = CUSTOM_EVENT_BUS_NAME.equals(describeRuleRequest.eventBusName());
+            return DescribeRuleResponse.builder()
+                    .arn(customBus ? EVENT_RULE_ARN_CUSTOM_BUS : EVENT_RULE_ARN_DEFAULT_BUS)
+                    .name(describeRuleRequest.name())
+                    .eventBusName(customBus ? CUSTOM_EVENT_BUS_NAME : null)
+                    .state("ENABLED")
+                    .build();
+        });
+
+        when(proxyClient.client().listTargetsByRule(any(ListTargetsByRuleRequest.class)))
+                .thenReturn(ListTargetsByRuleResponse.builder()
+                        .targets(software.amazon.awssdk.services.cloudwatchevents.model.Target.builder()
+                                .id(TARGET_ID)
+                                .arn(TARGET_ARN)
+                                .build())
                         .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, listRequest(),
+                new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(ruleToken(response)).isEqualTo(NEXT_TOKEN);
+        assertThat(response.getResourceModels()).hasSize(2);
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getArn)
+                .containsExactly(EVENT_RULE_ARN_DEFAULT_BUS, EVENT_RULE_ARN_CUSTOM_BUS);
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getId)
+                .containsExactly(SAME_ACCOUNT_PID_DEFAULT_BUS, SAME_ACCOUNT_PID_CUSTOM_BUS);
+        assertThat(response.getResourceModels()).allSatisfy(model -> {
+            assertThat(model.getState()).isEqualTo("ENABLED");
+            assertThat(model.getTargets()).containsExactly(Target.builder().id(TARGET_ID).arn(TARGET_ARN).build());
+        });
+        assertThat(response.getMessage()).isNull();
+        assertThat(response.getErrorCode()).isNull();
+    }
+
+    @Test
+    public void handleRequest_FullModelsFailure() {
+        final ListHandler handler = new ListHandler(4);
+
+        mockListRules(EVENT_RULE_ARN_DEFAULT_BUS);
+
+        when(proxyClient.client().describeRule(any(DescribeRuleRequest.class)))
+                .thenThrow(LimitExceededException.builder().message("Rate exceeded").build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, listRequest(),
+                new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.ServiceLimitExceeded);
+        assertThat(response.getResourceModels()).isNull();
+    }
+
+    @Test
+    public void handleRequest_ListsRulesOfEveryEventBus() {
+        final ListHandler handler = new ListHandler(0);
+        final FakeCloudWatchEventsClient fakeClient = new FakeCloudWatchEventsClient(SOURCE_ACCOUNT_ID, "us-east-1",
+                new FakeServiceBehavior());
+        final ProxyClient<CloudWatchEventsClient> fakeProxyClient = MOCK_PROXY(proxy, fakeClient);
+
+        // More Rules on BusA than fit in a page of ListRules, and an event bus without Rules
+        final Set<String> expectedArns = new HashSet<>();
+        expectedArns.addAll(putRules(fakeClient, DEFAULT_EVENT_BUS_NAME, 2));
+        expectedArns.addAll(putRules(fakeClient, "BusA", FakeCloudWatchEventsClient.DEFAULT_PAGE_SIZE + 50));
+        fakeClient.addEventBus("BusB");
+        expectedArns.addAll(putRules(fakeClient, "BusC", 1));
+        expectedArns.addAll(putRules(fakeClient, "BusD", 3));
+        expectedArns.addAll(putRules(fakeClient, "BusE", 1));
+
+        final List<String> listedArns = new ArrayList<>();
+        String nextToken = null;
+        int invocations = 0;
+        do {
+            final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy,
+                    ResourceHandlerRequest.<ResourceModel>builder()
+                            .awsAccountId(SOURCE_ACCOUNT_ID)
+                            .desiredResourceState(ResourceModel.builder().build())
+                            .nextToken(nextToken)
+                            .build(),
+                    new CallbackContext(), fakeProxyClient, logger);
+
+            assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+            response.getResourceModels().forEach(model -> listedArns.add(model.getArn()));
+            nextToken = response.getNextToken();
+            invocations++;
+        } while (nextToken != null);
+
+        // default, BusA, BusB and BusC first; then the rest of BusA along with BusD and BusE
+        assertThat(invocations).isEqualTo(2);
+        assertThat(listedArns).hasSize(expectedArns.size());
+        assertThat(listedArns).containsExactlyInAnyOrderElementsOf(expectedArns);
+    }
+
+    @Test
+    public void handleRequest_InvalidNextToken() {
+        final ListHandler handler = new ListHandler(0);
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId(SOURCE_ACCOUNT_ID)
+                .desiredResourceState(ResourceModel.builder().build())
+                .nextToken("not a token")
+                .build();
+
+        assertThatThrownBy(() -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger))
+                .isInstanceOf(CfnInvalidRequestException.class);
+    }
+
+    private static List<String> putRules(final FakeCloudWatchEventsClient fakeClient, final String eventBusName, final int count) {
+        final List<String> arns = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            arns.add(fakeClient.putRule(PutRuleRequest.builder()
+                    .name(EVENT_RULE_NAME + i)
+                    .eventBusName(eventBusName)
+                    .scheduleExpression("rate(1 day)")
+                    .build()).ruleArn());
+        }
+        return arns;
     }
 }
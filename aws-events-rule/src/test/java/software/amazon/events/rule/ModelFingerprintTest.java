@@ -0,0 +1,123 @@
+package software.amazon.events.rule;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.cloudwatchevents.model.DescribeRuleResponse;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+public class ModelFingerprintTest extends AbstractTestBase {
+
+    private static Target target(final String id) {
+        return Target.builder()
+                .id(id)
+                .arn("arn:aws:lambda:us-east-1:123456789012:function:" + id)
+                .build();
+    }
+
+    private static Map<String, Object> eventPattern(final boolean sourceFirst) {
+        final Map<String, Object> eventPattern = new LinkedHashMap<>();
+        if (sourceFirst) {
+            eventPattern.put("source", Collections.singletonList("aws.s3"));
+            eventPattern.put("detail-type", Collections.singletonList("Object Created"));
+        } else {
+            eventPattern.put("detail-type", Collections.singletonList("Object Created"));
+            eventPattern.put("source", Collections.singletonList("aws.s3"));
+        }
+        return eventPattern;
+    }
+
+    private static ResourceModel.ResourceModelBuilder rule() {
+        return ResourceModel.builder()
+                .name(EVENT_RULE_NAME)
+                .description("TestDescription")
+                .state("ENABLED");
+    }
+
+    @Test
+    public void of_IgnoresTargetOrder() {
+        final Set<Target> targets = new LinkedHashSet<>(Arrays.asList(target("Target1"), target("Target2")));
+        final Set<Target> reordered = new LinkedHashSet<>(Arrays.asList(target("Target2"), target("Target1")));
+
+        assertThat(ModelFingerprint.of(rule().targets(targets).build()))
+                .isEqualTo(ModelFingerprint.of(rule().targets(reordered).build()));
+    }
+
+    @Test
+    public void of_IgnoresEventPatternKeyOrder() {
+        assertThat(ModelFingerprint.of(rule().eventPattern(eventPattern(true)).build()))
+                .isEqualTo(ModelFingerprint.of(rule().eventPattern(eventPattern(false)).build()));
+    }
+
+    @Test
+    public void of_DescribedEventPatternMatchesMap() {
+        final ResourceModel described = Translator.translateFromDescribeRuleResponse(DescribeRuleResponse.builder()
+                .name(EVENT_RULE_NAME)
+                .description("TestDescription")
+                .state("ENABLED")
+                .eventPattern("{ \"detail-type\": [\"Object Created\"], \"source\": [\"aws.s3\"] }")
+                .build()).build();
+
+        assertThat(ModelFingerprint.of(described)).isEqualTo(ModelFingerprint.of(rule().eventPattern(eventPattern(true)).build()));
+    }
+
+    @Test
+    public void of_StringEventPatternMatchesMap() {
+        final String eventPattern = "{ \"detail-type\": [\"Object Created\"], \"source\": [\"aws.s3\"] }";
+
+        assertThat(ModelFingerprint.of(rule().eventPattern(eventPattern).build()))
+                .isEqualTo(ModelFingerprint.of(rule().eventPattern(eventPattern(true)).build()));
+        assertThat(ModelFingerprint.of(rule().eventPattern("not json {").build()))
+                .isNotEqualTo(ModelFingerprint.of(rule().eventPattern(eventPattern(true)).build()));
+    }
+
+    @Test
+    public void of_IgnoresReadOnlyPropertiesAndEmptyTargets() {
+        final ResourceModel model = rule().arn(EVENT_RULE_ARN_DEFAULT_BUS).id(EVENT_RULE_NAME).targets(Collections.emptySet()).build();
+
+        assertThat(ModelFingerprint.of(model)).isEqualTo(ModelFingerprint.of(rule().build()));
+    }
+
+    @Test
+    public void of_DetectsChanges() {
+        final String fingerprint = ModelFingerprint.of(rule().eventPattern(eventPattern(true)).build());
+
+        assertThat(ModelFingerprint.of(rule().eventPattern(eventPattern(true)).description("NewDescription").build()))
+                .isNotEqualTo(fingerprint);
+        assertThat(ModelFingerprint.of(rule().eventPattern(eventPattern(true)).state("DISABLED").build()))
+                .isNotEqualTo(fingerprint);
+        assertThat(ModelFingerprint.of(rule().eventPattern(Collections.singletonMap("source", Arrays.asList("aws.s3", "aws.ec2"))).build()))
+                .isNotEqualTo(ModelFingerprint.of(rule().eventPattern(Collections.singletonMap("source", Collections.singletonList("aws.s3"))).build()));
+    }
+
+    @Test
+    public void of_IgnoresEventPatternValueOrder() {
+        final String eventPattern = "{ \"source\": [\"aws.s3\", \"aws.ec2\"],"
+                + " \"detail\": { \"state\": [{ \"anything-but\": [\"stopped\", \"pending\"] }] } }";
+        final String reordered = "{ \"detail\": { \"state\": [{ \"anything-but\": [\"pending\", \"stopped\"] }] },"
+                + " \"source\": [\"aws.ec2\", \"aws.s3\"] }";
+
+        assertThat(ModelFingerprint.of(rule().eventPattern(eventPattern).build()))
+                .isEqualTo(ModelFingerprint.of(rule().eventPattern(reordered).build()));
+        assertThat(ModelFingerprint.of(rule().eventPattern(Collections.singletonMap("source", Arrays.asList("aws.s3", "aws.ec2"))).build()))
+                .isEqualTo(ModelFingerprint.of(rule().eventPattern(Collections.singletonMap("source", Arrays.asList("aws.ec2", "aws.s3"))).build()));
+    }
+
+    @Test
+    public void of_KeepsNumericMatcherOrder() {
+        final String eventPattern = "{ \"detail\": { \"price\": [{ \"numeric\": [\">\", 0, \"<=\", 5] }] } }";
+        final String reordered = "{ \"detail\": { \"price\": [{ \"numeric\": [0, \"<=\", \">\", 5] }] } }";
+
+        assertThat(ModelFingerprint.of(rule().eventPattern(eventPattern).build()))
+                .isNotEqualTo(ModelFingerprint.of(rule().eventPattern(reordered).build()));
+    }
+}
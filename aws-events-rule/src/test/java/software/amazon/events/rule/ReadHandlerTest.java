@@ -7,10 +7,14 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.cloudwatchevents.CloudWatchEventsClient;
 import software.amazon.awssdk.services.cloudwatchevents.model.DescribeRuleRequest;
 import software.amazon.awssdk.services.cloudwatchevents.model.DescribeRuleResponse;
@@ -29,12 +33,14 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -274,6 +280,9 @@ public class ReadHandlerTest extends AbstractTestBase {
         when(proxyClient.client().describeRule(any(DescribeRuleRequest.class)))
                 .thenThrow(ResourceNotFoundException.class);
 
+        when(proxyClient.client().listTargetsByRule(any(ListTargetsByRuleRequest.class)))
+                .thenThrow(ResourceNotFoundException.class);
+
         // RUN
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
@@ -524,4 +533,149 @@ public class ReadHandlerTest extends AbstractTestBase {
 
         return putTargetsRequest.targets().get(0);
     }
+
+    @Test
+    public void handleRequest_MultiplePagesOfTargets() {
+        final ReadHandler handler = new ReadHandler();
+
+        // MOCK
+
+        /*
+         * describeRule
+         * listTargetsByRule (page 1)
+         * listTargetsByRule (page 2)
+         */
+
+        final DescribeRuleResponse describeRuleResponse = DescribeRuleResponse.builder()
+                .arn(EVENT_RULE_ARN_DEFAULT_BUS)
+                .state("ENABLED")
+                .build();
+
+        final ListTargetsByRuleResponse firstPage = ListTargetsByRuleResponse.builder()
+                .targets(software.amazon.awssdk.services.cloudwatchevents.model.Target.builder()
+                        .id("TestLambdaFunctionId1")
+                        .arn("arn:aws:lambda:us-west-2:123456789123:function:TestLambdaFunctionId1")
+                        .build())
+                .nextToken("NEXT_TOKEN")
+                .build();
+
+        final ListTargetsByRuleResponse secondPage = ListTargetsByRuleResponse.builder()
+                .targets(software.amazon.awssdk.services.cloudwatchevents.model.Target.builder()
+                        .id("TestLambdaFunctionId2")
+                        .arn("arn:aws:lambda:us-west-2:123456789123:function:TestLambdaFunctionId2")
+                        .build())
+                .build();
+
+        when(proxyClient.client().describeRule(any(DescribeRuleRequest.class)))
+                .thenReturn(describeRuleResponse);
+
+        when(proxyClient.client().listTargetsByRule(any(ListTargetsByRuleRequest.class)))
+                .thenReturn(firstPage, secondPage);
+
+        // RUN
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId(SOURCE_ACCOUNT_ID)
+                .desiredResourceState(ResourceModel.builder().arn(EVENT_RULE_ARN_DEFAULT_BUS).build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request,
+                new CallbackContext(), proxyClient, logger);
+
+        // ASSERT
+
+        final ArgumentCaptor<ListTargetsByRuleRequest> listTargetsByRuleRequestCaptor = ArgumentCaptor.forClass(ListTargetsByRuleRequest.class);
+        verify(sdkClient, times(2)).listTargetsByRule(listTargetsByRuleRequestCaptor.capture());
+        assertThat(listTargetsByRuleRequestCaptor.getAllValues().get(0).nextToken()).isNull();
+        assertThat(listTargetsByRuleRequestCaptor.getAllValues().get(1).nextToken()).isEqualTo("NEXT_TOKEN");
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getTargets())
+                .extracting(Target::getId)
+                .containsExactlyInAnyOrder("TestLambdaFunctionId1", "TestLambdaFunctionId2");
+    }
+
+    @Test
+    public void handleRequest_DescribeRuleRunsConcurrently() {
+        final ReadHandler handler = new ReadHandler();
+
+        // MOCK
+
+        /*
+         * describeRule (waits until listTargetsByRule has been called)
+         * listTargetsByRule
+         */
+
+        final CountDownLatch listTargetsCalled = new CountDownLatch(1);
+
+        when(proxyClient.client().describeRule(any(DescribeRuleRequest.class)))
+                .thenAnswer(invocation -> {
+                    // Only completes if both calls are in flight at the same time
+                    assertThat(listTargetsCalled.await(10, TimeUnit.SECONDS)).isTrue();
+                    return DescribeRuleResponse.builder()
+                            .arn(EVENT_RULE_ARN_DEFAULT_BUS)
+                            .state("ENABLED")
+                            .build();
+                });
+
+        when(proxyClient.client().listTargetsByRule(any(ListTargetsByRuleRequest.class)))
+                .thenAnswer(invocation -> {
+                    listTargetsCalled.countDown();
+                    return ListTargetsByRuleResponse.builder().build();
+                });
+
+        // RUN
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId(SOURCE_ACCOUNT_ID)
+                .desiredResourceState(ResourceModel.builder().arn(EVENT_RULE_ARN_DEFAULT_BUS).build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request,
+                new CallbackContext(), proxyClient, logger);
+
+        // ASSERT
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getArn()).isEqualTo(EVENT_RULE_ARN_DEFAULT_BUS);
+        assertThat(response.getResourceModel().getTargets()).isNull();
+    }
+
+    @Test
+    public void handleRequest_ListTargetsFails() {
+        final ReadHandler handler = new ReadHandler();
+
+        // MOCK
+
+        /*
+         * describeRule
+         * listTargetsByRule (throttled)
+         */
+
+        when(proxyClient.client().describeRule(any(DescribeRuleRequest.class)))
+                .thenReturn(DescribeRuleResponse.builder().arn(EVENT_RULE_ARN_DEFAULT_BUS).build());
+
+        when(proxyClient.client().listTargetsByRule(any(ListTargetsByRuleRequest.class)))
+                .thenThrow(AwsServiceException.builder()
+                        .awsErrorDetails(AwsErrorDetails.builder().errorCode("ThrottlingException").build())
+                        .build());
+
+        // RUN
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId(SOURCE_ACCOUNT_ID)
+                .desiredResourceState(ResourceModel.builder().arn(EVENT_RULE_ARN_DEFAULT_BUS).build())
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request,
+                new CallbackContext(), proxyClient, logger);
+
+        // ASSERT
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.Throttling);
+    }
 }
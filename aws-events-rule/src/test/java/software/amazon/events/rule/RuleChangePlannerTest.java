@@ -0,0 +1,69 @@
+package software.amazon.events.rule;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+public class RuleChangePlannerTest extends AbstractTestBase {
+    private static ResourceModel.ResourceModelBuilder rule() {
+        return ResourceModel.builder()
+                .name(EVENT_RULE_NAME)
+                .description("TestDescription")
+                .eventPattern(Collections.singletonMap("source", Collections.singletonList("aws.s3")))
+                .state("ENABLED");
+    }
+
+    @Test
+    public void plan_NothingChanged() {
+        assertThat(RuleChangePlanner.plan(rule().build(), rule().build())).isEqualTo(RuleChangePlanner.RuleChange.NONE);
+    }
+
+    @Test
+    public void plan_OnlyTargetsChanged() {
+        final ResourceModel desiredModel = rule()
+                .targets(new HashSet<>(Collections.singletonList(Target.builder().id("Id").arn("Arn").build())))
+                .build();
+
+        assertThat(RuleChangePlanner.plan(rule().build(), desiredModel)).isEqualTo(RuleChangePlanner.RuleChange.NONE);
+    }
+
+    @Test
+    public void plan_OnlyStateChanged() {
+        assertThat(RuleChangePlanner.plan(rule().build(), rule().state("DISABLED").build()))
+                .isEqualTo(RuleChangePlanner.RuleChange.DISABLE);
+        assertThat(RuleChangePlanner.plan(rule().state("DISABLED").build(), rule().build()))
+                .isEqualTo(RuleChangePlanner.RuleChange.ENABLE);
+    }
+
+    @Test
+    public void plan_StateThatRequiresPutRule() {
+        assertThat(RuleChangePlanner.plan(rule().build(), rule().state("ENABLED_WITH_ALL_CLOUDTRAIL_MANAGEMENT_EVENTS").build()))
+                .isEqualTo(RuleChangePlanner.RuleChange.PUT_RULE);
+        assertThat(RuleChangePlanner.plan(rule().build(), rule().state(null).build()))
+                .isEqualTo(RuleChangePlanner.RuleChange.PUT_RULE);
+    }
+
+    @Test
+    public void plan_RuleAttributesChanged() {
+        assertThat(RuleChangePlanner.plan(rule().build(), rule().description("NewDescription").state("DISABLED").build()))
+                .isEqualTo(RuleChangePlanner.RuleChange.PUT_RULE);
+        assertThat(RuleChangePlanner.plan(rule().build(), rule().eventPattern(Collections.singletonMap("source", Collections.singletonList("aws.ec2"))).build()))
+                .isEqualTo(RuleChangePlanner.RuleChange.PUT_RULE);
+        assertThat(RuleChangePlanner.plan(rule().build(), rule().scheduleExpression("rate(1 day)").build()))
+                .isEqualTo(RuleChangePlanner.RuleChange.PUT_RULE);
+        assertThat(RuleChangePlanner.plan(rule().build(), rule().roleArn("RoleArn").build()))
+                .isEqualTo(RuleChangePlanner.RuleChange.PUT_RULE);
+        assertThat(RuleChangePlanner.plan(rule().build(), rule().eventBusName(CUSTOM_EVENT_BUS_NAME).build()))
+                .isEqualTo(RuleChangePlanner.RuleChange.PUT_RULE);
+        assertThat(RuleChangePlanner.plan(rule().build(), rule().name("OtherRule").build()))
+                .isEqualTo(RuleChangePlanner.RuleChange.PUT_RULE);
+        assertThat(RuleChangePlanner.plan(null, rule().build()))
+                .isEqualTo(RuleChangePlanner.RuleChange.PUT_RULE);
+    }
+}
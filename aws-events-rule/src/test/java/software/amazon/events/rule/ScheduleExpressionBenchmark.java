@@ -0,0 +1,140 @@
+package software.amazon.events.rule;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses the schedule expressions of a rule set of 100 to 10000 rules and computes all their fire times over the
+ * next 24 hours, counting fires per minute to find schedule pile-ups: many rules firing in the same minute. The setup
+ * prints the busiest minute of the generated rule set; run with -DruleSet=&lt;file&gt;, a file of expressions one per
+ * line (e.g. from aws events list-rules --query 'Rules[].ScheduleExpression'), to look at a real one instead. Rate
+ * rules are counted as if they had all been created at the start of the window, their worst case.
+ * Not picked up by surefire; run main() from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScheduleExpressionBenchmark {
+    private static final Instant WINDOW_START = Instant.parse("2024-03-04T00:00:00Z");
+    private static final int WINDOW_MINUTES = 24 * 60;
+    private static final String RULE_SET = System.getProperty("ruleSet");
+
+    @Param({"100", "1000", "10000"})
+    public int ruleCount;
+
+    private List<String> expressions;
+    private List<ScheduleExpression> schedules;
+
+    @Setup
+    public void setUp() throws IOException {
+        expressions = RULE_SET != null
+                ? Files.readAllLines(Paths.get(RULE_SET))
+                : generateExpressions(ruleCount, new Random(42));
+        schedules = new ArrayList<>(expressions.size());
+        expressions.forEach(expression -> schedules.add(ScheduleExpression.parse(expression)));
+
+        final int[] fires = firesPerMinute(schedules, WINDOW_START, WINDOW_MINUTES);
+        int busiest = 0;
+        for (int minute = 1; minute < fires.length; minute++) {
+            busiest = fires[minute] > fires[busiest] ? minute : busiest;
+        }
+        System.out.printf("%n%d rules, busiest minute %s with %d fires%n", schedules.size(),
+                WINDOW_START.plus(Duration.ofMinutes(busiest)), fires[busiest]);
+    }
+
+    /**
+     * @return Expressions shaped like the ones in our stacks: hourly and daily jobs, mostly on the hour, a few
+     * business-hours crons and some rates
+     */
+    static List<String> generateExpressions(final int count, final Random random) {
+        final List<String> expressions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            switch (i % 6) {
+                case 0:
+                    expressions.add("cron(0 * * * ? *)");
+                    break;
+                case 1:
+                    expressions.add(String.format("cron(%d %d * * ? *)", random.nextInt(4) * 15, random.nextInt(24)));
+                    break;
+                case 2:
+                    expressions.add(String.format("cron(0/%d * * * ? *)", 5 + random.nextInt(4) * 5));
+                    break;
+                case 3:
+                    expressions.add(String.format("cron(%d 9-17 ? * MON-FRI *)", random.nextInt(60)));
+                    break;
+                case 4:
+                    expressions.add(String.format("rate(%d minutes)", 5 + random.nextInt(55)));
+                    break;
+                default:
+                    expressions.add("cron(0 0 ? * 2#1 *)");
+            }
+        }
+        return expressions;
+    }
+
+    /**
+     * @return The number of fires of all the schedules in each minute of the window
+     */
+    static int[] firesPerMinute(final List<ScheduleExpression> schedules, final Instant start, final int minutes) {
+        final int[] fires = new int[minutes];
+        final Instant end = start.plus(Duration.ofMinutes(minutes));
+        for (final ScheduleExpression schedule : schedules) {
+            // Fire times are strictly after the instant asked for, so start just before the window
+            Instant fireTime = schedule.nextFireTime(start.minusSeconds(1));
+            while (fireTime != null && fireTime.isBefore(end)) {
+                fires[(int) Duration.between(start, fireTime).toMinutes()]++;
+                fireTime = schedule.nextFireTime(fireTime);
+            }
+        }
+        return fires;
+    }
+
+    @Benchmark
+    public void parse(final Blackhole blackhole) {
+        for (final String expression : expressions) {
+            blackhole.consume(ScheduleExpression.parse(expression));
+        }
+    }
+
+    @Benchmark
+    public int[] firesPerMinute() {
+        return firesPerMinute(schedules, WINDOW_START, WINDOW_MINUTES);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        final OptionsBuilder options = new OptionsBuilder();
+        options.include(ScheduleExpressionBenchmark.class.getSimpleName())
+                .addProfiler("gc");
+        if (RULE_SET != null) {
+            options.jvmArgsAppend("-DruleSet=" + RULE_SET);
+        }
+
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,114 @@
+package software.amazon.events.rule;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+public class ScheduleExpressionTest extends AbstractTestBase {
+    private static final Instant NOW = Instant.parse("2024-02-27T10:30:15Z");
+
+    private static Stream<Arguments> cronExpressions() {
+        return Stream.of(
+                Arguments.of("cron(0 12 * * ? *)", new String[]{"2024-02-27T12:00:00Z", "2024-02-28T12:00:00Z", "2024-02-29T12:00:00Z"}),
+                Arguments.of("cron(0/15 * * * ? *)", new String[]{"2024-02-27T10:45:00Z", "2024-02-27T11:00:00Z", "2024-02-27T11:15:00Z"}),
+                Arguments.of("cron(0 9 ? * MON-FRI *)", new String[]{"2024-02-28T09:00:00Z", "2024-02-29T09:00:00Z", "2024-03-01T09:00:00Z", "2024-03-04T09:00:00Z"}),
+                Arguments.of("cron(5,10 1-2 * JAN,MAR ? 2024-2025)", new String[]{"2024-03-01T01:05:00Z", "2024-03-01T01:10:00Z", "2024-03-01T02:05:00Z"}),
+                Arguments.of("cron(0 0 L * ? *)", new String[]{"2024-02-29T00:00:00Z", "2024-03-31T00:00:00Z", "2024-04-30T00:00:00Z"}),
+                Arguments.of("cron(0 0 LW * ? *)", new String[]{"2024-02-29T00:00:00Z", "2024-03-29T00:00:00Z", "2024-04-30T00:00:00Z"}),
+                Arguments.of("cron(0 0 15W * ? *)", new String[]{"2024-03-15T00:00:00Z", "2024-04-15T00:00:00Z", "2024-05-15T00:00:00Z", "2024-06-14T00:00:00Z"}),
+                Arguments.of("cron(0 0 ? * 6L *)", new String[]{"2024-03-29T00:00:00Z", "2024-04-26T00:00:00Z"}),
+                Arguments.of("cron(0 0 ? * 2#1 *)", new String[]{"2024-03-04T00:00:00Z", "2024-04-01T00:00:00Z"}),
+                Arguments.of("cron(0 0 29 2 ? *)", new String[]{"2024-02-29T00:00:00Z", "2028-02-29T00:00:00Z"})
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("cronExpressions")
+    public void nextFireTimes_Cron(final String expression, final String[] fireTimes) {
+        final Instant[] expected = Stream.of(fireTimes).map(Instant::parse).toArray(Instant[]::new);
+
+        assertThat(ScheduleExpression.parse(expression).nextFireTimes(NOW, expected.length)).containsExactly(expected);
+    }
+
+    @Test
+    public void nextFireTime_IsStrictlyAfter() {
+        final ScheduleExpression schedule = ScheduleExpression.parse("cron(0 12 * * ? *)");
+
+        assertThat(schedule.nextFireTime(Instant.parse("2024-02-27T12:00:00Z"))).isEqualTo(Instant.parse("2024-02-28T12:00:00Z"));
+    }
+
+    @Test
+    public void nextFireTimes_StopsAfterTheLastYear() {
+        assertThat(ScheduleExpression.parse("cron(0 0 1 1 ? 2020)").nextFireTimes(NOW, 3)).isEmpty();
+        assertThat(ScheduleExpression.parse("cron(0 0 1 1 ? 2025)").nextFireTimes(NOW, 3))
+                .containsExactly(Instant.parse("2025-01-01T00:00:00Z"));
+    }
+
+    @Test
+    public void nextFireTimes_Rate() {
+        final ScheduleExpression schedule = ScheduleExpression.parse("rate(5 minutes)");
+
+        assertThat(schedule.isRate()).isTrue();
+        assertThat(schedule.getRate()).isEqualTo(Duration.ofMinutes(5));
+        assertThat(schedule.nextFireTimes(NOW, 2)).containsExactly(NOW.plusSeconds(300), NOW.plusSeconds(600));
+        assertThat(ScheduleExpression.parse("rate(1 hour)").getRate()).isEqualTo(Duration.ofHours(1));
+        assertThat(ScheduleExpression.parse("rate(2 days)").getRate()).isEqualTo(Duration.ofDays(2));
+    }
+
+    @Test
+    public void civilFromDays_MatchesLocalDate() {
+        for (long day = -1000; day < 100000; day += 13) {
+            final LocalDate date = LocalDate.ofEpochDay(day);
+            assertThat(ScheduleExpression.civilFromDays(day))
+                    .isEqualTo(date.getYear() * 10000 + date.getMonthValue() * 100 + date.getDayOfMonth());
+            assertThat(ScheduleExpression.daysFromCivil(date.getYear(), date.getMonthValue(), date.getDayOfMonth())).isEqualTo(day);
+        }
+    }
+
+    private static Stream<Arguments> invalidExpressions() {
+        return Stream.of(
+                Arguments.of("every 5 minutes", "must be rate(value unit) or cron("),
+                Arguments.of("rate(5)", "rate takes a value and a unit"),
+                Arguments.of("rate(0 minutes)", "positive integer"),
+                Arguments.of("rate(five minutes)", "positive integer"),
+                Arguments.of("rate(1 minutes)", "singular for a value of 1"),
+                Arguments.of("rate(2 hour)", "singular for a value of 1"),
+                Arguments.of("rate(30 seconds)", "minute(s), hour(s) or day(s)"),
+                Arguments.of("cron(0 0 * * ?)", "cron takes 6 fields"),
+                Arguments.of("cron(0 0 * * * *)", "exactly one of day-of-month and day-of-week must be ?"),
+                Arguments.of("cron(0 0 ? * ? *)", "exactly one of day-of-month and day-of-week must be ?"),
+                Arguments.of("cron(60 0 * * ? *)", "the minutes value 60 must be 0 to 59"),
+                Arguments.of("cron(0 24 * * ? *)", "the hours value 24 must be 0 to 23"),
+                Arguments.of("cron(0 0 * 13 ? *)", "the month value 13 must be 1 to 12"),
+                Arguments.of("cron(0 0 ? * FUN *)", "the day-of-week value FUN must be 1 to 7"),
+                Arguments.of("cron(0 0 ? * 2#6 *)", "the day-of-week value 6 must be 1 to 5"),
+                Arguments.of("cron(0 0 32W * ? *)", "the day-of-month value 32 must be 1 to 31"),
+                Arguments.of("cron(0 0 * * ? 2200)", "the year value 2200 must be 1970 to 2199"),
+                Arguments.of("cron(5-1 0 * * ? *)", "the minutes range 5-1 is empty"),
+                Arguments.of("cron(0/0 0 * * ? *)", "the minutes value 0 must be 1 to 59"),
+                Arguments.of("cron(1,,2 0 * * ? *)", "the minutes value  must be 0 to 59")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidExpressions")
+    public void parse_RejectsInvalidExpressions(final String expression, final String message) {
+        assertThatThrownBy(() -> ScheduleExpression.parse(expression))
+                .isInstanceOf(CfnInvalidRequestException.class)
+                .hasMessageContaining("ScheduleExpression " + expression + " is invalid")
+                .hasMessageContaining(message);
+    }
+}
@@ -0,0 +1,62 @@
+package software.amazon.events.rule;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+public class TargetDiffTest extends AbstractTestBase {
+
+    private static Target target(final String id, final String input) {
+        return Target.builder()
+                .id(id)
+                .arn("arn:aws:lambda:us-west-2:123456789123:function:" + id)
+                .input(input)
+                .build();
+    }
+
+    @Test
+    public void between_ClassifiesTargets() {
+        final List<Target> previousTargets = new ArrayList<>();
+        previousTargets.add(target("Unchanged", "{}"));
+        previousTargets.add(target("Changed", "{\"v\": 1}"));
+        previousTargets.add(target("Removed", null));
+
+        final List<Target> desiredTargets = new ArrayList<>();
+        desiredTargets.add(target("Unchanged", "{}"));
+        desiredTargets.add(target("Changed", "{\"v\": 2}"));
+        desiredTargets.add(target("Added", null));
+
+        final TargetDiff targetDiff = TargetDiff.between(previousTargets, desiredTargets);
+
+        assertThat(targetDiff.getAdded()).containsExactly(target("Added", null));
+        assertThat(targetDiff.getChanged()).containsExactly(target("Changed", "{\"v\": 2}"));
+        assertThat(targetDiff.getUnchanged()).containsExactly(target("Unchanged", "{}"));
+        assertThat(targetDiff.getRemovedIds()).containsExactly("Removed");
+        assertThat(targetDiff.getTargetsToPut()).containsExactly(target("Added", null), target("Changed", "{\"v\": 2}"));
+    }
+
+    @Test
+    public void between_NullCollections() {
+        final List<Target> targets = new ArrayList<>();
+        targets.add(target("Target", null));
+
+        final TargetDiff created = TargetDiff.between(null, targets);
+        assertThat(created.getAdded()).containsExactly(target("Target", null));
+        assertThat(created.getRemovedIds()).isEmpty();
+
+        final TargetDiff deleted = TargetDiff.between(targets, null);
+        assertThat(deleted.getTargetsToPut()).isEmpty();
+        assertThat(deleted.getRemovedIds()).containsExactly("Target");
+
+        final TargetDiff empty = TargetDiff.between(null, null);
+        assertThat(empty.getTargetsToPut()).isEmpty();
+        assertThat(empty.getUnchanged()).isEmpty();
+        assertThat(empty.getRemovedIds()).isEmpty();
+    }
+}
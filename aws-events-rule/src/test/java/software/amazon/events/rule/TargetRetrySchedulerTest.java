@@ -0,0 +1,76 @@
+package software.amazon.events.rule;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.cloudwatchevents.model.PutTargetsRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.Target;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+@ExtendWith(MockitoExtension.class)
+public class TargetRetrySchedulerTest extends AbstractTestBase {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ConcurrentModificationException", "InternalException", "InternalFailure", "ThrottlingException", "ServiceUnavailable"})
+    public void isRetryable_TransientErrorCodes(final String errorCode) {
+        assertThat(TargetRetryScheduler.isRetryable(errorCode)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ValidationException", "AccessDeniedException", "ResourceNotFoundException"})
+    public void isRetryable_TerminalErrorCodes(final String errorCode) {
+        assertThat(TargetRetryScheduler.isRetryable(errorCode)).isFalse();
+    }
+
+    @Test
+    public void terminalEntries_KeepsOrder() {
+        final Map<String, String> failedTargets = new LinkedHashMap<>();
+        failedTargets.put("Target1", "ValidationException");
+        failedTargets.put("Target2", "InternalFailure");
+        failedTargets.put("Target3", null);
+        failedTargets.put("Target4", "AccessDeniedException");
+
+        assertThat(TargetRetryScheduler.terminalEntries(failedTargets)).containsExactly(
+                entry("Target1", "ValidationException"),
+                entry("Target4", "AccessDeniedException"));
+    }
+
+    @Test
+    public void backoffSeconds_GrowsWithJitterUpToTheCap() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(TargetRetryScheduler.backoffSeconds(0)).isEqualTo(1);
+            assertThat(TargetRetryScheduler.backoffSeconds(1)).isBetween(1, 2);
+            assertThat(TargetRetryScheduler.backoffSeconds(3)).isBetween(4, 8);
+            assertThat(TargetRetryScheduler.backoffSeconds(10)).isBetween(TargetRetryScheduler.MAX_DELAY_SECONDS / 2,
+                    TargetRetryScheduler.MAX_DELAY_SECONDS);
+            assertThat(TargetRetryScheduler.backoffSeconds(Integer.MAX_VALUE)).isLessThanOrEqualTo(TargetRetryScheduler.MAX_DELAY_SECONDS);
+        }
+    }
+
+    @Test
+    public void retryRequest_KeepsOnlyTheFailedTargets() {
+        final PutTargetsRequest putTargetsRequest = PutTargetsRequest.builder()
+                .rule(EVENT_RULE_NAME)
+                .eventBusName(CUSTOM_EVENT_BUS_NAME)
+                .targets(Target.builder().id("Target1").arn("Arn1").build(),
+                        Target.builder().id("Target2").arn("Arn2").build(),
+                        Target.builder().id("Target3").arn("Arn3").build())
+                .build();
+
+        final PutTargetsRequest retryRequest = TargetRetryScheduler.retryRequest(putTargetsRequest,
+                new HashSet<>(Arrays.asList("Target3", "Target1")));
+
+        assertThat(retryRequest.rule()).isEqualTo(EVENT_RULE_NAME);
+        assertThat(retryRequest.eventBusName()).isEqualTo(CUSTOM_EVENT_BUS_NAME);
+        assertThat(retryRequest.targets()).extracting(Target::arn).containsExactly("Arn1", "Arn3");
+    }
+}
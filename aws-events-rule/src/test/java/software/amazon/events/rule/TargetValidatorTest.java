@@ -0,0 +1,235 @@
+package software.amazon.events.rule;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+public class TargetValidatorTest extends AbstractTestBase {
+    private static final String LAMBDA_ARN = "arn:aws:lambda:us-west-2:123456789123:function:TestLambdaFunctionId";
+    private static final String FIFO_QUEUE_ARN = "arn:aws:sqs:us-west-2:123456789123:TestQueue.fifo";
+
+    private static Target.TargetBuilder target() {
+        return Target.builder()
+                .id("TestLambdaFunctionId")
+                .arn(LAMBDA_ARN);
+    }
+
+    private static Set<String> setOf(final String... values) {
+        final Set<String> set = new HashSet<>();
+        Collections.addAll(set, values);
+        return set;
+    }
+
+    private static Stream<Arguments> provideInvalidTargets() {
+        final Map<String, String> reservedInputPathsMap = new HashMap<>();
+        reservedInputPathsMap.put("AWS_KEY", "$.detail");
+
+        final Map<String, String> invalidInputPathsMap = new HashMap<>();
+        invalidInputPathsMap.put("key", "detail");
+
+        final Map<String, String> longHeader = new HashMap<>();
+        longHeader.put("HEADER", new String(new char[513]).replace('\0', 'a'));
+
+        final Set<CapacityProviderStrategyItem> capacityProviderStrategy = new HashSet<>();
+        capacityProviderStrategy.add(CapacityProviderStrategyItem.builder()
+                .capacityProvider("FARGATE")
+                .weight(1001)
+                .build());
+
+        final Set<RunCommandTarget> runCommandTargets = new HashSet<>();
+        runCommandTargets.add(RunCommandTarget.builder()
+                .key("tag:Name")
+                .values(new HashSet<>())
+                .build());
+
+        return Stream.of(
+                Arguments.of(target().id("invalid id").build(), "Id must be"),
+                Arguments.of(target().arn("").build(), "Arn must be"),
+                Arguments.of(target().input("{}").inputPath("$.detail").build(), "only one of Input"),
+                Arguments.of(target()
+                        .batchParameters(BatchParameters.builder()
+                                .jobName("JOB").jobDefinition("JOB_DEFINITION")
+                                .arrayProperties(BatchArrayProperties.builder().size(1).build())
+                                .build())
+                        .build(), "BatchParameters.ArrayProperties.Size"),
+                Arguments.of(target()
+                        .batchParameters(BatchParameters.builder()
+                                .jobName("JOB").jobDefinition("JOB_DEFINITION")
+                                .retryStrategy(BatchRetryStrategy.builder().attempts(11).build())
+                                .build())
+                        .build(), "BatchParameters.RetryStrategy.Attempts"),
+                Arguments.of(target()
+                        .ecsParameters(EcsParameters.builder().taskDefinitionArn("TASK_DEFINITION_ARN").taskCount(0).build())
+                        .build(), "EcsParameters.TaskCount"),
+                Arguments.of(target()
+                        .ecsParameters(EcsParameters.builder().taskDefinitionArn("TASK_DEFINITION_ARN")
+                                .launchType("FARGATE")
+                                .capacityProviderStrategy(capacityProviderStrategy)
+                                .build())
+                        .build(), "EcsParameters.LaunchType must be omitted"),
+                Arguments.of(target()
+                        .ecsParameters(EcsParameters.builder().taskDefinitionArn("TASK_DEFINITION_ARN")
+                                .capacityProviderStrategy(capacityProviderStrategy)
+                                .build())
+                        .build(), "EcsParameters.CapacityProviderStrategy.Weight"),
+                Arguments.of(target()
+                        .httpParameters(HttpParameters.builder().headerParameters(longHeader).build())
+                        .build(), "HttpParameters.HeaderParameters value"),
+                Arguments.of(target()
+                        .inputTransformer(InputTransformer.builder().inputTemplate("").build())
+                        .build(), "InputTransformer.InputTemplate"),
+                Arguments.of(target()
+                        .inputTransformer(InputTransformer.builder().inputTemplate("<key>").inputPathsMap(reservedInputPathsMap).build())
+                        .build(), "must not start with AWS"),
+                Arguments.of(target()
+                        .inputTransformer(InputTransformer.builder().inputTemplate("<key>").inputPathsMap(invalidInputPathsMap).build())
+                        .build(), "must be a JSON path"),
+                Arguments.of(target()
+                        .kinesisParameters(KinesisParameters.builder().partitionKeyPath(new String(new char[257]).replace('\0', 'a')).build())
+                        .build(), "KinesisParameters.PartitionKeyPath"),
+                Arguments.of(target()
+                        .redshiftDataParameters(RedshiftDataParameters.builder()
+                                .database(new String(new char[65]).replace('\0', 'a'))
+                                .sql("SELECT 1")
+                                .build())
+                        .build(), "RedshiftDataParameters.Database"),
+                Arguments.of(target()
+                        .retryPolicy(RetryPolicy.builder().maximumEventAgeInSeconds(59).build())
+                        .build(), "RetryPolicy.MaximumEventAgeInSeconds"),
+                Arguments.of(target()
+                        .retryPolicy(RetryPolicy.builder().maximumRetryAttempts(186).build())
+                        .build(), "RetryPolicy.MaximumRetryAttempts"),
+                Arguments.of(target()
+                        .runCommandParameters(RunCommandParameters.builder().runCommandTargets(new HashSet<>()).build())
+                        .build(), "RunCommandParameters.RunCommandTargets must have"),
+                Arguments.of(target()
+                        .runCommandParameters(RunCommandParameters.builder().runCommandTargets(runCommandTargets).build())
+                        .build(), "values for [tag:Name]"),
+                Arguments.of(target().arn(FIFO_QUEUE_ARN).build(), "SqsParameters.MessageGroupId is required")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideInvalidTargets")
+    public void validate_InvalidTarget(final Target target, final String expectedMessage) {
+        assertThatThrownBy(() -> TargetValidator.validate(Collections.singleton(target)))
+                .isInstanceOf(CfnInvalidRequestException.class)
+                .hasMessageContaining(expectedMessage);
+    }
+
+    @Test
+    public void validate_NullOrEmptyTargets() {
+        assertThatCode(() -> TargetValidator.validate(null)).doesNotThrowAnyException();
+        assertThatCode(() -> TargetValidator.validate(new HashSet<>())).doesNotThrowAnyException();
+    }
+
+    @Test
+    public void validate_ValidTargets() {
+        final Map<String, String> inputPathsMap = new HashMap<>();
+        inputPathsMap.put("bucket", "$.detail.bucket.name");
+
+        final Set<CapacityProviderStrategyItem> capacityProviderStrategy = new HashSet<>();
+        capacityProviderStrategy.add(CapacityProviderStrategyItem.builder()
+                .capacityProvider("FARGATE_SPOT")
+                .base(1)
+                .weight(1)
+                .build());
+
+        final Set<RunCommandTarget> runCommandTargets = new HashSet<>();
+        runCommandTargets.add(RunCommandTarget.builder()
+                .key("tag:Name")
+                .values(setOf("instance"))
+                .build());
+
+        final List<Target> targets = new ArrayList<>();
+        targets.add(target()
+                .inputTransformer(InputTransformer.builder()
+                        .inputTemplate("{\"bucket\": <bucket>}")
+                        .inputPathsMap(inputPathsMap)
+                        .build())
+                .retryPolicy(RetryPolicy.builder().maximumEventAgeInSeconds(60).maximumRetryAttempts(0).build())
+                .build());
+        targets.add(Target.builder()
+                .id("Queue")
+                .arn(FIFO_QUEUE_ARN)
+                .sqsParameters(SqsParameters.builder().messageGroupId("GROUP").build())
+                .build());
+        targets.add(Target.builder()
+                .id("Task")
+                .arn("arn:aws:ecs:us-west-2:123456789123:cluster/default")
+                .ecsParameters(EcsParameters.builder()
+                        .taskDefinitionArn("TASK_DEFINITION_ARN")
+                        .taskCount(1)
+                        .propagateTags("TASK_DEFINITION")
+                        .capacityProviderStrategy(capacityProviderStrategy)
+                        .build())
+                .build());
+        targets.add(Target.builder()
+                .id("Job")
+                .arn("arn:aws:batch:us-west-2:123456789123:job-queue/default")
+                .batchParameters(BatchParameters.builder()
+                        .jobName("JOB")
+                        .jobDefinition("JOB_DEFINITION")
+                        .arrayProperties(BatchArrayProperties.builder().size(2).build())
+                        .retryStrategy(BatchRetryStrategy.builder().attempts(10).build())
+                        .build())
+                .build());
+        targets.add(Target.builder()
+                .id("Command")
+                .arn("arn:aws:ssm:us-west-2:123456789123:document/AWS-RunShellScript")
+                .runCommandParameters(RunCommandParameters.builder().runCommandTargets(runCommandTargets).build())
+                .build());
+
+        assertThatCode(() -> TargetValidator.validate(targets)).doesNotThrowAnyException();
+    }
+
+    @Test
+    public void validate_LeavesEnumValuesToTheService() {
+        final Set<Target> targets = Collections.singleton(target()
+                .ecsParameters(EcsParameters.builder().taskDefinitionArn("TASK_DEFINITION_ARN")
+                        .launchType("LAUNCH_TYPE_ADDED_LATER")
+                        .propagateTags("SERVICE")
+                        .networkConfiguration(NetworkConfiguration.builder()
+                                .awsVpcConfiguration(AwsVpcConfiguration.builder()
+                                        .subnets(setOf("SUBNET"))
+                                        .assignPublicIp("MAYBE")
+                                        .build())
+                                .build())
+                        .build())
+                .build());
+
+        assertThatCode(() -> TargetValidator.validate(targets)).doesNotThrowAnyException();
+    }
+
+    @Test
+    public void validate_ReportsAllViolations() {
+        final List<Target> targets = new ArrayList<>();
+        targets.add(target().build());
+        targets.add(target().retryPolicy(RetryPolicy.builder().maximumEventAgeInSeconds(1).build()).build());
+
+        assertThatThrownBy(() -> TargetValidator.validate(targets))
+                .isInstanceOf(CfnInvalidRequestException.class)
+                .satisfies(e -> {
+                    assertThat(e.getMessage()).contains("Id must be unique");
+                    assertThat(e.getMessage()).contains("RetryPolicy.MaximumEventAgeInSeconds");
+                });
+    }
+}
@@ -0,0 +1,86 @@
+package software.amazon.events.rule;
+
+import com.amazonaws.AmazonServiceException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.cloudwatchevents.model.InternalException;
+import software.amazon.awssdk.services.cloudwatchevents.model.ResourceNotFoundException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+public class ThrottleClassifierTest extends AbstractTestBase {
+    private static AwsServiceException v2Exception(final String errorCode, final int statusCode) {
+        return AwsServiceException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode(errorCode).build())
+                .statusCode(statusCode)
+                .build();
+    }
+
+    private static AmazonServiceException v1Exception(final String errorCode, final int statusCode) {
+        final AmazonServiceException e = new AmazonServiceException("message");
+        e.setErrorCode(errorCode);
+        e.setStatusCode(statusCode);
+        return e;
+    }
+
+    @Test
+    public void isThrottle_V2ErrorCodes() {
+        assertThat(ThrottleClassifier.isThrottle(v2Exception("ThrottlingException", 400))).isTrue();
+        assertThat(ThrottleClassifier.isThrottle(v2Exception("TooManyRequestsException", 400))).isTrue();
+        assertThat(ThrottleClassifier.isThrottle(v2Exception("RequestLimitExceeded", 400))).isTrue();
+        assertThat(ThrottleClassifier.isThrottle(v2Exception("SomethingElse", 429))).isTrue();
+        assertThat(ThrottleClassifier.isThrottle(v2Exception("ValidationException", 400))).isFalse();
+        assertThat(ThrottleClassifier.isThrottle(ResourceNotFoundException.builder().build())).isFalse();
+        assertThat(ThrottleClassifier.isThrottle(AwsServiceException.builder().build())).isFalse();
+    }
+
+    @Test
+    public void isThrottle_V1ErrorCodes() {
+        assertThat(ThrottleClassifier.isThrottle(v1Exception("ThrottlingException", 400))).isTrue();
+        assertThat(ThrottleClassifier.isThrottle(v1Exception("SomethingElse", 429))).isTrue();
+        assertThat(ThrottleClassifier.isThrottle(v1Exception("ValidationException", 400))).isFalse();
+    }
+
+    @Test
+    public void isThrottle_UnwrapsCompletionException() {
+        assertThat(ThrottleClassifier.isThrottle(new CompletionException(v2Exception("ThrottlingException", 400)))).isTrue();
+        assertThat(ThrottleClassifier.isThrottle(new RuntimeException("ThrottlingException"))).isFalse();
+    }
+
+    @Test
+    public void isRetryable() {
+        assertThat(ThrottleClassifier.isRetryable(v2Exception("ThrottlingException", 400))).isTrue();
+        assertThat(ThrottleClassifier.isRetryable(InternalException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("InternalException").build())
+                .build())).isTrue();
+        assertThat(ThrottleClassifier.isRetryable(v2Exception("SomethingElse", 503))).isTrue();
+        assertThat(ThrottleClassifier.isRetryable(v1Exception("ServiceUnavailable", 400))).isTrue();
+        assertThat(ThrottleClassifier.isRetryable(v2Exception("ValidationException", 400))).isFalse();
+        assertThat(ThrottleClassifier.isRetryable(new IllegalStateException())).isFalse();
+    }
+
+    @Test
+    public void isThrottlingException_RecognizesV2Throttles() {
+        assertThat(BaseHandlerStd.isThrottlingException(v2Exception("ThrottlingException", 400))).isTrue();
+    }
+
+    @Test
+    public void handleError_MapsV2ThrottleToThrottling() {
+        final CreateHandler handler = new CreateHandler();
+        handler.logger = logger;
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleError(null,
+                v2Exception("ThrottlingException", 400), null, ResourceModel.builder().build(), new CallbackContext());
+
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.Throttling);
+        assertThat(handler.CatchThrottling(response).isInProgress()).isTrue();
+    }
+}
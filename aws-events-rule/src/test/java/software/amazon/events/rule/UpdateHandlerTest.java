@@ -7,10 +7,19 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.cloudwatchevents.CloudWatchEventsClient;
+import software.amazon.awssdk.services.cloudwatchevents.model.DescribeRuleRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.DescribeRuleResponse;
+import software.amazon.awssdk.services.cloudwatchevents.model.DisableRuleRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.DisableRuleResponse;
+import software.amazon.awssdk.services.cloudwatchevents.model.EnableRuleRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.EnableRuleResponse;
 import software.amazon.awssdk.services.cloudwatchevents.model.InvalidEventPatternException;
+import software.amazon.awssdk.services.cloudwatchevents.model.ListTargetsByRuleRequest;
+import software.amazon.awssdk.services.cloudwatchevents.model.ListTargetsByRuleResponse;
 import software.amazon.awssdk.services.cloudwatchevents.model.PutRuleRequest;
 import software.amazon.awssdk.services.cloudwatchevents.model.PutRuleResponse;
 import software.amazon.awssdk.services.cloudwatchevents.model.PutTargetsRequest;
@@ -28,9 +37,13 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 
@@ -38,6 +51,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -64,6 +79,20 @@ public class UpdateHandlerTest extends AbstractTestBase {
         proxyClient = MOCK_PROXY(proxy, sdkClient);
     }
 
+    private static ListTargetsByRuleResponse listTargetsByRuleResponse(final Set<software.amazon.events.rule.Target> targets) {
+        final Collection<software.amazon.awssdk.services.cloudwatchevents.model.Target> responseTargets = new ArrayList<>();
+        for (software.amazon.events.rule.Target target : targets) {
+            responseTargets.add(software.amazon.awssdk.services.cloudwatchevents.model.Target.builder()
+                    .id(target.getId())
+                    .arn(target.getArn())
+                    .build());
+        }
+
+        return ListTargetsByRuleResponse.builder()
+                .targets(responseTargets)
+                .build();
+    }
+
     //@AfterEach FIXME This seems like a bad fix
     public void tear_down() {
         verify(sdkClient, atLeastOnce()).serviceName();
@@ -164,6 +193,9 @@ public class UpdateHandlerTest extends AbstractTestBase {
         when(proxyClient.client().putTargets(any(PutTargetsRequest.class)))
                 .thenReturn(putTargetsResponse);
 
+        when(proxyClient.client().listTargetsByRule(any(ListTargetsByRuleRequest.class)))
+                .thenReturn(listTargetsByRuleResponse(model.getTargets()));
+
         // RUN
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
@@ -175,8 +207,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
         CallbackContext context = new CallbackContext();
         ProgressEvent<ResourceModel, CallbackContext> response;
 
-        response = handler.handleRequest(proxy, request, context, proxyClient, logger);
-        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
         response = handler.handleRequest(proxy, request, context, proxyClient, logger);
 
         // ASSERT
@@ -238,18 +268,13 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         /*
         describeRule
-        putRule
         listTargetsByRule
         removeTargets
         putTargets
          */
 
-        final PutRuleResponse putRuleResponse = PutRuleResponse.builder()
-                .ruleArn(EVENT_RULE_ARN_DEFAULT_BUS)
-                .build();
-
-        when(proxyClient.client().putRule(any(PutRuleRequest.class)))
-                .thenReturn(putRuleResponse);
+        when(proxyClient.client().describeRule(any(DescribeRuleRequest.class)))
+                .thenReturn(DescribeRuleResponse.builder().arn(EVENT_RULE_ARN_DEFAULT_BUS).build());
 
         // RUN
 
@@ -368,8 +393,15 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         response = handler.handleRequest(proxy, request, context, proxyClient, logger);
 
+        // Every retry of the failed entry is made after a callback delay
+        while (response.getStatus() == OperationStatus.IN_PROGRESS) {
+            assertThat(response.getCallbackDelaySeconds()).isBetween(1, TargetRetryScheduler.MAX_DELAY_SECONDS);
+            response = handler.handleRequest(proxy, request, context, proxyClient, logger);
+        }
+
         // ASSERT
 
+        verify(sdkClient, times(1 + BaseHandlerStd.MAX_RETRIES_ON_PUT_TARGETS)).putTargets(any(PutTargetsRequest.class));
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
@@ -483,8 +515,15 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         response = handler.handleRequest(proxy, request, context, proxyClient, logger);
 
+        // Every retry of the failed entry is made after a callback delay
+        while (response.getStatus() == OperationStatus.IN_PROGRESS) {
+            assertThat(response.getCallbackDelaySeconds()).isBetween(1, TargetRetryScheduler.MAX_DELAY_SECONDS);
+            response = handler.handleRequest(proxy, request, context, proxyClient, logger);
+        }
+
         // ASSERT
 
+        verify(sdkClient, times(1 + BaseHandlerStd.MAX_RETRIES_ON_REMOVE_TARGETS)).removeTargets(any(RemoveTargetsRequest.class));
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
@@ -545,7 +584,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         headerParameters.put("HEADER_PARAMETER_KEY", "HEADER_PARAMETER_VALUE");
         pathParameterValues.add("PATH_PARAMETER_VALUE");
         queryStringParameters.put("QUERY_STRING_PARAMETER_KEY", "QUERY_STRING_PARAMETER_VALUE");
-        inputPathsMap.put("INPUT_PATH_KEY", "INPUT_PATH_VALUE");
+        inputPathsMap.put("INPUT_PATH_KEY", "$.detail.INPUT_PATH_VALUE");
         runCommandTargetsValues.add("RUN_COMMAND_TARGETS_VALUE");
         runCommandTargets.add(software.amazon.events.rule.RunCommandTarget.builder()
                 .key("RUN_COMMAND_TARGET_KEY")
@@ -578,7 +617,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .arn("arn:aws:lambda:us-west-2:123456789123:function:TestLambdaFunctionId")
                 .batchParameters(software.amazon.events.rule.BatchParameters.builder()
                         .arrayProperties(software.amazon.events.rule.BatchArrayProperties.builder()
-                                .size(1)
+                                .size(2)
                                 .build())
                         .retryStrategy(software.amazon.events.rule.BatchRetryStrategy.builder()
                                 .attempts(1)
@@ -590,13 +629,12 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .ecsParameters(software.amazon.events.rule.EcsParameters.builder()
                         .networkConfiguration(software.amazon.events.rule.NetworkConfiguration.builder()
                                 .awsVpcConfiguration(software.amazon.events.rule.AwsVpcConfiguration.builder()
-                                        .assignPublicIp("UNKNOWN_TO_SDK_VERSION")
+                                        .assignPublicIp("DISABLED")
                                         .securityGroups(securityGroups)
                                         .subnets(subnets)
                                         .build())
                                 .build())
                         .group("GROUP")
-                        .launchType("UNKNOWN_TO_SDK_VERSION")
                         .platformVersion("PLATFORM_VERSION")
                         .taskCount(1)
                         .taskDefinitionArn("TASK_DEFINITION_ARN")
@@ -626,7 +664,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                         .withEvent(true)
                         .build())
                 .retryPolicy(software.amazon.events.rule.RetryPolicy.builder()
-                        .maximumEventAgeInSeconds(1)
+                        .maximumEventAgeInSeconds(60)
                         .maximumRetryAttempts(1)
                         .build())
                 .runCommandParameters(software.amazon.events.rule.RunCommandParameters.builder()
@@ -648,7 +686,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .targets(targets)
                 .build();
 
-        Set<software.amazon.events.rule.Target> previousTargets = new HashSet<>(targets);
+        Set<software.amazon.events.rule.Target> previousTargets = new HashSet<>();
         String targetToRemoveId = "ToDeleteId";
         previousTargets.add(software.amazon.events.rule.Target.builder()
                 .id(targetToRemoveId)
@@ -667,7 +705,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         /*
         describeRule
-        putRule
         listTargetsByRule
         removeTargets
         listTargetsByRule
@@ -678,18 +715,14 @@ public class UpdateHandlerTest extends AbstractTestBase {
         listTargetsByRule
          */
 
-        final PutRuleResponse putRuleResponse = PutRuleResponse.builder()
-                .ruleArn(EVENT_RULE_ARN_DEFAULT_BUS)
-                .build();
-
         final RemoveTargetsResponse removeTargetsResponse = RemoveTargetsResponse.builder()
                 .build();
 
         final PutTargetsResponse putTargetsResponse = PutTargetsResponse.builder()
                 .build();
 
-        when(proxyClient.client().putRule(any(PutRuleRequest.class)))
-                .thenReturn(putRuleResponse);
+        when(proxyClient.client().describeRule(any(DescribeRuleRequest.class)))
+                .thenReturn(DescribeRuleResponse.builder().arn(EVENT_RULE_ARN_DEFAULT_BUS).build());
 
         when(proxyClient.client().removeTargets(any(RemoveTargetsRequest.class)))
                 .thenReturn(removeTargetsResponse);
@@ -697,6 +730,9 @@ public class UpdateHandlerTest extends AbstractTestBase {
         when(proxyClient.client().putTargets(any(PutTargetsRequest.class)))
                 .thenReturn(putTargetsResponse);
 
+        when(proxyClient.client().listTargetsByRule(any(ListTargetsByRuleRequest.class)))
+                .thenReturn(listTargetsByRuleResponse(model.getTargets()));
+
         // RUN
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
@@ -708,8 +744,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
         CallbackContext context = new CallbackContext();
         ProgressEvent<ResourceModel, CallbackContext> response;
 
-        response = handler.handleRequest(proxy, request, context, proxyClient, logger);
-        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
         response = handler.handleRequest(proxy, request, context, proxyClient, logger);
 
         // ASSERT
@@ -770,7 +804,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         headerParameters.put("HEADER_PARAMETER_KEY", "HEADER_PARAMETER_VALUE");
         pathParameterValues.add("PATH_PARAMETER_VALUE");
         queryStringParameters.put("QUERY_STRING_PARAMETER_KEY", "QUERY_STRING_PARAMETER_VALUE");
-        inputPathsMap.put("INPUT_PATH_KEY", "INPUT_PATH_VALUE");
+        inputPathsMap.put("INPUT_PATH_KEY", "$.detail.INPUT_PATH_VALUE");
         runCommandTargetsValues.add("RUN_COMMAND_TARGETS_VALUE");
         runCommandTargets.add(software.amazon.events.rule.RunCommandTarget.builder()
                 .key("RUN_COMMAND_TARGET_KEY")
@@ -813,7 +847,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                         .withEvent(true)
                         .build())
                 .retryPolicy(software.amazon.events.rule.RetryPolicy.builder()
-                        .maximumEventAgeInSeconds(1)
+                        .maximumEventAgeInSeconds(60)
                         .maximumRetryAttempts(1)
                         .build())
                 .sqsParameters(software.amazon.events.rule.SqsParameters.builder()
@@ -829,7 +863,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .targets(targets)
                 .build();
 
-        Set<software.amazon.events.rule.Target> previousTargets = new HashSet<>(targets);
+        Set<software.amazon.events.rule.Target> previousTargets = new HashSet<>();
         String targetToRemoveId = "ToDeleteId";
         previousTargets.add(software.amazon.events.rule.Target.builder()
                 .id(targetToRemoveId)
@@ -876,6 +910,9 @@ public class UpdateHandlerTest extends AbstractTestBase {
         when(proxyClient.client().putTargets(any(PutTargetsRequest.class)))
                 .thenReturn(putTargetsResponse);
 
+        when(proxyClient.client().listTargetsByRule(any(ListTargetsByRuleRequest.class)))
+                .thenReturn(listTargetsByRuleResponse(model.getTargets()));
+
         // RUN
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
@@ -887,8 +924,6 @@ public class UpdateHandlerTest extends AbstractTestBase {
         CallbackContext context = new CallbackContext();
         ProgressEvent<ResourceModel, CallbackContext> response;
 
-        response = handler.handleRequest(proxy, request, context, proxyClient, logger);
-        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
         response = handler.handleRequest(proxy, request, context, proxyClient, logger);
 
         // ASSERT
@@ -994,4 +1029,504 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
     }
+
+    @Test
+    public void handleRequest_InvalidTargets() {
+        final UpdateHandler handler = new UpdateHandler();
+
+        // MODEL
+
+        Set<software.amazon.events.rule.Target> targets = new HashSet<>();
+
+        targets.add(software.amazon.events.rule.Target.builder()
+                .id("TestQueueId")
+                .arn("arn:aws:sqs:us-west-2:123456789123:TestQueue.fifo")
+                .build());
+
+        final ResourceModel model = ResourceModel.builder()
+                .name(EVENT_RULE_NAME)
+                .state("ENABLED")
+                .targets(targets)
+                .build();
+
+        final ResourceModel previousModel = ResourceModel.builder()
+                .name(EVENT_RULE_NAME)
+                .state("ENABLED")
+                .build();
+
+        // RUN
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId(SOURCE_ACCOUNT_ID)
+                .desiredResourceState(model)
+                .previousResourceState(previousModel)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // ASSERT
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        assertThat(response.getMessage()).contains("SqsParameters.MessageGroupId is required");
+        verifyNoMoreInteractions(sdkClient);
+    }
+
+    @Test
+    public void handleRequest_InvalidEventPattern() {
+        final UpdateHandler handler = new UpdateHandler();
+
+        // MODEL
+
+        final ResourceModel model = ResourceModel.builder()
+                .name(EVENT_RULE_NAME)
+                .eventPattern(Collections.singletonMap("detail", Collections.singletonMap("price",
+                        Collections.singletonList(Collections.singletonMap("numeric", Arrays.asList(">", "zero"))))))
+                .state("ENABLED")
+                .build();
+
+        final ResourceModel previousModel = ResourceModel.builder()
+                .name(EVENT_RULE_NAME)
+                .eventPattern(Collections.singletonMap("source", Collections.singletonList("aws.s3")))
+                .state("ENABLED")
+                .build();
+
+        // RUN
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId(SOURCE_ACCOUNT_ID)
+                .desiredResourceState(model)
+                .previousResourceState(previousModel)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // ASSERT
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        assertThat(response.getMessage()).contains("detail.price");
+        verifyNoMoreInteractions(sdkClient);
+    }
+
+    @Test
+    public void handleRequest_UnparseableEventPattern() {
+        final UpdateHandler handler = new UpdateHandler();
+
+        // MODEL
+
+        final ResourceModel model = ResourceModel.builder()
+                .name(EVENT_RULE_NAME)
+                .eventPattern("{ \"source\": [\"aws.s3\"]")
+                .state("ENABLED")
+                .build();
+
+        final ResourceModel previousModel = ResourceModel.builder()
+                .name(EVENT_RULE_NAME)
+                .eventPattern(Collections.singletonMap("source", Collections.singletonList("aws.s3")))
+                .state("ENABLED")
+                .build();
+
+        // RUN
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId(SOURCE_ACCOUNT_ID)
+                .desiredResourceState(model)
+                .previousResourceState(previousModel)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // ASSERT
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        assertThat(response.getMessage()).contains("EventPattern is not a JSON object");
+        verifyNoMoreInteractions(sdkClient);
+    }
+
+    @Test
+    public void handleRequest_InvalidScheduleExpression() {
+        final UpdateHandler handler = new UpdateHandler();
+
+        // MODEL
+
+        final ResourceModel model = ResourceModel.builder()
+                .name(EVENT_RULE_NAME)
+                .scheduleExpression("rate(1 days)")
+                .state("ENABLED")
+                .build();
+
+        final ResourceModel previousModel = ResourceModel.builder()
+                .name(EVENT_RULE_NAME)
+                .scheduleExpression("rate(1 day)")
+                .state("ENABLED")
+                .build();
+
+        // RUN
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId(SOURCE_ACCOUNT_ID)
+                .desiredResourceState(model)
+                .previousResourceState(previousModel)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // ASSERT
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        assertThat(response.getMessage()).contains("ScheduleExpression rate(1 days) is invalid");
+        verifyNoMoreInteractions(sdkClient);
+    }
+
+    @Test
+    public void handleRequest_OnlyChangedTargetsArePut() {
+        final UpdateHandler handler = new UpdateHandler();
+
+        // MODEL
+
+        final software.amazon.events.rule.Target unchangedTarget = software.amazon.events.rule.Target.builder()
+                .id("TestLambdaFunctionId1")
+                .arn("arn:aws:lambda:us-west-2:123456789123:function:TestLambdaFunctionId1")
+                .build();
+        final software.amazon.events.rule.Target changedTarget = software.amazon.events.rule.Target.builder()
+                .id("TestLambdaFunctionId2")
+                .arn("arn:aws:lambda:us-west-2:123456789123:function:TestLambdaFunctionId2")
+                .input("{\"version\": 2}")
+                .build();
+
+        Set<software.amazon.events.rule.Target> targets = new HashSet<>();
+        targets.add(unchangedTarget);
+        targets.add(changedTarget);
+
+        Set<software.amazon.events.rule.Target> previousTargets = new HashSet<>();
+        previousTargets.add(unchangedTarget);
+        previousTargets.add(software.amazon.events.rule.Target.builder()
+                .id("TestLambdaFunctionId2")
+                .arn("arn:aws:lambda:us-west-2:123456789123:function:TestLambdaFunctionId2")
+                .input("{\"version\": 1}")
+                .build());
+
+        final ResourceModel model = ResourceModel.builder()
+                .name(EVENT_RULE_NAME)
+                .state("ENABLED")
+                .targets(targets)
+                .build();
+
+        final ResourceModel previousModel = ResourceModel.builder()
+                .name(EVENT_RULE_NAME)
+                .state("ENABLED")
+                .targets(previousTargets)
+                .build();
+
+        // MOCK
+
+        when(proxyClient.client().describeRule(any(DescribeRuleRequest.class)))
+                .thenReturn(DescribeRuleResponse.builder().arn(EVENT_RULE_ARN_DEFAULT_BUS).build());
+
+        when(proxyClient.client().putTargets(any(PutTargetsRequest.class)))
+                .thenReturn(PutTargetsResponse.builder().build());
+
+        when(proxyClient.client().listTargetsByRule(any(ListTargetsByRuleRequest.class)))
+                .thenReturn(listTargetsByRuleResponse(model.getTargets()));
+
+        // RUN
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId(SOURCE_ACCOUNT_ID)
+                .desiredResourceState(model)
+                .previousResourceState(previousModel)
+                .build();
+
+        CallbackContext context = new CallbackContext();
+        ProgressEvent<ResourceModel, CallbackContext> response;
+
+        response = handler.handleRequest(proxy, request, context, proxyClient, logger);
+
+        // ASSERT
+
+        final ArgumentCaptor<PutTargetsRequest> putTargetsRequestCaptor = ArgumentCaptor.forClass(PutTargetsRequest.class);
+        verify(sdkClient).putTargets(putTargetsRequestCaptor.capture());
+        verify(sdkClient, never()).removeTargets(any(RemoveTargetsRequest.class));
+        verify(sdkClient, never()).putRule(any(PutRuleRequest.class));
+
+        assertThat(putTargetsRequestCaptor.getValue().targets()).hasSize(1);
+        assertThat(putTargetsRequestCaptor.getValue().targets().get(0).id()).isEqualTo("TestLambdaFunctionId2");
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    }
+
+    @Test
+    public void handleRequest_UnchangedTargetsAreNotPut() {
+        final UpdateHandler handler = new UpdateHandler();
+
+        // MODEL
+
+        Set<software.amazon.events.rule.Target> targets = new HashSet<>();
+        targets.add(software.amazon.events.rule.Target.builder()
+                .id("TestLambdaFunctionId")
+                .arn("arn:aws:lambda:us-west-2:123456789123:function:TestLambdaFunctionId")
+                .build());
+
+        final ResourceModel model = ResourceModel.builder()
+                .name(EVENT_RULE_NAME)
+                .description("NewDescription")
+                .state("ENABLED")
+                .targets(targets)
+                .build();
+
+        final ResourceModel previousModel = ResourceModel.builder()
+                .name(EVENT_RULE_NAME)
+                .description("TestDescription")
+                .state("ENABLED")
+                .targets(new HashSet<>(targets))
+                .build();
+
+        // MOCK
+
+        when(proxyClient.client().putRule(any(PutRuleRequest.class)))
+                .thenReturn(PutRuleResponse.builder().ruleArn(EVENT_RULE_ARN_DEFAULT_BUS).build());
+
+        // RUN
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId(SOURCE_ACCOUNT_ID)
+                .desiredResourceState(model)
+                .previousResourceState(previousModel)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // ASSERT
+
+        verify(sdkClient, never()).putTargets(any(PutTargetsRequest.class));
+        verify(sdkClient, never()).removeTargets(any(RemoveTargetsRequest.class));
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(request.getDesiredResourceState());
+    }
+
+    @Test
+    public void handleRequest_NoOpUpdateMakesNoCalls() {
+        final UpdateHandler handler = new UpdateHandler();
+
+        // MODEL
+
+        final Map<String, Object> eventPattern = new HashMap<>();
+        eventPattern.put("source", Collections.singletonList("aws.s3"));
+        eventPattern.put("detail-type", Collections.singletonList("Object Created"));
+
+        final Map<String, Object> reorderedEventPattern = new LinkedHashMap<>();
+        reorderedEventPattern.put("detail-type", Collections.singletonList("Object Created"));
+        reorderedEventPattern.put("source", Collections.singletonList("aws.s3"));
+
+        final software.amazon.events.rule.Target target1 = software.amazon.events.rule.Target.builder()
+                .id("Target1")
+                .arn("arn:aws:lambda:us-west-2:123456789123:function:Target1")
+                .build();
+        final software.amazon.events.rule.Target target2 = software.amazon.events.rule.Target.builder()
+                .id("Target2")
+                .arn("arn:aws:lambda:us-west-2:123456789123:function:Target2")
+                .build();
+
+        final ResourceModel model = ResourceModel.builder()
+                .name(EVENT_RULE_NAME)
+                .eventPattern(reorderedEventPattern)
+                .state("ENABLED")
+                .targets(new LinkedHashSet<>(Arrays.asList(target2, target1)))
+                .build();
+
+        final ResourceModel previousModel = ResourceModel.builder()
+                .arn(EVENT_RULE_ARN_DEFAULT_BUS)
+                .name(EVENT_RULE_NAME)
+                .eventPattern(eventPattern)
+                .state("ENABLED")
+                .targets(new LinkedHashSet<>(Arrays.asList(target1, target2)))
+                .build();
+
+        // RUN
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId(SOURCE_ACCOUNT_ID)
+                .desiredResourceState(model)
+                .previousResourceState(previousModel)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // ASSERT
+
+        verify(sdkClient, never()).putRule(any(PutRuleRequest.class));
+        verify(sdkClient, never()).describeRule(any(DescribeRuleRequest.class));
+        verify(sdkClient, never()).putTargets(any(PutTargetsRequest.class));
+        verify(sdkClient, never()).removeTargets(any(RemoveTargetsRequest.class));
+        verify(sdkClient, never()).listTargetsByRule(any(ListTargetsByRuleRequest.class));
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(response.getResourceModel().getArn()).isEqualTo(EVENT_RULE_ARN_DEFAULT_BUS);
+        assertThat(response.getResourceModel().getId()).isEqualTo(SAME_ACCOUNT_PID_DEFAULT_BUS);
+    }
+
+    @Test
+    public void handleRequest_ReorderedEventPatternValuesMakeNoCalls() {
+        final UpdateHandler handler = new UpdateHandler();
+
+        // MODEL
+
+        final ResourceModel model = ResourceModel.builder()
+                .name(EVENT_RULE_NAME)
+                .eventPattern(Collections.singletonMap("source", Arrays.asList("aws.ec2", "aws.s3")))
+                .state("ENABLED")
+                .build();
+
+        final ResourceModel previousModel = ResourceModel.builder()
+                .arn(EVENT_RULE_ARN_DEFAULT_BUS)
+                .name(EVENT_RULE_NAME)
+                .eventPattern("{\"source\": [\"aws.s3\", \"aws.ec2\"]}")
+                .state("ENABLED")
+                .build();
+
+        // RUN
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId(SOURCE_ACCOUNT_ID)
+                .desiredResourceState(model)
+                .previousResourceState(previousModel)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // ASSERT
+
+        verify(sdkClient, never()).putRule(any(PutRuleRequest.class));
+        verify(sdkClient, never()).describeRule(any(DescribeRuleRequest.class));
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getArn()).isEqualTo(EVENT_RULE_ARN_DEFAULT_BUS);
+    }
+
+    @Test
+    public void handleRequest_StateOnlyChangeDisablesRule() {
+        final UpdateHandler handler = new UpdateHandler();
+
+        // MODEL
+
+        Set<software.amazon.events.rule.Target> targets = new HashSet<>();
+        targets.add(software.amazon.events.rule.Target.builder()
+                .id("TestLambdaFunctionId")
+                .arn("arn:aws:lambda:us-west-2:123456789123:function:TestLambdaFunctionId")
+                .build());
+
+        final ResourceModel model = ResourceModel.builder()
+                .arn(EVENT_RULE_ARN_DEFAULT_BUS)
+                .name(EVENT_RULE_NAME)
+                .scheduleExpression("rate(1 day)")
+                .state("DISABLED")
+                .targets(targets)
+                .build();
+
+        final ResourceModel previousModel = ResourceModel.builder()
+                .arn(EVENT_RULE_ARN_DEFAULT_BUS)
+                .name(EVENT_RULE_NAME)
+                .scheduleExpression("rate(1 day)")
+                .state("ENABLED")
+                .targets(new HashSet<>(targets))
+                .build();
+
+        // MOCK
+
+        /*
+        disableRule
+         */
+
+        when(proxyClient.client().disableRule(any(DisableRuleRequest.class)))
+                .thenReturn(DisableRuleResponse.builder().build());
+
+        // RUN
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId(SOURCE_ACCOUNT_ID)
+                .desiredResourceState(model)
+                .previousResourceState(previousModel)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // ASSERT
+
+        final ArgumentCaptor<DisableRuleRequest> disableRuleRequestCaptor = ArgumentCaptor.forClass(DisableRuleRequest.class);
+        verify(sdkClient).disableRule(disableRuleRequestCaptor.capture());
+        verify(sdkClient, never()).putRule(any(PutRuleRequest.class));
+        verify(sdkClient, never()).describeRule(any(DescribeRuleRequest.class));
+        verify(sdkClient, never()).putTargets(any(PutTargetsRequest.class));
+        verify(sdkClient, never()).removeTargets(any(RemoveTargetsRequest.class));
+        verify(sdkClient, never()).listTargetsByRule(any(ListTargetsByRuleRequest.class));
+
+        assertThat(disableRuleRequestCaptor.getValue().name()).isEqualTo(EVENT_RULE_NAME);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(response.getResourceModel().getArn()).isEqualTo(EVENT_RULE_ARN_DEFAULT_BUS);
+        assertThat(response.getResourceModel().getId()).isEqualTo(SAME_ACCOUNT_PID_DEFAULT_BUS);
+    }
+
+    @Test
+    public void handleRequest_StateOnlyChangeEnablesRule() {
+        final UpdateHandler handler = new UpdateHandler();
+
+        // MODEL
+
+        final ResourceModel model = ResourceModel.builder()
+                .arn(SAME_ACCOUNT_PID_CUSTOM_BUS)
+                .eventBusName(CUSTOM_EVENT_BUS_NAME)
+                .name(EVENT_RULE_NAME)
+                .scheduleExpression("rate(1 day)")
+                .state("ENABLED")
+                .build();
+
+        final ResourceModel previousModel = ResourceModel.builder()
+                .arn(SAME_ACCOUNT_PID_CUSTOM_BUS)
+                .eventBusName(CUSTOM_EVENT_BUS_NAME)
+                .name(EVENT_RULE_NAME)
+                .scheduleExpression("rate(1 day)")
+                .state("DISABLED")
+                .build();
+
+        // MOCK
+
+        /*
+        enableRule
+        describeRule (the identifier is a legacy physical id, not an ARN)
+         */
+
+        when(proxyClient.client().enableRule(any(EnableRuleRequest.class)))
+                .thenReturn(EnableRuleResponse.builder().build());
+
+        when(proxyClient.client().describeRule(any(DescribeRuleRequest.class)))
+                .thenReturn(DescribeRuleResponse.builder().arn(EVENT_RULE_ARN_CUSTOM_BUS).build());
+
+        // RUN
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .awsAccountId(SOURCE_ACCOUNT_ID)
+                .desiredResourceState(model)
+                .previousResourceState(previousModel)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        // ASSERT
+
+        final ArgumentCaptor<EnableRuleRequest> enableRuleRequestCaptor = ArgumentCaptor.forClass(EnableRuleRequest.class);
+        verify(sdkClient).enableRule(enableRuleRequestCaptor.capture());
+        verify(sdkClient, never()).putRule(any(PutRuleRequest.class));
+
+        assertThat(enableRuleRequestCaptor.getValue().name()).isEqualTo(EVENT_RULE_NAME);
+        assertThat(enableRuleRequestCaptor.getValue().eventBusName()).isEqualTo(CUSTOM_EVENT_BUS_NAME);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getArn()).isEqualTo(EVENT_RULE_ARN_CUSTOM_BUS);
+        assertThat(response.getResourceModel().getId()).isEqualTo(SAME_ACCOUNT_PID_CUSTOM_BUS);
+    }
 }